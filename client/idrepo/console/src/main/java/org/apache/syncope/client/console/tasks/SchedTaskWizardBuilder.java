@@ -219,6 +219,10 @@ public class SchedTaskWizardBuilder<T extends SchedTaskTO> extends BaseAjaxWizar
                     "remediation", "remediation", new PropertyModel<>(taskTO, "remediation"), false);
             pullTaskSpecifics.add(remediation);
 
+            AjaxCheckBoxPanel skipUnchanged = new AjaxCheckBoxPanel(
+                    "skipUnchanged", "skipUnchanged", new PropertyModel<>(taskTO, "skipUnchanged"), false);
+            pullTaskSpecifics.add(skipUnchanged);
+
             // ------------------------------
             // Only for push tasks
             // ------------------------------  
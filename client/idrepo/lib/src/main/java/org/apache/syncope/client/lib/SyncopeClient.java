@@ -26,6 +26,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
@@ -74,6 +80,11 @@ public class SyncopeClient {
 
     private final TLSClientParameters tlsClientParameters;
 
+    /**
+     * Service instances are thread-safe, as the underlying state is kept per-thread, hence can be reused.
+     */
+    private final Map<Class<?>, Object> services = new ConcurrentHashMap<>();
+
     public SyncopeClient(
             final MediaType mediaType,
             final JAXRSClientFactoryBean restClientFactory,
@@ -87,6 +98,8 @@ public class SyncopeClient {
         if (this.restClientFactory.getHeaders() == null) {
             this.restClientFactory.setHeaders(new HashMap<>());
         }
+        // required since service instances are shared
+        this.restClientFactory.setThreadSafe(true);
         this.exceptionMapper = exceptionMapper;
         this.tlsClientParameters = tlsClientParameters;
         init(handler);
@@ -122,6 +135,7 @@ public class SyncopeClient {
 
             restClientFactory.setUsername(null);
             restClientFactory.setPassword(null);
+            services.clear();
         } else if (handler instanceof JWTAuthenticationHandler) {
             restClientFactory.getHeaders().put(
                     HttpHeaders.AUTHORIZATION,
@@ -133,6 +147,7 @@ public class SyncopeClient {
         restClientFactory.getHeaders().remove(HttpHeaders.AUTHORIZATION);
         restClientFactory.setUsername(null);
         restClientFactory.setPassword(null);
+        services.clear();
     }
 
     /**
@@ -150,6 +165,7 @@ public class SyncopeClient {
     public void refresh() {
         String jwt = getService(AccessTokenService.class).refresh().getHeaderString(RESTHeaders.TOKEN);
         restClientFactory.getHeaders().put(HttpHeaders.AUTHORIZATION, List.of("Bearer " + jwt));
+        services.clear();
     }
 
     /**
@@ -246,25 +262,28 @@ public class SyncopeClient {
                 : headerValues.get(0);
     }
 
+    private <T> T setMediaTypes(final T serviceInstance) {
+        Client client = WebClient.client(serviceInstance);
+        client.type(mediaType).accept(mediaType);
+        if (serviceInstance instanceof AnyService || serviceInstance instanceof ExecutableService) {
+            client.accept(RESTHeaders.MULTIPART_MIXED);
+        }
+        return serviceInstance;
+    }
+
     /**
-     * Creates an instance of the given service class, with configured content type and authentication.
+     * Creates a new instance of the given service class, with configured content type and authentication.
      *
      * @param <T> any service class
      * @param serviceClass service class reference
-     * @return service instance of the given reference class
+     * @return new service instance of the given reference class
      */
-    public <T> T getService(final Class<T> serviceClass) {
+    protected <T> T createService(final Class<T> serviceClass) {
         synchronized (restClientFactory) {
             restClientFactory.setServiceClass(serviceClass);
             T serviceInstance = restClientFactory.create(serviceClass);
 
-            Client client = WebClient.client(serviceInstance);
-            client.type(mediaType).accept(mediaType);
-            if (serviceInstance instanceof AnyService || serviceInstance instanceof ExecutableService) {
-                client.accept(RESTHeaders.MULTIPART_MIXED);
-            }
-
-            ClientConfiguration config = WebClient.getConfig(client);
+            ClientConfiguration config = WebClient.getConfig(WebClient.client(serviceInstance));
             config.getRequestContext().put(HEADER_SPLIT_PROPERTY, true);
             config.getRequestContext().put(URLConnectionHTTPConduit.HTTPURL_CONNECTION_METHOD_REFLECTION, true);
             if (useCompression) {
@@ -276,13 +295,61 @@ public class SyncopeClient {
                 httpConduit.setTlsClientParameters(tlsClientParameters);
             }
 
-            return serviceInstance;
+            return setMediaTypes(serviceInstance);
         }
     }
 
+    /**
+     * Gives an instance of the given service class, with configured content type and authentication.
+     * Instances are cached and shared: the calling thread's request state (headers, latest response, ...) is reset
+     * on each invocation, as if a new instance was created.
+     *
+     * @param <T> any service class
+     * @param serviceClass service class reference
+     * @return service instance of the given reference class
+     */
+    public <T> T getService(final Class<T> serviceClass) {
+        T serviceInstance = serviceClass.cast(services.computeIfAbsent(serviceClass, this::createService));
+        WebClient.client(serviceInstance).reset();
+        return setMediaTypes(serviceInstance);
+    }
+
+    /**
+     * Asynchronously invokes the given service operation on the given executor; the service instance is obtained via
+     * {@link #getService(java.lang.Class)} on the executing thread.
+     *
+     * @param <T> any service class
+     * @param <R> invocation result
+     * @param serviceClass service class reference
+     * @param invocation service operation to invoke
+     * @param executor executor to run the invocation
+     * @return stage completed with the invocation result, or exceptionally if the invocation failed
+     */
+    public <T, R> CompletionStage<R> async(
+            final Class<T> serviceClass, final Function<T, R> invocation, final Executor executor) {
+
+        return CompletableFuture.supplyAsync(() -> invocation.apply(getService(serviceClass)), executor);
+    }
+
+    /**
+     * Asynchronously invokes the given service operation on the {@link ForkJoinPool#commonPool()}; callers issuing
+     * many concurrent invocations should rather provide their own executor via
+     * {@link #async(java.lang.Class, java.util.function.Function, java.util.concurrent.Executor)}.
+     *
+     * @param <T> any service class
+     * @param <R> invocation result
+     * @param serviceClass service class reference
+     * @param invocation service operation to invoke
+     * @return stage completed with the invocation result, or exceptionally if the invocation failed
+     */
+    public <T, R> CompletionStage<R> async(final Class<T> serviceClass, final Function<T, R> invocation) {
+        return async(serviceClass, invocation, ForkJoinPool.commonPool());
+    }
+
     public Pair<Map<String, Set<String>>, UserTO> self() {
-        // Explicitly disable header value split because it interferes with JSON deserialization below
-        UserSelfService service = getService(UserSelfService.class);
+        // Explicitly disable header value split because it interferes with JSON deserialization below:
+        // use a dedicated service instance, not to affect shared ones
+        UserSelfService service = createService(UserSelfService.class);
         WebClient.getConfig(WebClient.client(service)).getRequestContext().put(HEADER_SPLIT_PROPERTY, false);
 
         Response response = service.read();
@@ -23,12 +23,17 @@ import com.fasterxml.jackson.jaxrs.xml.JacksonXMLProvider;
 import com.fasterxml.jackson.jaxrs.yaml.JacksonYAMLProvider;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import javax.ws.rs.core.MediaType;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.cxf.Bus;
+import org.apache.cxf.bus.CXFBusFactory;
 import org.apache.cxf.configuration.jsse.TLSClientParameters;
 import org.apache.cxf.ext.logging.LoggingFeature;
 import org.apache.cxf.jaxrs.client.JAXRSClientFactoryBean;
+import org.apache.cxf.transport.http.asyncclient.AsyncHTTPConduit;
+import org.apache.cxf.transport.http.asyncclient.AsyncHTTPConduitFactory;
 import org.apache.syncope.common.lib.jackson.SyncopeObjectMapper;
 import org.apache.syncope.common.lib.jackson.SyncopeXmlMapper;
 import org.apache.syncope.common.lib.jackson.SyncopeYAMLMapper;
@@ -66,6 +71,19 @@ public class SyncopeClientFactoryBean {
         }
     }
 
+    public enum Transport {
+
+        /**
+         * CXF's default transport, based on {@link java.net.HttpURLConnection}.
+         */
+        URL_CONNECTION,
+        /**
+         * CXF's asynchronous transport, based on Apache HttpAsyncClient, with configurable connection pooling.
+         */
+        ASYNC_HTTP_CLIENT
+
+    }
+
     private JacksonJsonProvider jsonProvider;
 
     private JacksonXMLProvider xmlProvider;
@@ -84,8 +102,20 @@ public class SyncopeClientFactoryBean {
 
     private TLSClientParameters tlsClientParameters;
 
+    private Transport transport;
+
+    private int maxConnections = 5000;
+
+    private int maxConnectionsPerHost = 1000;
+
+    private long connectionTTL = 60000L;
+
+    private boolean keepAlive = true;
+
     private JAXRSClientFactoryBean restClientFactoryBean;
 
+    private Bus asyncHttpClientBus;
+
     protected static JacksonJsonProvider defaultJsonProvider() {
         return new JacksonJsonProvider(new SyncopeObjectMapper());
     }
@@ -118,6 +148,12 @@ public class SyncopeClientFactoryBean {
         defaultRestClientFactoryBean.setThreadSafe(true);
         defaultRestClientFactoryBean.setInheritHeaders(true);
 
+        if (getTransport() == Transport.ASYNC_HTTP_CLIENT) {
+            // connection pool is configured per bus, use of asynchronous transport is requested per endpoint
+            defaultRestClientFactoryBean.setBus(getAsyncHttpClientBus());
+            defaultRestClientFactoryBean.setProperties(new HashMap<>(Map.of(AsyncHTTPConduit.USE_ASYNC, true)));
+        }
+
         defaultRestClientFactoryBean.setFeatures(List.of(new LoggingFeature()));
 
         defaultRestClientFactoryBean.setProviders(List.of(
@@ -130,6 +166,25 @@ public class SyncopeClientFactoryBean {
         return defaultRestClientFactoryBean;
     }
 
+    /**
+     * Returns the CXF bus holding the connection pool used by {@link Transport#ASYNC_HTTP_CLIENT}, shared by all client
+     * instances built by this factory; the pool is configured according to the values set when the first of such
+     * instances is built.
+     *
+     * @return CXF bus holding the connection pool used by {@link Transport#ASYNC_HTTP_CLIENT}
+     */
+    protected synchronized Bus getAsyncHttpClientBus() {
+        if (asyncHttpClientBus == null) {
+            Map<String, Object> busProperties = new HashMap<>();
+            busProperties.put(AsyncHTTPConduitFactory.MAX_CONNECTIONS, String.valueOf(maxConnections));
+            busProperties.put(AsyncHTTPConduitFactory.MAX_PER_HOST_CONNECTIONS, String.valueOf(maxConnectionsPerHost));
+            busProperties.put(AsyncHTTPConduitFactory.CONNECTION_TTL, String.valueOf(connectionTTL));
+            busProperties.put(AsyncHTTPConduitFactory.SO_KEEPALIVE, String.valueOf(keepAlive));
+            asyncHttpClientBus = new CXFBusFactory().createBus(new HashMap<>(), busProperties);
+        }
+        return asyncHttpClientBus;
+    }
+
     public JacksonJsonProvider getJsonProvider() {
         return Optional.ofNullable(jsonProvider).orElseGet(SyncopeClientFactoryBean::defaultJsonProvider);
     }
@@ -229,6 +284,84 @@ public class SyncopeClientFactoryBean {
         return tlsClientParameters;
     }
 
+    public Transport getTransport() {
+        return Optional.ofNullable(transport).orElse(Transport.URL_CONNECTION);
+    }
+
+    /**
+     * Sets the HTTP transport to use; ignored if a custom {@link JAXRSClientFactoryBean} is set.
+     *
+     * @param transport HTTP transport
+     * @return the current instance
+     */
+    public SyncopeClientFactoryBean setTransport(final Transport transport) {
+        this.transport = transport;
+        return this;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections, only considered by {@link Transport#ASYNC_HTTP_CLIENT}.
+     *
+     * @param maxConnections maximum number of pooled connections
+     * @return the current instance
+     */
+    public SyncopeClientFactoryBean setMaxConnections(final int maxConnections) {
+        this.maxConnections = maxConnections;
+        return this;
+    }
+
+    public int getMaxConnectionsPerHost() {
+        return maxConnectionsPerHost;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections per host, only considered by
+     * {@link Transport#ASYNC_HTTP_CLIENT}.
+     *
+     * @param maxConnectionsPerHost maximum number of pooled connections per host
+     * @return the current instance
+     */
+    public SyncopeClientFactoryBean setMaxConnectionsPerHost(final int maxConnectionsPerHost) {
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        return this;
+    }
+
+    public long getConnectionTTL() {
+        return connectionTTL;
+    }
+
+    /**
+     * Sets for how long (in milliseconds) pooled connections can be reused, only considered by
+     * {@link Transport#ASYNC_HTTP_CLIENT}.
+     *
+     * @param connectionTTL for how long (in milliseconds) pooled connections can be reused
+     * @return the current instance
+     */
+    public SyncopeClientFactoryBean setConnectionTTL(final long connectionTTL) {
+        this.connectionTTL = connectionTTL;
+        return this;
+    }
+
+    public boolean isKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Sets whether TCP keep-alive is enabled on pooled connections, only considered by
+     * {@link Transport#ASYNC_HTTP_CLIENT}.
+     *
+     * @param keepAlive whether TCP keep-alive is enabled on pooled connections
+     * @return the current instance
+     */
+    public SyncopeClientFactoryBean setKeepAlive(final boolean keepAlive) {
+        this.keepAlive = keepAlive;
+        return this;
+    }
+
     public JAXRSClientFactoryBean getRestClientFactoryBean() {
         return Optional.ofNullable(restClientFactoryBean).orElseGet(this::defaultRestClientFactoryBean);
     }
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.client.lib.batch;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import javax.ws.rs.core.HttpHeaders;
@@ -109,13 +110,36 @@ public class BatchRequest {
      * @return batch response
      */
     public BatchResponse commit(final boolean async) {
+        return commit(async, 1);
+    }
+
+    /**
+     * Sends the current request, with items accumulated by invoking methods on proxies obtained via
+     * {@link #getService(java.lang.Class)}, to the Batch service, and awaits for a synchronous or asynchronous
+     * response, depending on the {@code async} parameter.
+     * Items are processed in parallel, up to the given parallelism as bounded by the server: only use when items
+     * are independent from each other.
+     * It also clears out the accumulated items, in case of reuse of this instance for subsequent requests.
+     *
+     * @param async whether asynchronous Batch process is requested, or not
+     * @param parallelism how many items can be processed in parallel
+     * @return batch response
+     */
+    public BatchResponse commit(final boolean async, final int parallelism) {
         String boundary = "--batch_" + UUID.randomUUID().toString();
 
         WebClient webClient = WebClient.create(bcfb.getAddress()).path("batch").
                 header(HttpHeaders.AUTHORIZATION, "Bearer " + jwt).
                 type(RESTHeaders.multipartMixedWith(boundary.substring(2)));
+        List<String> preferences = new ArrayList<>();
         if (async) {
-            webClient.header(RESTHeaders.PREFER, Preference.RESPOND_ASYNC);
+            preferences.add(Preference.RESPOND_ASYNC.toString());
+        }
+        if (parallelism > 1) {
+            preferences.add(Preference.parallel(parallelism));
+        }
+        if (!preferences.isEmpty()) {
+            webClient.header(RESTHeaders.PREFER, String.join(", ", preferences));
         }
         if (tlsClientParameters != null) {
             ClientConfiguration config = WebClient.getConfig(webClient);
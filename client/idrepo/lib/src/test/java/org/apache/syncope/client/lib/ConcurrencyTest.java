@@ -18,9 +18,15 @@
  */
 package org.apache.syncope.client.lib;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.cxf.jaxrs.client.WebClient;
 import org.apache.syncope.common.rest.api.service.SyncopeService;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
@@ -71,4 +77,20 @@ public class ConcurrencyTest {
             fail(e::getMessage);
         }
     }
+
+    @Test
+    public void sharedService() throws InterruptedException, ExecutionException {
+        SyncopeService service = CLIENT.getService(SyncopeService.class);
+        assertSame(service, CLIENT.getService(SyncopeService.class));
+
+        SyncopeClient.header(service, "X-Test", "value");
+        assertEquals("value", WebClient.client(service).getHeaders().getFirst("X-Test"));
+
+        // headers set by a thread are not visible by other threads...
+        assertNull(CompletableFuture.supplyAsync(() -> WebClient.client(service).getHeaders().getFirst("X-Test")).
+                get());
+
+        // ...and are reset when the service is requested again
+        assertNull(WebClient.client(CLIENT.getService(SyncopeService.class)).getHeaders().getFirst("X-Test"));
+    }
 }
@@ -32,6 +32,7 @@ import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.syncope.common.lib.to.ProvisioningReport;
@@ -64,6 +65,22 @@ public interface ReconciliationService extends JAXRSService {
     @Produces({ MediaType.APPLICATION_JSON, RESTHeaders.APPLICATION_YAML, MediaType.APPLICATION_XML })
     ReconStatus status(@BeanParam ReconQuery query);
 
+    /**
+     * Compares all users, groups or any objects of the given type assigned to the given External Resource with all
+     * objects found there, matching by connObjectKey value: reports entities missing on the External Resource,
+     * objects missing on Syncope and entities whose mapped attributes are misaligned.
+     *
+     * @param anyTypeKey any type key
+     * @param resourceKey resource key
+     * @return reconciliation status of each missing or misaligned entity or object, as JSON array
+     */
+    @GET
+    @Path("drift")
+    @Produces({ MediaType.APPLICATION_JSON })
+    Response drift(
+            @NotNull @QueryParam("anyTypeKey") String anyTypeKey,
+            @NotNull @QueryParam("resourceKey") String resourceKey);
+
     /**
      * Pushes the matching user, group, any object or linked account in Syncope onto the External Resource.
      *
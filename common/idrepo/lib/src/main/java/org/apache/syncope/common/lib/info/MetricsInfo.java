@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.lib.info;
+
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.syncope.common.lib.BaseBean;
+
+public class MetricsInfo implements BaseBean {
+
+    private static final long serialVersionUID = -1894127420843385421L;
+
+    public static class Meter implements Serializable {
+
+        private static final long serialVersionUID = 3046127437713487436L;
+
+        private String name;
+
+        private String type;
+
+        private final Map<String, String> tags = new HashMap<>();
+
+        private final Map<String, Double> measurements = new HashMap<>();
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(final String name) {
+            this.name = name;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public void setType(final String type) {
+            this.type = type;
+        }
+
+        public Map<String, String> getTags() {
+            return tags;
+        }
+
+        public Map<String, Double> getMeasurements() {
+            return measurements;
+        }
+
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder().
+                    append(name).
+                    append(type).
+                    append(tags).
+                    append(measurements).
+                    build();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null) {
+                return false;
+            }
+            if (getClass() != obj.getClass()) {
+                return false;
+            }
+            final Meter other = (Meter) obj;
+            return new EqualsBuilder().
+                    append(name, other.name).
+                    append(type, other.type).
+                    append(tags, other.tags).
+                    append(measurements, other.measurements).
+                    build();
+        }
+    }
+
+    private final List<Meter> meters = new ArrayList<>();
+
+    @JacksonXmlElementWrapper(localName = "meters")
+    @JacksonXmlProperty(localName = "meter")
+    public List<Meter> getMeters() {
+        return meters;
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder().
+                append(meters).
+                build();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final MetricsInfo other = (MetricsInfo) obj;
+        return new EqualsBuilder().
+                append(meters, other.meters).
+                build();
+    }
+}
@@ -33,6 +33,8 @@ public class AuditEntry implements BaseBean {
 
     private static final long serialVersionUID = 1215115961911228005L;
 
+    private String key;
+
     private String who;
 
     private Date date;
@@ -47,6 +49,15 @@ public class AuditEntry implements BaseBean {
 
     private String throwable;
 
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY)
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(final String key) {
+        this.key = key;
+    }
+
     @Schema(accessMode = Schema.AccessMode.READ_ONLY)
     public String getWho() {
         return who;
@@ -116,6 +127,7 @@ public class AuditEntry implements BaseBean {
     public int hashCode() {
         return new HashCodeBuilder().
                 appendSuper(super.hashCode()).
+                append(key).
                 append(who).
                 append(date).
                 append(logger).
@@ -140,6 +152,7 @@ public class AuditEntry implements BaseBean {
         final AuditEntry other = (AuditEntry) obj;
         return new EqualsBuilder().
                 appendSuper(super.equals(obj)).
+                append(key, other.key).
                 append(who, other.who).
                 append(date, other.date).
                 append(logger, other.logger).
@@ -42,6 +42,8 @@ public class PullTaskTO extends ProvisioningTaskTO implements TemplatableTO {
 
     private boolean remediation;
 
+    private boolean skipUnchanged;
+
     @JacksonXmlProperty(localName = "_class", isAttribute = true)
     @JsonProperty("_class")
     @Schema(name = "_class", required = true, example = "org.apache.syncope.common.lib.to.PullTaskTO")
@@ -89,6 +91,14 @@ public class PullTaskTO extends ProvisioningTaskTO implements TemplatableTO {
         this.remediation = remediation;
     }
 
+    public boolean isSkipUnchanged() {
+        return skipUnchanged;
+    }
+
+    public void setSkipUnchanged(final boolean skipUnchanged) {
+        this.skipUnchanged = skipUnchanged;
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder().
@@ -97,6 +107,7 @@ public class PullTaskTO extends ProvisioningTaskTO implements TemplatableTO {
                 append(reconFilterBuilder).
                 append(destinationRealm).
                 append(remediation).
+                append(skipUnchanged).
                 build();
     }
 
@@ -118,6 +129,7 @@ public class PullTaskTO extends ProvisioningTaskTO implements TemplatableTO {
                 append(reconFilterBuilder, other.reconFilterBuilder).
                 append(destinationRealm, other.destinationRealm).
                 append(remediation, other.remediation).
+                append(skipUnchanged, other.skipUnchanged).
                 build();
     }
 }
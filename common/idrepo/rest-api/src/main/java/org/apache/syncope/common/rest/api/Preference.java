@@ -31,6 +31,12 @@ public enum Preference {
     RETURN_NO_CONTENT("return-no-content"),
     RESPOND_ASYNC("respond-async");
 
+    /**
+     * Preference only considered by batch requests, specifying how many items can be processed in parallel, as in
+     * {@code parallel=4}; items are processed sequentially when missing.
+     */
+    public static final String PARALLEL = "parallel";
+
     private final String literal;
 
     Preference(final String literal) {
@@ -42,6 +48,16 @@ public enum Preference {
         return literal;
     }
 
+    /**
+     * Builds the value for the {@code parallel} preference.
+     *
+     * @param parallelism how many batch items can be processed in parallel
+     * @return value for the {@code parallel} preference
+     */
+    public static String parallel(final int parallelism) {
+        return PARALLEL + '=' + parallelism;
+    }
+
     public static Preference fromString(final String literal) {
         Preference result = null;
 
@@ -115,6 +115,12 @@ public final class RESTHeaders {
      */
     public static final String PREFERENCE_APPLIED = "Preference-Applied";
 
+    /**
+     * Reports, while asynchronous batch processing is still ongoing, how many items were processed out of the total,
+     * as in {@code 120/1000}.
+     */
+    public static final String BATCH_PROGRESS = "X-Syncope-Batch-Progress";
+
     private RESTHeaders() {
         // Empty constructor for static utility class.
     }
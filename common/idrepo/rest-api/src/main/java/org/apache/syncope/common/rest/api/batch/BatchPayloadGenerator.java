@@ -30,43 +30,66 @@ public final class BatchPayloadGenerator {
     public static <T extends BatchItem> String generate(final List<T> items, final String boundary) {
         StringBuilder payload = new StringBuilder();
 
-        items.forEach(item -> {
-            payload.append(boundary).append(SyncopeConstants.CRLF);
-            payload.append(HttpHeaders.CONTENT_TYPE).append(": ").append("application/http").append('\n');
-            payload.append("Content-Transfer-Encoding: binary").append('\n');
-            payload.append(SyncopeConstants.CRLF);
+        items.forEach(item -> append(payload, item, boundary));
 
-            if (item instanceof BatchRequestItem) {
-                BatchRequestItem bri = BatchRequestItem.class.cast(item);
-                payload.append(bri.getMethod()).append(' ').append(bri.getRequestURI());
-                if (bri.getQueryString() != null) {
-                    payload.append('?').append(bri.getQueryString());
-                }
-                payload.append(' ').append(HTTP_1_1).append('\n');
-            }
+        payload.append(generateEnd(boundary));
 
-            if (item instanceof BatchResponseItem) {
-                BatchResponseItem bri = BatchResponseItem.class.cast(item);
-                payload.append(HTTP_1_1).append(' ').
-                        append(bri.getStatus()).append(' ').
-                        append(Response.Status.fromStatusCode(bri.getStatus()).getReasonPhrase()).
-                        append('\n');
-            }
+        return payload.toString();
+    }
 
-            if (item.getHeaders() != null && !item.getHeaders().isEmpty()) {
-                item.getHeaders().forEach((key, values) -> values.forEach(
-                        value -> payload.append(key).append(": ").append(value).append('\n')));
-                payload.append(SyncopeConstants.CRLF);
-            }
+    /**
+     * Generates the payload part for a single item, to be later concatenated with other parts and terminated by
+     * {@link #generateEnd(java.lang.String)}; useful when items are not all available at the same time.
+     *
+     * @param <T> batch item type
+     * @param item batch item
+     * @param boundary multipart boundary
+     * @return payload part for the given item
+     */
+    public static <T extends BatchItem> String generatePart(final T item, final String boundary) {
+        StringBuilder payload = new StringBuilder();
+        append(payload, item, boundary);
+        return payload.toString();
+    }
+
+    public static String generateEnd(final String boundary) {
+        return boundary + SyncopeConstants.DOUBLE_DASH + '\n';
+    }
+
+    private static <T extends BatchItem> void append(
+            final StringBuilder payload, final T item, final String boundary) {
 
-            if (item.getContent() != null) {
-                payload.append(item.getContent()).append('\n');
+        payload.append(boundary).append(SyncopeConstants.CRLF);
+        payload.append(HttpHeaders.CONTENT_TYPE).append(": ").append("application/http").append('\n');
+        payload.append("Content-Transfer-Encoding: binary").append('\n');
+        payload.append(SyncopeConstants.CRLF);
+
+        if (item instanceof BatchRequestItem) {
+            BatchRequestItem bri = BatchRequestItem.class.cast(item);
+            payload.append(bri.getMethod()).append(' ').append(bri.getRequestURI());
+            if (bri.getQueryString() != null) {
+                payload.append('?').append(bri.getQueryString());
             }
-        });
+            payload.append(' ').append(HTTP_1_1).append('\n');
+        }
 
-        payload.append(boundary).append(SyncopeConstants.DOUBLE_DASH).append('\n');
+        if (item instanceof BatchResponseItem) {
+            BatchResponseItem bri = BatchResponseItem.class.cast(item);
+            payload.append(HTTP_1_1).append(' ').
+                    append(bri.getStatus()).append(' ').
+                    append(Response.Status.fromStatusCode(bri.getStatus()).getReasonPhrase()).
+                    append('\n');
+        }
 
-        return payload.toString();
+        if (item.getHeaders() != null && !item.getHeaders().isEmpty()) {
+            item.getHeaders().forEach((key, values) -> values.forEach(
+                    value -> payload.append(key).append(": ").append(value).append('\n')));
+            payload.append(SyncopeConstants.CRLF);
+        }
+
+        if (item.getContent() != null) {
+            payload.append(item.getContent()).append('\n');
+        }
     }
 
     private BatchPayloadGenerator() {
@@ -73,6 +73,11 @@ public class AuditQuery extends AbstractQuery {
             getInstance().setResult(result);
             return this;
         }
+
+        public Builder after(final String after) {
+            getInstance().setAfter(after);
+            return this;
+        }
     }
 
     private String entityKey;
@@ -87,6 +92,8 @@ public class AuditQuery extends AbstractQuery {
 
     private AuditElements.Result result;
 
+    private String after;
+
     @Parameter(name = JAXRSService.PARAM_ENTITY_KEY, in = ParameterIn.QUERY,
             description = "audit entity key to match", schema =
             @Schema(implementation = String.class, example = "50592942-73ec-44c4-a377-e859524245e4"))
@@ -156,4 +163,16 @@ public class AuditQuery extends AbstractQuery {
             this.events.addAll(events);
         }
     }
+
+    @Parameter(name = "after", description = "key of the last audit entry read; when provided, the audit entries "
+            + "following it are returned, newest first, regardless of page and orderBy", schema =
+            @Schema(implementation = String.class))
+    public String getAfter() {
+        return after;
+    }
+
+    @QueryParam("after")
+    public void setAfter(final String after) {
+        this.after = after;
+    }
 }
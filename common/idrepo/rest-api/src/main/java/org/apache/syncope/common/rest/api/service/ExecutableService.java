@@ -81,9 +81,11 @@ public interface ExecutableService extends JAXRSService {
 
     /**
      * Deletes the executions belonging matching the given query.
+     * Executions are deleted in chunks, each in a transaction of its own.
      *
      * @param query query conditions
-     * @return batch results as Response entity
+     * @return batch results as Response entity: a single item, reporting the executable key and - if successful -
+     * the number of deleted executions as content
      */
     @DELETE
     @ApiResponses(
@@ -109,7 +109,17 @@ public interface LoggerService extends JAXRSService {
     @Path("AUDIT/entries")
     @Consumes({ MediaType.APPLICATION_JSON, RESTHeaders.APPLICATION_YAML, MediaType.APPLICATION_XML })
     void create(@NotNull AuditEntry auditEntry);
-    
+
+    /**
+     * Create the given audit entries, in a single request.
+     *
+     * @param auditEntries audit entries to persist.
+     */
+    @POST
+    @Path("AUDIT/entries/bulk")
+    @Consumes({ MediaType.APPLICATION_JSON, RESTHeaders.APPLICATION_YAML, MediaType.APPLICATION_XML })
+    void create(@NotNull List<AuditEntry> auditEntries);
+
     /**
      * Returns logger with matching type and name.
      *
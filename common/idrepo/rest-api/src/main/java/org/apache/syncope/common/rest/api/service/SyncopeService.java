@@ -41,6 +41,7 @@ import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import org.apache.syncope.common.lib.info.MetricsInfo;
 import org.apache.syncope.common.lib.info.NumbersInfo;
 import org.apache.syncope.common.lib.info.SystemInfo;
 import org.apache.syncope.common.lib.info.PlatformInfo;
@@ -83,6 +84,7 @@ public interface SyncopeService extends JAXRSService {
 
     /**
      * Provides some numbers about the managed entities (users, groups, any objects...).
+     * Numbers are kept in memory and recomputed when found stale, hence they might lag behind by a few seconds.
      *
      * @return some numbers about the managed entities (users, groups, any objects...)
      */
@@ -91,6 +93,17 @@ public interface SyncopeService extends JAXRSService {
     @Produces({ MediaType.APPLICATION_JSON, RESTHeaders.APPLICATION_YAML, MediaType.APPLICATION_XML })
     NumbersInfo numbers();
 
+    /**
+     * Provides the metrics collected by this node: thread pools, connector operation latency, pull / push throughput
+     * and search query timings.
+     *
+     * @return the metrics collected by this node
+     */
+    @GET
+    @Path("/metrics")
+    @Produces({ MediaType.APPLICATION_JSON, RESTHeaders.APPLICATION_YAML, MediaType.APPLICATION_XML })
+    MetricsInfo metrics();
+
     /**
      * Requests for batch execution.
      *
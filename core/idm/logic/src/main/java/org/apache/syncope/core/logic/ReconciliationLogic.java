@@ -19,17 +19,26 @@
 package org.apache.syncope.core.logic;
 
 import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
-import org.apache.syncope.common.lib.Attr;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.to.ConnObjectTO;
@@ -56,6 +65,7 @@ import org.apache.syncope.core.persistence.api.entity.user.LinkedAccount;
 import org.apache.syncope.core.provisioning.api.ConnectorFactory;
 import org.apache.syncope.core.provisioning.api.MappingManager;
 import org.apache.syncope.core.provisioning.api.VirAttrHandler;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.common.lib.to.ProvisioningReport;
 import org.apache.syncope.common.lib.types.AnyEntitlement;
 import org.apache.syncope.common.lib.types.IdMEntitlement;
@@ -79,6 +89,8 @@ import org.apache.syncope.core.provisioning.api.pushpull.SyncopeSinglePushExecut
 import org.apache.syncope.core.provisioning.api.pushpull.stream.SyncopeStreamPullExecutor;
 import org.apache.syncope.core.provisioning.java.pushpull.InboundMatcher;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
+import org.apache.syncope.core.provisioning.java.pushpull.ReconDriftReader;
+import org.apache.syncope.core.provisioning.java.pushpull.ReconDriftSpool;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.identityconnectors.framework.common.objects.Attribute;
@@ -92,6 +104,7 @@ import org.apache.syncope.core.provisioning.java.pushpull.stream.StreamPushJobDe
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.identityconnectors.framework.common.objects.OperationOptions;
+import org.identityconnectors.framework.common.objects.OperationalAttributes;
 import org.identityconnectors.framework.common.objects.SearchResult;
 import org.identityconnectors.framework.common.objects.SyncDeltaBuilder;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
@@ -103,11 +116,15 @@ import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
 
 @Component
 public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
 
+    private static final int DRIFT_RUN_SIZE = 10000;
+
     @Autowired
     private AnyUtilsFactory anyUtilsFactory;
 
@@ -147,6 +164,9 @@ public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
     @Autowired
     private ConnectorFactory connFactory;
 
+    @Autowired
+    private ReconDriftReader reconDriftReader;
+
     private Provision getProvision(final String anyTypeKey, final String resourceKey) {
         AnyType anyType = anyTypeDAO.find(anyTypeKey);
         if (anyType == null) {
@@ -167,20 +187,6 @@ public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
         return provision;
     }
 
-    private ConnObjectTO getOnSyncope(
-            final MappingItem connObjectKeyItem,
-            final String connObjectKeyValue,
-            final Set<Attribute> attrs) {
-
-        ConnObjectTO connObjectTO = ConnObjectUtils.getConnObjectTO(null, attrs);
-        connObjectTO.getAttrs().add(new Attr.Builder(connObjectKeyItem.getExtAttrName()).
-                value(connObjectKeyValue).build());
-        connObjectTO.getAttrs().add(new Attr.Builder(Uid.NAME).
-                value(connObjectKeyValue).build());
-
-        return connObjectTO;
-    }
-
     private ConnObjectTO getOnSyncope(
             final Any<?> any,
             final MappingItem connObjectKeyItem,
@@ -188,7 +194,7 @@ public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
 
         Pair<String, Set<Attribute>> prepared = mappingManager.prepareAttrsFromAny(
                 any, null, false, true, provision);
-        return getOnSyncope(connObjectKeyItem, prepared.getLeft(), prepared.getRight());
+        return ConnObjectUtils.getConnObjectTO(connObjectKeyItem, prepared.getLeft(), prepared.getRight());
     }
 
     private ConnObjectTO getOnSyncope(
@@ -198,7 +204,7 @@ public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
 
         Set<Attribute> attrs = mappingManager.prepareAttrsFromLinkedAccount(
                 account.getOwner(), account, null, false, provision);
-        return getOnSyncope(connObjectKeyItem, account.getConnObjectKeyValue(), attrs);
+        return ConnObjectUtils.getConnObjectTO(connObjectKeyItem, account.getConnObjectKeyValue(), attrs);
     }
 
     private Any<?> getAny(final Provision provision, final String anyKey) {
@@ -329,6 +335,154 @@ public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
         return status;
     }
 
+    private static boolean isMisaligned(final ConnObjectTO onSyncope, final ConnObjectTO onResource) {
+        return onSyncope.getAttrs().stream().
+                filter(attr -> !Uid.NAME.equals(attr.getSchema())
+                && !OperationalAttributes.PASSWORD_NAME.equals(attr.getSchema())
+                && !OperationalAttributes.ENABLE_NAME.equals(attr.getSchema())).
+                anyMatch(attr -> !onResource.getAttr(attr.getSchema()).
+                map(other -> new HashSet<>(other.getValues()).equals(new HashSet<>(attr.getValues()))).
+                orElseGet(() -> attr.getValues().isEmpty()));
+    }
+
+    private static Pair<String, ReconStatus> next(final Iterator<Pair<String, ReconStatus>> sorted) {
+        return sorted.hasNext() ? sorted.next() : null;
+    }
+
+    /**
+     * Compares all entities of the given type assigned to the given resource with all objects found on the resource,
+     * by merge-joining both sides sorted by connObjectKey value; the status of each entity missing on the resource,
+     * object missing on Syncope or entity with misaligned attributes is written to the given stream, as JSON array.
+     * No transaction is kept open while comparing: entities are read one page per transaction, objects outside of any
+     * transaction, and the result is only written to the given stream once fully computed.
+     *
+     * @param anyTypeKey any type key
+     * @param resourceKey resource key
+     * @param os output stream
+     */
+    @PreAuthorize("hasRole('" + IdMEntitlement.RESOURCE_GET_CONNOBJECT + "')")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void drift(final String anyTypeKey, final String resourceKey, final OutputStream os) {
+        Pair<AnyTypeKind, Boolean> checked = reconDriftReader.check(anyTypeKey, resourceKey);
+
+        UnaryOperator<String> normalize = checked.getRight()
+                ? key -> key.toLowerCase(Locale.ENGLISH)
+                : UnaryOperator.identity();
+
+        Set<String> adminRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(getSearchEntitlement(checked.getLeft(), anyTypeKey)),
+                SyncopeConstants.ROOT_REALM);
+
+        Path result = null;
+        try (ReconDriftSpool onSyncope = new ReconDriftSpool(DRIFT_RUN_SIZE);
+                ReconDriftSpool onResource = new ReconDriftSpool(DRIFT_RUN_SIZE)) {
+
+            // 1. read Syncope side, one page at a time
+            List<Pair<String, ReconStatus>> page;
+            String after = null;
+            do {
+                page = reconDriftReader.read(adminRealms, anyTypeKey, resourceKey, after, AnyDAO.DEFAULT_PAGE_SIZE);
+                for (Pair<String, ReconStatus> entity : page) {
+                    if (entity.getLeft() == null) {
+                        LOG.debug("No connObjectKey value for {} {}, ignoring",
+                                anyTypeKey, entity.getRight().getAnyKey());
+                    } else {
+                        onSyncope.add(normalize.apply(entity.getLeft()), entity.getRight());
+                    }
+                }
+                if (!page.isEmpty()) {
+                    after = page.get(page.size() - 1).getRight().getAnyKey();
+                }
+            } while (page.size() == AnyDAO.DEFAULT_PAGE_SIZE);
+
+            // 2. read resource side, paged by the connector
+            ReconDriftReader.ResourceScan scan = reconDriftReader.prepareOnResource(anyTypeKey, resourceKey);
+            reconDriftReader.readOnResource(scan, (connObjectKeyValue, status) -> {
+                try {
+                    onResource.add(normalize.apply(connObjectKeyValue), status);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            // 3. merge-join both sides, reporting drift into a temporary file: any failure occurring meanwhile
+            // can be still reported to the caller, instead of truncating the response
+            result = Files.createTempFile("drift", ".json");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(result))) {
+                Iterator<Pair<String, ReconStatus>> syncopeSorted = onSyncope.sorted();
+                Iterator<Pair<String, ReconStatus>> resourceSorted = onResource.sorted();
+                Pair<String, ReconStatus> syncopeItem = next(syncopeSorted);
+                Pair<String, ReconStatus> resourceItem = next(resourceSorted);
+
+                boolean first = true;
+                out.write('[');
+                while (syncopeItem != null || resourceItem != null) {
+                    int compare = syncopeItem == null
+                            ? 1
+                            : resourceItem == null
+                                    ? -1
+                                    : syncopeItem.getLeft().compareTo(resourceItem.getLeft());
+
+                    ReconStatus drift = null;
+                    if (compare < 0) {
+                        drift = syncopeItem.getRight();
+                        syncopeItem = next(syncopeSorted);
+                    } else if (compare > 0) {
+                        drift = resourceItem.getRight();
+                        resourceItem = next(resourceSorted);
+                    } else {
+                        ReconStatus status = syncopeItem.getRight();
+                        status.setOnResource(resourceItem.getRight().getOnResource());
+                        if (isMisaligned(status.getOnSyncope(), status.getOnResource())) {
+                            drift = status;
+                        }
+                        syncopeItem = next(syncopeSorted);
+                        resourceItem = next(resourceSorted);
+                    }
+
+                    if (drift != null) {
+                        if (!first) {
+                            out.write(',');
+                        }
+                        out.write(POJOHelper.serialize(drift).getBytes(StandardCharsets.UTF_8));
+                        first = false;
+                    }
+                }
+                out.write(']');
+            }
+        } catch (IOException | UncheckedIOException e) {
+            deleteQuietly(result);
+            LOG.error("Could not compute drift for {} on {}", anyTypeKey, resourceKey, e);
+            SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.Reconciliation);
+            sce.getElements().add(e.getMessage());
+            throw sce;
+        } catch (RuntimeException e) {
+            deleteQuietly(result);
+            throw e;
+        }
+
+        // 4. send the computed drift
+        try {
+            Files.copy(result, os);
+            os.flush();
+        } catch (IOException e) {
+            LOG.error("Could not send drift for {} on {}", anyTypeKey, resourceKey, e);
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteQuietly(result);
+        }
+    }
+
+    private static void deleteQuietly(final Path path) {
+        if (path != null) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                LOG.warn("Could not delete {}", path, e);
+            }
+        }
+    }
+
     private SyncopeSinglePushExecutor singlePushExecutor() {
         return (SyncopeSinglePushExecutor) ApplicationContextProvider.getBeanFactory().
                 createBean(SinglePushJobDelegate.class, AbstractBeanDefinition.AUTOWIRE_BY_NAME, false);
@@ -501,6 +655,28 @@ public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
                 pullTask);
     }
 
+    private static String getSearchEntitlement(final AnyType anyType) {
+        return getSearchEntitlement(anyType.getKind(), anyType.getKey());
+    }
+
+    private static String getSearchEntitlement(final AnyTypeKind anyTypeKind, final String anyTypeKey) {
+        String entitlement;
+        switch (anyTypeKind) {
+            case GROUP:
+                entitlement = IdRepoEntitlement.GROUP_SEARCH;
+                break;
+
+            case ANY_OBJECT:
+                entitlement = AnyEntitlement.SEARCH.getFor(anyTypeKey);
+                break;
+
+            case USER:
+            default:
+                entitlement = IdRepoEntitlement.USER_SEARCH;
+        }
+        return entitlement;
+    }
+
     private CsvSchema.Builder csvSchema(final AbstractCSVSpec spec) {
         CsvSchema.Builder schemaBuilder = new CsvSchema.Builder().setUseHeader(true).
                 setColumnSeparator(spec.getColumnSeparator()).
@@ -532,22 +708,8 @@ public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
 
         AnyUtils anyUtils = anyUtilsFactory.getInstance(anyType.getKind());
 
-        String entitlement;
-        switch (anyType.getKind()) {
-            case GROUP:
-                entitlement = IdRepoEntitlement.GROUP_SEARCH;
-                break;
-
-            case ANY_OBJECT:
-                entitlement = AnyEntitlement.SEARCH.getFor(anyType.getKey());
-                break;
-
-            case USER:
-            default:
-                entitlement = IdRepoEntitlement.USER_SEARCH;
-        }
-
-        Set<String> adminRealms = RealmUtils.getEffective(AuthContextUtils.getAuthorizations().get(entitlement), realm);
+        Set<String> adminRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(getSearchEntitlement(anyType)), realm);
         SearchCond effectiveCond = searchCond == null ? anyUtils.dao().getAllMatchingCond() : searchCond;
 
         List<Any<?>> matching;
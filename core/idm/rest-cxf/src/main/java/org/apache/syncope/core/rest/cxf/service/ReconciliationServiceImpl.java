@@ -25,6 +25,7 @@ import java.util.Set;
 import java.util.Optional;
 import javax.validation.ValidationException;
 import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.StreamingOutput;
 import org.apache.commons.lang3.StringUtils;
@@ -110,6 +111,15 @@ public class ReconciliationServiceImpl extends AbstractServiceImpl implements Re
         return logic.status(query.getAnyTypeKey(), query.getResourceKey(), fromFIQL.getLeft(), fromFIQL.getRight());
     }
 
+    @Override
+    public Response drift(final String anyTypeKey, final String resourceKey) {
+        StreamingOutput sout = os -> logic.drift(anyTypeKey, resourceKey, os);
+
+        return Response.ok(sout).
+                type(MediaType.APPLICATION_JSON).
+                build();
+    }
+
     @Override
     public List<ProvisioningReport> push(final ReconQuery query, final PushTaskTO pushTask) {
         validate(query);
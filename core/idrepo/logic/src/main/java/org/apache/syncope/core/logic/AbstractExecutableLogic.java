@@ -20,16 +20,56 @@ package org.apache.syncope.core.logic;
 
 import java.util.Date;
 import java.util.List;
+import java.util.function.IntSupplier;
+import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.to.EntityTO;
 import org.apache.syncope.common.lib.to.ExecTO;
 import org.apache.syncope.common.lib.to.JobTO;
 import org.apache.syncope.common.lib.types.JobAction;
+import org.apache.syncope.common.rest.api.RESTHeaders;
 import org.apache.syncope.common.rest.api.batch.BatchResponseItem;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
+import org.apache.syncope.core.provisioning.api.utils.ExceptionUtils2;
 
 public abstract class AbstractExecutableLogic<T extends EntityTO> extends AbstractJobLogic<T> {
 
+    /**
+     * Maximum number of executions deleted by a single transaction.
+     */
+    protected static final int DELETE_EXECUTIONS_CHUNK_SIZE = 500;
+
+    /**
+     * Repeatedly invokes the given chunk deletion until exhausted, and summarizes the outcome: the returned item
+     * reports the given key and, if successful, the number of deleted executions as content.
+     *
+     * @param key key of the executable whose executions are being deleted
+     * @param chunk deletes up to {@link #DELETE_EXECUTIONS_CHUNK_SIZE} executions, returns how many were deleted
+     * @return summary of deletion
+     */
+    protected static BatchResponseItem deleteExecutions(final String key, final IntSupplier chunk) {
+        BatchResponseItem item = new BatchResponseItem();
+        item.getHeaders().put(RESTHeaders.RESOURCE_KEY, List.of(key));
+
+        int deleted = 0;
+        try {
+            int chunkDeleted;
+            do {
+                chunkDeleted = chunk.getAsInt();
+                deleted += chunkDeleted;
+            } while (chunkDeleted >= DELETE_EXECUTIONS_CHUNK_SIZE);
+
+            item.setStatus(Response.Status.OK.getStatusCode());
+            item.setContent(String.valueOf(deleted));
+        } catch (Exception e) {
+            LOG.error("Error deleting executions of {}, {} were deleted", key, deleted, e);
+            item.setStatus(Response.Status.BAD_REQUEST.getStatusCode());
+            item.setContent(ExceptionUtils2.getFullStackTrace(e));
+        }
+
+        return item;
+    }
+
     public abstract ExecTO execute(String key, Date startAt, boolean dryRun);
 
     public abstract Pair<Integer, List<ExecTO>> listExecutions(
@@ -94,9 +94,7 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectCR, A
 
         List<AnyObject> matching = searchDAO.search(
                 adminRealms, searchCond, page, size, orderBy, AnyTypeKind.ANY_OBJECT);
-        List<AnyObjectTO> result = matching.stream().
-                map(anyObject -> binder.getAnyObjectTO(anyObject, details)).
-                collect(Collectors.toList());
+        List<AnyObjectTO> result = binder.getAnyObjectTOs(matching, details);
 
         return Pair.of(count, result);
     }
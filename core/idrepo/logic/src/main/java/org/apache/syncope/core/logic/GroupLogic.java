@@ -166,9 +166,7 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupCR, GroupUR> {
 
         List<Group> matching = searchDAO.search(
                 adminRealms, effectiveCond, page, size, orderBy, AnyTypeKind.GROUP);
-        List<GroupTO> result = matching.stream().
-                map(group -> binder.getGroupTO(group, details)).
-                collect(Collectors.toList());
+        List<GroupTO> result = binder.getGroupTOs(matching, details);
 
         return Pair.of(count, result);
     }
@@ -411,36 +411,54 @@ public class LoggerLogic extends AbstractTransactionalLogic<EntityTO> {
             final String subcategory,
             final List<String> events,
             final AuditElements.Result result,
-            final List<OrderByClause> orderByClauses) {
+            final List<OrderByClause> orderByClauses,
+            final String after) {
 
         int count = loggerDAO.countAuditEntries(entityKey, type, category, subcategory, events, result);
-        List<AuditEntry> matching = loggerDAO.findAuditEntries(
-                entityKey, page, size, type, category, subcategory, events, result, orderByClauses);
+
+        List<AuditEntry> matching;
+        if (after == null) {
+            // same ordering as keyset pagination, unless otherwise specified
+            List<OrderByClause> orderBy = orderByClauses;
+            if (orderBy.isEmpty()) {
+                OrderByClause byDate = new OrderByClause();
+                byDate.setField(LoggerDAO.AUDIT_DATE_COLUMN);
+                byDate.setDirection(OrderByClause.Direction.DESC);
+                OrderByClause byId = new OrderByClause();
+                byId.setField(LoggerDAO.AUDIT_ID_COLUMN);
+                byId.setDirection(OrderByClause.Direction.DESC);
+                orderBy = List.of(byDate, byId);
+            }
+
+            matching = loggerDAO.findAuditEntries(
+                    entityKey, page, size, type, category, subcategory, events, result, orderBy);
+        } else {
+            matching = loggerDAO.findAuditEntries(
+                    entityKey, after, size, type, category, subcategory, events, result);
+        }
         return Pair.of(count, matching);
     }
 
-    @PreAuthorize("isAuthenticated()")
-    public void create(final AuditEntry auditEntry) {
-        boolean authorized =
-                AuthContextUtils.getAuthorizations().containsKey(IdRepoEntitlement.AUDIT_CREATE)
+    private static boolean isCreateAuthorized(final AuditEntry auditEntry) {
+        return AuthContextUtils.getAuthorizations().containsKey(IdRepoEntitlement.AUDIT_CREATE)
                 || AuthContextUtils.getAuthorizations().containsKey(IdRepoEntitlement.ANONYMOUS)
                 && AuditElements.EventCategoryType.WA == auditEntry.getLogger().getType();
-        if (authorized) {
-            auditManager.audit(
-                    auditEntry.getWho(),
-                    auditEntry.getLogger().getType(),
-                    auditEntry.getLogger().getCategory(),
-                    auditEntry.getLogger().getSubcategory(),
-                    auditEntry.getLogger().getEvent(),
-                    auditEntry.getLogger().getResult(),
-                    auditEntry.getBefore(),
-                    auditEntry.getOutput(),
-                    auditEntry.getInputs());
-        } else {
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    public void create(final AuditEntry auditEntry) {
+        create(List.of(auditEntry));
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    public void create(final List<AuditEntry> auditEntries) {
+        if (!auditEntries.stream().allMatch(LoggerLogic::isCreateAuthorized)) {
             SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.DelegatedAdministration);
             sce.getElements().add("Not allowed to create Audit entries");
             throw sce;
         }
+
+        auditManager.audit(auditEntries);
     }
 
     @Override
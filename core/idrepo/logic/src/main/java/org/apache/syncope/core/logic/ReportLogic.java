@@ -18,11 +18,11 @@
  */
 package org.apache.syncope.core.logic;
 
-import java.io.ByteArrayInputStream;
+import java.io.BufferedInputStream;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -30,7 +30,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.zip.ZipInputStream;
-import javax.ws.rs.core.Response;
 import javax.xml.transform.stream.StreamSource;
 import org.apache.cocoon.pipeline.NonCachingPipeline;
 import org.apache.cocoon.pipeline.Pipeline;
@@ -52,7 +51,6 @@ import org.apache.syncope.common.lib.types.JobType;
 import org.apache.syncope.common.lib.types.ReportExecExportFormat;
 import org.apache.syncope.common.lib.types.ReportExecStatus;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
-import org.apache.syncope.common.rest.api.RESTHeaders;
 import org.apache.syncope.common.rest.api.batch.BatchResponseItem;
 import org.apache.syncope.core.logic.cocoon.FopSerializer;
 import org.apache.syncope.core.logic.cocoon.TextSerializer;
@@ -66,7 +64,8 @@ import org.apache.syncope.core.persistence.api.entity.Report;
 import org.apache.syncope.core.persistence.api.entity.ReportExec;
 import org.apache.syncope.core.provisioning.api.data.ReportDataBinder;
 import org.apache.syncope.core.provisioning.api.job.JobNamer;
-import org.apache.syncope.core.provisioning.api.utils.ExceptionUtils2;
+import org.apache.syncope.core.provisioning.api.job.report.ReportExecResultStore;
+import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.xmlgraphics.util.MimeConstants;
 import org.quartz.JobKey;
@@ -94,6 +93,9 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
     @Autowired
     private EntityFactory entityFactory;
 
+    @Autowired
+    private ReportExecResultStore reportExecResultStore;
+
     @PreAuthorize("hasRole('" + IdRepoEntitlement.REPORT_CREATE + "')")
     public ReportTO create(final ReportTO reportTO) {
         Report report = entityFactory.newEntity(Report.class);
@@ -205,9 +207,10 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
         if (reportExec == null) {
             throw new NotFoundException("Report execution " + executionKey);
         }
-        if (!ReportExecStatus.SUCCESS.name().equals(reportExec.getStatus()) || reportExec.getExecResult() == null) {
+        boolean resultExists = reportExecResultStore.exists(reportExec);
+        if (!ReportExecStatus.SUCCESS.name().equals(reportExec.getStatus()) || !resultExists) {
             SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidReportExec);
-            sce.getElements().add(reportExec.getExecResult() == null
+            sce.getElements().add(!resultExists
                     ? "No report data produced"
                     : "Report did not run successfully");
             throw sce;
@@ -219,9 +222,10 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
     public static void exportExecutionResult(final OutputStream os, final ReportExec reportExec,
             final ReportExecExportFormat format) {
 
-        // streaming SAX handler from a compressed byte array stream
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(reportExec.getExecResult());
-                ZipInputStream zis = new ZipInputStream(bais)) {
+        // streaming SAX handler from a compressed stream out of the result store
+        try (InputStream result = ApplicationContextProvider.getBeanFactory().
+                getBean(ReportExecResultStore.class).load(reportExec);
+                ZipInputStream zis = new ZipInputStream(new BufferedInputStream(result))) {
 
             // a single ZipEntry in the ZipInputStream (see ReportJob)
             zis.getNextEntry();
@@ -295,6 +299,7 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
 
         ReportTO deletedReport = binder.getReportTO(report);
         jobManager.unregister(report);
+        report.getExecs().forEach(exec -> reportExecResultStore.delete(exec.getKey()));
         reportDAO.delete(report);
         return deletedReport;
     }
@@ -334,6 +339,7 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
 
         ExecTO reportExecToDelete = binder.getExecTO(reportExec);
         reportExecDAO.delete(reportExec);
+        reportExecResultStore.delete(reportExec.getKey());
         return reportExecToDelete;
     }
 
@@ -348,24 +354,12 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
             throw new NotFoundException("Report " + key);
         }
 
-        List<BatchResponseItem> batchResponseItems = new ArrayList<>();
-
-        reportExecDAO.findAll(report, startedBefore, startedAfter, endedBefore, endedAfter).forEach(exec -> {
-            BatchResponseItem item = new BatchResponseItem();
-            item.getHeaders().put(RESTHeaders.RESOURCE_KEY, List.of(exec.getKey()));
-            batchResponseItems.add(item);
-
-            try {
-                reportExecDAO.delete(exec);
-                item.setStatus(Response.Status.OK.getStatusCode());
-            } catch (Exception e) {
-                LOG.error("Error deleting execution {} of report {}", exec.getKey(), key, e);
-                item.setStatus(Response.Status.BAD_REQUEST.getStatusCode());
-                item.setContent(ExceptionUtils2.getFullStackTrace(e));
-            }
-        });
-
-        return batchResponseItems;
+        return List.of(deleteExecutions(key, () -> {
+            List<String> deleted = reportExecDAO.delete(
+                    key, startedBefore, startedAfter, endedBefore, endedAfter, DELETE_EXECUTIONS_CHUNK_SIZE);
+            deleted.forEach(reportExecResultStore::delete);
+            return deleted.size();
+        }));
     }
 
     @Override
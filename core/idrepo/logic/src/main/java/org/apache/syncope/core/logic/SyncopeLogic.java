@@ -18,6 +18,9 @@
  */
 package org.apache.syncope.core.logic;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import java.io.OutputStream;
 import java.lang.management.ManagementFactory;
 import java.lang.management.OperatingSystemMXBean;
@@ -26,14 +29,19 @@ import java.lang.reflect.Method;
 import java.net.InetAddress;
 import java.net.URI;
 import java.net.UnknownHostException;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.annotation.Resource;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -41,6 +49,7 @@ import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.keymaster.client.api.ServiceOps;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.info.JavaImplInfo;
+import org.apache.syncope.common.lib.info.MetricsInfo;
 import org.apache.syncope.common.lib.info.NumbersInfo;
 import org.apache.syncope.common.lib.info.SystemInfo;
 import org.apache.syncope.common.lib.info.PlatformInfo;
@@ -91,6 +100,7 @@ import org.apache.syncope.core.provisioning.api.GroupProvisioningManager;
 import org.apache.syncope.core.provisioning.api.UserProvisioningManager;
 import org.apache.syncope.core.provisioning.api.cache.VirAttrCache;
 import org.apache.syncope.core.provisioning.api.data.GroupDataBinder;
+import org.apache.syncope.core.provisioning.api.event.AnyCountChangedEvent;
 import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
@@ -105,19 +115,19 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Transactional(readOnly = true)
 @Component
 public class SyncopeLogic extends AbstractLogic<EntityTO> {
 
-    private static final Pattern THREADPOOLTASKEXECUTOR_PATTERN = Pattern.compile(
-            ".*, pool size = ([0-9]+), "
-            + "active threads = ([0-9]+), "
-            + "queued tasks = ([0-9]+), "
-            + "completed tasks = ([0-9]+).*");
-
     private static final Object MONITOR = new Object();
 
+    /**
+     * Numbers are fully recomputed at least this often, to catch up with changes made by other nodes.
+     */
+    private static final long NUMBERS_MAX_AGE = TimeUnit.SECONDS.toMillis(60);
+
     private static PlatformInfo PLATFORM_INFO;
 
     private static SystemInfo SYSTEM_INFO;
@@ -239,6 +249,20 @@ public class SyncopeLogic extends AbstractLogic<EntityTO> {
     @Resource(name = "propagationTaskExecutorAsyncExecutor")
     private ThreadPoolTaskExecutor propagationTaskExecutorAsyncExecutor;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Numbers by domain, along with the instant when they were last fully computed: meanwhile, they are kept up to
+     * date with the changes made by the current node.
+     */
+    private final Map<String, Pair<Long, NumbersInfo>> numbers = new ConcurrentHashMap<>();
+
+    /**
+     * Domains whose numbers are to be fully recomputed on next request.
+     */
+    private final Set<String> staleNumbers = ConcurrentHashMap.newKeySet();
+
     public boolean isSelfRegAllowed() {
         return confParamOps.get(AuthContextUtils.getDomain(), "selfRegistration.allowed", false, Boolean.class);
     }
@@ -393,34 +417,67 @@ public class SyncopeLogic extends AbstractLogic<EntityTO> {
         return SYSTEM_INFO;
     }
 
-    private void setTaskExecutorInfo(final String toString, final NumbersInfo.TaskExecutorInfo info) {
-        Matcher matcher = THREADPOOLTASKEXECUTOR_PATTERN.matcher(toString);
-        if (matcher.matches() && matcher.groupCount() == 4) {
-            try {
-                info.setSize(Integer.valueOf(matcher.group(1)));
-            } catch (NumberFormatException e) {
-                LOG.error("While parsing thread pool size", e);
-            }
-            try {
-                info.setActive(Integer.valueOf(matcher.group(2)));
-            } catch (NumberFormatException e) {
-                LOG.error("While parsing active threads #", e);
-            }
-            try {
-                info.setQueued(Integer.valueOf(matcher.group(3)));
-            } catch (NumberFormatException e) {
-                LOG.error("While parsing queued threads #", e);
-            }
-            try {
-                info.setCompleted(Integer.valueOf(matcher.group(4)));
-            } catch (NumberFormatException e) {
-                LOG.error("While parsing completed threads #", e);
+    private static void setTaskExecutorInfo(
+            final ThreadPoolExecutor executor, final NumbersInfo.TaskExecutorInfo info) {
+
+        info.setSize(executor.getPoolSize());
+        info.setActive(executor.getActiveCount());
+        info.setQueued(executor.getQueue().size());
+        info.setCompleted((int) executor.getCompletedTaskCount());
+    }
+
+    private static void move(final Map<String, Integer> counters, final String from, final String to) {
+        if (Objects.equals(from, to)) {
+            return;
+        }
+
+        if (from != null) {
+            counters.computeIfPresent(from, (key, count) -> count > 1 ? count - 1 : null);
+        }
+        if (to != null) {
+            counters.merge(to, 1, Integer::sum);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void countChanged(final AnyCountChangedEvent event) {
+        Pair<Long, NumbersInfo> cached = numbers.get(event.getDomain());
+        if (cached == null) {
+            return;
+        }
+
+        int delta = (event.getOldRealm() == null ? 1 : 0) - (event.getNewRealm() == null ? 1 : 0);
+        NumbersInfo numbersInfo = cached.getRight();
+        synchronized (numbersInfo) {
+            switch (event.getAnyTypeKind()) {
+                case USER:
+                    numbersInfo.setTotalUsers(numbersInfo.getTotalUsers() + delta);
+                    move(numbersInfo.getUsersByRealm(), event.getOldRealm(), event.getNewRealm());
+                    move(numbersInfo.getUsersByStatus(), event.getOldStatus(), event.getNewStatus());
+                    break;
+
+                case GROUP:
+                    numbersInfo.setTotalGroups(numbersInfo.getTotalGroups() + delta);
+                    move(numbersInfo.getGroupsByRealm(), event.getOldRealm(), event.getNewRealm());
+                    break;
+
+                case ANY_OBJECT:
+                default:
+                    if (event.getAnyType().equals(numbersInfo.getAnyType1())) {
+                        numbersInfo.setTotalAny1(numbersInfo.getTotalAny1() + delta);
+                        move(numbersInfo.getAny1ByRealm(), event.getOldRealm(), event.getNewRealm());
+                    } else if (event.getAnyType().equals(numbersInfo.getAnyType2())) {
+                        numbersInfo.setTotalAny2(numbersInfo.getTotalAny2() + delta);
+                        move(numbersInfo.getAny2ByRealm(), event.getOldRealm(), event.getNewRealm());
+                    } else if (numbersInfo.getAnyType2() == null) {
+                        // any objects of a type not counted so far
+                        staleNumbers.add(event.getDomain());
+                    }
             }
         }
     }
 
-    @PreAuthorize("isAuthenticated()")
-    public NumbersInfo numbers() {
+    private NumbersInfo countNumbers() {
         NumbersInfo numbersInfo = new NumbersInfo();
 
         numbersInfo.setTotalUsers(userDAO.count());
@@ -460,7 +517,7 @@ public class SyncopeLogic extends AbstractLogic<EntityTO> {
         numbersInfo.getConfCompleteness().put(
                 NumbersInfo.ConfItem.NOTIFICATION.name(), !notificationDAO.findAll().isEmpty());
         numbersInfo.getConfCompleteness().put(
-                NumbersInfo.ConfItem.PULL_TASK.name(), !taskDAO.findAll(TaskType.PULL).isEmpty());
+                NumbersInfo.ConfItem.PULL_TASK.name(), taskDAO.count(TaskType.PULL, null, null, null, null) > 0);
         numbersInfo.getConfCompleteness().put(
                 NumbersInfo.ConfItem.VIR_SCHEMA.name(), !virSchemaDAO.findAll().isEmpty());
         numbersInfo.getConfCompleteness().put(
@@ -470,16 +527,130 @@ public class SyncopeLogic extends AbstractLogic<EntityTO> {
         numbersInfo.getConfCompleteness().put(
                 NumbersInfo.ConfItem.ROLE.name(), numbersInfo.getTotalRoles() > 0);
 
+        return numbersInfo;
+    }
+
+    private static NumbersInfo copy(final NumbersInfo cached) {
+        NumbersInfo numbersInfo = new NumbersInfo();
+
+        numbersInfo.setTotalUsers(cached.getTotalUsers());
+        numbersInfo.getUsersByRealm().putAll(cached.getUsersByRealm());
+        numbersInfo.getUsersByStatus().putAll(cached.getUsersByStatus());
+
+        numbersInfo.setTotalGroups(cached.getTotalGroups());
+        numbersInfo.getGroupsByRealm().putAll(cached.getGroupsByRealm());
+
+        numbersInfo.setAnyType1(cached.getAnyType1());
+        numbersInfo.setTotalAny1(cached.getTotalAny1());
+        numbersInfo.getAny1ByRealm().putAll(cached.getAny1ByRealm());
+        numbersInfo.setAnyType2(cached.getAnyType2());
+        numbersInfo.setTotalAny2(cached.getTotalAny2());
+        numbersInfo.getAny2ByRealm().putAll(cached.getAny2ByRealm());
+
+        numbersInfo.setTotalResources(cached.getTotalResources());
+        numbersInfo.setTotalRoles(cached.getTotalRoles());
+        numbersInfo.getConfCompleteness().putAll(cached.getConfCompleteness());
+
+        return numbersInfo;
+    }
+
+    private double cachedNumber(final String domain, final ToDoubleFunction<NumbersInfo> number) {
+        Pair<Long, NumbersInfo> cached = numbers.get(domain);
+        if (cached == null) {
+            return Double.NaN;
+        }
+
+        synchronized (cached.getRight()) {
+            return number.applyAsDouble(cached.getRight());
+        }
+    }
+
+    private void gauge(final String name, final Tags tags, final ToDoubleFunction<NumbersInfo> number) {
+        String domain = AuthContextUtils.getDomain();
+        Gauge.builder(name, this, logic -> logic.cachedNumber(domain, number)).
+                tags(tags.and("domain", domain)).
+                register(meterRegistry);
+    }
+
+    private static double totalAny(final NumbersInfo numbersInfo, final String anyType) {
+        if (anyType.equals(numbersInfo.getAnyType1())) {
+            return numbersInfo.getTotalAny1();
+        }
+        if (anyType.equals(numbersInfo.getAnyType2())) {
+            return numbersInfo.getTotalAny2();
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Exposes the cached numbers as gauges; registering the same gauge again has no effect.
+     *
+     * @param numbersInfo numbers just computed
+     */
+    private void registerGauges(final NumbersInfo numbersInfo) {
+        gauge("syncope.numbers.users", Tags.empty(), NumbersInfo::getTotalUsers);
+        numbersInfo.getUsersByStatus().keySet().stream().filter(Objects::nonNull).forEach(
+                status -> gauge("syncope.numbers.users.status", Tags.of("status", status),
+                        cached -> cached.getUsersByStatus().getOrDefault(status, 0)));
+        gauge("syncope.numbers.groups", Tags.empty(), NumbersInfo::getTotalGroups);
+        Stream.of(numbersInfo.getAnyType1(), numbersInfo.getAnyType2()).filter(Objects::nonNull).forEach(
+                anyType -> gauge("syncope.numbers.anyObjects", Tags.of("type", anyType),
+                        cached -> totalAny(cached, anyType)));
+        gauge("syncope.numbers.resources", Tags.empty(), NumbersInfo::getTotalResources);
+        gauge("syncope.numbers.roles", Tags.empty(), NumbersInfo::getTotalRoles);
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    public NumbersInfo numbers() {
+        String domain = AuthContextUtils.getDomain();
+        long now = System.currentTimeMillis();
+
+        boolean stale = staleNumbers.remove(domain);
+        Pair<Long, NumbersInfo> cached = numbers.get(domain);
+        if (stale || cached == null || now - cached.getLeft() > NUMBERS_MAX_AGE) {
+            cached = Pair.of(now, countNumbers());
+            numbers.put(domain, cached);
+            registerGauges(cached.getRight());
+        }
+
+        NumbersInfo numbersInfo;
+        synchronized (cached.getRight()) {
+            numbersInfo = copy(cached.getRight());
+        }
+
         setTaskExecutorInfo(
-                asyncConnectorFacadeExecutor.getThreadPoolExecutor().toString(),
+                asyncConnectorFacadeExecutor.getThreadPoolExecutor(),
                 numbersInfo.getAsyncConnectorExecutor());
         setTaskExecutorInfo(
-                propagationTaskExecutorAsyncExecutor.getThreadPoolExecutor().toString(),
+                propagationTaskExecutorAsyncExecutor.getThreadPoolExecutor(),
                 numbersInfo.getPropagationTaskExecutor());
 
         return numbersInfo;
     }
 
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.METRICS_READ + "')")
+    public MetricsInfo metrics() {
+        MetricsInfo metricsInfo = new MetricsInfo();
+
+        meterRegistry.forEachMeter(meter -> {
+            MetricsInfo.Meter info = new MetricsInfo.Meter();
+            info.setName(meter.getId().getName());
+            info.setType(meter.getId().getType().name());
+            meter.getId().getTags().forEach(tag -> info.getTags().put(tag.getKey(), tag.getValue()));
+            // gauges whose state object was garbage collected report NaN, which cannot be serialized
+            meter.measure().forEach(measurement -> {
+                if (!Double.isNaN(measurement.getValue())) {
+                    info.getMeasurements().put(
+                            measurement.getStatistic().getTagValueRepresentation(), measurement.getValue());
+                }
+            });
+            metricsInfo.getMeters().add(info);
+        });
+        metricsInfo.getMeters().sort(Comparator.comparing(MetricsInfo.Meter::getName));
+
+        return metricsInfo;
+    }
+
     @PreAuthorize("isAuthenticated()")
     public Pair<Integer, List<GroupTO>> searchAssignableGroups(
             final String realm,
@@ -520,8 +691,7 @@ public class SyncopeLogic extends AbstractLogic<EntityTO> {
                 searchCond,
                 page, size,
                 List.of(orderByClause), AnyTypeKind.GROUP);
-        List<GroupTO> result = matching.stream().
-                map(group -> groupDataBinder.getGroupTO(group, false)).collect(Collectors.toList());
+        List<GroupTO> result = groupDataBinder.getGroupTOs(matching, false);
 
         return Pair.of(count, result);
     }
@@ -19,12 +19,10 @@
 package org.apache.syncope.core.logic;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
-import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
@@ -41,7 +39,6 @@ import org.apache.syncope.common.lib.types.JobAction;
 import org.apache.syncope.common.lib.types.JobType;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.common.lib.types.TaskType;
-import org.apache.syncope.common.rest.api.RESTHeaders;
 import org.apache.syncope.common.rest.api.batch.BatchResponseItem;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.NotificationDAO;
@@ -61,7 +58,6 @@ import org.apache.syncope.core.provisioning.api.job.JobNamer;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
 import org.apache.syncope.core.provisioning.api.notification.NotificationJobDelegate;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
-import org.apache.syncope.core.provisioning.api.utils.ExceptionUtils2;
 import org.apache.syncope.core.provisioning.java.job.TaskJob;
 import org.apache.syncope.core.provisioning.java.propagation.DefaultPropagationReporter;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
@@ -383,24 +379,8 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
             throw new NotFoundException("Task " + key);
         }
 
-        List<BatchResponseItem> batchResponseItems = new ArrayList<>();
-
-        taskExecDAO.findAll(task, startedBefore, startedAfter, endedBefore, endedAfter).forEach(exec -> {
-            BatchResponseItem item = new BatchResponseItem();
-            item.getHeaders().put(RESTHeaders.RESOURCE_KEY, List.of(exec.getKey()));
-            batchResponseItems.add(item);
-
-            try {
-                taskExecDAO.delete(exec);
-                item.setStatus(Response.Status.OK.getStatusCode());
-            } catch (Exception e) {
-                LOG.error("Error deleting execution {} of task {}", exec.getKey(), key, e);
-                item.setStatus(Response.Status.BAD_REQUEST.getStatusCode());
-                item.setContent(ExceptionUtils2.getFullStackTrace(e));
-            }
-        });
-
-        return batchResponseItems;
+        return List.of(deleteExecutions(key, () -> taskExecDAO.delete(
+                key, startedBefore, startedAfter, endedBefore, endedAfter, DELETE_EXECUTIONS_CHUNK_SIZE)));
     }
 
     @Override
@@ -118,8 +118,8 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserCR, UserUR> {
         int count = searchDAO.count(adminRealms, effectiveCond, AnyTypeKind.USER);
 
         List<User> matching = searchDAO.search(adminRealms, effectiveCond, page, size, orderBy, AnyTypeKind.USER);
-        List<UserTO> result = matching.stream().
-                map(user -> binder.returnUserTO(binder.getUserTO(user, details))).
+        List<UserTO> result = binder.getUserTOs(matching, details).stream().
+                map(binder::returnUserTO).
                 collect(Collectors.toList());
 
         return Pair.of(count, result);
@@ -18,33 +18,122 @@
  */
 package org.apache.syncope.core.logic.audit;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
 import javax.sql.DataSource;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AsyncAppender;
 import org.apache.logging.log4j.core.appender.db.ColumnMapping;
 import org.apache.logging.log4j.core.appender.db.jdbc.AbstractConnectionSource;
 import org.apache.logging.log4j.core.appender.db.jdbc.JdbcAppender;
+import org.apache.logging.log4j.core.async.BlockingQueueFactory;
+import org.apache.logging.log4j.core.config.AppenderRef;
 import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.dao.LoggerDAO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.datasource.DataSourceUtils;
 
 public class JdbcAuditAppender extends DefaultAuditAppender {
 
+    private static final Logger LOG = LoggerFactory.getLogger(JdbcAuditAppender.class);
+
+    /**
+     * How audit events are written into the audit table.
+     */
+    public enum Mode {
+        /**
+         * Each event is inserted by the audited thread, which fails if the insert fails.
+         */
+        SYNC,
+        /**
+         * Events are queued and inserted in batches by a background writer; audited threads wait while the queue
+         * is full, and queued events are written before shutdown.
+         */
+        ASYNC_DURABLE,
+        /**
+         * Events are queued and inserted in batches by a background writer; events are dropped while the queue is
+         * full.
+         */
+        ASYNC_BEST_EFFORT
+
+    }
+
     @Autowired
     protected DomainHolder domainHolder;
 
+    @Autowired
+    protected MeterRegistry meterRegistry;
+
+    @Value("${audit.jdbc.mode:SYNC}")
+    protected Mode mode;
+
+    @Value("${audit.jdbc.queueCapacity:10000}")
+    protected int queueCapacity;
+
+    @Value("${audit.jdbc.batchSize:100}")
+    protected int batchSize;
+
+    protected final LongAdder queueFull = new LongAdder();
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * @return number of events dropped because the queue was full, with {@link Mode#ASYNC_BEST_EFFORT}
+     */
+    public long getDropped() {
+        return mode == Mode.ASYNC_BEST_EFFORT ? queueFull.sum() : 0;
+    }
+
+    /**
+     * @return number of times audited threads had to wait because the queue was full, with
+     * {@link Mode#ASYNC_DURABLE}
+     */
+    public long getBlocked() {
+        return mode == Mode.ASYNC_DURABLE ? queueFull.sum() : 0;
+    }
+
+    /**
+     * Maps the given column to the value with same name set by the audit manager in the logging context.
+     *
+     * @param ctx logger context
+     * @param column column name
+     * @return column mapping
+     */
+    protected static ColumnMapping structuredColumnMapping(final LoggerContext ctx, final String column) {
+        return ColumnMapping.newBuilder().
+                setConfiguration(ctx.getConfiguration()).setName(column).setPattern("%X{" + column + '}').build();
+    }
+
     @Override
     protected void initTargetAppender() {
         LoggerContext ctx = (LoggerContext) LogManager.getContext(false);
 
         ColumnMapping[] columnMappings = {
             ColumnMapping.newBuilder().
-            setConfiguration(ctx.getConfiguration()).setName("EVENT_DATE").setType(Timestamp.class).build(),
+            setConfiguration(ctx.getConfiguration()).
+            setName(LoggerDAO.AUDIT_DATE_COLUMN).setType(Timestamp.class).build(),
+            structuredColumnMapping(ctx, LoggerDAO.AUDIT_ID_COLUMN),
+            structuredColumnMapping(ctx, LoggerDAO.AUDIT_WHO_COLUMN),
+            structuredColumnMapping(ctx, LoggerDAO.AUDIT_ENTITY_KEY_COLUMN),
+            structuredColumnMapping(ctx, LoggerDAO.AUDIT_TYPE_COLUMN),
+            structuredColumnMapping(ctx, LoggerDAO.AUDIT_CATEGORY_COLUMN),
+            structuredColumnMapping(ctx, LoggerDAO.AUDIT_SUBCATEGORY_COLUMN),
+            structuredColumnMapping(ctx, LoggerDAO.AUDIT_EVENT_COLUMN),
+            structuredColumnMapping(ctx, LoggerDAO.AUDIT_RESULT_COLUMN),
             ColumnMapping.newBuilder().
             setConfiguration(ctx.getConfiguration()).setName("LOGGER_LEVEL").setPattern("%level").build(),
             ColumnMapping.newBuilder().
@@ -56,19 +145,51 @@ public class JdbcAuditAppender extends DefaultAuditAppender {
             setConfiguration(ctx.getConfiguration()).setName("THROWABLE").setPattern("%ex{full}").build()
         };
 
-        Appender appender = ctx.getConfiguration().getAppender("audit_for_" + domain);
+        String jdbcAppenderName = "audit_jdbc_for_" + domain;
+        Appender appender = ctx.getConfiguration().getAppender(jdbcAppenderName);
         if (appender == null) {
             appender = JdbcAppender.newBuilder().
-                    setName("audit_for_" + domain).
+                    setName(jdbcAppenderName).
                     setIgnoreExceptions(false).
                     setConnectionSource(new DataSourceConnectionSource(domain, domainHolder.getDomains().get(domain))).
-                    setBufferSize(0).
+                    setBufferSize(mode == Mode.SYNC ? 0 : batchSize).
                     setTableName(LoggerDAO.AUDIT_TABLE).
                     setColumnMappings(columnMappings).
                     build();
             appender.start();
             ctx.getConfiguration().addAppender(appender);
         }
+
+        if (mode != Mode.SYNC) {
+            // the background writer flushes the JDBC batch when full or when the queue is drained
+            Appender asyncAppender = ctx.getConfiguration().getAppender("audit_async_for_" + domain);
+            if (asyncAppender == null) {
+                AppenderRef[] appenderRefs = { AppenderRef.createAppenderRef(jdbcAppenderName, null, null) };
+                // set apart from the chained setters, which return the raw builder type
+                AsyncAppender.Builder<?> builder = AsyncAppender.newBuilder();
+                builder.setBlockingQueueFactory(new QueueFullCountingFactory(domain, queueFull));
+                asyncAppender = builder.
+                        setName("audit_async_for_" + domain).
+                        setConfiguration(ctx.getConfiguration()).
+                        setAppenderRefs(appenderRefs).
+                        setBufferSize(queueCapacity).
+                        setBlocking(mode == Mode.ASYNC_DURABLE).
+                        build();
+                asyncAppender.start();
+                ctx.getConfiguration().addAppender(asyncAppender);
+            }
+            appender = asyncAppender;
+        }
+
+        Gauge.builder("syncope.audit.dropped", this, JdbcAuditAppender::getDropped).
+                description("Audit events dropped because the queue was full").
+                tag("domain", domain).
+                register(meterRegistry);
+        Gauge.builder("syncope.audit.blocked", this, JdbcAuditAppender::getBlocked).
+                description("Times audited threads waited because the queue was full").
+                tag("domain", domain).
+                register(meterRegistry);
+
         targetAppender = appender;
     }
 
@@ -99,4 +220,51 @@ public class JdbcAuditAppender extends DefaultAuditAppender {
             return this.description;
         }
     }
+
+    /**
+     * Creates bounded queues counting the times they were found full; a warning is logged each time the queue
+     * becomes full.
+     */
+    protected static class QueueFullCountingFactory implements BlockingQueueFactory<LogEvent> {
+
+        private final String domain;
+
+        private final LongAdder queueFull;
+
+        QueueFullCountingFactory(final String domain, final LongAdder queueFull) {
+            this.domain = domain;
+            this.queueFull = queueFull;
+        }
+
+        @Override
+        public BlockingQueue<LogEvent> create(final int capacity) {
+            return new QueueFullCountingQueue(capacity);
+        }
+
+        private class QueueFullCountingQueue extends ArrayBlockingQueue<LogEvent> {
+
+            private static final long serialVersionUID = -6367446012483547062L;
+
+            private volatile boolean full;
+
+            QueueFullCountingQueue(final int capacity) {
+                super(capacity);
+            }
+
+            @Override
+            public boolean offer(final LogEvent event) {
+                boolean offered = super.offer(event);
+                if (offered) {
+                    full = false;
+                } else {
+                    queueFull.increment();
+                    if (!full) {
+                        full = true;
+                        LOG.warn("Audit queue for domain {} is full", domain);
+                    }
+                }
+                return offered;
+            }
+        }
+    }
 }
@@ -37,11 +37,13 @@ import org.apache.syncope.core.logic.audit.JdbcAuditAppender;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.persistence.api.ImplementationLookup;
 import org.apache.syncope.core.persistence.api.SyncopeCoreLoader;
+import org.apache.syncope.core.provisioning.java.job.AuditBackfillJob;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.scheduling.quartz.SchedulerFactoryBean;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -53,11 +55,16 @@ public class LoggerLoader implements SyncopeCoreLoader {
     @Autowired
     private ImplementationLookup implementationLookup;
 
+    @Autowired
+    private SchedulerFactoryBean scheduler;
+
     @Value("${enable.jdbcAuditAppender:true}")
     private boolean enableJdbcAuditAppender;
 
     private final Map<String, MemoryAppender> memoryAppenders = new HashMap<>();
 
+    private final Map<String, JdbcAuditAppender> jdbcAuditAppenders = new HashMap<>();
+
     @Override
     public int getOrder() {
         return 300;
@@ -75,6 +82,7 @@ public class LoggerLoader implements SyncopeCoreLoader {
             JdbcAuditAppender jdbcAuditAppender = (JdbcAuditAppender) ApplicationContextProvider.getBeanFactory().
                     createBean(JdbcAuditAppender.class, AbstractBeanDefinition.AUTOWIRE_BY_TYPE, true);
             jdbcAuditAppender.init(domain);
+            jdbcAuditAppenders.put(domain, jdbcAuditAppender);
 
             LoggerConfig logConf = new LoggerConfig(AuditLoggerName.getAuditLoggerName(domain), null, false);
             logConf.addAppender(jdbcAuditAppender.getTargetAppender(), Level.DEBUG, null);
@@ -103,6 +111,9 @@ public class LoggerLoader implements SyncopeCoreLoader {
             return null;
         });
 
+        // populate the structured columns of audit entries stored before their introduction, in background
+        AuditBackfillJob.schedule(scheduler, domain);
+
         ctx.updateLoggers();
     }
 
@@ -110,6 +121,10 @@ public class LoggerLoader implements SyncopeCoreLoader {
         return memoryAppenders;
     }
 
+    public Map<String, JdbcAuditAppender> getJdbcAuditAppenders() {
+        return jdbcAuditAppenders;
+    }
+
     public List<AuditAppender> auditAppenders(final String domain) throws BeansException {
         return implementationLookup.getAuditAppenderClasses().stream().map(clazz -> {
             AuditAppender auditAppender;
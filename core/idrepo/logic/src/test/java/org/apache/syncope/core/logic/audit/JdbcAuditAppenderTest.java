@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.impl.ContextDataFactory;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.util.StringMap;
+import org.apache.syncope.core.persistence.api.dao.LoggerDAO;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+public class JdbcAuditAppenderTest {
+
+    private static JdbcDataSource dataSource(final String domain) throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + domain + ";DB_CLOSE_DELAY=-1");
+
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE " + LoggerDAO.AUDIT_TABLE + " ("
+                    + LoggerDAO.AUDIT_DATE_COLUMN + " TIMESTAMP, "
+                    + LoggerDAO.AUDIT_ID_COLUMN + " VARCHAR(36), "
+                    + LoggerDAO.AUDIT_WHO_COLUMN + " VARCHAR(255), "
+                    + LoggerDAO.AUDIT_ENTITY_KEY_COLUMN + " VARCHAR(255), "
+                    + LoggerDAO.AUDIT_TYPE_COLUMN + " VARCHAR(32), "
+                    + LoggerDAO.AUDIT_CATEGORY_COLUMN + " VARCHAR(255), "
+                    + LoggerDAO.AUDIT_SUBCATEGORY_COLUMN + " VARCHAR(255), "
+                    + LoggerDAO.AUDIT_EVENT_COLUMN + " VARCHAR(255), "
+                    + LoggerDAO.AUDIT_RESULT_COLUMN + " VARCHAR(32), "
+                    + "LOGGER_LEVEL VARCHAR(255) NOT NULL, "
+                    + "LOGGER VARCHAR(255) NOT NULL, "
+                    + LoggerDAO.AUDIT_MESSAGE_COLUMN + " TEXT NOT NULL, "
+                    + "THROWABLE TEXT)");
+        }
+
+        return dataSource;
+    }
+
+    private static JdbcAuditAppender appender(
+            final JdbcAuditAppender.Mode mode,
+            final JdbcDataSource dataSource,
+            final MeterRegistry meterRegistry,
+            final String domain) {
+
+        JdbcAuditAppender appender = new JdbcAuditAppender();
+        appender.domainHolder = () -> Map.of(domain, dataSource);
+        appender.meterRegistry = meterRegistry;
+        appender.mode = mode;
+        appender.queueCapacity = 100;
+        appender.batchSize = 10;
+        appender.init(domain);
+        return appender;
+    }
+
+    private static void audit(final JdbcAuditAppender appender, final String domain, final String key) {
+        StringMap contextData = ContextDataFactory.createContextData();
+        contextData.putValue(LoggerDAO.AUDIT_ID_COLUMN, key);
+        contextData.putValue(LoggerDAO.AUDIT_WHO_COLUMN, "admin");
+
+        appender.getTargetAppender().append(Log4jLogEvent.newBuilder().
+                setLoggerName("syncope.audit." + domain).
+                setLevel(Level.DEBUG).
+                setMessage(new SimpleMessage("{\"key\":\"" + key + "\"}")).
+                setContextData(contextData).
+                setTimeMillis(System.currentTimeMillis()).
+                build());
+    }
+
+    private static int count(final JdbcDataSource dataSource) throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+                Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + LoggerDAO.AUDIT_TABLE)) {
+
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private static void stop(final String appenderName) {
+        ((LoggerContext) LogManager.getContext(false)).getConfiguration().getAppender(appenderName).stop();
+    }
+
+    @Test
+    public void sync() throws SQLException {
+        String domain = "sync" + UUID.randomUUID().toString().substring(0, 8);
+        JdbcDataSource dataSource = dataSource(domain);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JdbcAuditAppender appender = appender(JdbcAuditAppender.Mode.SYNC, dataSource, meterRegistry, domain);
+
+        long before = System.currentTimeMillis();
+        String key = UUID.randomUUID().toString();
+        audit(appender, domain, key);
+
+        // written right away, with the logging time
+        try (Connection conn = dataSource.getConnection();
+                Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT " + LoggerDAO.AUDIT_DATE_COLUMN + ", "
+                        + LoggerDAO.AUDIT_WHO_COLUMN + " FROM " + LoggerDAO.AUDIT_TABLE
+                        + " WHERE " + LoggerDAO.AUDIT_ID_COLUMN + "='" + key + "'")) {
+
+            rs.next();
+            assertTrue(rs.getTimestamp(1).getTime() >= before);
+            assertEquals("admin", rs.getString(2));
+        }
+
+        assertEquals(0, appender.getDropped());
+        assertEquals(0, appender.getBlocked());
+        assertNotNull(meterRegistry.find("syncope.audit.dropped").tag("domain", domain).gauge());
+    }
+
+    @Test
+    public void asyncDurable() throws SQLException {
+        String domain = "durable" + UUID.randomUUID().toString().substring(0, 8);
+        JdbcDataSource dataSource = dataSource(domain);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JdbcAuditAppender appender = appender(JdbcAuditAppender.Mode.ASYNC_DURABLE, dataSource, meterRegistry, domain);
+
+        for (int i = 0; i < 25; i++) {
+            audit(appender, domain, UUID.randomUUID().toString());
+        }
+
+        // queued events are written before shutdown
+        stop("audit_async_for_" + domain);
+        stop("audit_jdbc_for_" + domain);
+        assertEquals(25, count(dataSource));
+
+        assertEquals(0, appender.getDropped());
+        assertEquals(
+                appender.getBlocked(),
+                meterRegistry.get("syncope.audit.blocked").tag("domain", domain).gauge().value());
+    }
+
+    @Test
+    public void asyncBestEffort() throws SQLException {
+        String domain = "besteffort" + UUID.randomUUID().toString().substring(0, 8);
+        JdbcDataSource dataSource = dataSource(domain);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JdbcAuditAppender appender = appender(
+                JdbcAuditAppender.Mode.ASYNC_BEST_EFFORT, dataSource, meterRegistry, domain);
+
+        for (int i = 0; i < 25; i++) {
+            audit(appender, domain, UUID.randomUUID().toString());
+        }
+
+        // events are either written or counted as dropped
+        stop("audit_async_for_" + domain);
+        stop("audit_jdbc_for_" + domain);
+        assertEquals(25, count(dataSource) + appender.getDropped());
+
+        assertEquals(0, appender.getBlocked());
+        assertEquals(
+                appender.getDropped(),
+                meterRegistry.get("syncope.audit.dropped").tag("domain", domain).gauge().value());
+    }
+}
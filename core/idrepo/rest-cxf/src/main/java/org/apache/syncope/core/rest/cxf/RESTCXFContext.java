@@ -21,6 +21,9 @@ package org.apache.syncope.core.rest.cxf;
 import com.fasterxml.jackson.jaxrs.json.JacksonJsonProvider;
 import com.fasterxml.jackson.jaxrs.xml.JacksonXMLProvider;
 import com.fasterxml.jackson.jaxrs.yaml.JacksonYAMLProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import java.util.HashMap;
 import java.util.List;
@@ -65,6 +68,9 @@ public class RESTCXFContext {
     @Autowired
     private ApplicationContext ctx;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Resource(name = "version")
     private String version;
 
@@ -74,9 +80,28 @@ public class RESTCXFContext {
         batchExecutor.setCorePoolSize(10);
         batchExecutor.setThreadNamePrefix("Batch-");
         batchExecutor.initialize();
+        new ExecutorServiceMetrics(batchExecutor.getThreadPoolExecutor(), "batchExecutor", Tags.empty()).
+                bindTo(meterRegistry);
         return batchExecutor;
     }
 
+    /**
+     * Runs the items of batch requests for which parallel processing was requested; separated from
+     * {@link #batchExecutor()} so that batch processes never wait for threads they are themselves holding.
+     *
+     * @return executor for batch items
+     */
+    @Bean
+    public Executor batchItemExecutor() {
+        ThreadPoolTaskExecutor batchItemExecutor = new ThreadPoolTaskExecutor();
+        batchItemExecutor.setCorePoolSize(10);
+        batchItemExecutor.setThreadNamePrefix("BatchItem-");
+        batchItemExecutor.initialize();
+        new ExecutorServiceMetrics(batchItemExecutor.getThreadPoolExecutor(), "batchItemExecutor", Tags.empty()).
+                bindTo(meterRegistry);
+        return batchItemExecutor;
+    }
+
     @Bean
     public DateParamConverterProvider dateParamConverterProvider() {
         return new DateParamConverterProvider();
@@ -20,7 +20,12 @@ package org.apache.syncope.core.rest.cxf.batch;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Resource;
 import javax.servlet.ServletConfig;
 import javax.servlet.http.HttpServletRequest;
 import org.apache.cxf.transport.http.AbstractHTTPDestination;
@@ -37,13 +42,30 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+/**
+ * Processes the items of a batch request, storing results chunk by chunk as soon as available, so that memory usage
+ * is bounded and partial progress can be reported; items within the same chunk can be processed in parallel.
+ */
 public class BatchProcess implements Runnable {
 
     private static final Logger LOG = LoggerFactory.getLogger(BatchProcess.class);
 
+    /**
+     * How many items are processed (and their results stored) together.
+     */
+    public static final int CHUNK_SIZE = 100;
+
+    /**
+     * Processing time granted to each chunk before the batch is considered expired.
+     */
+    public static final long CHUNK_EXPIRY = 5 * 60 * 1000;
+
     @Autowired
     private BatchDAO batchDAO;
 
+    @Resource(name = "batchItemExecutor")
+    private Executor batchItemExecutor;
+
     private String boundary;
 
     private String basePath;
@@ -58,6 +80,8 @@ public class BatchProcess implements Runnable {
 
     private Authentication authentication;
 
+    private int parallelism = 1;
+
     public void setBoundary(final String boundary) {
         this.boundary = boundary;
     }
@@ -86,58 +110,104 @@ public class BatchProcess implements Runnable {
         this.authentication = authentication;
     }
 
-    @Override
-    public void run() {
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+    public void setParallelism(final int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
 
-        List<BatchResponseItem> batchResponseItems = new ArrayList<>(batchRequestItems.size());
+    protected BatchResponseItem process(final BatchRequestItem reqItem) {
+        LOG.debug("Batch item:\n{}", reqItem);
 
-        batchRequestItems.forEach(reqItem -> {
-            LOG.debug("Batch item:\n{}", reqItem);
+        AbstractHTTPDestination dest = destinationRegistry.getDestinationForPath(reqItem.getRequestURI(), true);
+        if (dest == null) {
+            dest = destinationRegistry.checkRestfulRequest(reqItem.getRequestURI());
+        }
+        LOG.debug("Destination found for {}: {}", reqItem.getRequestURI(), dest);
 
-            AbstractHTTPDestination dest = destinationRegistry.getDestinationForPath(reqItem.getRequestURI(), true);
-            if (dest == null) {
-                dest = destinationRegistry.checkRestfulRequest(reqItem.getRequestURI());
-            }
-            LOG.debug("Destination found for {}: {}", reqItem.getRequestURI(), dest);
+        BatchResponseItem resItem = new BatchResponseItem();
+        if (dest == null) {
+            resItem.setStatus(404);
+        } else {
+            BatchItemRequest request = new BatchItemRequest(basePath, servletRequest, reqItem);
+            BatchItemResponse response = new BatchItemResponse();
+            try {
+                dest.invoke(servletConfig, servletConfig.getServletContext(), request, response);
+                String output = new String(response.getUnderlyingOutputStream().toByteArray());
+                LOG.debug("Returned:\nstatus: {}\nheaders: {}\nbody:\n{}",
+                        response.getStatus(), response.getHeaders(), output);
+
+                resItem.setStatus(response.getStatus());
+                resItem.setHeaders(response.getHeaders());
+                if (output.length() > 0) {
+                    resItem.setContent(output);
+                }
+            } catch (IOException e) {
+                LOG.error("Invocation of {} failed", dest.getPath(), e);
 
-            if (dest == null) {
-                BatchResponseItem resItem = new BatchResponseItem();
                 resItem.setStatus(404);
-                batchResponseItems.add(resItem);
-            } else {
-                BatchItemRequest request = new BatchItemRequest(basePath, servletRequest, reqItem);
-                BatchItemResponse response = new BatchItemResponse();
-                try {
-                    dest.invoke(servletConfig, servletConfig.getServletContext(), request, response);
-                    LOG.debug("Returned:\nstatus: {}\nheaders: {}\nbody:\n{}", response.getStatus(),
-                            response.getHeaders(), new String(response.getUnderlyingOutputStream().toByteArray()));
-
-                    BatchResponseItem resItem = new BatchResponseItem();
-                    resItem.setStatus(response.getStatus());
-                    resItem.setHeaders(response.getHeaders());
-                    String output = new String(response.getUnderlyingOutputStream().toByteArray());
-                    if (output.length() > 0) {
-                        resItem.setContent(output);
-                    }
-                    batchResponseItems.add(resItem);
-                } catch (IOException e) {
-                    LOG.error("Invocation of {} failed", dest.getPath(), e);
+            }
+        }
+        return resItem;
+    }
 
-                    BatchResponseItem resItem = new BatchResponseItem();
-                    resItem.setStatus(404);
-                    batchResponseItems.add(resItem);
-                }
+    protected String[] process(final List<BatchRequestItem> chunk) {
+        String[] parts = new String[chunk.size()];
+
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            for (int i = next.getAndIncrement(); i < parts.length; i = next.getAndIncrement()) {
+                parts[i] = BatchPayloadGenerator.generatePart(
+                        process(chunk.get(i)), SyncopeConstants.DOUBLE_DASH + boundary);
             }
-        });
+        };
 
-        String results = BatchPayloadGenerator.generate(batchResponseItems, SyncopeConstants.DOUBLE_DASH + boundary);
+        int workers = Math.min(parallelism, parts.length);
+        if (workers <= 1) {
+            worker.run();
+        } else {
+            // the current thread is one of the workers, others run with the same authentication
+            List<CompletableFuture<Void>> futures = new ArrayList<>(workers - 1);
+            for (int i = 1; i < workers; i++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    try {
+                        worker.run();
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                }, batchItemExecutor));
+            }
+            worker.run();
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        }
+
+        return parts;
+    }
+
+    @Override
+    public void run() {
+        SecurityContextHolder.getContext().setAuthentication(authentication);
 
         Batch batch = batchDAO.find(boundary);
         if (batch == null) {
-            LOG.error("Could not find batch {}, cannot save results hence reporting here:\n{}", boundary, results);
-        } else {
-            batch.setResults(results);
+            LOG.error("Could not find batch {}, cannot process", boundary);
+            return;
+        }
+
+        for (int from = 0, chunk = 0; from < batchRequestItems.size(); from += CHUNK_SIZE, chunk++) {
+            List<BatchRequestItem> items =
+                    batchRequestItems.subList(from, Math.min(from + CHUNK_SIZE, batchRequestItems.size()));
+
+            String results = String.join("", process(items));
+
+            batch = batchDAO.find(boundary);
+            if (batch == null) {
+                LOG.error("Could not find batch {}, cannot save results hence reporting here:\n{}",
+                        boundary, results);
+                return;
+            }
+            batchDAO.saveResults(boundary, chunk, results);
+            batch.setProcessed(from + items.size());
+            batch.setExpiryTime(new Date(System.currentTimeMillis() + CHUNK_EXPIRY));
             batchDAO.save(batch);
         }
     }
@@ -19,6 +19,7 @@
 package org.apache.syncope.core.rest.cxf.service;
 
 import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.List;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.EntityTag;
@@ -82,6 +83,26 @@ public abstract class AbstractServiceImpl implements JAXRSService {
                 messageContext.getHttpServletRequest().getHeader(RESTHeaders.NULL_PRIORITY_ASYNC));
     }
 
+    /**
+     * Reads all the values passed via {@code Prefer} header(s) from request, as in {@code respond-async, parallel=4}.
+     *
+     * @return values passed via {@code Prefer} header(s), or empty list if missing.
+     */
+    protected List<String> getPreferences() {
+        List<String> preferences = new ArrayList<>();
+
+        Enumeration<String> headers = messageContext.getHttpServletRequest().getHeaders(RESTHeaders.PREFER);
+        while (headers != null && headers.hasMoreElements()) {
+            for (String preference : StringUtils.split(headers.nextElement(), ',')) {
+                if (StringUtils.isNotBlank(preference)) {
+                    preferences.add(preference.trim());
+                }
+            }
+        }
+
+        return preferences;
+    }
+
     /**
      * Reads {@code Prefer} header from request and parses into a {@code Preference} instance.
      *
@@ -89,7 +110,10 @@ public abstract class AbstractServiceImpl implements JAXRSService {
      * or {@code Preference.NONE} if missing.
      */
     protected Preference getPreference() {
-        return Preference.fromString(messageContext.getHttpServletRequest().getHeader(RESTHeaders.PREFER));
+        return getPreferences().stream().
+                map(Preference::fromString).
+                filter(preference -> preference != Preference.NONE).
+                findFirst().orElse(Preference.NONE);
     }
 
     protected Response.ResponseBuilder applyPreference(
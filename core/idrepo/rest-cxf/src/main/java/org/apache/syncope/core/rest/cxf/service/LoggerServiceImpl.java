@@ -58,6 +58,11 @@ public class LoggerServiceImpl extends AbstractServiceImpl implements LoggerServ
         logic.create(auditEntry);
     }
 
+    @Override
+    public void create(final List<AuditEntry> auditEntries) {
+        logic.create(auditEntries);
+    }
+
     @Override
     public void delete(final LoggerType type, final String name) {
         switch (type) {
@@ -143,7 +148,8 @@ public class LoggerServiceImpl extends AbstractServiceImpl implements LoggerServ
                 auditQuery.getSubcategory(),
                 auditQuery.getEvents(),
                 auditQuery.getResult(),
-                getOrderByClauses(auditQuery.getOrderBy()));
+                getOrderByClauses(auditQuery.getOrderBy()),
+                auditQuery.getAfter());
 
         return buildPagedResult(result.getRight(), auditQuery.getPage(), auditQuery.getSize(), result.getLeft());
     }
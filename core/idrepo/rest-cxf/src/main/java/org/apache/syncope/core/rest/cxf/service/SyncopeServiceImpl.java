@@ -20,6 +20,7 @@ package org.apache.syncope.core.rest.cxf.service;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.List;
 import javax.annotation.Resource;
@@ -30,6 +31,7 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.StreamingOutput;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.cxf.Bus;
 import org.apache.cxf.transport.DestinationFactoryManager;
@@ -37,6 +39,7 @@ import org.apache.cxf.transport.http.DestinationRegistry;
 import org.apache.cxf.transport.http.HTTPTransportFactory;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.info.MetricsInfo;
 import org.apache.syncope.common.lib.info.NumbersInfo;
 import org.apache.syncope.common.lib.info.SystemInfo;
 import org.apache.syncope.common.lib.info.PlatformInfo;
@@ -46,6 +49,7 @@ import org.apache.syncope.common.lib.to.TypeExtensionTO;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.rest.api.Preference;
 import org.apache.syncope.common.rest.api.RESTHeaders;
+import org.apache.syncope.common.rest.api.batch.BatchPayloadGenerator;
 import org.apache.syncope.common.rest.api.batch.BatchPayloadParser;
 import org.apache.syncope.common.rest.api.batch.BatchRequestItem;
 import org.apache.syncope.common.rest.api.service.SyncopeService;
@@ -69,6 +73,9 @@ public class SyncopeServiceImpl extends AbstractServiceImpl implements SyncopeSe
     @Resource(name = "batchExecutor")
     private ThreadPoolTaskExecutor batchExecutor;
 
+    @Resource(name = "batchItemExecutor")
+    private ThreadPoolTaskExecutor batchItemExecutor;
+
     @Autowired
     private SyncopeLogic logic;
 
@@ -96,6 +103,11 @@ public class SyncopeServiceImpl extends AbstractServiceImpl implements SyncopeSe
         return logic.numbers();
     }
 
+    @Override
+    public MetricsInfo metrics() {
+        return logic.metrics();
+    }
+
     @Override
     public PagedResult<GroupTO> searchAssignableGroups(
             final String realm, final String term, final int page, final int size) {
@@ -121,6 +133,20 @@ public class SyncopeServiceImpl extends AbstractServiceImpl implements SyncopeSe
         }
     }
 
+    /**
+     * Reads the {@code parallel} preference, bounded by the size of the executor for batch items.
+     *
+     * @return how many batch items can be processed in parallel, 1 if not specified
+     */
+    private int getParallelism() {
+        return getPreferences().stream().
+                filter(preference -> preference.startsWith(Preference.PARALLEL + '=')).
+                findFirst().
+                map(preference -> NumberUtils.toInt(StringUtils.substringAfter(preference, "="), 1)).
+                map(parallelism -> Math.max(1, Math.min(parallelism, batchItemExecutor.getCorePoolSize()))).
+                orElse(1);
+    }
+
     @Override
     public Response batch(final InputStream input) {
         // parse Content-Type, expect appropriate boundary
@@ -148,9 +174,12 @@ public class SyncopeServiceImpl extends AbstractServiceImpl implements SyncopeSe
         // prepare for batch processing
         Batch batch = entityFactory.newEntity(Batch.class);
         batch.setKey(boundary);
-        batch.setExpiryTime(new Date(System.currentTimeMillis() + 5 * 60 * 1000));
+        batch.setExpiryTime(new Date(System.currentTimeMillis() + BatchProcess.CHUNK_EXPIRY));
+        batch.setTotal(batchRequestItems.size());
         batchDAO.save(batch);
 
+        int parallelism = getParallelism();
+
         BatchProcess batchProcess = ApplicationContextProvider.getBeanFactory().createBean(BatchProcess.class);
         batchProcess.setBoundary(boundary);
         batchProcess.setBasePath(uriInfo.getBaseUri().toASCIIString());
@@ -159,47 +188,70 @@ public class SyncopeServiceImpl extends AbstractServiceImpl implements SyncopeSe
         batchProcess.setServletConfig(messageContext.getServletConfig());
         batchProcess.setServletRequest(messageContext.getHttpServletRequest());
         batchProcess.setAuthentication(SecurityContextHolder.getContext().getAuthentication());
+        batchProcess.setParallelism(parallelism);
 
         // manage synchronous Vs asynchronous batch processing
         if (getPreference() == Preference.RESPOND_ASYNC) {
             batchExecutor.execute(batchProcess);
 
-            return Response.accepted().
+            Response.ResponseBuilder builder = Response.accepted().
                     header(RESTHeaders.PREFERENCE_APPLIED, getPreference().toString()).
                     header(HttpHeaders.LOCATION, uriInfo.getAbsolutePathBuilder().build()).
-                    type(RESTHeaders.multipartMixedWith(boundary)).
-                    build();
+                    type(RESTHeaders.multipartMixedWith(boundary));
+            if (parallelism > 1) {
+                builder.header(RESTHeaders.PREFERENCE_APPLIED, Preference.parallel(parallelism));
+            }
+            return builder.build();
         } else {
             batchProcess.run();
-            return batch();
+
+            Response.ResponseBuilder builder = batchResults(boundary);
+            if (parallelism > 1) {
+                builder.header(RESTHeaders.PREFERENCE_APPLIED, Preference.parallel(parallelism));
+            }
+            return builder.build();
         }
     }
 
-    @Override
-    public Response batch() {
-        MediaType mediaType = MediaType.valueOf(messageContext.getHttpServletRequest().getContentType());
-        String boundary = mediaType.getParameters().get(RESTHeaders.BOUNDARY_PARAMETER);
-
+    private Response.ResponseBuilder batchResults(final String boundary) {
         Batch batch = batchDAO.find(boundary);
         if (batch == null) {
             throw new NotFoundException("Batch " + boundary);
         }
 
-        if (batch.getResults() == null) {
+        if (batch.getProcessed() < batch.getTotal()) {
             return Response.accepted().
                     type(RESTHeaders.multipartMixedWith(boundary)).
                     header(HttpHeaders.RETRY_AFTER, 5).
                     header(HttpHeaders.LOCATION, uriInfo.getAbsolutePathBuilder().build()).
-                    build();
+                    header(RESTHeaders.BATCH_PROGRESS, batch.getProcessed() + "/" + batch.getTotal());
         }
 
-        Response response = Response.ok(batch.getResults()).
-                type(RESTHeaders.multipartMixedWith(boundary)).
-                build();
+        // stream results chunk by chunk, then remove the batch
+        StreamingOutput sout = os -> {
+            int chunk = 0;
+            String results = batchDAO.findResults(boundary, chunk);
+            while (results != null) {
+                os.write(results.getBytes(StandardCharsets.UTF_8));
+                results = batchDAO.findResults(boundary, ++chunk);
+            }
+            os.write(BatchPayloadGenerator.generateEnd(SyncopeConstants.DOUBLE_DASH + boundary).
+                    getBytes(StandardCharsets.UTF_8));
+            os.flush();
+
+            batchDAO.delete(boundary);
+        };
+
+        return Response.ok(sout).
+                type(RESTHeaders.multipartMixedWith(boundary));
+    }
 
-        batchDAO.delete(boundary);
+    @Override
+    public Response batch() {
+        MediaType mediaType = MediaType.valueOf(messageContext.getHttpServletRequest().getContentType());
+        String boundary = mediaType.getParameters().get(RESTHeaders.BOUNDARY_PARAMETER);
 
-        return response;
+        return batchResults(boundary).build();
     }
 
     @Override
@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.api.dao;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
@@ -93,6 +94,16 @@ public interface AnyDAO<A extends Any<?>> extends DAO<A> {
      */
     List<String> findAllKeys(int page, int itemsPerPage);
 
+    /**
+     * Find any objects' keys without any limitation, following the given key in key order: unlike page-based access,
+     * each invocation only reads the requested keys, whatever the position.
+     *
+     * @param after key to start after, or {@code null} to start from the first key
+     * @param itemsPerPage number of keys to return
+     * @return any objects' keys following the given key
+     */
+    List<String> findAllKeys(String after, int itemsPerPage);
+
     <S extends Schema> AllowedSchemas<S> findAllowedSchemas(A any, Class<S> reference);
 
     A save(A any);
@@ -103,5 +114,13 @@ public interface AnyDAO<A extends Any<?>> extends DAO<A> {
 
     List<String> findDynRealms(String key);
 
+    /**
+     * Batch version of {@link #findDynRealms(java.lang.String)}, meant for assembling whole result pages.
+     *
+     * @param keys any object keys
+     * @return dynamic realm keys, by any object key; keys without dynamic realms are not reported
+     */
+    Map<String, List<String>> findDynRealms(Collection<String> keys);
+
     Collection<String> findAllResourceKeys(String key);
 }
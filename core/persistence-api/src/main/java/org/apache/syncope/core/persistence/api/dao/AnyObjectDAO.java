@@ -49,6 +49,14 @@ public interface AnyObjectDAO extends AnyDAO<AnyObject> {
 
     List<Group> findDynGroups(String key);
 
+    /**
+     * Batch version of {@link #findDynGroups(java.lang.String)}, meant for assembling whole result pages.
+     *
+     * @param keys any object keys
+     * @return dynamic group keys, by any object key; keys without dynamic groups are not reported
+     */
+    Map<String, List<String>> findDynGroupKeys(Collection<String> keys);
+
     List<Relationship<Any<?>, AnyObject>> findAllRelationships(AnyObject anyObject);
 
     Collection<Group> findAllGroups(AnyObject anyObject);
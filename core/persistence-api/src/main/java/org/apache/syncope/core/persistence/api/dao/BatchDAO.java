@@ -26,6 +26,24 @@ public interface BatchDAO extends DAO<Batch> {
 
     Batch save(Batch batch);
 
+    /**
+     * Stores the given results for the given chunk of items of the given batch.
+     *
+     * @param key batch key
+     * @param chunk chunk index, starting from 0
+     * @param results multipart payload for the items in the given chunk
+     */
+    void saveResults(String key, int chunk, String results);
+
+    /**
+     * Finds the results for the given chunk of items of the given batch.
+     *
+     * @param key batch key
+     * @param chunk chunk index, starting from 0
+     * @return multipart payload for the items in the given chunk, or {@code null} if not found
+     */
+    String findResults(String key, int chunk);
+
     void delete(String key);
 
     int deleteExpired();
@@ -18,8 +18,69 @@
  */
 package org.apache.syncope.core.persistence.api.dao;
 
+import java.util.Map;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
 
 public interface DerSchemaDAO extends SchemaDAO<DerSchema> {
 
+    /**
+     * Tells whether at least one derived schema is materialized.
+     *
+     * @return whether at least one derived schema is materialized
+     */
+    boolean hasMaterialized();
+
+    /**
+     * Removes the materialized values of the given schema for all users, groups and any objects.
+     *
+     * @param schema derived schema
+     */
+    void removeMaterialized(DerSchema schema);
+
+    /**
+     * Computes the materialized values of the given schema for a page of users, groups or any objects; nothing is
+     * done if the schema is not found or no longer materialized.
+     * Meant to be invoked repeatedly, until less than {@code itemsPerPage} entities are read, for filling the values
+     * of a newly materialized schema.
+     *
+     * @param schema derived schema key
+     * @param anyTypeKind any type kind
+     * @param page page to process
+     * @param itemsPerPage number of users, groups or any objects per page
+     * @return number of users, groups or any objects read
+     */
+    int materialize(String schema, AnyTypeKind anyTypeKind, int page, int itemsPerPage);
+
+    /**
+     * Flags the materialization of the given schema as complete, once values were computed for all users, groups and
+     * any objects; nothing is done if the schema is not found or no longer materialized.
+     *
+     * @param schema derived schema key
+     */
+    void completeMaterialization(String schema);
+
+    /**
+     * Recomputes the materialized values of the given any object, according to its current attributes.
+     *
+     * @param any user, group or any object
+     */
+    void refreshMaterialized(Any<?> any);
+
+    /**
+     * Removes all materialized values of the given any object.
+     *
+     * @param anyTypeKind any type kind
+     * @param key user, group or any object key
+     */
+    void removeMaterialized(AnyTypeKind anyTypeKind, String key);
+
+    /**
+     * Reads the materialized values of the given any object.
+     *
+     * @param any user, group or any object
+     * @return materialized values, by derived schema key
+     */
+    Map<String, String> findMaterialized(Any<?> any);
 }
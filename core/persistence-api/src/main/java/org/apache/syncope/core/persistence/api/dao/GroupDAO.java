@@ -59,6 +59,14 @@ public interface GroupDAO extends AnyDAO<Group> {
 
     int countUDynMembers(Group group);
 
+    Map<String, Integer> countAMembers(Collection<String> groupKeys);
+
+    Map<String, Integer> countUMembers(Collection<String> groupKeys);
+
+    Map<String, Integer> countADynMembers(Collection<String> groupKeys);
+
+    Map<String, Integer> countUDynMembers(Collection<String> groupKeys);
+
     @Override
     Collection<String> findAllResourceKeys(String key);
 
@@ -31,6 +31,24 @@ public interface LoggerDAO extends DAO<Logger> {
 
     String AUDIT_MESSAGE_COLUMN = "MESSAGE";
 
+    String AUDIT_DATE_COLUMN = "EVENT_DATE";
+
+    String AUDIT_ID_COLUMN = "EVENT_ID";
+
+    String AUDIT_WHO_COLUMN = "WHO";
+
+    String AUDIT_ENTITY_KEY_COLUMN = "ENTITY_KEY";
+
+    String AUDIT_TYPE_COLUMN = "EVENT_TYPE";
+
+    String AUDIT_CATEGORY_COLUMN = "EVENT_CATEGORY";
+
+    String AUDIT_SUBCATEGORY_COLUMN = "EVENT_SUBCATEGORY";
+
+    String AUDIT_EVENT_COLUMN = "EVENT_NAME";
+
+    String AUDIT_RESULT_COLUMN = "EVENT_RESULT";
+
     Logger find(String key);
 
     List<Logger> findAll(LoggerType type);
@@ -52,10 +70,50 @@ public interface LoggerDAO extends DAO<Logger> {
             AuditElements.Result result,
             List<OrderByClause> orderByClauses);
 
+    /**
+     * Finds audit entries by keyset pagination: entries are returned newest first, starting right after the
+     * given one, so that deep pages do not need to skip all previous entries.
+     *
+     * @param entityKey entity key to match
+     * @param after key of the last audit entry already read, or {@code null} to start from the newest
+     * @param size maximum number of entries to return
+     * @param type type to match
+     * @param category category to match
+     * @param subcategory subcategory to match
+     * @param events event(s) to match
+     * @param result result to match
+     * @return audit entries following the given one
+     */
+    List<AuditEntry> findAuditEntries(
+            String entityKey,
+            String after,
+            int size,
+            AuditElements.EventCategoryType type,
+            String category,
+            String subcategory,
+            List<String> events,
+            AuditElements.Result result);
+
     int countAuditEntries(String entityKey,
                           AuditElements.EventCategoryType type,
                           String category,
                           String subcategory,
                           List<String> events,
                           AuditElements.Result result);
+
+    /**
+     * Stores the given audit entries with batched inserts; entries are dated with the current time, while the date
+     * each of them reports is only kept as part of its content.
+     *
+     * @param auditEntries audit entries to store
+     */
+    void saveAuditEntries(List<AuditEntry> auditEntries);
+
+    /**
+     * Populates the structured columns of the oldest audit entries stored before such columns were introduced.
+     *
+     * @param size maximum number of audit entries to process, unless more entries share the same date
+     * @return number of processed audit entries, {@code 0} when no audit entry is left to process
+     */
+    int backfillAuditEntries(int size);
 }
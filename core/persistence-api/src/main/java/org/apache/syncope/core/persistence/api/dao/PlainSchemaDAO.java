@@ -19,6 +19,8 @@
 package org.apache.syncope.core.persistence.api.dao;
 
 import java.util.List;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
@@ -30,4 +32,32 @@ public interface PlainSchemaDAO extends SchemaDAO<PlainSchema> {
     <T extends PlainAttr<?>> boolean hasAttrs(PlainSchema schema, Class<T> reference);
 
     List<PlainSchema> findByValidator(Implementation validator);
+
+    /**
+     * @return whether at least one plain schema is currently projected
+     */
+    boolean hasProjected();
+
+    /**
+     * Rebuilds the projected values of the given schema from the current attribute values, or removes them if
+     * the schema is no longer projected.
+     *
+     * @param schema plain schema
+     */
+    void refreshProjection(PlainSchema schema);
+
+    /**
+     * Replaces the projected values of the given any object with the ones currently held by its attributes.
+     *
+     * @param any user, group or any object
+     */
+    void refreshProjection(Any<?> any);
+
+    /**
+     * Removes all projected values of the given any object.
+     *
+     * @param anyTypeKind any type kind
+     * @param key user, group or any object key
+     */
+    void removeProjection(AnyTypeKind anyTypeKind, String key);
 }
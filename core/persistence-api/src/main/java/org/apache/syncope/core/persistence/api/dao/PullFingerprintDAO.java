@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.dao;
+
+/**
+ * Keeps track of the latest connector object pulled from each external resource for each any object, user or group.
+ */
+public interface PullFingerprintDAO {
+
+    /**
+     * Finds the fingerprint stored for the given resource and any.
+     *
+     * @param resource external resource key
+     * @param anyKey any object, user or group key
+     * @return fingerprint stored for the given resource and any, or {@code null} if not found
+     */
+    String find(String resource, String anyKey);
+
+    /**
+     * Stores the given fingerprint for the given resource and any, replacing any previous value.
+     *
+     * @param resource external resource key
+     * @param anyKey any object, user or group key
+     * @param fingerprint fingerprint
+     */
+    void save(String resource, String anyKey, String fingerprint);
+
+    /**
+     * Removes all fingerprints stored for the given any.
+     *
+     * @param anyKey any object, user or group key
+     */
+    void delete(String anyKey);
+
+    /**
+     * Removes all fingerprints stored for the given resource.
+     *
+     * @param resource external resource key
+     */
+    void deleteByResource(String resource);
+}
@@ -18,6 +18,8 @@
  */
 package org.apache.syncope.core.persistence.api.dao;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Date;
 import java.util.List;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
@@ -42,7 +44,61 @@ public interface ReportExecDAO extends DAO<ReportExec> {
 
     ReportExec save(ReportExec execution);
 
+    /**
+     * Tells whether a result was stored for the given execution, without reading it.
+     *
+     * @param key report execution key
+     * @return whether a result was stored for the given execution
+     */
+    boolean hasExecResult(String key);
+
+    /**
+     * Stores the given content as result of the given execution, streaming it to the internal storage.
+     *
+     * @param key report execution key
+     * @param result report execution result
+     * @param length number of bytes to read from {@code result}
+     */
+    void storeExecResult(String key, InputStream result, long length);
+
+    /**
+     * Writes the result of the given execution, streaming it from the internal storage.
+     *
+     * @param key report execution key
+     * @param out stream to write the report execution result to
+     * @return whether a result was found for the given execution
+     */
+    boolean loadExecResult(String key, OutputStream out);
+
     void delete(String key);
 
     void delete(ReportExec execution);
+
+    /**
+     * Deletes, in a transaction of its own, up to {@code max} executions of the given report matching the given
+     * conditions.
+     *
+     * @param reportKey report key
+     * @param startedBefore executions started before this date, if provided
+     * @param startedAfter executions started after this date, if provided
+     * @param endedBefore executions ended before this date, if provided
+     * @param endedAfter executions ended after this date, if provided
+     * @param max maximum number of executions to delete
+     * @return keys of deleted executions
+     */
+    List<String> delete(
+            String reportKey, Date startedBefore, Date startedAfter, Date endedBefore, Date endedAfter, int max);
+
+    /**
+     * Deletes, in a transaction of its own, up to {@code max} ended report executions which are not among the latest
+     * {@code keepLast} of their report and which ended before {@code endedBefore} when successful, before
+     * {@code failedEndedBefore} otherwise; null dates set no limit.
+     *
+     * @param keepLast number of latest executions to keep for each report, 0 to keep none
+     * @param endedBefore limit for successful executions
+     * @param failedEndedBefore limit for other executions
+     * @param max maximum number of executions to delete
+     * @return keys of deleted executions
+     */
+    List<String> purge(int keepLast, Date endedBefore, Date failedEndedBefore, int max);
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.api.dao;
 
+import java.util.Date;
 import java.util.List;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.TaskType;
@@ -73,4 +74,27 @@ public interface TaskDAO extends DAO<Task> {
 
     void deleteAll(ExternalResource resource, TaskType type);
 
+    /**
+     * Deletes, in a transaction of its own, up to {@code max} propagation or notification tasks - on the given
+     * resource, if provided - having been executed and with no execution ended after {@code endedBefore} when
+     * successful, after {@code failedEndedBefore} otherwise, among the {@code keepLast} most recent, or still running;
+     * null dates set no limit.
+     *
+     * @param type task type, either {@link TaskType#PROPAGATION} or {@link TaskType#NOTIFICATION}
+     * @param resource resource key, for propagation tasks only
+     * @param successStatus execution status meaning success for the given task type
+     * @param keepLast number of most recent executions to keep per task, {@code 0} for no limit
+     * @param endedBefore limit for successful executions
+     * @param failedEndedBefore limit for other executions
+     * @param max maximum number of tasks to delete
+     * @return number of deleted tasks
+     */
+    int purge(
+            TaskType type,
+            String resource,
+            String successStatus,
+            int keepLast,
+            Date endedBefore,
+            Date failedEndedBefore,
+            int max);
 }
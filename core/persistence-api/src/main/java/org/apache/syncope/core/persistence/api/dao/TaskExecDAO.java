@@ -20,6 +20,7 @@ package org.apache.syncope.core.persistence.api.dao;
 
 import java.util.Date;
 import java.util.List;
+import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.entity.task.Task;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
@@ -48,4 +49,42 @@ public interface TaskExecDAO extends DAO<TaskExec> {
     void delete(String key);
 
     void delete(TaskExec execution);
+
+    /**
+     * Deletes, in a transaction of its own, up to {@code max} executions of the given task matching the given
+     * conditions.
+     *
+     * @param taskKey task key
+     * @param startedBefore executions started before this date, if provided
+     * @param startedAfter executions started after this date, if provided
+     * @param endedBefore executions ended before this date, if provided
+     * @param endedAfter executions ended after this date, if provided
+     * @param max maximum number of executions to delete
+     * @return number of deleted executions
+     */
+    int delete(String taskKey, Date startedBefore, Date startedAfter, Date endedBefore, Date endedAfter, int max);
+
+    /**
+     * Deletes, in a transaction of its own, up to {@code max} ended executions of tasks of the given type - on the
+     * given resource, if provided - which are not among the latest {@code keepLast} of their task and which ended
+     * before {@code endedBefore} when successful, before {@code failedEndedBefore} otherwise; null dates set no
+     * limit.
+     *
+     * @param type task type
+     * @param resource resource key, for propagation, pull and push tasks only
+     * @param successStatus execution status meaning success for the given task type
+     * @param keepLast number of latest executions to keep for each task, 0 to keep none
+     * @param endedBefore limit for successful executions
+     * @param failedEndedBefore limit for other executions
+     * @param max maximum number of executions to delete
+     * @return number of deleted executions
+     */
+    int purge(
+            TaskType type,
+            String resource,
+            String successStatus,
+            int keepLast,
+            Date endedBefore,
+            Date failedEndedBefore,
+            int max);
 }
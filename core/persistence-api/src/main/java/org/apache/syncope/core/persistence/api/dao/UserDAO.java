@@ -49,10 +49,26 @@ public interface UserDAO extends AnyDAO<User> {
 
     List<Role> findDynRoles(String key);
 
+    /**
+     * Batch version of {@link #findDynRoles(java.lang.String)}, meant for assembling whole result pages.
+     *
+     * @param keys user keys
+     * @return dynamic role keys, by user key; keys without dynamic roles are not reported
+     */
+    Map<String, List<String>> findDynRoleKeys(Collection<String> keys);
+
     Collection<Role> findAllRoles(User user);
 
     List<Group> findDynGroups(String key);
 
+    /**
+     * Batch version of {@link #findDynGroups(java.lang.String)}, meant for assembling whole result pages.
+     *
+     * @param keys user keys
+     * @return dynamic group keys, by user key; keys without dynamic groups are not reported
+     */
+    Map<String, List<String>> findDynGroupKeys(Collection<String> keys);
+
     Collection<Group> findAllGroups(User user);
 
     Collection<String> findAllGroupKeys(User user);
@@ -26,7 +26,11 @@ public interface Batch extends ProvidedKeyEntity {
 
     void setExpiryTime(Date expiryTime);
 
-    String getResults();
+    int getTotal();
 
-    void setResults(String results);
+    void setTotal(int total);
+
+    int getProcessed();
+
+    void setProcessed(int processed);
 }
@@ -23,4 +23,24 @@ public interface DerSchema extends Schema {
     String getExpression();
 
     void setExpression(String expression);
+
+    /**
+     * Materialized schemas get their computed values stored into a dedicated, indexed storage, which is then used
+     * for reading and searching instead of evaluating the JEXL expression each time.
+     *
+     * @return whether this schema is materialized
+     */
+    boolean isMaterialized();
+
+    void setMaterialized(boolean materialized);
+
+    /**
+     * Materialized values are computed for all existing users, groups and any objects by a background job: until
+     * such job has completed, the JEXL expression is still to be evaluated for search and correlation.
+     *
+     * @return whether the values of this materialized schema were computed for all existing entities
+     */
+    boolean isMaterializationComplete();
+
+    void setMaterializationComplete(boolean materializationComplete);
 }
@@ -35,6 +35,13 @@ public interface PlainSchema extends Schema {
 
     String getSecretKey();
 
+    /**
+     * Projected schemas get their values replicated into a dedicated, indexed storage meant to speed up search.
+     *
+     * @return whether this schema is projected
+     */
+    boolean isProjected();
+
     Implementation getValidator();
 
     void setCipherAlgorithm(CipherAlgorithm cipherAlgorithm);
@@ -59,6 +66,8 @@ public interface PlainSchema extends Schema {
 
     void setReadonly(boolean readonly);
 
+    void setProjected(boolean projected);
+
     void setUniqueConstraint(boolean uniquevalue);
 
 }
@@ -49,4 +49,8 @@ public interface PullTask extends ProvisioningTask {
 
     boolean isRemediation();
 
+    void setSkipUnchanged(boolean skipUnchanged);
+
+    boolean isSkipUnchanged();
+
 }
@@ -18,15 +18,76 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.List;
+import javax.sql.DataSource;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.DomainHolder;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.anyobject.APlainAttr;
 import org.apache.syncope.core.persistence.api.entity.group.GPlainAttr;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 abstract class AbstractJPAJSONPlainSchemaDAO extends JPAPlainSchemaDAO {
 
+    @Autowired
+    protected DomainHolder domainHolder;
+
+    protected void executeDDL(final String domain, final List<String> statements) {
+        DataSource dataSource = domainHolder.getDomains().get(domain);
+        if (dataSource == null) {
+            LOG.error("Could not find DataSource for domain {}, cannot execute {}", domain, statements);
+            return;
+        }
+
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            conn.setAutoCommit(true);
+            statements.forEach(statement -> {
+                LOG.debug("Executing {}", statement);
+                try {
+                    stmt.execute(statement);
+                } catch (SQLException e) {
+                    LOG.error("While executing {}", statement, e);
+                }
+            });
+        } catch (SQLException e) {
+            LOG.error("Could not get connection for domain {}, cannot execute {}", domain, statements, e);
+        }
+    }
+
+    /**
+     * Executes the given DDL statements on a dedicated connection once the current transaction has committed, or
+     * immediately if no transaction is active: DDL statements may implicitly commit or not be allowed at all within
+     * a transaction block, depending on the DBMS.
+     *
+     * @param statements DDL statements
+     */
+    protected void executeDDLAfterCommit(final List<String> statements) {
+        if (statements.isEmpty()) {
+            return;
+        }
+
+        String domain = AuthContextUtils.getDomain();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    executeDDL(domain, statements);
+                }
+            });
+        } else {
+            executeDDL(domain, statements);
+        }
+    }
+
     @Override
     public <T extends PlainAttr<?>> List<T> findAttrs(final PlainSchema schema, final Class<T> reference) {
         // not possible
@@ -48,4 +109,30 @@ abstract class AbstractJPAJSONPlainSchemaDAO extends JPAPlainSchemaDAO {
     protected void deleteAttrs(final PlainSchema schema) {
         // nothing to do
     }
+
+    @Override
+    protected void deleteProjection(final PlainSchema schema) {
+        // nothing to do
+    }
+
+    @Override
+    public boolean hasProjected() {
+        // projected values are never stored apart from plainAttrs
+        return false;
+    }
+
+    @Override
+    public void refreshProjection(final PlainSchema schema) {
+        // nothing to do
+    }
+
+    @Override
+    public void refreshProjection(final Any<?> any) {
+        // nothing to do
+    }
+
+    @Override
+    public void removeProjection(final AnyTypeKind anyTypeKind, final String key) {
+        // nothing to do
+    }
 }
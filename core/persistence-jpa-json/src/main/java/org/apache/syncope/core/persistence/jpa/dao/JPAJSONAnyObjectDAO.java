@@ -80,6 +80,11 @@ public class JPAJSONAnyObjectDAO extends JPAAnyObjectDAO {
         // ensure that entity listeners are invoked at this point
         entityManager().flush();
 
+        if (derSchemaDAO.hasMaterialized()) {
+            derSchemaDAO.refreshMaterialized(merged);
+        }
+        publishCountChanged(merged);
+
         publisher.publishEvent(new AnyCreatedUpdatedEvent<>(this, merged, AuthContextUtils.getDomain()));
 
         Pair<Set<String>, Set<String>> dynGroupMembs = groupDAO.refreshDynMemberships(merged);
@@ -97,6 +97,11 @@ public class JPAJSONUserDAO extends JPAUserDAO {
         // ensure that entity listeners are invoked at this point
         entityManager().flush();
 
+        if (derSchemaDAO.hasMaterialized()) {
+            derSchemaDAO.refreshMaterialized(merged);
+        }
+        publishCountChanged(merged);
+
         publisher.publishEvent(new AnyCreatedUpdatedEvent<>(this, merged, AuthContextUtils.getDomain()));
 
         roleDAO.refreshDynMemberships(merged);
@@ -19,6 +19,7 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
@@ -27,6 +28,7 @@ import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
 import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrUniqueValue;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
@@ -166,6 +168,20 @@ public class MyJPAJSONAnySearchDAO extends AbstractJPAJSONAnySearchDAO {
                     ((JSONPlainAttr) container).add(attrValue);
                 }
 
+                if (MyJPAJSONPlainSchemaDAO.isIndexed(schema)) {
+                    // let the multi-valued index select candidates, then check that value belongs to schema
+                    Object value = schema.getType() == AttrSchemaType.String
+                            || schema.getType() == AttrSchemaType.Enum
+                            ? attrValue.getStringValue()
+                            : schema.getType() == AttrSchemaType.Date
+                            ? attrValue.getDateValue().getTime()
+                            : attrValue.getLongValue();
+                    query.append('?').append(setParameter(parameters, value)).
+                            append(" MEMBER OF(plainAttrs->'").
+                            append(MyJPAJSONPlainSchemaDAO.valuesPath(schema.isUniqueConstraint(), schema.getType())).
+                            append("') AND ");
+                }
+
                 query.append("JSON_CONTAINS(plainAttrs, '").
                         append(POJOHelper.serialize(List.of(container)).replace("'", "''")).
                         append("')");
@@ -198,6 +214,14 @@ public class MyJPAJSONAnySearchDAO extends AbstractJPAJSONAnySearchDAO {
             final List<Object> parameters,
             final SearchSupport svs) {
 
+        Optional<DerSchema> materialized = materialized(cond);
+        if (materialized.isPresent()) {
+            String query = getMaterializedQuery(materialized.get(), cond, parameters, svs);
+            return not ^ (cond.getType() == AttrCond.Type.ISNULL)
+                    ? "SELECT any_id FROM " + svs.field().name + " WHERE any_id NOT IN (" + query + ')'
+                    : query;
+        }
+
         Pair<PlainSchema, PlainAttrValue> checked;
         try {
             checked = check(cond, svs.anyTypeKind);
@@ -233,6 +257,12 @@ public class MyJPAJSONAnySearchDAO extends AbstractJPAJSONAnySearchDAO {
                 if (not && !(cond instanceof AnyCond) && checked.getLeft().isMultivalue()) {
                     query = new StringBuilder("SELECT DISTINCT id AS any_id FROM ").append(svs.table().name).
                             append(" WHERE ");
+                } else if (!not && cond.getType() == AttrCond.Type.EQ
+                        && MyJPAJSONPlainSchemaDAO.isIndexed(checked.getLeft())) {
+
+                    // query the table directly, as multi-valued indexes cannot be used through JSON_TABLE views
+                    query = new StringBuilder("SELECT id AS any_id FROM ").append(svs.table().name).
+                            append(" WHERE ");
                 }
                 fillAttrQuery(anyUtilsFactory.getInstance(svs.anyTypeKind),
                         query, checked.getRight(), checked.getLeft(), cond, not, parameters, svs);
@@ -18,12 +18,63 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import javax.persistence.Query;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 
 public class MyJPAJSONPlainSchemaDAO extends AbstractJPAJSONPlainSchemaDAO {
 
+    protected static final AttrSchemaType[] INDEXABLE_TYPES = {
+        AttrSchemaType.String, AttrSchemaType.Long, AttrSchemaType.Date };
+
+    protected static String castType(final AttrSchemaType type) {
+        switch (type) {
+            case String:
+            case Enum:
+                // same size as the stringValue column in search views
+                return "CHAR(255) ARRAY";
+
+            case Date:
+            case Long:
+                return "SIGNED ARRAY";
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the JSON path, on {@code plainAttrs}, returning the array of all values for the given schema's type;
+     * the same path is used both when creating multi-valued indexes and when building search queries, so that
+     * MySQL can match the latter with the former.
+     * As MySQL JSON paths do not support filtering, the index covers values of all schemas sharing the same type and
+     * uniqueness, hence queries need to further check the schema.
+     *
+     * @param uniqueConstraint whether the unique value or the values are to be considered
+     * @param type schema type
+     * @return JSON path
+     */
+    public static String valuesPath(final boolean uniqueConstraint, final AttrSchemaType type) {
+        return "$[*]." + (uniqueConstraint ? "uniqueValue." : "values[*].") + JPAAnySearchDAO.key(type);
+    }
+
+    /**
+     * Tells whether a multi-valued index is available for the given schema.
+     *
+     * @param schema plain schema
+     * @return whether a multi-valued index is available for the given schema
+     */
+    public static boolean isIndexed(final PlainSchema schema) {
+        return schema.isProjected() && castType(schema.getType()) != null;
+    }
+
     @Override
     public <T extends PlainAttr<?>> boolean hasAttrs(final PlainSchema schema, final Class<T> reference) {
         Query query = entityManager().createNativeQuery(
@@ -32,4 +83,70 @@ public class MyJPAJSONPlainSchemaDAO extends AbstractJPAJSONPlainSchemaDAO {
 
         return ((Number) query.getSingleResult()).intValue() > 0;
     }
+
+    protected boolean indexExists(final String table, final String index) {
+        Query query = entityManager().createNativeQuery(
+                "SELECT COUNT(*) FROM information_schema.statistics "
+                + "WHERE table_schema=DATABASE() AND table_name=?1 AND index_name=?2");
+        query.setParameter(1, table);
+        query.setParameter(2, index);
+        return ((Number) query.getSingleResult()).intValue() > 0;
+    }
+
+    protected static String indexSuffix(final boolean uniqueConstraint, final AttrSchemaType type) {
+        return (uniqueConstraint ? "u" : "") + JPAAnySearchDAO.key(type) + "_mvi";
+    }
+
+    /**
+     * Makes sure that multi-valued indexes exist for all type / uniqueness combinations used by at least one
+     * projected schema, and that no index exists for other combinations.
+     * As MySQL implicitly commits the current transaction when executing DDL statements, these are run only after
+     * the current transaction has committed.
+     *
+     * @param schema schema being created, updated or deleted
+     * @param include whether the given schema is to be considered
+     */
+    protected void refreshIndexes(final PlainSchema schema, final boolean include) {
+        Set<String> needed = findAll().stream().
+                filter(s -> !s.getKey().equals(schema.getKey()) && isIndexed(s)).
+                map(s -> indexSuffix(s.isUniqueConstraint(), s.getType())).
+                collect(Collectors.toCollection(HashSet::new));
+        if (include && isIndexed(schema)) {
+            needed.add(indexSuffix(schema.isUniqueConstraint(), schema.getType()));
+        }
+
+        List<String> statements = new ArrayList<>();
+        for (AnyTypeKind anyTypeKind : AnyTypeKind.values()) {
+            String table = new SearchSupport(anyTypeKind).table().name;
+
+            for (boolean uniqueConstraint : new boolean[] { false, true }) {
+                // Enum values are stored as stringValue, hence share the String index
+                for (AttrSchemaType type : INDEXABLE_TYPES) {
+                    String index = table + '_' + indexSuffix(uniqueConstraint, type);
+                    boolean exists = indexExists(table, index);
+
+                    if (needed.contains(indexSuffix(uniqueConstraint, type))) {
+                        if (!exists) {
+                            statements.add("CREATE INDEX " + index + " ON " + table + " ((CAST(plainAttrs->'"
+                                    + valuesPath(uniqueConstraint, type) + "' AS " + castType(type) + ")))");
+                        }
+                    } else if (exists) {
+                        statements.add("DROP INDEX " + index + " ON " + table);
+                    }
+                }
+            }
+        }
+
+        executeDDLAfterCommit(statements);
+    }
+
+    @Override
+    protected void deleteProjection(final PlainSchema schema) {
+        refreshIndexes(schema, false);
+    }
+
+    @Override
+    public void refreshProjection(final PlainSchema schema) {
+        refreshIndexes(schema, true);
+    }
 }
@@ -54,6 +54,7 @@ import org.apache.syncope.core.persistence.api.dao.search.RoleCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.DynRealm;
 import org.apache.syncope.core.persistence.api.entity.Entity;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
@@ -80,9 +81,90 @@ public class PGJPAJSONAnySearchDAO extends AbstractJPAJSONAnySearchDAO {
 
         obs.views.add(svs.table());
 
-        item.select = fieldName + " -> 0 AS " + fieldName;
+        String expression = PGJPAJSONPlainSchemaDAO.indexExpression(schema);
+        if (expression == null) {
+            item.select = fieldName + " -> 0 AS " + fieldName;
+            item.orderBy = fieldName + " " + clause.getDirection().name();
+        } else {
+            // order by the indexed expression, no need to extract the schema values in FROM
+            item.select = expression + " AS " + fieldName;
+            item.orderBy = expression + " " + clause.getDirection().name();
+        }
         item.where = StringUtils.EMPTY;
-        item.orderBy = fieldName + " " + clause.getDirection().name();
+    }
+
+    protected void fillIndexedAttrQuery(
+            final StringBuilder query,
+            final String expression,
+            final PlainAttrValue attrValue,
+            final PlainSchema schema,
+            final AttrCond cond,
+            final List<Object> parameters) {
+
+        Object value;
+        switch (schema.getType()) {
+            case Date:
+                value = attrValue.getDateValue().getTime();
+                break;
+
+            case Long:
+                value = attrValue.getLongValue();
+                break;
+
+            case Double:
+                value = attrValue.getDoubleValue();
+                break;
+
+            default:
+                value = attrValue.getValue();
+        }
+
+        switch (cond.getType()) {
+            case ILIKE:
+            case LIKE:
+                if (schema.getType() == AttrSchemaType.String || schema.getType() == AttrSchemaType.Enum) {
+                    query.append(expression).
+                            append(cond.getType() == AttrCond.Type.ILIKE ? " ILIKE ?" : " LIKE ?").
+                            append(setParameter(parameters, cond.getExpression()));
+                } else {
+                    query.append(" 1=2");
+                    LOG.error("LIKE is only compatible with string or enum schemas");
+                }
+                break;
+
+            case IEQ:
+                if (schema.getType() == AttrSchemaType.String || schema.getType() == AttrSchemaType.Enum) {
+                    query.append("LOWER(").append(expression).append(")=LOWER(?").
+                            append(setParameter(parameters, value)).append(')');
+                } else {
+                    // case does not matter on non-string values, as for non-indexed schemas
+                    query.append(expression).append("=?").append(setParameter(parameters, value));
+                }
+                break;
+
+            case EQ:
+                query.append(expression).append("=?").append(setParameter(parameters, value));
+                break;
+
+            case GE:
+                query.append(expression).append(">=?").append(setParameter(parameters, value));
+                break;
+
+            case GT:
+                query.append(expression).append(">?").append(setParameter(parameters, value));
+                break;
+
+            case LE:
+                query.append(expression).append("<=?").append(setParameter(parameters, value));
+                break;
+
+            case LT:
+                query.append(expression).append("<?").append(setParameter(parameters, value));
+                break;
+
+            default:
+                query.append("jsonb_path_exists(").append(schema.getKey()).append(", '$[*]')");
+        }
     }
 
     protected void fillAttrQuery(
@@ -97,12 +179,17 @@ public class PGJPAJSONAnySearchDAO extends AbstractJPAJSONAnySearchDAO {
 
         // This first branch is required for handling with not conditions given on multivalue fields (SYNCOPE-1419)
         if (not && !(cond instanceof AnyCond)) {
-            query.append("NOT (");
+            // expressions on indexed schemas evaluate to NULL when the attribute is missing: without COALESCE,
+            // the negated condition would not match anys lacking such attribute
+            query.append("NOT (COALESCE(");
             fillAttrQuery(anyUtils, query, attrValue, schema, cond, false, parameters, svs);
-            query.append(")");
+            query.append(", false))");
         } else if (not && cond.getType() == AttrCond.Type.ISNULL) {
             cond.setType(AttrCond.Type.ISNOTNULL);
             fillAttrQuery(anyUtils, query, attrValue, schema, cond, true, parameters, svs);
+        } else if (PGJPAJSONPlainSchemaDAO.indexExpression(schema) != null) {
+            fillIndexedAttrQuery(
+                    query, PGJPAJSONPlainSchemaDAO.indexExpression(schema), attrValue, schema, cond, parameters);
         } else {
             String key = key(schema.getType());
 
@@ -218,6 +305,12 @@ public class PGJPAJSONAnySearchDAO extends AbstractJPAJSONAnySearchDAO {
             final List<Object> parameters,
             final SearchSupport svs) {
 
+        Optional<DerSchema> materialized = materialized(cond);
+        if (materialized.isPresent()) {
+            String query = getMaterializedQuery(materialized.get(), cond, parameters, svs);
+            return "id " + (not ^ (cond.getType() == AttrCond.Type.ISNULL) ? "NOT IN (" : "IN (") + query + ')';
+        }
+
         Pair<PlainSchema, PlainAttrValue> checked;
         try {
             checked = check(cond, svs.anyTypeKind);
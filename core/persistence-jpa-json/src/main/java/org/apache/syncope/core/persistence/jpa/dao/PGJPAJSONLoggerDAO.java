@@ -18,40 +18,7 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import java.util.List;
-import java.util.stream.Collectors;
-import org.apache.syncope.core.persistence.jpa.dao.AbstractJPAJSONLoggerDAO.JSONMessageCriteriaBuilder;
-import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
-
-public class PGJPAJSONLoggerDAO extends AbstractJPAJSONLoggerDAO {
-
-    private static class PGMessageCriteriaBuilder extends JSONMessageCriteriaBuilder {
-
-        @Override
-        protected String doBuild(final List<ObjectNode> containers) {
-            if (entityKey != null) {
-                query.append('(').append(AUDIT_MESSAGE_COLUMN).append(" ->> 'before' LIKE '%").append(entityKey).
-                        append("%' OR ").append(AUDIT_MESSAGE_COLUMN).append(" ->> 'input' LIKE '%").append(entityKey).
-                        append("%' OR ").append(AUDIT_MESSAGE_COLUMN).append(" ->> 'output' LIKE '%").append(entityKey).
-                        append("%')");
-            }
-
-            if (!containers.isEmpty()) {
-                if (entityKey != null) {
-                    query.append(" AND (");
-                }
-                query.append(containers.stream().map(container -> AUDIT_MESSAGE_COLUMN + " @> '"
-                        + POJOHelper.serialize(container).replace("'", "''")
-                        + "'::jsonb").collect(Collectors.joining(" OR ")));
-                if (entityKey != null) {
-                    query.append(')');
-                }
-            }
-
-            return query.toString();
-        }
-    }
+public class PGJPAJSONLoggerDAO extends JPALoggerDAO {
 
     @Override
     protected String select() {
@@ -59,7 +26,7 @@ public class PGJPAJSONLoggerDAO extends AbstractJPAJSONLoggerDAO {
     }
 
     @Override
-    protected MessageCriteriaBuilder messageCriteriaBuilder(final String entityKey) {
-        return new PGMessageCriteriaBuilder().entityKey(entityKey);
+    protected String insertMessage(final String parameter) {
+        return parameter + "::jsonb";
     }
 }
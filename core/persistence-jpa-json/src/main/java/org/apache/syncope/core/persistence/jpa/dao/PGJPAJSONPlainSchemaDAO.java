@@ -18,12 +18,80 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 import javax.persistence.Query;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 
 public class PGJPAJSONPlainSchemaDAO extends AbstractJPAJSONPlainSchemaDAO {
 
+    protected static final String BTREE_INDEX_PREFIX = "pjx";
+
+    protected static final String LOWER_INDEX_PREFIX = "pjxl";
+
+    protected static final String TRGM_INDEX_PREFIX = "pjxt";
+
+    /**
+     * Returns the SQL expression extracting the (first) value of the given schema from {@code plainAttrs}, cast to
+     * the matching SQL type, or {@code null} if no expression index can be defined for such schema.
+     * The same expression is used both when creating indexes and when building search queries, so that PostgreSQL
+     * can match the latter with the former.
+     *
+     * @param schema plain schema
+     * @return SQL expression or {@code null} if schema is not indexable
+     */
+    public static String indexExpression(final PlainSchema schema) {
+        if (!schema.isProjected() || schema.isMultivalue()) {
+            return null;
+        }
+
+        String text = "(jsonb_path_query_first(plainAttrs, '$[*] ? (@.schema == \"" + schema.getKey() + "\")."
+                + (schema.isUniqueConstraint() ? "uniqueValue" : "values[0]")
+                + "." + JPAAnySearchDAO.key(schema.getType()) + "') #>> '{}')";
+
+        switch (schema.getType()) {
+            case String:
+            case Enum:
+                return text;
+
+            case Date:
+            case Long:
+                return "(" + text + "::bigint)";
+
+            case Double:
+                return "(" + text + "::double precision)";
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Maximum length of PostgreSQL identifiers: longer names are silently truncated, possibly leading to clashes.
+     */
+    protected static final int MAX_IDENTIFIER_LENGTH = 63;
+
+    protected static String indexName(final String prefix, final String table, final PlainSchema schema) {
+        String name = prefix + '_' + table + '_' + schema.getKey();
+        if (name.getBytes(StandardCharsets.UTF_8).length > MAX_IDENTIFIER_LENGTH) {
+            // keep a readable prefix, made unique by a digest of the schema key
+            String digest = UUID.nameUUIDFromBytes(schema.getKey().getBytes(StandardCharsets.UTF_8)).
+                    toString().replace("-", "").substring(0, 12);
+            String head = prefix + '_' + table + '_';
+            name = head + StringUtils.left(
+                    schema.getKey().replaceAll("[^A-Za-z0-9_]", "_"),
+                    MAX_IDENTIFIER_LENGTH - head.length() - digest.length() - 1)
+                    + '_' + digest;
+        }
+        return '"' + name + '"';
+    }
+
     @Override
     public <T extends PlainAttr<?>> boolean hasAttrs(final PlainSchema schema, final Class<T> reference) {
         Query query = entityManager().createNativeQuery(
@@ -32,4 +100,70 @@ public class PGJPAJSONPlainSchemaDAO extends AbstractJPAJSONPlainSchemaDAO {
 
         return ((Number) query.getSingleResult()).intValue() > 0;
     }
+
+    protected boolean isTrgmAvailable() {
+        Query query = entityManager().createNativeQuery(
+                "SELECT COUNT(*) FROM pg_extension WHERE extname='pg_trgm'");
+        return ((Number) query.getSingleResult()).intValue() > 0;
+    }
+
+    protected List<String> dropIndexes(final PlainSchema schema) {
+        List<String> statements = new ArrayList<>();
+        for (AnyTypeKind anyTypeKind : AnyTypeKind.values()) {
+            String table = new SearchSupport(anyTypeKind).table().name;
+            for (String prefix : new String[] { BTREE_INDEX_PREFIX, LOWER_INDEX_PREFIX, TRGM_INDEX_PREFIX }) {
+                statements.add("DROP INDEX CONCURRENTLY IF EXISTS " + indexName(prefix, table, schema));
+            }
+        }
+        return statements;
+    }
+
+    @Override
+    protected void deleteProjection(final PlainSchema schema) {
+        executeDDLAfterCommit(dropIndexes(schema));
+    }
+
+    /**
+     * Drops and, if the given schema is flagged as projected, (re)creates the expression indexes supporting search
+     * conditions and ordering on it: a btree index for equality, ranges and ordering, a btree index on lowercase for
+     * case-insensitive equality and - when the {@code pg_trgm} extension is available - a trigram index for
+     * {@code LIKE} / {@code ILIKE}.
+     * Indexes are built concurrently once the current transaction has committed, so that neither such transaction
+     * nor concurrent writes on the any tables are blocked while building.
+     *
+     * @param schema plain schema
+     */
+    @Override
+    public void refreshProjection(final PlainSchema schema) {
+        List<String> statements = dropIndexes(schema);
+
+        String expression = indexExpression(schema);
+        if (expression != null) {
+            boolean isStr = schema.getType() == AttrSchemaType.String || schema.getType() == AttrSchemaType.Enum;
+            boolean trgm = isStr && isTrgmAvailable();
+            if (isStr && !trgm) {
+                LOG.warn("pg_trgm extension not available: LIKE conditions on {} will not use indexes",
+                        schema.getKey());
+            }
+
+            for (AnyTypeKind anyTypeKind : AnyTypeKind.values()) {
+                String table = new SearchSupport(anyTypeKind).table().name;
+
+                statements.add("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + indexName(BTREE_INDEX_PREFIX, table, schema)
+                        + " ON " + table + " (" + expression + ")");
+                if (isStr) {
+                    statements.add("CREATE INDEX CONCURRENTLY IF NOT EXISTS "
+                            + indexName(LOWER_INDEX_PREFIX, table, schema)
+                            + " ON " + table + " (LOWER(" + expression + "))");
+                }
+                if (trgm) {
+                    statements.add("CREATE INDEX CONCURRENTLY IF NOT EXISTS "
+                            + indexName(TRGM_INDEX_PREFIX, table, schema)
+                            + " ON " + table + " USING gin (" + expression + " gin_trgm_ops)");
+                }
+            }
+        }
+
+        executeDDLAfterCommit(statements);
+    }
 }
@@ -17,8 +17,28 @@
 
 CREATE TABLE IF NOT EXISTS SYNCOPEAUDIT (
   EVENT_DATE TIMESTAMP,
+  EVENT_ID VARCHAR(36),
+  WHO VARCHAR(255),
+  ENTITY_KEY VARCHAR(255),
+  EVENT_TYPE VARCHAR(32),
+  EVENT_CATEGORY VARCHAR(255),
+  EVENT_SUBCATEGORY VARCHAR(255),
+  EVENT_NAME VARCHAR(255),
+  EVENT_RESULT VARCHAR(32),
   LOGGER_LEVEL VARCHAR(255) NOT NULL,
   LOGGER VARCHAR(255) NOT NULL,
   MESSAGE JSON NOT NULL,
   THROWABLE TEXT
 ) ENGINE=InnoDB;
+-- add the columns introduced after the table was first created, if missing
+ALTER TABLE SYNCOPEAUDIT ADD COLUMN EVENT_ID VARCHAR(36);
+ALTER TABLE SYNCOPEAUDIT ADD COLUMN WHO VARCHAR(255);
+ALTER TABLE SYNCOPEAUDIT ADD COLUMN ENTITY_KEY VARCHAR(255);
+ALTER TABLE SYNCOPEAUDIT ADD COLUMN EVENT_TYPE VARCHAR(32);
+ALTER TABLE SYNCOPEAUDIT ADD COLUMN EVENT_CATEGORY VARCHAR(255);
+ALTER TABLE SYNCOPEAUDIT ADD COLUMN EVENT_SUBCATEGORY VARCHAR(255);
+ALTER TABLE SYNCOPEAUDIT ADD COLUMN EVENT_NAME VARCHAR(255);
+ALTER TABLE SYNCOPEAUDIT ADD COLUMN EVENT_RESULT VARCHAR(32);
+CREATE INDEX SYNCOPEAUDIT_date_idx ON SYNCOPEAUDIT(EVENT_DATE, EVENT_ID);
+CREATE INDEX SYNCOPEAUDIT_entity_idx ON SYNCOPEAUDIT(ENTITY_KEY, EVENT_DATE, EVENT_ID);
+CREATE INDEX SYNCOPEAUDIT_event_idx ON SYNCOPEAUDIT(EVENT_TYPE, EVENT_CATEGORY, EVENT_NAME, EVENT_RESULT, EVENT_DATE);
@@ -18,6 +18,8 @@
  */
 package org.apache.syncope.core.persistence.jpa;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
 import java.util.Map;
@@ -102,6 +104,18 @@ public class PersistenceContext implements EnvironmentAware {
         return commonEMFConf;
     }
 
+    /**
+     * Collects the metrics of this node, defined here as all other contexts depend on persistence; replace it by
+     * defining a {@link MeterRegistry} bean for a monitoring system, as Spring Boot Actuator does.
+     *
+     * @return meter registry
+     */
+    @ConditionalOnMissingBean
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
     @Bean
     public EntityFactory entityFactory()
             throws ClassNotFoundException, InstantiationException, IllegalAccessException, NoSuchMethodException,
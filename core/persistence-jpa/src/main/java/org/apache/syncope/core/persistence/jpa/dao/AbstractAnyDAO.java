@@ -26,9 +26,11 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import javax.persistence.Query;
 import javax.persistence.TemporalType;
 import javax.persistence.TypedQuery;
@@ -43,6 +45,7 @@ import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.PullFingerprintDAO;
 import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
 import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
@@ -61,7 +64,10 @@ import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.jpa.entity.AbstractAny;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
+import org.apache.syncope.core.provisioning.api.event.AnyCountChangedEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
@@ -70,6 +76,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> implements AnyDAO<A> {
 
+    /**
+     * Maximum number of elements in IN clauses, to stay within the limits of all supported DBMSes.
+     */
+    protected static final int IN_CLAUSE_MAX_SIZE = 500;
+
     @Autowired
     protected AnyUtilsFactory anyUtilsFactory;
 
@@ -88,6 +99,10 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
     @Lazy
     protected DynRealmDAO dynRealmDAO;
 
+    @Autowired
+    @Lazy
+    protected PullFingerprintDAO pullFingerprintDAO;
+
     private AnyUtils anyUtils;
 
     protected abstract AnyUtils init();
@@ -132,6 +147,23 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
         return result;
     }
 
+    @SuppressWarnings("unchecked")
+    protected List<String> findAllKeys(final String table, final String after, final int itemsPerPage) {
+        Query query = entityManager().createNativeQuery(
+                "SELECT id FROM " + table + (after == null ? "" : " WHERE id > ?1") + " ORDER BY id", String.class);
+        if (after != null) {
+            query.setParameter(1, after);
+        }
+        query.setMaxResults(itemsPerPage);
+
+        List<String> result = new ArrayList<>();
+        query.getResultList().stream().map(resultKey -> resultKey instanceof Object[]
+                ? (String) ((Object[]) resultKey)[0]
+                : ((String) resultKey)).
+                forEach(actualKey -> result.add(actualKey.toString()));
+        return result;
+    }
+
     protected Date findLastChange(final String key, final String table) {
         Query query = entityManager().createNativeQuery(
                 "SELECT creationDate, lastChangeDate FROM " + table + " WHERE id=?");
@@ -401,6 +433,23 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
         return clauses;
     }
 
+    protected List<A> findByMaterializedDerAttrValue(
+            final DerSchema schema, final String value, final boolean ignoreCaseMatch) {
+
+        Query query = entityManager().createNativeQuery(
+                "SELECT DISTINCT any_id FROM " + JPADerSchemaDAO.materializedTable(anyUtils().anyTypeKind())
+                + " WHERE schema_id=? AND "
+                + (ignoreCaseMatch ? "LOWER(stringvalue)=LOWER(?)" : "stringvalue=?"));
+        query.setParameter(1, schema.getKey());
+        query.setParameter(2, value);
+
+        List<String> keys = new ArrayList<>();
+        for (Object anyKey : query.getResultList()) {
+            keys.add(anyKey.toString());
+        }
+        return findByKeys(keys);
+    }
+
     @Override
     public List<A> findByDerAttrValue(final DerSchema schema, final String value, final boolean ignoreCaseMatch) {
         if (schema == null) {
@@ -408,6 +457,10 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
             return List.of();
         }
 
+        if (schema.isMaterialized() && schema.isMaterializationComplete()) {
+            return findByMaterializedDerAttrValue(schema, value, ignoreCaseMatch);
+        }
+
         // query string
         StringBuilder querystring = new StringBuilder();
 
@@ -514,7 +567,52 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
 
     @Override
     public A save(final A any) {
-        return entityManager().merge(any);
+        A merged = entityManager().merge(any);
+        if (plainSchemaDAO.hasProjected()) {
+            plainSchemaDAO.refreshProjection(merged);
+        }
+        if (derSchemaDAO.hasMaterialized()) {
+            derSchemaDAO.refreshMaterialized(merged);
+        }
+        publishCountChanged(merged);
+        return merged;
+    }
+
+    /**
+     * Publishes an {@link AnyCountChangedEvent} if the given entity was created, moved to another realm or changed
+     * status since last counted.
+     *
+     * @param any user, group or any object just saved
+     */
+    protected void publishCountChanged(final A any) {
+        AbstractAny<?> counted = (AbstractAny<?>) any;
+        String realm = any.getRealm().getFullPath();
+        if (!realm.equals(counted.getCountedRealm())
+                || !Objects.equals(any.getStatus(), counted.getCountedStatus())) {
+
+            publisher.publishEvent(new AnyCountChangedEvent(
+                    this, any.getType().getKind(), any.getType().getKey(),
+                    counted.getCountedRealm(), counted.getCountedStatus(), realm, any.getStatus(),
+                    AuthContextUtils.getDomain()));
+            counted.counted();
+        }
+    }
+
+    /**
+     * Publishes an {@link AnyCountChangedEvent} for the given entity being deleted.
+     *
+     * @param any user, group or any object being deleted
+     */
+    protected void publishCountDeleted(final A any) {
+        AbstractAny<?> counted = (AbstractAny<?>) any;
+        if (counted.getCountedRealm() == null) {
+            counted.counted();
+        }
+
+        publisher.publishEvent(new AnyCountChangedEvent(
+                this, any.getType().getKind(), any.getType().getKey(),
+                counted.getCountedRealm(), counted.getCountedStatus(), null, null,
+                AuthContextUtils.getDomain()));
     }
 
     @Override
@@ -550,4 +648,67 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
                 });
         return result;
     }
+
+    /**
+     * Runs the given native query for the given keys, in chunks of {@link #IN_CLAUSE_MAX_SIZE} elements.
+     *
+     * @param prefix query statement up to the {@code IN} clause, as {@code SELECT a, b FROM t WHERE c IN}
+     * @param suffix query statement after the {@code IN} clause, if any
+     * @param keys keys to match
+     * @return result rows from all chunks
+     */
+    @SuppressWarnings("unchecked")
+    protected List<Object[]> findInChunks(final String prefix, final String suffix, final Collection<String> keys) {
+        List<Object[]> result = new ArrayList<>();
+
+        List<String> keyList = new ArrayList<>(keys);
+        for (int i = 0; i < keyList.size(); i += IN_CLAUSE_MAX_SIZE) {
+            List<String> chunk = keyList.subList(i, Math.min(i + IN_CLAUSE_MAX_SIZE, keyList.size()));
+
+            Query query = entityManager().createNativeQuery(
+                    prefix + " (" + chunk.stream().map(key -> "?").collect(Collectors.joining(",")) + ")" + suffix);
+            for (int j = 0; j < chunk.size(); j++) {
+                query.setParameter(j + 1, chunk.get(j));
+            }
+
+            result.addAll(query.getResultList());
+        }
+
+        return result;
+    }
+
+    /**
+     * Collects, by key, the distinct values of {@code valueColumn} in {@code table} for rows matching the given keys
+     * on {@code keyColumn}.
+     *
+     * @param table table to query
+     * @param keyColumn column to match against the given keys
+     * @param valueColumn column to collect
+     * @param keys keys to match
+     * @return distinct values found, by key
+     */
+    protected Map<String, List<String>> findByKeys(
+            final String table,
+            final String keyColumn,
+            final String valueColumn,
+            final Collection<String> keys) {
+
+        Map<String, List<String>> result = new HashMap<>();
+        findInChunks(
+                "SELECT " + keyColumn + ", " + valueColumn + " FROM " + table + " WHERE " + keyColumn + " IN",
+                "",
+                keys).forEach(row -> {
+                    List<String> values = result.computeIfAbsent(row[0].toString(), k -> new ArrayList<>());
+                    if (!values.contains(row[1].toString())) {
+                        values.add(row[1].toString());
+                    }
+                });
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, List<String>> findDynRealms(final Collection<String> keys) {
+        return findByKeys(JPADynRealmDAO.DYNMEMB_TABLE, "any_id", "dynRealm_id", keys);
+    }
 }
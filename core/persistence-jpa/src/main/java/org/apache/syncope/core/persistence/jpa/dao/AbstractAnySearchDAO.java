@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.Comparator;
@@ -36,6 +37,7 @@ import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
@@ -70,6 +72,11 @@ public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implement
 
     protected static final String[] RELATIONSHIP_FIELDS = new String[] { "realm", "userOwner", "groupOwner" };
 
+    /**
+     * Times count and search queries, tagged by any type kind and operation.
+     */
+    protected static final String SEARCH_TIMER = "syncope.search";
+
     @Autowired
     protected RealmDAO realmDAO;
 
@@ -88,12 +95,18 @@ public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implement
     @Autowired
     protected PlainSchemaDAO schemaDAO;
 
+    @Autowired
+    protected DerSchemaDAO derSchemaDAO;
+
     @Autowired
     protected EntityFactory entityFactory;
 
     @Autowired
     protected AnyUtilsFactory anyUtilsFactory;
 
+    @Autowired
+    protected MeterRegistry meterRegistry;
+
     protected static SearchCond buildEffectiveCond(final SearchCond cond, final Set<String> dynRealmKeys) {
         List<SearchCond> effectiveConds = dynRealmKeys.stream().map(dynRealmKey -> {
             DynRealmCond dynRealmCond = new DynRealmCond();
@@ -120,7 +133,8 @@ public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implement
             return 0;
         }
 
-        return doCount(adminRealms, cond, kind);
+        return meterRegistry.timer(SEARCH_TIMER, "kind", kind.name(), "operation", "count").
+                record(() -> doCount(adminRealms, cond, kind));
     }
 
     @Override
@@ -344,6 +358,7 @@ public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implement
                     collect(Collectors.toList());
         }
 
-        return doSearch(adminRealms, cond, page, itemsPerPage, effectiveOrderBy, kind);
+        return meterRegistry.timer(SEARCH_TIMER, "kind", kind.name(), "operation", "search").
+                record(() -> doSearch(adminRealms, cond, page, itemsPerPage, effectiveOrderBy, kind));
     }
 }
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import java.util.Date;
+import javax.persistence.Query;
+import org.apache.syncope.core.persistence.api.entity.Exec;
+
+/**
+ * Query building blocks shared by task and report execution DAOs; executions are expected to be aliased as
+ * {@code e} in queries.
+ *
+ * @param <E> execution type
+ */
+public abstract class AbstractExecDAO<E extends Exec> extends AbstractDAO<E> {
+
+    protected static void appendDateConditions(
+            final StringBuilder queryString,
+            final Date startedBefore, final Date startedAfter, final Date endedBefore, final Date endedAfter) {
+
+        if (startedBefore != null) {
+            queryString.append(" AND e.start < :startedBefore");
+        }
+        if (startedAfter != null) {
+            queryString.append(" AND e.start > :startedAfter");
+        }
+        if (endedBefore != null) {
+            queryString.append(" AND e.end < :endedBefore");
+        }
+        if (endedAfter != null) {
+            queryString.append(" AND e.end > :endedAfter");
+        }
+    }
+
+    protected static void setDateParameters(
+            final Query query,
+            final Date startedBefore, final Date startedAfter, final Date endedBefore, final Date endedAfter) {
+
+        if (startedBefore != null) {
+            query.setParameter("startedBefore", startedBefore);
+        }
+        if (startedAfter != null) {
+            query.setParameter("startedAfter", startedAfter);
+        }
+        if (endedBefore != null) {
+            query.setParameter("endedBefore", endedBefore);
+        }
+        if (endedAfter != null) {
+            query.setParameter("endedAfter", endedAfter);
+        }
+    }
+
+    /**
+     * Appends conditions matching ended executions older than the given limits: {@code endedBefore} for successful
+     * executions, {@code failedEndedBefore} for the others.
+     *
+     * @param queryString query being built
+     * @param endedBefore limit for successful executions, if any
+     * @param failedEndedBefore limit for other executions, if any
+     */
+    protected static void appendAgeConditions(
+            final StringBuilder queryString, final Date endedBefore, final Date failedEndedBefore) {
+
+        queryString.append(" AND e.end IS NOT NULL AND ((e.status = :successStatus");
+        if (endedBefore != null) {
+            queryString.append(" AND e.end < :endedBefore");
+        }
+        queryString.append(") OR ((e.status IS NULL OR e.status <> :successStatus)");
+        if (failedEndedBefore != null) {
+            queryString.append(" AND e.end < :failedEndedBefore");
+        }
+        queryString.append("))");
+    }
+
+    protected static void setAgeParameters(
+            final Query query, final String successStatus, final Date endedBefore, final Date failedEndedBefore) {
+
+        query.setParameter("successStatus", successStatus);
+        if (endedBefore != null) {
+            query.setParameter("endedBefore", endedBefore);
+        }
+        if (failedEndedBefore != null) {
+            query.setParameter("failedEndedBefore", failedEndedBefore);
+        }
+    }
+}
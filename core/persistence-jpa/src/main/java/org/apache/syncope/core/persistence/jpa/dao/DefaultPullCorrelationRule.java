@@ -34,9 +34,11 @@ import org.apache.syncope.core.persistence.api.entity.resource.Provision;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.apache.syncope.core.persistence.api.dao.PullCorrelationRule;
 import org.apache.syncope.core.persistence.api.dao.PullCorrelationRuleConfClass;
+import org.apache.syncope.core.persistence.api.dao.StatelessImplementation;
 import org.identityconnectors.framework.common.objects.SyncDelta;
 
 @PullCorrelationRuleConfClass(DefaultPullCorrelationRuleConf.class)
+@StatelessImplementation
 public class DefaultPullCorrelationRule implements PullCorrelationRule {
 
     private DefaultPullCorrelationRuleConf conf;
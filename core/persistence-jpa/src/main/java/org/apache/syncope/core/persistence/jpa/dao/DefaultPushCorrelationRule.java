@@ -33,6 +33,7 @@ import org.apache.syncope.core.persistence.api.entity.resource.Provision;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.apache.syncope.core.persistence.api.dao.PushCorrelationRule;
 import org.apache.syncope.core.persistence.api.dao.PushCorrelationRuleConfClass;
+import org.apache.syncope.core.persistence.api.dao.StatelessImplementation;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.provisioning.api.AccountGetter;
 import org.apache.syncope.core.provisioning.api.MappingManager;
@@ -48,6 +49,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.util.CollectionUtils;
 
 @PushCorrelationRuleConfClass(DefaultPushCorrelationRuleConf.class)
+@StatelessImplementation
 public class DefaultPushCorrelationRule implements PushCorrelationRule {
 
     protected static final ConnObjectTOFiqlSearchConditionBuilder FIQL_BUILDER =
@@ -201,6 +201,11 @@ public class JPAAnyObjectDAO extends AbstractAnyDAO<AnyObject> implements AnyObj
         return findAllKeys(JPAAnyObject.TABLE, page, itemsPerPage);
     }
 
+    @Override
+    public List<String> findAllKeys(final String after, final int itemsPerPage) {
+        return findAllKeys(JPAAnyObject.TABLE, after, itemsPerPage);
+    }
+
     protected Pair<AnyObject, Pair<Set<String>, Set<String>>> doSave(final AnyObject anyObject) {
         AnyObject merged = super.save(anyObject);
         publisher.publishEvent(new AnyCreatedUpdatedEvent<>(this, merged, AuthContextUtils.getDomain()));
@@ -243,6 +248,9 @@ public class JPAAnyObjectDAO extends AbstractAnyDAO<AnyObject> implements AnyObj
     public void delete(final AnyObject anyObject) {
         groupDAO.removeDynMemberships(anyObject);
         dynRealmDAO.removeDynMemberships(anyObject.getKey());
+        plainSchemaDAO.removeProjection(AnyTypeKind.ANY_OBJECT, anyObject.getKey());
+        derSchemaDAO.removeMaterialized(AnyTypeKind.ANY_OBJECT, anyObject.getKey());
+        pullFingerprintDAO.delete(anyObject.getKey());
 
         findARelationships(anyObject).forEach(relationship -> {
             relationship.getLeftEnd().getRelationships().remove(relationship);
@@ -258,6 +266,7 @@ public class JPAAnyObjectDAO extends AbstractAnyDAO<AnyObject> implements AnyObj
         });
 
         entityManager().remove(anyObject);
+        publishCountDeleted(anyObject);
         publisher.publishEvent(new AnyDeletedEvent(
                 this, AnyTypeKind.ANY_OBJECT, anyObject.getKey(), anyObject.getName(), AuthContextUtils.getDomain()));
     }
@@ -285,6 +294,12 @@ public class JPAAnyObjectDAO extends AbstractAnyDAO<AnyObject> implements AnyObj
         return result;
     }
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Override
+    public Map<String, List<String>> findDynGroupKeys(final Collection<String> keys) {
+        return findByKeys(JPAGroupDAO.ADYNMEMB_TABLE, "any_id", "group_id", keys);
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
     @Override
     public Collection<Group> findAllGroups(final AnyObject anyObject) {
@@ -51,6 +51,7 @@ import org.apache.syncope.core.persistence.api.dao.search.RoleCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.DynRealm;
 import org.apache.syncope.core.persistence.api.entity.Entity;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
@@ -246,7 +247,8 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
 
         obs.views.forEach(searchView -> {
             where.append(',');
-            if (searchView.name.equals(svs.asSearchViewSupport().attr().name)) {
+            if (searchView.name.equals(svs.asSearchViewSupport().attr().name)
+                    || searchView.name.equals(svs.asSearchViewSupport().projectedAttr().name)) {
                 StringBuilder attrWhere = new StringBuilder();
                 StringBuilder nullAttrWhere = new StringBuilder();
 
@@ -273,7 +275,7 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
                                 append(" WHERE ").
                                 append("any_id NOT IN (").
                                 append("SELECT any_id FROM ").
-                                append(svs.asSearchViewSupport().attr().name).append(' ').append(searchView.alias).
+                                append(searchView.name).append(' ').append(searchView.alias).
                                 append(" WHERE ").append("schema_id='").append(field).append("')");
                     });
                     where.append(attrWhere).append(nullAttrWhere);
@@ -345,6 +347,23 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         return key;
     }
 
+    /**
+     * Returns the view (or table) holding the values of the given plain schema: projected schemas are read from
+     * their projection table, thus avoiding to join attribute values with attributes.
+     *
+     * @param svs search support
+     * @param schema plain schema
+     * @return view (or table) holding the values of the given plain schema
+     */
+    protected SearchSupport.SearchView attrView(final SearchSupport svs, final PlainSchema schema) {
+        if (schema.isProjected()) {
+            return svs.asSearchViewSupport().projectedAttr();
+        }
+        return schema.isUniqueConstraint()
+                ? svs.asSearchViewSupport().uniqueAttr()
+                : svs.asSearchViewSupport().attr();
+    }
+
     protected void parseOrderByForPlainSchema(
             final SearchSupport svs,
             final OrderBySupport obs,
@@ -356,28 +375,16 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         // keep track of involvement of non-mandatory schemas in the order by clauses
         obs.nonMandatorySchemas = !"true".equals(schema.getMandatoryCondition());
 
-        if (schema.isUniqueConstraint()) {
-            obs.views.add(svs.asSearchViewSupport().uniqueAttr());
-
-            item.select = new StringBuilder().
-                    append(svs.asSearchViewSupport().uniqueAttr().alias).append('.').
-                    append(key(schema.getType())).
-                    append(" AS ").append(fieldName).toString();
-            item.where = new StringBuilder().
-                    append(svs.asSearchViewSupport().uniqueAttr().alias).
-                    append(".schema_id='").append(fieldName).append('\'').toString();
-            item.orderBy = fieldName + ' ' + clause.getDirection().name();
-        } else {
-            obs.views.add(svs.asSearchViewSupport().attr());
-
-            item.select = new StringBuilder().
-                    append(svs.asSearchViewSupport().attr().alias).append('.').append(key(schema.getType())).
-                    append(" AS ").append(fieldName).toString();
-            item.where = new StringBuilder().
-                    append(svs.asSearchViewSupport().attr().alias).
-                    append(".schema_id='").append(fieldName).append('\'').toString();
-            item.orderBy = fieldName + ' ' + clause.getDirection().name();
-        }
+        SearchSupport.SearchView attrView = attrView(svs, schema);
+        obs.views.add(attrView);
+
+        item.select = new StringBuilder().
+                append(attrView.alias).append('.').append(key(schema.getType())).
+                append(" AS ").append(fieldName).toString();
+        item.where = new StringBuilder().
+                append(attrView.alias).
+                append(".schema_id='").append(fieldName).append('\'').toString();
+        item.orderBy = fieldName + ' ' + clause.getDirection().name();
     }
 
     protected void parseOrderByForCustom(
@@ -878,7 +885,7 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         return query.toString();
     }
 
-    private static void fillAttrQuery(
+    private void fillAttrQuery(
             final StringBuilder query,
             final PlainAttrValue attrValue,
             final PlainSchema schema,
@@ -892,12 +899,7 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
                 && !(cond instanceof AnyCond)
                 && cond.getType() != AttrCond.Type.ISNULL && cond.getType() != AttrCond.Type.ISNOTNULL) {
 
-            query.append("any_id NOT IN (SELECT DISTINCT any_id FROM ");
-            if (schema.isUniqueConstraint()) {
-                query.append(svs.asSearchViewSupport().uniqueAttr().name);
-            } else {
-                query.append(svs.asSearchViewSupport().attr().name);
-            }
+            query.append("any_id NOT IN (SELECT DISTINCT any_id FROM ").append(attrView(svs, schema).name);
             query.append(" WHERE schema_id='").append(schema.getKey());
             fillAttrQuery(query, attrValue, schema, cond, false, parameters, svs);
             query.append(')');
@@ -1010,12 +1012,100 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         }
     }
 
+    /**
+     * Finds the materialized derived schema the given condition refers to, if any and if its values were computed
+     * for all existing entities.
+     *
+     * @param cond attribute condition
+     * @return materialized derived schema, or empty if the condition is not about any such schema
+     */
+    protected Optional<DerSchema> materialized(final AttrCond cond) {
+        if (cond instanceof AnyCond || schemaDAO.find(cond.getSchema()) != null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(derSchemaDAO.find(cond.getSchema())).
+                filter(schema -> schema.isMaterialized() && schema.isMaterializationComplete());
+    }
+
+    /**
+     * Builds the query selecting the keys of the entities having materialized values of the given derived schema
+     * matching the given condition; for {@code ISNULL} conditions, this selects the entities having any value, hence
+     * the caller is expected to negate the result, as for any {@code NOT} condition.
+     *
+     * @param schema materialized derived schema
+     * @param cond attribute condition
+     * @param parameters query parameters
+     * @param svs search support
+     * @return query selecting matching entity keys
+     */
+    protected String getMaterializedQuery(
+            final DerSchema schema,
+            final AttrCond cond,
+            final List<Object> parameters,
+            final SearchSupport svs) {
+
+        StringBuilder query = new StringBuilder("SELECT DISTINCT any_id FROM ").
+                append(JPADerSchemaDAO.materializedTable(svs.anyTypeKind)).
+                append(" WHERE schema_id=?").append(setParameter(parameters, schema.getKey()));
+
+        switch (cond.getType()) {
+            case ILIKE:
+                query.append(" AND LOWER(stringvalue) LIKE LOWER(?)");
+                break;
+
+            case LIKE:
+                query.append(" AND stringvalue LIKE ?");
+                break;
+
+            case IEQ:
+                query.append(" AND LOWER(stringvalue)=LOWER(?)");
+                break;
+
+            case EQ:
+                query.append(" AND stringvalue=?");
+                break;
+
+            case GE:
+                query.append(" AND stringvalue>=?");
+                break;
+
+            case GT:
+                query.append(" AND stringvalue>?");
+                break;
+
+            case LE:
+                query.append(" AND stringvalue<=?");
+                break;
+
+            case LT:
+                query.append(" AND stringvalue<?");
+                break;
+
+            case ISNULL:
+            case ISNOTNULL:
+            default:
+                return query.toString();
+        }
+        query.append(setParameter(parameters, cond.getExpression()));
+
+        return query.toString();
+    }
+
     protected String getQuery(
             final AttrCond cond,
             final boolean not,
             final List<Object> parameters,
             final SearchSupport svs) {
 
+        Optional<DerSchema> materialized = materialized(cond);
+        if (materialized.isPresent()) {
+            String query = getMaterializedQuery(materialized.get(), cond, parameters, svs);
+            return not ^ (cond.getType() == AttrCond.Type.ISNULL)
+                    ? "SELECT any_id FROM " + svs.field().name + " WHERE any_id NOT IN (" + query + ')'
+                    : query;
+        }
+
         Pair<PlainSchema, PlainAttrValue> checked;
         try {
             checked = check(cond, svs.anyTypeKind);
@@ -1026,9 +1116,7 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         StringBuilder query = new StringBuilder("SELECT DISTINCT any_id FROM ");
         switch (cond.getType()) {
             case ISNOTNULL:
-                query.append(checked.getLeft().isUniqueConstraint()
-                        ? svs.asSearchViewSupport().uniqueAttr().name
-                        : svs.asSearchViewSupport().attr().name).
+                query.append(attrView(svs, checked.getLeft()).name).
                         append(" WHERE schema_id=").append('\'').append(checked.getLeft().getKey()).append('\'');
                 break;
 
@@ -1037,9 +1125,7 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
                         append(" WHERE any_id NOT IN ").
                         append('(').
                         append("SELECT DISTINCT any_id FROM ").
-                        append(checked.getLeft().isUniqueConstraint()
-                                ? svs.asSearchViewSupport().uniqueAttr().name
-                                : svs.asSearchViewSupport().attr().name).
+                        append(attrView(svs, checked.getLeft()).name).
                         append(" WHERE schema_id=").append('\'').append(checked.getLeft().getKey()).append('\'').
                         append(')');
                 break;
@@ -1048,11 +1134,7 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
                 if (not && !(cond instanceof AnyCond) && checked.getLeft().isMultivalue()) {
                     query.append(svs.field().name).append(" WHERE ");
                 } else {
-                    if (checked.getLeft().isUniqueConstraint()) {
-                        query.append(svs.asSearchViewSupport().uniqueAttr().name);
-                    } else {
-                        query.append(svs.asSearchViewSupport().attr().name);
-                    }
+                    query.append(attrView(svs, checked.getLeft()).name);
                     query.append(" WHERE schema_id='").append(checked.getLeft().getKey());
                 }
                 fillAttrQuery(query, checked.getRight(), checked.getLeft(), cond, not, parameters, svs);
@@ -19,10 +19,14 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.util.Date;
+import java.util.List;
 import javax.persistence.Query;
+import javax.persistence.TypedQuery;
 import org.apache.syncope.core.persistence.api.dao.BatchDAO;
 import org.apache.syncope.core.persistence.api.entity.Batch;
 import org.apache.syncope.core.persistence.jpa.entity.JPABatch;
+import org.apache.syncope.core.persistence.jpa.entity.JPABatchResult;
+import org.apache.syncope.core.spring.security.SecureRandomUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,6 +45,29 @@ public class JPABatchDAO extends AbstractDAO<Batch> implements BatchDAO {
         return entityManager().merge(batch);
     }
 
+    @Override
+    public void saveResults(final String key, final int chunk, final String results) {
+        JPABatchResult batchResult = new JPABatchResult();
+        batchResult.setKey(SecureRandomUtils.generateRandomUUID().toString());
+        batchResult.setBatchKey(key);
+        batchResult.setChunk(chunk);
+        batchResult.setResults(results);
+        entityManager().persist(batchResult);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public String findResults(final String key, final int chunk) {
+        TypedQuery<String> query = entityManager().createQuery(
+                "SELECT e.results FROM " + JPABatchResult.class.getSimpleName() + " e "
+                + "WHERE e.batchKey = :batchKey AND e.chunk = :chunk", String.class);
+        query.setParameter("batchKey", key);
+        query.setParameter("chunk", chunk);
+
+        List<String> result = query.getResultList();
+        return result.isEmpty() ? null : result.get(0);
+    }
+
     @Override
     public void delete(final String key) {
         Batch batch = find(key);
@@ -48,14 +75,27 @@ public class JPABatchDAO extends AbstractDAO<Batch> implements BatchDAO {
             return;
         }
 
+        Query query = entityManager().createQuery(
+                "DELETE FROM " + JPABatchResult.class.getSimpleName() + " e WHERE e.batchKey = :batchKey");
+        query.setParameter("batchKey", key);
+        query.executeUpdate();
+
         entityManager().remove(batch);
     }
 
     @Override
     public int deleteExpired() {
+        Date now = new Date();
+
         Query query = entityManager().createQuery(
+                "DELETE FROM " + JPABatchResult.class.getSimpleName() + " e WHERE e.batchKey IN "
+                + "(SELECT b.id FROM " + JPABatch.class.getSimpleName() + " b WHERE b.expiryTime < :now)");
+        query.setParameter("now", now);
+        query.executeUpdate();
+
+        query = entityManager().createQuery(
                 "DELETE FROM " + JPABatch.class.getSimpleName() + " e WHERE e.expiryTime < :now");
-        query.setParameter("now", new Date());
+        query.setParameter("now", now);
         return query.executeUpdate();
     }
 }
@@ -19,24 +19,82 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.Query;
 import javax.persistence.TypedQuery;
+import org.apache.commons.jexl3.JexlContext;
+import org.apache.commons.jexl3.MapContext;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.jpa.entity.JPADerSchema;
+import org.apache.syncope.core.provisioning.api.jexl.JexlUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public class JPADerSchemaDAO extends AbstractDAO<DerSchema> implements DerSchemaDAO {
 
+    public static final String UMATERIALIZED_TABLE = "UDerAttrValue";
+
+    public static final String GMATERIALIZED_TABLE = "GDerAttrValue";
+
+    public static final String AMATERIALIZED_TABLE = "ADerAttrValue";
+
+    /**
+     * Size of the stringvalue column of materialized tables: longer values are not materialized.
+     */
+    protected static final int MATERIALIZED_VALUE_MAX_LENGTH = 255;
+
+    public static String materializedTable(final AnyTypeKind anyTypeKind) {
+        switch (anyTypeKind) {
+            case GROUP:
+                return GMATERIALIZED_TABLE;
+
+            case ANY_OBJECT:
+                return AMATERIALIZED_TABLE;
+
+            case USER:
+            default:
+                return UMATERIALIZED_TABLE;
+        }
+    }
+
+    /**
+     * Same as {@link AnyDAO#findAllowedSchemas(Any, Class)}, limited to the derived schemas for the given any
+     * object itself, but without requiring a separate transaction.
+     *
+     * @param any user, group or any object
+     * @return materialized derived schemas allowed for the given any object
+     */
+    protected static Set<DerSchema> findMaterializedSchemas(final Any<?> any) {
+        return Stream.concat(any.getType().getClasses().stream(), any.getAuxClasses().stream()).
+                flatMap(anyTypeClass -> anyTypeClass.getDerSchemas().stream()).
+                filter(DerSchema::isMaterialized).
+                collect(Collectors.toSet());
+    }
+
     @Autowired
     @Lazy
     private ExternalResourceDAO resourceDAO;
 
+    @Autowired
+    @Lazy
+    private AnyUtilsFactory anyUtilsFactory;
+
     @Override
     public DerSchema find(final String key) {
         return entityManager().find(JPADerSchema.class, key);
@@ -78,6 +136,124 @@ public class JPADerSchemaDAO extends AbstractDAO<DerSchema> implements DerSchema
         return entityManager().merge(derSchema);
     }
 
+    protected void insertMaterialized(final Any<?> any, final DerSchema schema, final JexlContext jexlContext) {
+        String value = JexlUtils.evaluate(schema.getExpression(), jexlContext);
+        if (StringUtils.isBlank(value)) {
+            return;
+        }
+        if (value.length() > MATERIALIZED_VALUE_MAX_LENGTH) {
+            LOG.warn("Value of {} for {} {} exceeds {} characters, not materializing",
+                    schema.getKey(), any.getType().getKind(), any.getKey(), MATERIALIZED_VALUE_MAX_LENGTH);
+            return;
+        }
+
+        Query insert = entityManager().createNativeQuery(
+                "INSERT INTO " + materializedTable(any.getType().getKind())
+                + "(any_id, schema_id, stringvalue) VALUES(?, ?, ?)");
+        insert.setParameter(1, any.getKey());
+        insert.setParameter(2, schema.getKey());
+        insert.setParameter(3, value);
+        insert.executeUpdate();
+    }
+
+    @Override
+    public boolean hasMaterialized() {
+        TypedQuery<String> query = entityManager().createQuery(
+                "SELECT e.id FROM " + JPADerSchema.class.getSimpleName() + " e WHERE e.materialized=true",
+                String.class);
+        query.setMaxResults(1);
+        return !query.getResultList().isEmpty();
+    }
+
+    @Override
+    public void removeMaterialized(final DerSchema schema) {
+        for (AnyTypeKind anyTypeKind : AnyTypeKind.values()) {
+            Query delete = entityManager().createNativeQuery(
+                    "DELETE FROM " + materializedTable(anyTypeKind) + " WHERE schema_id=?");
+            delete.setParameter(1, schema.getKey());
+            delete.executeUpdate();
+        }
+    }
+
+    @Transactional
+    @Override
+    public int materialize(
+            final String schema,
+            final AnyTypeKind anyTypeKind,
+            final int page,
+            final int itemsPerPage) {
+
+        DerSchema derSchema = find(schema);
+        if (derSchema == null || !derSchema.isMaterialized() || derSchema.getAnyTypeClass() == null) {
+            return 0;
+        }
+
+        List<? extends Any<?>> anys = anyUtilsFactory.getInstance(anyTypeKind).dao().findAll(page, itemsPerPage);
+        anys.stream().filter(any -> findMaterializedSchemas(any).contains(derSchema)).forEach(any -> {
+            // values might have been already computed meanwhile, as the owning entity was saved
+            Query delete = entityManager().createNativeQuery(
+                    "DELETE FROM " + materializedTable(anyTypeKind) + " WHERE any_id=? AND schema_id=?");
+            delete.setParameter(1, any.getKey());
+            delete.setParameter(2, derSchema.getKey());
+            delete.executeUpdate();
+
+            JexlContext jexlContext = new MapContext();
+            JexlUtils.addPlainAttrsToContext(any.getPlainAttrs(), jexlContext);
+            JexlUtils.addFieldsToContext(any, jexlContext);
+
+            insertMaterialized(any, derSchema, jexlContext);
+        });
+
+        return anys.size();
+    }
+
+    @Transactional
+    @Override
+    public void completeMaterialization(final String schema) {
+        DerSchema derSchema = find(schema);
+        if (derSchema != null && derSchema.isMaterialized()) {
+            derSchema.setMaterializationComplete(true);
+        }
+    }
+
+    @Override
+    public void refreshMaterialized(final Any<?> any) {
+        removeMaterialized(any.getType().getKind(), any.getKey());
+
+        Set<DerSchema> schemas = findMaterializedSchemas(any);
+        if (schemas.isEmpty()) {
+            return;
+        }
+
+        JexlContext jexlContext = new MapContext();
+        JexlUtils.addPlainAttrsToContext(any.getPlainAttrs(), jexlContext);
+        JexlUtils.addFieldsToContext(any, jexlContext);
+
+        schemas.forEach(schema -> insertMaterialized(any, schema, jexlContext));
+    }
+
+    @Override
+    public void removeMaterialized(final AnyTypeKind anyTypeKind, final String key) {
+        Query delete = entityManager().createNativeQuery(
+                "DELETE FROM " + materializedTable(anyTypeKind) + " WHERE any_id=?");
+        delete.setParameter(1, key);
+        delete.executeUpdate();
+    }
+
+    @Override
+    public Map<String, String> findMaterialized(final Any<?> any) {
+        Query query = entityManager().createNativeQuery(
+                "SELECT schema_id, stringvalue FROM " + materializedTable(any.getType().getKind())
+                + " WHERE any_id=?");
+        query.setParameter(1, any.getKey());
+
+        Map<String, String> result = new HashMap<>();
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        rows.forEach(row -> result.put(row[0].toString(), row[1].toString()));
+        return result;
+    }
+
     @Override
     public void delete(final String key) {
         final DerSchema schema = find(key);
@@ -87,6 +263,8 @@ public class JPADerSchemaDAO extends AbstractDAO<DerSchema> implements DerSchema
 
         schema.getLabels().forEach(label -> label.setSchema(null));
 
+        removeMaterialized(schema);
+
         resourceDAO.deleteMapping(key);
 
         if (schema.getAnyTypeClass() != null) {
@@ -30,6 +30,7 @@ import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.PolicyDAO;
+import org.apache.syncope.core.persistence.api.dao.PullFingerprintDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
@@ -84,6 +85,9 @@ public class JPAExternalResourceDAO extends AbstractDAO<ExternalResource> implem
     @Autowired
     private RealmDAO realmDAO;
 
+    @Autowired
+    private PullFingerprintDAO pullFingerprintDAO;
+
     @Override
     public int count() {
         Query query = entityManager().createQuery(
@@ -233,6 +237,7 @@ public class JPAExternalResourceDAO extends AbstractDAO<ExternalResource> implem
         taskDAO.deleteAll(resource, TaskType.PROPAGATION);
         taskDAO.deleteAll(resource, TaskType.PULL);
         taskDAO.deleteAll(resource, TaskType.PUSH);
+        pullFingerprintDAO.deleteByResource(resource.getKey());
 
         realmDAO.findByResource(resource).
                 forEach(realm -> realm.getResources().remove(resource));
@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.jpa.dao;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -246,6 +247,11 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
         return findAllKeys(JPAGroup.TABLE, page, itemsPerPage);
     }
 
+    @Override
+    public List<String> findAllKeys(final String after, final int itemsPerPage) {
+        return findAllKeys(JPAGroup.TABLE, after, itemsPerPage);
+    }
+
     private SearchCond buildDynMembershipCond(final String baseCondFIQL, final Realm groupRealm) {
         AssignableCond cond = new AssignableCond();
         cond.setRealmFullPath(groupRealm.getFullPath());
@@ -319,6 +325,9 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
     @Override
     public void delete(final Group group) {
         dynRealmDAO.removeDynMemberships(group.getKey());
+        plainSchemaDAO.removeProjection(AnyTypeKind.GROUP, group.getKey());
+        derSchemaDAO.removeMaterialized(AnyTypeKind.GROUP, group.getKey());
+        pullFingerprintDAO.delete(group.getKey());
 
         findAMemberships(group).forEach(membership -> {
             AnyObject leftEnd = membership.getLeftEnd();
@@ -355,6 +364,7 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
         clearADynMembers(group);
 
         entityManager().remove(group);
+        publishCountDeleted(group);
         publisher.publishEvent(new AnyDeletedEvent(
                 this, AnyTypeKind.GROUP, group.getKey(), group.getName(), AuthContextUtils.getDomain()));
     }
@@ -430,6 +440,39 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
         return ((Number) query.getSingleResult()).intValue();
     }
 
+    protected Map<String, Integer> countByGroup(
+            final String table,
+            final String column,
+            final Collection<String> groupKeys) {
+
+        Map<String, Integer> result = new HashMap<>();
+        findInChunks(
+                "SELECT group_id, COUNT(" + column + ") FROM " + table + " WHERE group_id IN",
+                " GROUP BY group_id",
+                groupKeys).forEach(row -> result.put(row[0].toString(), ((Number) row[1]).intValue()));
+        return result;
+    }
+
+    @Override
+    public Map<String, Integer> countAMembers(final Collection<String> groupKeys) {
+        return countByGroup(JPAAMembership.TABLE, "anyObject_id", groupKeys);
+    }
+
+    @Override
+    public Map<String, Integer> countUMembers(final Collection<String> groupKeys) {
+        return countByGroup(JPAUMembership.TABLE, "user_id", groupKeys);
+    }
+
+    @Override
+    public Map<String, Integer> countADynMembers(final Collection<String> groupKeys) {
+        return countByGroup(ADYNMEMB_TABLE, "any_id", groupKeys);
+    }
+
+    @Override
+    public Map<String, Integer> countUDynMembers(final Collection<String> groupKeys) {
+        return countByGroup(UDYNMEMB_TABLE, "any_id", groupKeys);
+    }
+
     @Override
     public void clearADynMembers(final Group group) {
         Query delete = entityManager().createNativeQuery("DELETE FROM " + ADYNMEMB_TABLE + " WHERE group_id=?");
@@ -20,84 +20,105 @@ package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.sql.Clob;
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
+import javax.sql.DataSource;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.log.AuditEntry;
 import org.apache.syncope.common.lib.types.AuditElements;
+import org.apache.syncope.common.lib.types.AuditLoggerName;
 import org.apache.syncope.common.lib.types.LoggerLevel;
 import org.apache.syncope.common.lib.types.LoggerType;
+import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.dao.LoggerDAO;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.entity.Logger;
 import org.apache.syncope.core.persistence.jpa.entity.JPALogger;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.apache.syncope.core.spring.security.SecureRandomUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
 public class JPALoggerDAO extends AbstractDAO<Logger> implements LoggerDAO {
 
-    protected static class MessageCriteriaBuilder {
+    @Autowired
+    private DomainHolder domainHolder;
 
-        protected final StringBuilder query = new StringBuilder();
+    protected static class AuditCriteriaBuilder {
 
-        protected MessageCriteriaBuilder entityKey(final String entityKey) {
-            if (entityKey == null) {
-                query.append(" 1=1");
-            } else {
-                query.append(' ').append(AUDIT_MESSAGE_COLUMN).append(" LIKE '%key%").append(entityKey).append("%'");
-            }
-            return this;
+        protected final StringBuilder query = new StringBuilder(" 1=1");
+
+        protected final List<Object> parameters = new ArrayList<>();
+
+        protected String parameter(final Object value) {
+            parameters.add(value);
+            return "?" + parameters.size();
         }
 
-        public MessageCriteriaBuilder type(final AuditElements.EventCategoryType type) {
-            if (type != null) {
-                query.append(" AND ").append(AUDIT_MESSAGE_COLUMN).
-                        append(" LIKE '%\"type\":\"").append(type.name()).append("\"%'");
-            }
+        protected AuditCriteriaBuilder condition(final String column, final Object value) {
+            query.append(" AND ").append(column).append('=').append(parameter(value));
             return this;
         }
 
-        public MessageCriteriaBuilder category(final String category) {
-            if (StringUtils.isNotBlank(category)) {
-                query.append(" AND ").append(AUDIT_MESSAGE_COLUMN).
-                        append(" LIKE '%\"category\":\"").append(category).append("\"%'");
-            }
-            return this;
+        public AuditCriteriaBuilder entityKey(final String entityKey) {
+            return entityKey == null ? this : condition(AUDIT_ENTITY_KEY_COLUMN, entityKey);
         }
 
-        public MessageCriteriaBuilder subcategory(final String subcategory) {
-            if (StringUtils.isNotBlank(subcategory)) {
-                query.append(" AND ").append(AUDIT_MESSAGE_COLUMN).
-                        append(" LIKE '%\"subcategory\":\"").append(subcategory).append("\"%'");
-            }
-            return this;
+        public AuditCriteriaBuilder type(final AuditElements.EventCategoryType type) {
+            return type == null ? this : condition(AUDIT_TYPE_COLUMN, type.name());
+        }
+
+        public AuditCriteriaBuilder category(final String category) {
+            return StringUtils.isBlank(category) ? this : condition(AUDIT_CATEGORY_COLUMN, category);
+        }
+
+        public AuditCriteriaBuilder subcategory(final String subcategory) {
+            return StringUtils.isBlank(subcategory) ? this : condition(AUDIT_SUBCATEGORY_COLUMN, subcategory);
         }
 
-        public MessageCriteriaBuilder events(final List<String> events) {
+        public AuditCriteriaBuilder events(final List<String> events) {
             if (!events.isEmpty()) {
-                query.append(" AND ( ").
-                        append(events.stream().
-                                map(event -> AUDIT_MESSAGE_COLUMN + " LIKE '%\"event\":\"" + event + "\"%'").
-                                collect(Collectors.joining(" OR "))).
-                        append(" )");
+                query.append(" AND ").append(AUDIT_EVENT_COLUMN).append(" IN (").
+                        append(events.stream().map(this::parameter).collect(Collectors.joining(","))).
+                        append(')');
             }
             return this;
         }
 
-        public MessageCriteriaBuilder result(final AuditElements.Result result) {
-            if (result != null) {
-                query.append(" AND ").append(AUDIT_MESSAGE_COLUMN).
-                        append(" LIKE '%\"result\":\"").append(result.name()).append("\"%' ");
-            }
+        public AuditCriteriaBuilder result(final AuditElements.Result result) {
+            return result == null ? this : condition(AUDIT_RESULT_COLUMN, result.name());
+        }
+
+        public AuditCriteriaBuilder after(final Date date, final String key) {
+            query.append(" AND (").append(AUDIT_DATE_COLUMN).append('<').append(parameter(date)).
+                    append(" OR (").append(AUDIT_DATE_COLUMN).append('=').append(parameter(date)).
+                    append(" AND ").append(AUDIT_ID_COLUMN).append('<').append(parameter(key)).append("))");
             return this;
         }
 
         public String build() {
             return query.toString();
         }
+
+        public Query setParameters(final Query query) {
+            for (int i = 0; i < parameters.size(); i++) {
+                query.setParameter(i + 1, parameters.get(i));
+            }
+            return query;
+        }
     }
 
     @Override
@@ -137,8 +158,8 @@ public class JPALoggerDAO extends AbstractDAO<Logger> implements LoggerDAO {
         delete(logger);
     }
 
-    protected MessageCriteriaBuilder messageCriteriaBuilder(final String entityKey) {
-        return new MessageCriteriaBuilder().entityKey(entityKey);
+    protected AuditCriteriaBuilder auditCriteriaBuilder(final String entityKey) {
+        return new AuditCriteriaBuilder().entityKey(entityKey);
     }
 
     @Override
@@ -148,15 +169,15 @@ public class JPALoggerDAO extends AbstractDAO<Logger> implements LoggerDAO {
             final String subcategory,
             final List<String> events,
             final AuditElements.Result result) {
-        String queryString = "SELECT COUNT(0) FROM " + AUDIT_TABLE
-                + " WHERE " + messageCriteriaBuilder(entityKey).
-                        type(type).
-                        category(category).
-                        subcategory(subcategory).
-                        result(result).
-                        events(events).
-                        build();
-        Query countQuery = entityManager().createNativeQuery(queryString);
+
+        AuditCriteriaBuilder criteria = auditCriteriaBuilder(entityKey).
+                type(type).
+                category(category).
+                subcategory(subcategory).
+                result(result).
+                events(events);
+        Query countQuery = criteria.setParameters(entityManager().createNativeQuery(
+                "SELECT COUNT(0) FROM " + AUDIT_TABLE + " WHERE " + criteria.build()));
 
         return ((Number) countQuery.getSingleResult()).intValue();
     }
@@ -165,6 +186,24 @@ public class JPALoggerDAO extends AbstractDAO<Logger> implements LoggerDAO {
         return AUDIT_MESSAGE_COLUMN;
     }
 
+    protected List<AuditEntry> toAuditEntries(final List<Object> entries) {
+        return entries.stream().map(row -> {
+            String value;
+            if (row instanceof Clob) {
+                Clob clob = (Clob) row;
+                try {
+                    value = clob.getSubString(1, (int) clob.length());
+                } catch (SQLException e) {
+                    LOG.error("Unexpected error reading Audit Entry", e);
+                    return null;
+                }
+            } else {
+                value = row.toString();
+            }
+            return POJOHelper.deserialize(value, AuditEntry.class);
+        }).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     @Override
     public List<AuditEntry> findAuditEntries(
@@ -178,22 +217,20 @@ public class JPALoggerDAO extends AbstractDAO<Logger> implements LoggerDAO {
             final AuditElements.Result result,
             final List<OrderByClause> orderByClauses) {
 
-        String queryString = "SELECT " + select()
-                + " FROM " + AUDIT_TABLE
-                + " WHERE " + messageCriteriaBuilder(entityKey).
-                        type(type).
-                        category(category).
-                        subcategory(subcategory).
-                        result(result).
-                        events(events).
-                        build();
+        AuditCriteriaBuilder criteria = auditCriteriaBuilder(entityKey).
+                type(type).
+                category(category).
+                subcategory(subcategory).
+                result(result).
+                events(events);
+        String queryString = "SELECT " + select() + " FROM " + AUDIT_TABLE + " WHERE " + criteria.build();
         if (!orderByClauses.isEmpty()) {
             queryString += " ORDER BY " + orderByClauses.stream().
                     map(orderBy -> orderBy.getField() + ' ' + orderBy.getDirection().name()).
                     collect(Collectors.joining(","));
         }
 
-        Query query = entityManager().createNativeQuery(queryString);
+        Query query = criteria.setParameters(entityManager().createNativeQuery(queryString));
         query.setFirstResult(itemsPerPage * (page <= 0 ? 0 : page - 1));
         if (itemsPerPage >= 0) {
             query.setMaxResults(itemsPerPage);
@@ -201,20 +238,230 @@ public class JPALoggerDAO extends AbstractDAO<Logger> implements LoggerDAO {
 
         @SuppressWarnings("unchecked")
         List<Object> entries = query.getResultList();
-        return entries.stream().map(row -> {
-            String value;
-            if (row instanceof Clob) {
-                Clob clob = (Clob) row;
-                try {
-                    value = clob.getSubString(1, (int) clob.length());
-                } catch (SQLException e) {
-                    LOG.error("Unexpected error reading Audit Entry for entity key {}", entityKey, e);
-                    return null;
+        return toAuditEntries(entries);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<AuditEntry> findAuditEntries(
+            final String entityKey,
+            final String after,
+            final int size,
+            final AuditElements.EventCategoryType type,
+            final String category,
+            final String subcategory,
+            final List<String> events,
+            final AuditElements.Result result) {
+
+        AuditCriteriaBuilder criteria = auditCriteriaBuilder(entityKey).
+                type(type).
+                category(category).
+                subcategory(subcategory).
+                result(result).
+                events(events);
+        if (after != null) {
+            Query afterQuery = entityManager().createNativeQuery(
+                    "SELECT " + AUDIT_DATE_COLUMN + " FROM " + AUDIT_TABLE + " WHERE " + AUDIT_ID_COLUMN + "=?1");
+            afterQuery.setParameter(1, after);
+
+            @SuppressWarnings("unchecked")
+            List<Object> afterDate = afterQuery.getResultList();
+            if (afterDate.isEmpty()) {
+                LOG.debug("Audit entry {} not found", after);
+                return List.of();
+            }
+            criteria.after((Date) afterDate.get(0), after);
+        }
+
+        Query query = criteria.setParameters(entityManager().createNativeQuery(
+                "SELECT " + select() + " FROM " + AUDIT_TABLE + " WHERE " + criteria.build()
+                + " ORDER BY " + AUDIT_DATE_COLUMN + " DESC, " + AUDIT_ID_COLUMN + " DESC"));
+        if (size >= 0) {
+            query.setMaxResults(size);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object> entries = query.getResultList();
+        return toAuditEntries(entries);
+    }
+
+    protected static String toString(final Object value) {
+        if (value instanceof Clob) {
+            Clob clob = (Clob) value;
+            try {
+                return clob.getSubString(1, (int) clob.length());
+            } catch (SQLException e) {
+                LOG.error("Unexpected error reading CLOB", e);
+                return null;
+            }
+        }
+        return value == null ? null : value.toString();
+    }
+
+    protected static Optional<String> getKey(final String serialized) {
+        JsonNode node = POJOHelper.deserialize(serialized, JsonNode.class);
+        if (node == null) {
+            return Optional.empty();
+        }
+        if (node.isTextual()) {
+            return Optional.of(node.asText()).filter(key -> SyncopeConstants.UUID_PATTERN.matcher(key).matches());
+        }
+        if (node.path("key").isTextual()) {
+            return Optional.of(node.path("key").asText());
+        }
+        if (node.path("entity").path("key").isTextual()) {
+            return Optional.of(node.path("entity").path("key").asText());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Mirrors the audit manager logic on serialized values, by looking at output, before and inputs in this order.
+     *
+     * @param auditEntry audit entry
+     * @return key of the entity the audit entry refers to, if found
+     */
+    protected static Optional<String> getEntityKey(final AuditEntry auditEntry) {
+        return Stream.concat(
+                Stream.of(auditEntry.getOutput(), auditEntry.getBefore()), auditEntry.getInputs().stream()).
+                filter(Objects::nonNull).
+                map(JPALoggerDAO::getKey).
+                flatMap(Optional::stream).
+                findFirst();
+    }
+
+    protected String insertMessage(final String parameter) {
+        return parameter;
+    }
+
+    /**
+     * @param parameters parameter placeholders, in the order of the audit table columns
+     * @return statement inserting a row into the audit table
+     */
+    protected String insertAuditEntry(final String... parameters) {
+        parameters[11] = insertMessage(parameters[11]);
+        return "INSERT INTO " + AUDIT_TABLE + " (" + AUDIT_DATE_COLUMN + ", " + AUDIT_ID_COLUMN + ", "
+                + AUDIT_WHO_COLUMN + ", " + AUDIT_ENTITY_KEY_COLUMN + ", " + AUDIT_TYPE_COLUMN + ", "
+                + AUDIT_CATEGORY_COLUMN + ", " + AUDIT_SUBCATEGORY_COLUMN + ", " + AUDIT_EVENT_COLUMN + ", "
+                + AUDIT_RESULT_COLUMN + ", LOGGER_LEVEL, LOGGER, " + AUDIT_MESSAGE_COLUMN + ", THROWABLE) "
+                + "VALUES (" + String.join(", ", parameters) + ')';
+    }
+
+    /**
+     * Audit entries are written via JDBC, for inserting them in batches; within a transaction, the JDBC connection is
+     * the same used by the entity manager.
+     */
+    @Transactional
+    @Override
+    public void saveAuditEntries(final List<AuditEntry> auditEntries) {
+        if (auditEntries.isEmpty()) {
+            return;
+        }
+
+        DataSource dataSource = domainHolder.getDomains().get(AuthContextUtils.getDomain());
+        if (dataSource == null) {
+            throw new IllegalStateException("Could not find DataSource for domain " + AuthContextUtils.getDomain());
+        }
+
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        String logger = AuditLoggerName.getAuditLoggerName(AuthContextUtils.getDomain());
+        String[] parameters = new String[13];
+        Arrays.fill(parameters, "?");
+
+        new JdbcTemplate(dataSource).batchUpdate(
+                insertAuditEntry(parameters),
+                auditEntries,
+                auditEntries.size(),
+                (ps, auditEntry) -> {
+                    ps.setTimestamp(1, now);
+                    ps.setString(2, auditEntry.getKey());
+                    ps.setString(3, auditEntry.getWho());
+                    ps.setString(4, getEntityKey(auditEntry).orElse(null));
+                    ps.setString(5, auditEntry.getLogger().getType().name());
+                    ps.setString(6, auditEntry.getLogger().getCategory());
+                    ps.setString(7, auditEntry.getLogger().getSubcategory());
+                    ps.setString(8, auditEntry.getLogger().getEvent());
+                    ps.setString(9, auditEntry.getLogger().getResult().name());
+                    ps.setString(10, LoggerLevel.DEBUG.name());
+                    ps.setString(11, logger);
+                    ps.setString(12, POJOHelper.serialize(auditEntry));
+                    ps.setString(13, auditEntry.getThrowable());
+                });
+    }
+
+    /**
+     * Rows lack a primary key, hence processed rows are deleted and inserted again with their structured columns
+     * populated; rows are processed oldest first, all rows sharing the latest date of the chunk included.
+     */
+    @Transactional
+    @Override
+    public int backfillAuditEntries(final int size) {
+        String where = AUDIT_ID_COLUMN + " IS NULL";
+
+        Query cutoffQuery = entityManager().createNativeQuery(
+                "SELECT " + AUDIT_DATE_COLUMN + " FROM " + AUDIT_TABLE + " WHERE " + where
+                + " ORDER BY " + AUDIT_DATE_COLUMN);
+        cutoffQuery.setFirstResult(Math.max(size, 1) - 1);
+        cutoffQuery.setMaxResults(1);
+        @SuppressWarnings("unchecked")
+        List<Object> cutoff = cutoffQuery.getResultList();
+        if (!cutoff.isEmpty()) {
+            where += " AND " + AUDIT_DATE_COLUMN + "<=?1";
+        }
+
+        Query select = entityManager().createNativeQuery(
+                "SELECT " + AUDIT_DATE_COLUMN + ", LOGGER_LEVEL, LOGGER, " + select() + ", THROWABLE"
+                + " FROM " + AUDIT_TABLE + " WHERE " + where);
+        Query delete = entityManager().createNativeQuery("DELETE FROM " + AUDIT_TABLE + " WHERE " + where);
+        if (!cutoff.isEmpty()) {
+            select.setParameter(1, cutoff.get(0));
+            delete.setParameter(1, cutoff.get(0));
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = select.getResultList();
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        delete.executeUpdate();
+
+        rows.forEach(row -> {
+            String message = toString(row[3]);
+            String key = SecureRandomUtils.generateRandomUUID().toString();
+
+            Query insert = entityManager().createNativeQuery(insertAuditEntry(
+                    "?1", "?2", "?3", "?4", "?5", "?6", "?7", "?8", "?9", "?10", "?11", "?12", "?13"));
+            insert.setParameter(1, row[0]);
+            insert.setParameter(2, key);
+            insert.setParameter(10, row[1]);
+            insert.setParameter(11, row[2]);
+            insert.setParameter(13, toString(row[4]));
+
+            AuditEntry auditEntry = message == null ? null : POJOHelper.deserialize(message, AuditEntry.class);
+            if (auditEntry == null || auditEntry.getLogger() == null) {
+                LOG.warn("Could not parse audit entry, only setting its key: {}", message);
+                for (int i = 3; i <= 9; i++) {
+                    insert.setParameter(i, null);
                 }
+                insert.setParameter(12, message);
             } else {
-                value = row.toString();
+                // also set the key in the message, as required by keyset pagination
+                auditEntry.setKey(key);
+                insert.setParameter(3, auditEntry.getWho());
+                insert.setParameter(4, getEntityKey(auditEntry).orElse(null));
+                insert.setParameter(5, Optional.ofNullable(auditEntry.getLogger().getType()).
+                        map(Enum::name).orElse(null));
+                insert.setParameter(6, auditEntry.getLogger().getCategory());
+                insert.setParameter(7, auditEntry.getLogger().getSubcategory());
+                insert.setParameter(8, auditEntry.getLogger().getEvent());
+                insert.setParameter(9, Optional.ofNullable(auditEntry.getLogger().getResult()).
+                        map(Enum::name).orElse(null));
+                insert.setParameter(12, POJOHelper.serialize(auditEntry));
             }
-            return POJOHelper.deserialize(value, AuditEntry.class);
-        }).filter(Objects::nonNull).collect(Collectors.toList());
+            insert.executeUpdate();
+        });
+
+        return rows.size();
     }
 }
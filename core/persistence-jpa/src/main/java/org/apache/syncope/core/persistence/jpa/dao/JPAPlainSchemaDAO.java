@@ -18,18 +18,24 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import javax.persistence.Query;
+import javax.persistence.TemporalType;
 import javax.persistence.TypedQuery;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainAttrDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.GroupableRelatable;
 import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.anyobject.APlainAttr;
 import org.apache.syncope.core.persistence.api.entity.group.GPlainAttr;
@@ -42,6 +48,48 @@ import org.springframework.context.annotation.Lazy;
 
 public class JPAPlainSchemaDAO extends AbstractDAO<PlainSchema> implements PlainSchemaDAO {
 
+    public static final String UPROJECTION_TABLE = "UPlainAttrProjection";
+
+    public static final String GPROJECTION_TABLE = "GPlainAttrProjection";
+
+    public static final String APROJECTION_TABLE = "APlainAttrProjection";
+
+    public static String projectionTable(final AnyTypeKind anyTypeKind) {
+        switch (anyTypeKind) {
+            case GROUP:
+                return GPROJECTION_TABLE;
+
+            case ANY_OBJECT:
+                return APROJECTION_TABLE;
+
+            case USER:
+            default:
+                return UPROJECTION_TABLE;
+        }
+    }
+
+    private static String projectionColumn(final PlainSchema schema) {
+        switch (schema.getType()) {
+            case Boolean:
+                return "booleanvalue";
+
+            case Date:
+                return "datevalue";
+
+            case Double:
+                return "doublevalue";
+
+            case Long:
+                return "longvalue";
+
+            case Binary:
+                return null;
+
+            default:
+                return "stringvalue";
+        }
+    }
+
     @Autowired
     private AnyUtilsFactory anyUtilsFactory;
 
@@ -125,6 +173,101 @@ public class JPAPlainSchemaDAO extends AbstractDAO<PlainSchema> implements Plain
         return entityManager().merge(schema);
     }
 
+    @Override
+    public boolean hasProjected() {
+        TypedQuery<String> query = entityManager().createQuery(
+                "SELECT e.id FROM " + JPAPlainSchema.class.getSimpleName() + " e WHERE e.projected=true",
+                String.class);
+        query.setMaxResults(1);
+        return !query.getResultList().isEmpty();
+    }
+
+    protected void deleteProjection(final PlainSchema schema) {
+        for (AnyTypeKind anyTypeKind : AnyTypeKind.values()) {
+            Query delete = entityManager().createNativeQuery(
+                    "DELETE FROM " + projectionTable(anyTypeKind) + " WHERE schema_id=?");
+            delete.setParameter(1, schema.getKey());
+            delete.executeUpdate();
+        }
+    }
+
+    @Override
+    public void refreshProjection(final PlainSchema schema) {
+        deleteProjection(schema);
+
+        if (!schema.isProjected()) {
+            return;
+        }
+
+        for (AnyTypeKind anyTypeKind : AnyTypeKind.values()) {
+            SearchViewSupport svs = new SearchViewSupport(anyTypeKind);
+            Query insert = entityManager().createNativeQuery(
+                    "INSERT INTO " + projectionTable(anyTypeKind)
+                    + "(any_id, schema_id, booleanvalue, datevalue, doublevalue, longvalue, stringvalue) "
+                    + "SELECT any_id, schema_id, booleanvalue, datevalue, doublevalue, longvalue, stringvalue "
+                    + "FROM " + (schema.isUniqueConstraint() ? svs.uniqueAttr().name : svs.attr().name)
+                    + " WHERE schema_id=?");
+            insert.setParameter(1, schema.getKey());
+            insert.executeUpdate();
+        }
+    }
+
+    @Override
+    public void refreshProjection(final Any<?> any) {
+        AnyTypeKind anyTypeKind = any.getType().getKind();
+
+        removeProjection(anyTypeKind, any.getKey());
+
+        List<PlainAttr<?>> attrs = new ArrayList<>(any.getPlainAttrs());
+        if (any instanceof GroupableRelatable) {
+            GroupableRelatable<?, ?, ?, ?, ?> groupable = (GroupableRelatable<?, ?, ?, ?, ?>) any;
+            groupable.getMemberships().forEach(membership -> attrs.addAll(groupable.getPlainAttrs(membership)));
+        }
+
+        attrs.stream().filter(attr -> attr.getSchema().isProjected()).forEach(attr -> {
+            String column = projectionColumn(attr.getSchema());
+            if (column == null) {
+                return;
+            }
+
+            List<PlainAttrValue> values = new ArrayList<>();
+            if (attr.getUniqueValue() == null) {
+                values.addAll(attr.getValues());
+            } else {
+                values.add(attr.getUniqueValue());
+            }
+
+            values.forEach(value -> {
+                Query insert = entityManager().createNativeQuery(
+                        "INSERT INTO " + projectionTable(anyTypeKind)
+                        + "(any_id, schema_id, " + column + ") VALUES(?, ?, ?)");
+                insert.setParameter(1, any.getKey());
+                insert.setParameter(2, attr.getSchema().getKey());
+                switch (attr.getSchema().getType()) {
+                    case Boolean:
+                        insert.setParameter(3, BooleanUtils.isTrue(value.getBooleanValue()) ? 1 : 0);
+                        break;
+
+                    case Date:
+                        insert.setParameter(3, value.getDateValue(), TemporalType.TIMESTAMP);
+                        break;
+
+                    default:
+                        insert.setParameter(3, value.<Object>getValue());
+                }
+                insert.executeUpdate();
+            });
+        });
+    }
+
+    @Override
+    public void removeProjection(final AnyTypeKind anyTypeKind, final String key) {
+        Query delete = entityManager().createNativeQuery(
+                "DELETE FROM " + projectionTable(anyTypeKind) + " WHERE any_id=?");
+        delete.setParameter(1, key);
+        delete.executeUpdate();
+    }
+
     protected void deleteAttrs(final PlainSchema schema) {
         for (AnyTypeKind anyTypeKind : AnyTypeKind.values()) {
             findAttrs(schema, anyUtilsFactory.getInstance(anyTypeKind).plainAttrClass()).
@@ -142,6 +285,7 @@ public class JPAPlainSchemaDAO extends AbstractDAO<PlainSchema> implements Plain
         schema.getLabels().forEach(label -> label.setSchema(null));
 
         deleteAttrs(schema);
+        deleteProjection(schema);
 
         resourceDAO.deleteMapping(key);
 
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import java.util.List;
+import javax.persistence.Query;
+import javax.persistence.TypedQuery;
+import org.apache.syncope.core.persistence.api.dao.PullFingerprintDAO;
+import org.apache.syncope.core.persistence.jpa.entity.JPAPullFingerprint;
+import org.apache.syncope.core.spring.security.SecureRandomUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(rollbackFor = Throwable.class)
+@Repository
+public class JPAPullFingerprintDAO extends AbstractDAO<JPAPullFingerprint> implements PullFingerprintDAO {
+
+    private JPAPullFingerprint findEntity(final String resource, final String anyKey) {
+        TypedQuery<JPAPullFingerprint> query = entityManager().createQuery(
+                "SELECT e FROM " + JPAPullFingerprint.class.getSimpleName() + " e "
+                + "WHERE e.resource = :resource AND e.anyKey = :anyKey", JPAPullFingerprint.class);
+        query.setParameter("resource", resource);
+        query.setParameter("anyKey", anyKey);
+
+        List<JPAPullFingerprint> result = query.getResultList();
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public String find(final String resource, final String anyKey) {
+        JPAPullFingerprint pullFingerprint = findEntity(resource, anyKey);
+        return pullFingerprint == null ? null : pullFingerprint.getFingerprint();
+    }
+
+    @Override
+    public void save(final String resource, final String anyKey, final String fingerprint) {
+        JPAPullFingerprint pullFingerprint = findEntity(resource, anyKey);
+        if (pullFingerprint == null) {
+            pullFingerprint = new JPAPullFingerprint();
+            pullFingerprint.setKey(SecureRandomUtils.generateRandomUUID().toString());
+            pullFingerprint.setResource(resource);
+            pullFingerprint.setAnyKey(anyKey);
+            pullFingerprint.setFingerprint(fingerprint);
+            entityManager().persist(pullFingerprint);
+        } else {
+            pullFingerprint.setFingerprint(fingerprint);
+        }
+    }
+
+    @Override
+    public void delete(final String anyKey) {
+        Query query = entityManager().createQuery(
+                "DELETE FROM " + JPAPullFingerprint.class.getSimpleName() + " e WHERE e.anyKey = :anyKey");
+        query.setParameter("anyKey", anyKey);
+        query.executeUpdate();
+    }
+
+    @Override
+    public void deleteByResource(final String resource) {
+        Query query = entityManager().createQuery(
+                "DELETE FROM " + JPAPullFingerprint.class.getSimpleName() + " e WHERE e.resource = :resource");
+        query.setParameter("resource", resource);
+        query.executeUpdate();
+    }
+}
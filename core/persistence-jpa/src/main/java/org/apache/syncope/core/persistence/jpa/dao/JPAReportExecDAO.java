@@ -18,21 +18,50 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Date;
 import java.util.List;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
+import javax.sql.DataSource;
+import org.apache.syncope.common.lib.types.ReportExecStatus;
+import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.dao.ReportExecDAO;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.entity.Report;
 import org.apache.syncope.core.persistence.api.entity.ReportExec;
+import org.apache.syncope.core.persistence.jpa.entity.JPAReport;
 import org.apache.syncope.core.persistence.jpa.entity.JPAReportExec;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ReflectionUtils;
 
 @Repository
-public class JPAReportExecDAO extends AbstractDAO<ReportExec> implements ReportExecDAO {
+public class JPAReportExecDAO extends AbstractExecDAO<ReportExec> implements ReportExecDAO {
+
+    @Autowired
+    private DomainHolder domainHolder;
+
+    /**
+     * Report execution results are read and written via JDBC, for streaming them instead of holding them in memory;
+     * within a transaction, the JDBC connection is the same used by the entity manager.
+     *
+     * @return JDBC template for the current domain
+     */
+    protected JdbcTemplate jdbcTemplate() {
+        DataSource dataSource = domainHolder.getDomains().get(AuthContextUtils.getDomain());
+        if (dataSource == null) {
+            throw new IllegalStateException("Could not find DataSource for domain " + AuthContextUtils.getDomain());
+        }
+        return new JdbcTemplate(dataSource);
+    }
 
     @Override
     public ReportExec find(final String key) {
@@ -128,33 +157,11 @@ public class JPAReportExecDAO extends AbstractDAO<ReportExec> implements ReportE
         StringBuilder queryString = new StringBuilder("SELECT e FROM ").append(JPAReportExec.class.getSimpleName()).
                 append(" e WHERE e.report=:report ");
 
-        if (startedBefore != null) {
-            queryString.append(" AND e.start < :startedBefore");
-        }
-        if (startedAfter != null) {
-            queryString.append(" AND e.start > :startedAfter");
-        }
-        if (endedBefore != null) {
-            queryString.append(" AND e.end < :endedBefore");
-        }
-        if (endedAfter != null) {
-            queryString.append(" AND e.end > :endedAfter");
-        }
+        appendDateConditions(queryString, startedBefore, startedAfter, endedBefore, endedAfter);
 
         TypedQuery<ReportExec> query = entityManager().createQuery(queryString.toString(), ReportExec.class);
         query.setParameter("report", report);
-        if (startedBefore != null) {
-            query.setParameter("startedBefore", startedBefore);
-        }
-        if (startedAfter != null) {
-            query.setParameter("startedAfter", startedAfter);
-        }
-        if (endedBefore != null) {
-            query.setParameter("endedBefore", endedBefore);
-        }
-        if (endedAfter != null) {
-            query.setParameter("endedAfter", endedAfter);
-        }
+        setDateParameters(query, startedBefore, startedAfter, endedBefore, endedAfter);
 
         return query.getResultList();
     }
@@ -165,6 +172,51 @@ public class JPAReportExecDAO extends AbstractDAO<ReportExec> implements ReportE
         return entityManager().merge(execution);
     }
 
+    @Override
+    public boolean hasExecResult(final String key) {
+        TypedQuery<String> query = entityManager().createQuery(
+                "SELECT e.id FROM " + JPAReportExec.class.getSimpleName() + " e "
+                + "WHERE e.id=:key AND e.execResult IS NOT NULL", String.class);
+        query.setParameter("key", key);
+        return !query.getResultList().isEmpty();
+    }
+
+    @Transactional
+    @Override
+    public void storeExecResult(final String key, final InputStream result, final long length) {
+        // the execution might not have been inserted yet
+        entityManager().flush();
+
+        jdbcTemplate().update(
+                "UPDATE " + JPAReportExec.TABLE + " SET execResult=? WHERE id=?",
+                ps -> {
+                    ps.setBinaryStream(1, result, length);
+                    ps.setString(2, key);
+                });
+    }
+
+    @Override
+    public boolean loadExecResult(final String key, final OutputStream out) {
+        return jdbcTemplate().query(
+                "SELECT execResult FROM " + JPAReportExec.TABLE + " WHERE id=?",
+                rs -> {
+                    if (!rs.next()) {
+                        return false;
+                    }
+
+                    try (InputStream in = rs.getBinaryStream(1)) {
+                        if (in == null) {
+                            return false;
+                        }
+                        in.transferTo(out);
+                        return true;
+                    } catch (IOException e) {
+                        throw new DataRetrievalFailureException("While reading result of report execution " + key, e);
+                    }
+                },
+                key);
+    }
+
     @Override
     public void delete(final String key) {
         ReportExec execution = find(key);
@@ -183,4 +235,68 @@ public class JPAReportExecDAO extends AbstractDAO<ReportExec> implements ReportE
 
         entityManager().remove(execution);
     }
+
+    private List<String> delete(final List<String> keys) {
+        if (!keys.isEmpty()) {
+            Query delete = entityManager().createQuery(
+                    "DELETE FROM " + JPAReportExec.class.getSimpleName() + " e WHERE e.id IN :keys");
+            delete.setParameter("keys", keys);
+            delete.executeUpdate();
+
+            // bulk deletes bypass the data cache
+            entityManager().getEntityManagerFactory().getCache().evict(JPAReportExec.class);
+            entityManager().getEntityManagerFactory().getCache().evict(JPAReport.class);
+        }
+
+        return keys;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = Throwable.class)
+    @Override
+    public List<String> delete(
+            final String reportKey,
+            final Date startedBefore,
+            final Date startedAfter,
+            final Date endedBefore,
+            final Date endedAfter,
+            final int max) {
+
+        StringBuilder queryString = new StringBuilder("SELECT e.id FROM ").
+                append(JPAReportExec.class.getSimpleName()).
+                append(" e WHERE e.report.id=:report");
+        appendDateConditions(queryString, startedBefore, startedAfter, endedBefore, endedAfter);
+
+        TypedQuery<String> query = entityManager().createQuery(queryString.toString(), String.class);
+        query.setParameter("report", reportKey);
+        setDateParameters(query, startedBefore, startedAfter, endedBefore, endedAfter);
+        query.setMaxResults(max);
+
+        return delete(query.getResultList());
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = Throwable.class)
+    @Override
+    public List<String> purge(
+            final int keepLast, final Date endedBefore, final Date failedEndedBefore, final int max) {
+
+        StringBuilder queryString = new StringBuilder("SELECT e.id FROM ").
+                append(JPAReportExec.class.getSimpleName()).
+                append(" e WHERE 1=1");
+        appendAgeConditions(queryString, endedBefore, failedEndedBefore);
+        if (keepLast > 0) {
+            // correlated count rather than window functions, not available on all supported DBMSes
+            queryString.append(" AND (SELECT COUNT(o) FROM ").
+                    append(JPAReportExec.class.getSimpleName()).
+                    append(" o WHERE o.report=e.report AND o.start > e.start) >= :keepLast");
+        }
+
+        TypedQuery<String> query = entityManager().createQuery(queryString.toString(), String.class);
+        setAgeParameters(query, ReportExecStatus.SUCCESS.name(), endedBefore, failedEndedBefore);
+        if (keepLast > 0) {
+            query.setParameter("keepLast", (long) keepLast);
+        }
+        query.setMaxResults(max);
+
+        return delete(query.getResultList());
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import javax.persistence.DiscriminatorValue;
 import javax.persistence.ManyToOne;
@@ -49,12 +50,15 @@ import org.apache.syncope.core.persistence.jpa.entity.task.AbstractTask;
 import org.apache.syncope.core.persistence.jpa.entity.task.JPATaskExec;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ReflectionUtils;
 
 @Repository
 public class JPATaskDAO extends AbstractDAO<Task> implements TaskDAO {
 
+    private static final String RECIPIENTS_TABLE = "NotificationTask_recipients";
+
     @Autowired
     private RemediationDAO remediationDAO;
 
@@ -464,6 +468,102 @@ public class JPATaskDAO extends AbstractDAO<Task> implements TaskDAO {
                 stream().map(Entity::getKey).forEach(this::delete);
     }
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = { Throwable.class })
+    @Override
+    public int purge(
+            final TaskType type,
+            final String resource,
+            final String successStatus,
+            final int keepLast,
+            final Date endedBefore,
+            final Date failedEndedBefore,
+            final int max) {
+
+        if (type != TaskType.PROPAGATION && type != TaskType.NOTIFICATION) {
+            throw new IllegalArgumentException("Only propagation and notification tasks can be purged");
+        }
+
+        // tasks are kept while any execution is running or more recent than the given limits
+        StringBuilder recent = new StringBuilder("e.end IS NULL");
+        if (endedBefore != null) {
+            recent.append(" OR (e.status = :successStatus AND e.end >= :endedBefore)");
+        }
+        if (failedEndedBefore != null) {
+            recent.append(" OR ((e.status IS NULL OR e.status <> :successStatus) AND e.end >= :failedEndedBefore)");
+        }
+        if (keepLast > 0) {
+            // same correlated count as TaskExecDAO#purge: tasks having executions to keep are kept
+            recent.append(" OR (SELECT COUNT(o) FROM ").append(JPATaskExec.class.getSimpleName()).
+                    append(" o WHERE o.task=e.task AND o.start > e.start) < :keepLast");
+        }
+
+        StringBuilder queryString = new StringBuilder("SELECT t.id FROM ").
+                append(getEntityReference(type).getSimpleName()).
+                append(" t WHERE EXISTS (SELECT e FROM ").append(JPATaskExec.class.getSimpleName()).
+                append(" e WHERE e.task=t)").
+                append(" AND NOT EXISTS (SELECT e FROM ").append(JPATaskExec.class.getSimpleName()).
+                append(" e WHERE e.task=t AND (").append(recent).append("))");
+        if (type == TaskType.NOTIFICATION) {
+            queryString.append(" AND t.executed=true");
+        } else if (resource != null) {
+            queryString.append(" AND t.resource.id=:resource");
+        }
+
+        TypedQuery<String> query = entityManager().createQuery(queryString.toString(), String.class);
+        if (endedBefore != null || failedEndedBefore != null) {
+            query.setParameter("successStatus", successStatus);
+        }
+        if (endedBefore != null) {
+            query.setParameter("endedBefore", endedBefore);
+        }
+        if (failedEndedBefore != null) {
+            query.setParameter("failedEndedBefore", failedEndedBefore);
+        }
+        if (keepLast > 0) {
+            query.setParameter("keepLast", (long) keepLast);
+        }
+        if (type == TaskType.PROPAGATION && resource != null) {
+            query.setParameter("resource", resource);
+        }
+        query.setMaxResults(max);
+
+        List<String> keys = query.getResultList();
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        Query deleteExecs = entityManager().createQuery(
+                "DELETE FROM " + JPATaskExec.class.getSimpleName() + " e WHERE e.task.id IN :keys");
+        deleteExecs.setParameter("keys", keys);
+        deleteExecs.executeUpdate();
+
+        if (type == TaskType.NOTIFICATION) {
+            StringBuilder deleteRecipients = new StringBuilder("DELETE FROM ").append(RECIPIENTS_TABLE).
+                    append(" WHERE notificationTask_id IN (");
+            for (int i = 1; i <= keys.size(); i++) {
+                deleteRecipients.append(i == 1 ? "" : ",").append('?').append(i);
+            }
+            deleteRecipients.append(')');
+
+            Query delete = entityManager().createNativeQuery(deleteRecipients.toString());
+            for (int i = 0; i < keys.size(); i++) {
+                delete.setParameter(i + 1, keys.get(i));
+            }
+            delete.executeUpdate();
+        }
+
+        Query deleteTasks = entityManager().createQuery(
+                "DELETE FROM " + getEntityReference(type).getSimpleName() + " t WHERE t.id IN :keys");
+        deleteTasks.setParameter("keys", keys);
+        deleteTasks.executeUpdate();
+
+        // bulk deletes bypass the data cache
+        entityManager().getEntityManagerFactory().getCache().evict(JPATaskExec.class);
+        entityManager().getEntityManagerFactory().getCache().evict(getEntityReference(type));
+
+        return keys.size();
+    }
+
     private <T extends Task> List<T> buildResult(final List<Object> raw) {
         List<T> result = new ArrayList<>();
 
@@ -22,19 +22,24 @@ import java.util.Date;
 import java.util.List;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
+import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskExecDAO;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.entity.task.Task;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
+import org.apache.syncope.core.persistence.jpa.entity.task.AbstractTask;
+import org.apache.syncope.core.persistence.jpa.entity.task.JPAPullTask;
+import org.apache.syncope.core.persistence.jpa.entity.task.JPAPushTask;
 import org.apache.syncope.core.persistence.jpa.entity.task.JPATaskExec;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ReflectionUtils;
 
 @Repository
-public class JPATaskExecDAO extends AbstractDAO<TaskExec> implements TaskExecDAO {
+public class JPATaskExecDAO extends AbstractExecDAO<TaskExec> implements TaskExecDAO {
 
     @Autowired
     private TaskDAO taskDAO;
@@ -85,33 +90,11 @@ public class JPATaskExecDAO extends AbstractDAO<TaskExec> implements TaskExecDAO
         StringBuilder queryString = new StringBuilder("SELECT e FROM ").append(JPATaskExec.class.getSimpleName()).
                 append(" e WHERE e.task=:task ");
 
-        if (startedBefore != null) {
-            queryString.append(" AND e.start < :startedBefore");
-        }
-        if (startedAfter != null) {
-            queryString.append(" AND e.start > :startedAfter");
-        }
-        if (endedBefore != null) {
-            queryString.append(" AND e.end < :endedBefore");
-        }
-        if (endedAfter != null) {
-            queryString.append(" AND e.end > :endedAfter");
-        }
+        appendDateConditions(queryString, startedBefore, startedAfter, endedBefore, endedAfter);
 
         TypedQuery<TaskExec> query = entityManager().createQuery(queryString.toString(), TaskExec.class);
         query.setParameter("task", task);
-        if (startedBefore != null) {
-            query.setParameter("startedBefore", startedBefore);
-        }
-        if (startedAfter != null) {
-            query.setParameter("startedAfter", startedAfter);
-        }
-        if (endedBefore != null) {
-            query.setParameter("endedBefore", endedBefore);
-        }
-        if (endedAfter != null) {
-            query.setParameter("endedAfter", endedAfter);
-        }
+        setDateParameters(query, startedBefore, startedAfter, endedBefore, endedAfter);
 
         return query.getResultList();
     }
@@ -195,4 +178,87 @@ public class JPATaskExecDAO extends AbstractDAO<TaskExec> implements TaskExecDAO
 
         entityManager().remove(execution);
     }
+
+    private int delete(final List<String> keys, final Class<? extends Task> reference) {
+        if (!keys.isEmpty()) {
+            Query delete = entityManager().createQuery(
+                    "DELETE FROM " + JPATaskExec.class.getSimpleName() + " e WHERE e.id IN :keys");
+            delete.setParameter("keys", keys);
+            delete.executeUpdate();
+
+            // bulk deletes bypass the data cache
+            entityManager().getEntityManagerFactory().getCache().evict(JPATaskExec.class);
+            entityManager().getEntityManagerFactory().getCache().evict(reference);
+        }
+
+        return keys.size();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = { Throwable.class })
+    @Override
+    public int delete(
+            final String taskKey,
+            final Date startedBefore,
+            final Date startedAfter,
+            final Date endedBefore,
+            final Date endedAfter,
+            final int max) {
+
+        StringBuilder queryString = new StringBuilder("SELECT e.id FROM ").
+                append(JPATaskExec.class.getSimpleName()).
+                append(" e WHERE e.task.id=:task");
+        appendDateConditions(queryString, startedBefore, startedAfter, endedBefore, endedAfter);
+
+        TypedQuery<String> query = entityManager().createQuery(queryString.toString(), String.class);
+        query.setParameter("task", taskKey);
+        setDateParameters(query, startedBefore, startedAfter, endedBefore, endedAfter);
+        query.setMaxResults(max);
+
+        return delete(query.getResultList(), AbstractTask.class);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = { Throwable.class })
+    @Override
+    public int purge(
+            final TaskType type,
+            final String resource,
+            final String successStatus,
+            final int keepLast,
+            final Date endedBefore,
+            final Date failedEndedBefore,
+            final int max) {
+
+        StringBuilder queryString = new StringBuilder("SELECT e.id FROM ").
+                append(JPATaskExec.class.getSimpleName()).
+                append(" e WHERE e.task.id IN (SELECT t.id FROM ").
+                append(taskDAO.getEntityReference(type).getSimpleName()).append(" t");
+        if (type == TaskType.SCHEDULED) {
+            queryString.append(" WHERE t.id NOT IN (SELECT p.id FROM ").
+                    append(JPAPushTask.class.getSimpleName()).append(" p)").
+                    append(" AND t.id NOT IN (SELECT p.id FROM ").
+                    append(JPAPullTask.class.getSimpleName()).append(" p)");
+        } else if (resource != null) {
+            queryString.append(" WHERE t.resource.id=:resource");
+        }
+        queryString.append(')');
+        appendAgeConditions(queryString, endedBefore, failedEndedBefore);
+        if (keepLast > 0) {
+            // correlated count rather than window functions, not available on all supported DBMSes
+            queryString.append(" AND (SELECT COUNT(o) FROM ").
+                    append(JPATaskExec.class.getSimpleName()).
+                    append(" o WHERE o.task=e.task AND o.start > e.start) >= :keepLast");
+        }
+
+        TypedQuery<String> query = entityManager().createQuery(queryString.toString(), String.class);
+        if (type != TaskType.SCHEDULED && resource != null) {
+            query.setParameter("resource", resource);
+        }
+        setAgeParameters(query, successStatus, endedBefore, failedEndedBefore);
+        if (keepLast > 0) {
+            query.setParameter("keepLast", (long) keepLast);
+        }
+        query.setMaxResults(max);
+
+        return delete(query.getResultList(), taskDAO.getEntityReference(type));
+    }
 }
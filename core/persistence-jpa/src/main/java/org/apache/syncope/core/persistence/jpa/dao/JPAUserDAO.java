@@ -262,6 +262,11 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         return findAllKeys(JPAUser.TABLE, page, itemsPerPage);
     }
 
+    @Override
+    public List<String> findAllKeys(final String after, final int itemsPerPage) {
+        return findAllKeys(JPAUser.TABLE, after, itemsPerPage);
+    }
+
     protected List<AccountPolicy> getAccountPolicies(final User user) {
         List<AccountPolicy> policies = new ArrayList<>();
 
@@ -439,6 +444,9 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         roleDAO.removeDynMemberships(user.getKey());
         groupDAO.removeDynMemberships(user);
         dynRealmDAO.removeDynMemberships(user.getKey());
+        plainSchemaDAO.removeProjection(AnyTypeKind.USER, user.getKey());
+        derSchemaDAO.removeMaterialized(AnyTypeKind.USER, user.getKey());
+        pullFingerprintDAO.delete(user.getKey());
 
         AccessToken accessToken = accessTokenDAO.findByOwner(user.getUsername());
         if (accessToken != null) {
@@ -446,6 +454,7 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         }
 
         entityManager().remove(user);
+        publishCountDeleted(user);
         publisher.publishEvent(new AnyDeletedEvent(
                 this, AnyTypeKind.USER, user.getKey(), user.getUsername(), AuthContextUtils.getDomain()));
     }
@@ -483,6 +492,12 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         return result;
     }
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Override
+    public Map<String, List<String>> findDynRoleKeys(final Collection<String> keys) {
+        return findByKeys(JPARoleDAO.DYNMEMB_TABLE, "any_id", "role_id", keys);
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
     @Override
     @SuppressWarnings("unchecked")
@@ -506,6 +521,12 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         return result;
     }
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Override
+    public Map<String, List<String>> findDynGroupKeys(final Collection<String> keys) {
+        return findByKeys(JPAGroupDAO.UDYNMEMB_TABLE, "any_id", "group_id", keys);
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
     @Override
     public Collection<Group> findAllGroups(final User user) {
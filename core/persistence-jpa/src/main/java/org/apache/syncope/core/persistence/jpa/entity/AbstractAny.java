@@ -24,8 +24,10 @@ import javax.persistence.Column;
 import javax.persistence.FetchType;
 import javax.persistence.ManyToOne;
 import javax.persistence.MappedSuperclass;
+import javax.persistence.PostLoad;
 import javax.persistence.Temporal;
 import javax.persistence.TemporalType;
+import javax.persistence.Transient;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.Realm;
@@ -72,6 +74,18 @@ public abstract class AbstractAny<P extends PlainAttr<?>> extends AbstractGenera
     @Column(nullable = true)
     private String status;
 
+    /**
+     * Realm full path as last counted, null if never counted.
+     */
+    @Transient
+    private String countedRealm;
+
+    /**
+     * Status as last counted.
+     */
+    @Transient
+    private String countedStatus;
+
     @Override
     public String getCreator() {
         return creator;
@@ -158,4 +172,22 @@ public abstract class AbstractAny<P extends PlainAttr<?>> extends AbstractGenera
     public void setStatus(final String status) {
         this.status = status;
     }
+
+    /**
+     * Takes note of the current realm and status, as reflected by counters: invoked when loaded from the internal
+     * storage, and whenever changes are published.
+     */
+    @PostLoad
+    public void counted() {
+        countedRealm = Optional.ofNullable(realm).map(JPARealm::getFullPath).orElse(null);
+        countedStatus = status;
+    }
+
+    public String getCountedRealm() {
+        return countedRealm;
+    }
+
+    public String getCountedStatus() {
+        return countedStatus;
+    }
 }
@@ -20,9 +20,7 @@ package org.apache.syncope.core.persistence.jpa.entity;
 
 import java.util.Date;
 import java.util.Optional;
-
 import javax.persistence.Entity;
-import javax.persistence.Lob;
 import javax.persistence.Table;
 import javax.persistence.Temporal;
 import javax.persistence.TemporalType;
@@ -39,8 +37,9 @@ public class JPABatch extends AbstractProvidedKeyEntity implements Batch {
     @Temporal(TemporalType.TIMESTAMP)
     private Date expiryTime;
 
-    @Lob
-    private String results;
+    private int total;
+
+    private int processed;
 
     @Override
     public Date getExpiryTime() {
@@ -57,12 +56,22 @@ public class JPABatch extends AbstractProvidedKeyEntity implements Batch {
     }
 
     @Override
-    public String getResults() {
-        return results;
+    public int getTotal() {
+        return total;
+    }
+
+    @Override
+    public void setTotal(final int total) {
+        this.total = total;
+    }
+
+    @Override
+    public int getProcessed() {
+        return processed;
     }
 
     @Override
-    public void setResults(final String results) {
-        this.results = results;
+    public void setProcessed(final int processed) {
+        this.processed = processed;
     }
 }
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+/**
+ * Results of a chunk of items of a {@link JPABatch}, stored separately so that batch results can be written and read
+ * incrementally.
+ */
+@Entity
+@Table(name = JPABatchResult.TABLE, uniqueConstraints =
+        @UniqueConstraint(columnNames = { "batchKey", "chunk" }))
+public class JPABatchResult extends AbstractGeneratedKeyEntity {
+
+    private static final long serialVersionUID = -5093017375694227312L;
+
+    public static final String TABLE = "SyncopeBatchResult";
+
+    @Column(nullable = false)
+    private String batchKey;
+
+    private int chunk;
+
+    @Lob
+    private String results;
+
+    public String getBatchKey() {
+        return batchKey;
+    }
+
+    public void setBatchKey(final String batchKey) {
+        this.batchKey = batchKey;
+    }
+
+    public int getChunk() {
+        return chunk;
+    }
+
+    public void setChunk(final int chunk) {
+        this.chunk = chunk;
+    }
+
+    public String getResults() {
+        return results;
+    }
+
+    public void setResults(final String results) {
+        this.results = results;
+    }
+}
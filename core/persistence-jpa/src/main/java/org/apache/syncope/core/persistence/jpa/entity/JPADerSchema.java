@@ -24,6 +24,7 @@ import javax.persistence.OneToOne;
 import javax.persistence.PrimaryKeyJoinColumn;
 import javax.persistence.Table;
 import javax.validation.constraints.NotNull;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
@@ -43,6 +44,10 @@ public class JPADerSchema extends AbstractSchema implements DerSchema {
     @NotNull
     private String expression;
 
+    private Boolean materialized = false;
+
+    private Boolean materializationComplete = false;
+
     @Override
     public AnyTypeClass getAnyTypeClass() {
         return anyTypeClass;
@@ -64,6 +69,26 @@ public class JPADerSchema extends AbstractSchema implements DerSchema {
         this.expression = expression;
     }
 
+    @Override
+    public boolean isMaterialized() {
+        return BooleanUtils.isTrue(materialized);
+    }
+
+    @Override
+    public void setMaterialized(final boolean materialized) {
+        this.materialized = materialized;
+    }
+
+    @Override
+    public boolean isMaterializationComplete() {
+        return BooleanUtils.isTrue(materializationComplete);
+    }
+
+    @Override
+    public void setMaterializationComplete(final boolean materializationComplete) {
+        this.materializationComplete = materializationComplete;
+    }
+
     @Override
     public AttrSchemaType getType() {
         return AttrSchemaType.String;
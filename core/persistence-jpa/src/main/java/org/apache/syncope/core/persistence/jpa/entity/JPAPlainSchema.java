@@ -29,6 +29,7 @@ import javax.persistence.PrimaryKeyJoinColumn;
 import javax.persistence.Table;
 import javax.persistence.Transient;
 import javax.validation.constraints.NotNull;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.apache.syncope.common.lib.types.IdRepoImplementationType;
@@ -66,6 +67,8 @@ public class JPAPlainSchema extends AbstractSchema implements PlainSchema {
 
     private Boolean readonly = false;
 
+    private Boolean projected = false;
+
     @Column(nullable = true)
     private String conversionPattern;
 
@@ -154,6 +157,16 @@ public class JPAPlainSchema extends AbstractSchema implements PlainSchema {
         this.readonly = readonly;
     }
 
+    @Override
+    public boolean isProjected() {
+        return BooleanUtils.isTrue(projected);
+    }
+
+    @Override
+    public void setProjected(final boolean projected) {
+        this.projected = projected;
+    }
+
     public Validator validator() {
         if (validatorImpl != null) {
             return validatorImpl;
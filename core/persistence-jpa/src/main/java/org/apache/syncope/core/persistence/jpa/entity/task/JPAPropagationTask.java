@@ -27,6 +27,7 @@ import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.Lob;
 import javax.persistence.ManyToOne;
+import javax.persistence.Transient;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ResourceOperation;
@@ -64,11 +65,20 @@ public class JPAPropagationTask extends AbstractTask implements PropagationTask
     private String oldConnObjectKey;
 
     /**
-     * Attributes to be propagated.
+     * Attributes to be propagated, as plain or compressed JSON.
      */
     @Lob
     private String attributes;
 
+    /**
+     * Attributes deserialized from {@link #attributes}, reused as long as the latter is not changed.
+     */
+    @Transient
+    private Attribute[] deserializedAttributes;
+
+    @Transient
+    private String deserializedFrom;
+
     private String objectClassName;
 
     @Enumerated(EnumType.STRING)
@@ -106,14 +116,20 @@ public class JPAPropagationTask extends AbstractTask implements PropagationTask
 
     @Override
     public String getSerializedAttributes() {
-        return this.attributes;
+        return POJOHelper.decompress(this.attributes);
     }
 
     @Override
     public Set<Attribute> getAttributes() {
         Set<Attribute> result = new HashSet<>();
         if (StringUtils.isNotBlank(this.attributes)) {
-            result.addAll(List.of(POJOHelper.deserialize(this.attributes, Attribute[].class)));
+            if (deserializedAttributes == null || this.attributes != deserializedFrom) {
+                deserializedAttributes = POJOHelper.deserializeCompressed(this.attributes, Attribute[].class);
+                deserializedFrom = this.attributes;
+            }
+            if (deserializedAttributes != null) {
+                result.addAll(List.of(deserializedAttributes));
+            }
         }
 
         return result;
@@ -121,7 +137,9 @@ public class JPAPropagationTask extends AbstractTask implements PropagationTask
 
     @Override
     public void setAttributes(final Set<Attribute> attributes) {
-        this.attributes = POJOHelper.serialize(attributes);
+        this.attributes = POJOHelper.serializeCompressed(attributes);
+        this.deserializedAttributes = attributes == null ? null : attributes.toArray(Attribute[]::new);
+        this.deserializedFrom = this.attributes;
     }
 
     @Override
@@ -35,6 +35,7 @@ import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 import javax.persistence.UniqueConstraint;
 import javax.validation.constraints.NotNull;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.syncope.common.lib.types.IdMImplementationType;
 import org.apache.syncope.common.lib.types.PullMode;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
@@ -77,6 +78,8 @@ public class JPAPullTask extends AbstractProvisioningTask implements PullTask {
     @NotNull
     private Boolean remediation = false;
 
+    private Boolean skipUnchanged = false;
+
     @Override
     public PullMode getPullMode() {
         return pullMode;
@@ -149,4 +152,14 @@ public class JPAPullTask extends AbstractProvisioningTask implements PullTask {
     public boolean isRemediation() {
         return remediation;
     }
+
+    @Override
+    public void setSkipUnchanged(final boolean skipUnchanged) {
+        this.skipUnchanged = skipUnchanged;
+    }
+
+    @Override
+    public boolean isSkipUnchanged() {
+        return BooleanUtils.isTrue(skipUnchanged);
+    }
 }
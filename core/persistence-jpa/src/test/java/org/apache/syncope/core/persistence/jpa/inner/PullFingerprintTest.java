@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.inner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.PullFingerprintDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional("Master")
+public class PullFingerprintTest extends AbstractTest {
+
+    @Autowired
+    private PullFingerprintDAO pullFingerprintDAO;
+
+    @Autowired
+    private UserDAO userDAO;
+
+    @Autowired
+    private ExternalResourceDAO resourceDAO;
+
+    @Test
+    public void saveAndDelete() {
+        String anyKey = "1417acbe-cbf6-4277-9372-e75e04f97000";
+        assertNull(pullFingerprintDAO.find("resource-ldap", anyKey));
+
+        pullFingerprintDAO.save("resource-ldap", anyKey, "fingerprint1");
+        pullFingerprintDAO.save("resource-csv", anyKey, "fingerprint2");
+        entityManager().flush();
+        assertEquals("fingerprint1", pullFingerprintDAO.find("resource-ldap", anyKey));
+        assertEquals("fingerprint2", pullFingerprintDAO.find("resource-csv", anyKey));
+
+        pullFingerprintDAO.save("resource-ldap", anyKey, "fingerprint3");
+        entityManager().flush();
+        assertEquals("fingerprint3", pullFingerprintDAO.find("resource-ldap", anyKey));
+
+        pullFingerprintDAO.delete(anyKey);
+        assertNull(pullFingerprintDAO.find("resource-ldap", anyKey));
+        assertNull(pullFingerprintDAO.find("resource-csv", anyKey));
+    }
+
+    @Test
+    public void deleteByResource() {
+        String anyKey = "1417acbe-cbf6-4277-9372-e75e04f97000";
+        pullFingerprintDAO.save("resource-ldap", anyKey, "fingerprint1");
+        pullFingerprintDAO.save("resource-csv", anyKey, "fingerprint2");
+        entityManager().flush();
+
+        pullFingerprintDAO.deleteByResource("resource-csv");
+        assertEquals("fingerprint1", pullFingerprintDAO.find("resource-ldap", anyKey));
+        assertNull(pullFingerprintDAO.find("resource-csv", anyKey));
+    }
+
+    @Test
+    public void deleteWithUser() {
+        String anyKey = "b3cbc78d-32e6-4bd4-92e0-bbe07566a2ee";
+        pullFingerprintDAO.save("resource-ldap", anyKey, "fingerprint1");
+        entityManager().flush();
+
+        userDAO.delete(anyKey);
+        entityManager().flush();
+        assertNull(pullFingerprintDAO.find("resource-ldap", anyKey));
+    }
+
+    @Test
+    public void deleteWithResource() {
+        String anyKey = "1417acbe-cbf6-4277-9372-e75e04f97000";
+        pullFingerprintDAO.save("ws-target-resource-2", anyKey, "fingerprint1");
+        entityManager().flush();
+
+        resourceDAO.delete("ws-target-resource-2");
+        entityManager().flush();
+        assertNull(pullFingerprintDAO.find("ws-target-resource-2", anyKey));
+    }
+}
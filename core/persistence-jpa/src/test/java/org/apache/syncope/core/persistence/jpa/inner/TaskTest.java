@@ -125,6 +125,19 @@ public class TaskTest extends AbstractTest {
 
         PropagationTask actual = taskDAO.find(task.getKey());
         assertEquals(task, actual);
+        assertEquals(attributes, actual.getAttributes());
+        assertTrue(actual.getSerializedAttributes().startsWith("["));
+    }
+
+    @Test
+    public void readPlainJSONAttributes() {
+        PropagationTask task = taskDAO.find("1e697572-b896-484c-ae7f-0c8f63fcbc6c");
+        assertNotNull(task);
+
+        Set<Attribute> attributes = task.getAttributes();
+        assertEquals(4, attributes.size());
+        assertTrue(attributes.stream().anyMatch(attr -> "fullname".equals(attr.getName())));
+        assertTrue(task.getSerializedAttributes().startsWith("["));
     }
 
     @Test
@@ -96,6 +96,19 @@ public class UserTest extends AbstractTest {
         assertEquals(users.size(), userKeys.size());
     }
 
+    @Test
+    public void findAllKeysAfter() {
+        List<String> userKeys = userDAO.findAllKeys(1, 100);
+
+        List<String> first = userDAO.findAllKeys(null, 2);
+        assertEquals(userKeys.subList(0, 2), first);
+
+        List<String> next = userDAO.findAllKeys(first.get(1), 100);
+        assertEquals(userKeys.subList(2, userKeys.size()), next);
+
+        assertTrue(userDAO.findAllKeys(userKeys.get(userKeys.size() - 1), 100).isEmpty());
+    }
+
     @Test
     public void count() {
         int count = userDAO.count();
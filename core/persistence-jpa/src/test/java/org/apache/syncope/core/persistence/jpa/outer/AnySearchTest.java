@@ -19,32 +19,42 @@
 package org.apache.syncope.core.persistence.jpa.outer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.SyncopeClientException;
+import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
+import org.apache.syncope.core.persistence.api.dao.AnyTypeClassDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.RoleDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
 import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.dao.search.RoleCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.user.DynRoleMembership;
 import org.apache.syncope.core.persistence.api.entity.Role;
 import org.apache.syncope.core.persistence.api.entity.group.GPlainAttr;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.entity.user.UPlainAttr;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
@@ -67,6 +77,15 @@ public class AnySearchTest extends AbstractTest {
     @Autowired
     private PlainSchemaDAO plainSchemaDAO;
 
+    @Autowired
+    private DerSchemaDAO derSchemaDAO;
+
+    @Autowired
+    private AnyTypeClassDAO anyTypeClassDAO;
+
+    @Autowired
+    private UserDAO userDAO;
+
     @Test
     public void searchByDynMembership() {
         // 1. create role with dynamic membership
@@ -185,4 +204,184 @@ public class AnySearchTest extends AbstractTest {
         assertEquals(1, matching.size());
         assertEquals(group.getKey(), matching.get(0).getKey());
     }
+
+    @Tag("plainAttrTable")
+    @Test
+    public void searchByProjectedSchema() {
+        AttrCond firstnameCond = new AttrCond(AttrCond.Type.ILIKE);
+        firstnameCond.setSchema("firstname");
+        firstnameCond.setExpression("%i%");
+
+        OrderByClause orderByClause = new OrderByClause();
+        orderByClause.setField("firstname");
+        orderByClause.setDirection(OrderByClause.Direction.ASC);
+
+        List<User> beforeUsers = searchDAO.search(
+                SyncopeConstants.FULL_ADMIN_REALMS, SearchCond.getLeaf(firstnameCond), 1, 100,
+                List.of(orderByClause), AnyTypeKind.USER);
+        List<String> before = beforeUsers.stream().map(User::getKey).collect(Collectors.toList());
+        assertFalse(before.isEmpty());
+
+        assertFalse(plainSchemaDAO.hasProjected());
+
+        // 1. project existing values
+        PlainSchema firstname = plainSchemaDAO.find("firstname");
+        firstname.setProjected(true);
+        firstname = plainSchemaDAO.save(firstname);
+        assertTrue(plainSchemaDAO.hasProjected());
+        plainSchemaDAO.refreshProjection(firstname);
+
+        entityManager().flush();
+
+        List<User> afterUsers = searchDAO.search(
+                SyncopeConstants.FULL_ADMIN_REALMS, SearchCond.getLeaf(firstnameCond), 1, 100,
+                List.of(orderByClause), AnyTypeKind.USER);
+        List<String> after = afterUsers.stream().map(User::getKey).collect(Collectors.toList());
+        assertEquals(before, after);
+
+        // 2. projected values are kept in sync on save
+        PlainSchema title = plainSchemaDAO.find("title");
+        title.setProjected(true);
+        title = plainSchemaDAO.save(title);
+        plainSchemaDAO.refreshProjection(title);
+
+        Group group = groupDAO.findByName("root");
+        GPlainAttr attr = entityFactory.newEntity(GPlainAttr.class);
+        attr.setOwner(group);
+        attr.setSchema(title);
+        attr.add("projected group", anyUtilsFactory.getInstance(AnyTypeKind.GROUP));
+        group.add(attr);
+        groupDAO.save(group);
+
+        entityManager().flush();
+
+        AttrCond titleCond = new AttrCond(AttrCond.Type.EQ);
+        titleCond.setSchema("title");
+        titleCond.setExpression("projected group");
+
+        List<Group> matching = searchDAO.search(SearchCond.getLeaf(titleCond), AnyTypeKind.GROUP);
+        assertEquals(1, matching.size());
+        assertEquals(group.getKey(), matching.get(0).getKey());
+    }
+
+    @Test
+    public void searchNotByProjectedSchema() {
+        PlainSchema firstname = plainSchemaDAO.find("firstname");
+        firstname.setProjected(true);
+        firstname = plainSchemaDAO.save(firstname);
+        plainSchemaDAO.refreshProjection(firstname);
+
+        entityManager().flush();
+
+        AttrCond firstnameCond = new AttrCond(AttrCond.Type.EQ);
+        firstnameCond.setSchema("firstname");
+        firstnameCond.setExpression("Gioacchino");
+
+        List<User> matching = searchDAO.search(SearchCond.getLeaf(firstnameCond), AnyTypeKind.USER);
+        assertEquals(1, matching.size());
+
+        // users without firstname, as puccini, must match the negated condition
+        List<User> notMatching = searchDAO.search(SearchCond.getNotLeaf(firstnameCond), AnyTypeKind.USER);
+        assertEquals(userDAO.count() - 1, notMatching.size());
+        assertTrue(notMatching.stream().anyMatch(user -> "823074dc-d280-436d-a7dd-07399fae48ec".equals(user.getKey())));
+        assertFalse(notMatching.stream().anyMatch(user -> matching.get(0).getKey().equals(user.getKey())));
+    }
+
+    @Test
+    public void searchIEQByProjectedLongSchema() {
+        PlainSchema aLong = plainSchemaDAO.find("aLong");
+        aLong.setProjected(true);
+        aLong = plainSchemaDAO.save(aLong);
+        plainSchemaDAO.refreshProjection(aLong);
+
+        User user = userDAO.findByUsername("bellini");
+        user.add(anyTypeClassDAO.find("other"));
+
+        UPlainAttr attr = entityFactory.newEntity(UPlainAttr.class);
+        attr.setOwner(user);
+        attr.setSchema(aLong);
+        attr.add("4200", anyUtilsFactory.getInstance(AnyTypeKind.USER));
+        user.add(attr);
+        userDAO.save(user);
+
+        entityManager().flush();
+
+        // case does not matter on Long values, hence IEQ behaves as EQ
+        AttrCond aLongCond = new AttrCond(AttrCond.Type.IEQ);
+        aLongCond.setSchema("aLong");
+        aLongCond.setExpression("4200");
+
+        List<User> matching = searchDAO.search(SearchCond.getLeaf(aLongCond), AnyTypeKind.USER);
+        assertEquals(1, matching.size());
+        assertEquals(user.getKey(), matching.get(0).getKey());
+    }
+
+    @Test
+    public void searchByMaterializedDerSchema() {
+        AttrCond cnCond = new AttrCond(AttrCond.Type.EQ);
+        cnCond.setSchema("cn");
+        cnCond.setExpression("Vivaldi, Antonio");
+
+        // not materialized: derived schemas cannot be used in search conditions
+        assertTrue(searchDAO.search(SearchCond.getLeaf(cnCond), AnyTypeKind.USER).isEmpty());
+
+        // 1. materialize existing values, two users at a time
+        DerSchema cn = derSchemaDAO.find("cn");
+        assertFalse(derSchemaDAO.hasMaterialized());
+        cn.setMaterialized(true);
+        cn = derSchemaDAO.save(cn);
+        entityManager().flush();
+        assertTrue(derSchemaDAO.hasMaterialized());
+
+        int page = 1;
+        while (derSchemaDAO.materialize(cn.getKey(), AnyTypeKind.USER, page++, 2) == 2) {
+            entityManager().flush();
+        }
+        assertEquals((userDAO.count() / 2) + 1, page - 1);
+
+        entityManager().flush();
+
+        // materialization not complete yet: values are not used for search and correlation
+        assertFalse(cn.isMaterializationComplete());
+        assertTrue(searchDAO.search(SearchCond.getLeaf(cnCond), AnyTypeKind.USER).isEmpty());
+
+        derSchemaDAO.completeMaterialization(cn.getKey());
+        entityManager().flush();
+        assertTrue(derSchemaDAO.find(cn.getKey()).isMaterializationComplete());
+
+        List<User> matching = searchDAO.search(SearchCond.getLeaf(cnCond), AnyTypeKind.USER);
+        assertEquals(1, matching.size());
+        User vivaldi = matching.get(0);
+        assertEquals("Vivaldi, Antonio", derSchemaDAO.findMaterialized(vivaldi).get("cn"));
+
+        cnCond.setType(AttrCond.Type.ILIKE);
+        cnCond.setExpression("vivaldi%");
+        assertEquals(1, searchDAO.search(SearchCond.getLeaf(cnCond), AnyTypeKind.USER).size());
+
+        int notMatching = searchDAO.count(
+                SyncopeConstants.FULL_ADMIN_REALMS, SearchCond.getNotLeaf(cnCond), AnyTypeKind.USER);
+        assertEquals(userDAO.count() - 1, notMatching);
+
+        List<User> correlated = userDAO.findByDerAttrValue(cn, "VIVALDI, ANTONIO", true);
+        assertEquals(1, correlated.size());
+        assertEquals(vivaldi, correlated.get(0));
+
+        // 2. materialized values are kept in sync on save
+        vivaldi.getPlainAttr("firstname").get().getValues().get(0).setStringValue("Giovanni");
+        userDAO.save(vivaldi);
+
+        entityManager().flush();
+
+        assertTrue(userDAO.findByDerAttrValue(cn, "Vivaldi, Antonio", false).isEmpty());
+        assertEquals(1, userDAO.findByDerAttrValue(cn, "Vivaldi, Giovanni", false).size());
+
+        // 3. no longer materialized: values are removed and not computed any more
+        cn.setMaterialized(false);
+        cn = derSchemaDAO.save(cn);
+        derSchemaDAO.removeMaterialized(cn);
+        entityManager().flush();
+
+        assertEquals(0, derSchemaDAO.materialize(cn.getKey(), AnyTypeKind.USER, 1, 2));
+        assertTrue(derSchemaDAO.findMaterialized(vivaldi).isEmpty());
+    }
 }
@@ -18,12 +18,15 @@
  */
 package org.apache.syncope.core.persistence.jpa.outer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
@@ -95,5 +98,10 @@ public class DynRealmTest extends AbstractTest {
         assertTrue(anyMatcher.matches(user, SearchCond.getLeaf(dynRealmCond)));
 
         assertTrue(userDAO.findDynRealms(user.getKey()).contains(actual.getKey()));
+
+        Map<String, List<String>> dynRealms = userDAO.findDynRealms(
+                matching.stream().map(User::getKey).collect(Collectors.toList()));
+        assertEquals(matching.size(), dynRealms.size());
+        matching.forEach(match -> assertTrue(dynRealms.get(match.getKey()).contains(actual.getKey())));
     }
 }
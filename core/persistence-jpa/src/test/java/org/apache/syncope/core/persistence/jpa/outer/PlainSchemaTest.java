@@ -54,6 +54,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional("Master")
@@ -201,4 +202,21 @@ public class PlainSchemaTest extends AbstractTest {
         assertEquals(pre - 1, resourceDAO.find("resource-db-pull").
                 getProvision(anyTypeDAO.findUser()).get().getMapping().getItems().size());
     }
+
+    @Test
+    public void refreshProjectionWithinTransaction() {
+        PlainSchema firstname = plainSchemaDAO.find("firstname");
+        assertFalse(firstname.isProjected());
+
+        firstname.setProjected(true);
+        firstname = plainSchemaDAO.save(firstname);
+        entityManager().flush();
+        plainSchemaDAO.refreshProjection(firstname);
+
+        // DDL statements, implicitly committing on some DBMSes, must not be run within the current transaction
+        TestTransaction.end();
+
+        TestTransaction.start();
+        assertFalse(plainSchemaDAO.find("firstname").isProjected());
+    }
 }
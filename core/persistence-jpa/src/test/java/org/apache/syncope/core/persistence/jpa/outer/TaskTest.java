@@ -30,6 +30,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ImplementationEngine;
@@ -58,6 +59,7 @@ import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.AttributeBuilder;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.annotation.Transactional;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
 import org.apache.syncope.core.persistence.api.entity.task.AnyTemplatePullTask;
@@ -292,6 +294,132 @@ public class TaskTest extends AbstractTest {
         assertEquals(task, actual);
     }
 
+    private static Date daysAgo(final int days) {
+        return new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(days));
+    }
+
+    private PropagationTask newPropagationTask(final ExternalResource resource, final Object... execs) {
+        PropagationTask task = entityFactory.newEntity(PropagationTask.class);
+        task.setResource(resource);
+        task.setAnyTypeKind(AnyTypeKind.USER);
+        task.setAnyType(AnyTypeKind.USER.name());
+        task.setOperation(ResourceOperation.UPDATE);
+        task.setConnObjectKey("purge@syncope.apache.org");
+
+        // pairs of status and days since end, null days for running executions
+        for (int i = 0; i < execs.length; i += 2) {
+            TaskExec exec = entityFactory.newEntity(TaskExec.class);
+            exec.setStatus(((ExecStatus) execs[i]).name());
+            exec.setExecutor("admin");
+            if (execs[i + 1] == null) {
+                exec.setStart(new Date());
+            } else {
+                Date end = daysAgo((Integer) execs[i + 1]);
+                exec.setStart(new Date(end.getTime() - TimeUnit.MINUTES.toMillis(1)));
+                exec.setEnd(end);
+            }
+            exec.setTask(task);
+            task.add(exec);
+        }
+
+        return taskDAO.save(task);
+    }
+
+    private void commit() {
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+    }
+
+    private void cleanup(final String... taskKeys) {
+        if (!TestTransaction.isActive()) {
+            TestTransaction.start();
+        }
+        for (String taskKey : taskKeys) {
+            if (taskDAO.find(taskKey) != null) {
+                taskDAO.delete(taskKey);
+            }
+        }
+        TestTransaction.flagForCommit();
+    }
+
+    @Test
+    public void purgeTaskExecs() {
+        ExternalResource resource = resourceDAO.find("ws-target-resource-1");
+        String taskKey = newPropagationTask(resource,
+                ExecStatus.SUCCESS, 10,
+                ExecStatus.FAILURE, 9,
+                ExecStatus.SUCCESS, 8,
+                ExecStatus.SUCCESS, 6,
+                ExecStatus.FAILURE, 2,
+                ExecStatus.SUCCESS, 1).getKey();
+        commit();
+
+        try {
+            // other resources are not affected
+            assertEquals(0, taskExecDAO.purge(TaskType.PROPAGATION, "ws-target-resource-timeout",
+                    ExecStatus.SUCCESS.name(), 0, new Date(), new Date(), 100));
+
+            // keepLast: the 4 most recent executions are kept, whatever their status; one chunk at a time
+            assertEquals(1, taskExecDAO.purge(TaskType.PROPAGATION, resource.getKey(),
+                    ExecStatus.SUCCESS.name(), 4, null, null, 1));
+            assertEquals(1, taskExecDAO.purge(TaskType.PROPAGATION, resource.getKey(),
+                    ExecStatus.SUCCESS.name(), 4, null, null, 1));
+            assertEquals(0, taskExecDAO.purge(TaskType.PROPAGATION, resource.getKey(),
+                    ExecStatus.SUCCESS.name(), 4, null, null, 1));
+
+            // keepDays: successful executions ended more than 5 days ago go, failed ones are kept for 30 days
+            assertEquals(2, taskExecDAO.purge(TaskType.PROPAGATION, resource.getKey(),
+                    ExecStatus.SUCCESS.name(), 0, daysAgo(5), daysAgo(30), 100));
+
+            // keepFailedDays: failed executions ended more than 1 day ago go
+            assertEquals(1, taskExecDAO.purge(TaskType.PROPAGATION, resource.getKey(),
+                    ExecStatus.SUCCESS.name(), 0, daysAgo(30), daysAgo(1), 100));
+
+            TestTransaction.start();
+            PropagationTask task = taskDAO.find(taskKey);
+            assertEquals(1, task.getExecs().size());
+            assertEquals(ExecStatus.SUCCESS.name(), task.getExecs().get(0).getStatus());
+        } finally {
+            cleanup(taskKey);
+        }
+    }
+
+    @Test
+    public void purgeTasks() {
+        ExternalResource resource = resourceDAO.find("ws-target-resource-1");
+        String old = newPropagationTask(resource, ExecStatus.SUCCESS, 10).getKey();
+        String recent = newPropagationTask(resource, ExecStatus.SUCCESS, 10, ExecStatus.SUCCESS, 1).getKey();
+        String failed = newPropagationTask(resource, ExecStatus.FAILURE, 10).getKey();
+        String running = newPropagationTask(resource, ExecStatus.SUCCESS, 10, ExecStatus.CREATED, null).getKey();
+        commit();
+
+        try {
+            // other resources are not affected
+            assertEquals(0, taskDAO.purge(TaskType.PROPAGATION, "ws-target-resource-timeout",
+                    ExecStatus.SUCCESS.name(), 0, new Date(), new Date(), 100));
+
+            // keepLast: tasks are kept along with their most recent executions, however old
+            assertEquals(0, taskDAO.purge(TaskType.PROPAGATION, resource.getKey(),
+                    ExecStatus.SUCCESS.name(), 5, daysAgo(5), daysAgo(5), 100));
+
+            // keepDays: tasks whose executions all ended more than 5 days ago go, failed ones are kept for 30 days
+            assertEquals(1, taskDAO.purge(TaskType.PROPAGATION, resource.getKey(),
+                    ExecStatus.SUCCESS.name(), 0, daysAgo(5), daysAgo(30), 100));
+
+            // keepFailedDays: tasks whose failed executions ended more than 5 days ago go
+            assertEquals(1, taskDAO.purge(TaskType.PROPAGATION, resource.getKey(),
+                    ExecStatus.SUCCESS.name(), 0, daysAgo(5), daysAgo(5), 100));
+
+            TestTransaction.start();
+            assertNull(taskDAO.find(old));
+            assertNull(taskDAO.find(failed));
+            assertEquals(2, taskDAO.<PropagationTask>find(recent).getExecs().size());
+            assertEquals(2, taskDAO.<PropagationTask>find(running).getExecs().size());
+        } finally {
+            cleanup(old, recent, failed, running);
+        }
+    }
+
     @Test
     public void issueSYNCOPE144() {
         ExternalResource resource = resourceDAO.find("ws-target-resource-1");
@@ -18,6 +18,8 @@
  */
 package org.apache.syncope.core.provisioning.api;
 
+import java.util.List;
+import org.apache.syncope.common.lib.log.AuditEntry;
 import org.apache.syncope.core.provisioning.api.event.AfterHandlingEvent;
 import org.apache.syncope.common.lib.types.AuditElements;
 
@@ -71,4 +73,13 @@ public interface AuditManager {
             Object before,
             Object output,
             Object... input);
+
+    /**
+     * Create audit entries for each of the given ones reported by external components, as WA, matching enabled
+     * audits; entries are dated with the current time, while the date they report is only kept as part of their
+     * content.
+     *
+     * @param auditEntries reported audit entries
+     */
+    void audit(List<AuditEntry> auditEntries);
 }
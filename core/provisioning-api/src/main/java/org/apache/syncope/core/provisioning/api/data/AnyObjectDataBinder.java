@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.api.data;
 
+import java.util.List;
 import org.apache.syncope.common.lib.request.AnyObjectCR;
 import org.apache.syncope.common.lib.request.AnyObjectUR;
 import org.apache.syncope.common.lib.to.AnyObjectTO;
@@ -30,6 +31,16 @@ public interface AnyObjectDataBinder {
 
     AnyObjectTO getAnyObjectTO(AnyObject anyObject, boolean details);
 
+    /**
+     * Same as {@link #getAnyObjectTO(AnyObject, boolean)}, but with dynamic memberships of all given any objects
+     * fetched upfront rather than one any object at a time; meant for search results and other lists.
+     *
+     * @param anyObjects any objects
+     * @param details whether details are to be included
+     * @return transfer objects, in the same order as the given any objects
+     */
+    List<AnyObjectTO> getAnyObjectTOs(List<AnyObject> anyObjects, boolean details);
+
     void create(AnyObject anyObject, AnyObjectCR anyObjectCR);
 
     PropagationByResource<String> update(AnyObject toBeUpdated, AnyObjectUR anyObjectUR);
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.api.data;
 
+import java.util.List;
 import java.util.Map;
 import org.apache.syncope.common.lib.request.GroupCR;
 import org.apache.syncope.common.lib.request.GroupUR;
@@ -35,6 +36,16 @@ public interface GroupDataBinder {
 
     GroupTO getGroupTO(Group group, boolean details);
 
+    /**
+     * Same as {@link #getGroupTO(Group, boolean)}, but with dynamic realms and membership counts of all given groups
+     * fetched upfront rather than one group at a time; meant for search results and other lists.
+     *
+     * @param groups groups
+     * @param details whether details are to be included
+     * @return transfer objects, in the same order as the given groups
+     */
+    List<GroupTO> getGroupTOs(List<Group> groups, boolean details);
+
     void create(Group group, GroupCR groupCR);
 
     PropagationByResource<String> update(Group group, GroupUR groupUR);
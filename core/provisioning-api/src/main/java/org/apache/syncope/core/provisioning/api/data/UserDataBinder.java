@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.api.data;
 
+import java.util.List;
 import org.apache.syncope.common.lib.request.UserCR;
 import org.apache.syncope.common.lib.request.UserUR;
 import org.apache.commons.lang3.tuple.Pair;
@@ -37,6 +38,16 @@ public interface UserDataBinder {
 
     UserTO getUserTO(User user, boolean details);
 
+    /**
+     * Same as {@link #getUserTO(User, boolean)}, but with dynamic memberships of all given users fetched upfront
+     * rather than one user at a time; meant for search results and other lists.
+     *
+     * @param users users
+     * @param details whether details are to be included
+     * @return transfer objects, in the same order as the given users
+     */
+    List<UserTO> getUserTOs(List<User> users, boolean details);
+
     LinkedAccountTO getLinkedAccountTO(LinkedAccount account);
 
     void create(User user, UserCR userCR);
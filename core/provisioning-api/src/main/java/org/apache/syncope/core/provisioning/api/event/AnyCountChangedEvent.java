@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.event;
+
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published when a user, group or any object is created, moved to another realm, changes status or is deleted, for
+ * keeping counters by realm and status up to date without querying the internal storage.
+ */
+public class AnyCountChangedEvent extends ApplicationEvent {
+
+    private static final long serialVersionUID = -3064216286327403335L;
+
+    private final AnyTypeKind anyTypeKind;
+
+    private final String anyType;
+
+    private final String oldRealm;
+
+    private final String oldStatus;
+
+    private final String newRealm;
+
+    private final String newStatus;
+
+    private final String domain;
+
+    public AnyCountChangedEvent(
+            final Object source,
+            final AnyTypeKind anyTypeKind,
+            final String anyType,
+            final String oldRealm,
+            final String oldStatus,
+            final String newRealm,
+            final String newStatus,
+            final String domain) {
+
+        super(source);
+        this.anyTypeKind = anyTypeKind;
+        this.anyType = anyType;
+        this.oldRealm = oldRealm;
+        this.oldStatus = oldStatus;
+        this.newRealm = newRealm;
+        this.newStatus = newStatus;
+        this.domain = domain;
+    }
+
+    public AnyTypeKind getAnyTypeKind() {
+        return anyTypeKind;
+    }
+
+    public String getAnyType() {
+        return anyType;
+    }
+
+    /**
+     * @return realm full path before the change, null if created
+     */
+    public String getOldRealm() {
+        return oldRealm;
+    }
+
+    public String getOldStatus() {
+        return oldStatus;
+    }
+
+    /**
+     * @return realm full path after the change, null if deleted
+     */
+    public String getNewRealm() {
+        return newRealm;
+    }
+
+    public String getNewStatus() {
+        return newStatus;
+    }
+
+    public String getDomain() {
+        return domain;
+    }
+}
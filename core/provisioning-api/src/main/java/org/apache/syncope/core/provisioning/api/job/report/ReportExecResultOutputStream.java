@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.job.report;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Stream for writing a report execution result: the result is made available by {@link #complete(boolean)} when the
+ * stream is closed, unless writing failed or {@link #fail()} was invoked meanwhile.
+ */
+public abstract class ReportExecResultOutputStream extends FilterOutputStream {
+
+    private boolean failed;
+
+    protected ReportExecResultOutputStream(final OutputStream out) {
+        super(out);
+    }
+
+    /**
+     * Flags the result being written as not complete, so that it is discarded when this stream is closed.
+     */
+    public void fail() {
+        failed = true;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        try {
+            out.write(b);
+        } catch (IOException e) {
+            failed = true;
+            throw e;
+        }
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        try {
+            out.write(b, off, len);
+        } catch (IOException e) {
+            failed = true;
+            throw e;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            failed = true;
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        boolean closed = false;
+        try {
+            out.close();
+            closed = true;
+        } finally {
+            complete(closed && !failed);
+        }
+    }
+
+    /**
+     * Invoked once the underlying stream is closed.
+     *
+     * @param succeeded whether the result was fully written, hence shall be made available
+     * @throws IOException if the result could not be made available
+     */
+    protected abstract void complete(boolean succeeded) throws IOException;
+}
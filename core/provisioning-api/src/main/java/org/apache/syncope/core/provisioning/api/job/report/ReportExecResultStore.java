@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.job.report;
+
+import java.io.IOException;
+import java.io.InputStream;
+import org.apache.syncope.core.persistence.api.entity.ReportExec;
+
+/**
+ * Stores report execution results - compressed XML - as streams, so that they are never fully held in memory.
+ */
+public interface ReportExecResultStore {
+
+    /**
+     * Opens a stream for writing the result of the given report execution: the result is stored when the stream is
+     * closed, unless writing failed or {@link ReportExecResultOutputStream#fail()} was invoked.
+     *
+     * @param reportExec report execution
+     * @return stream for writing the report execution result
+     * @throws IOException if the stream could not be opened
+     */
+    ReportExecResultOutputStream store(ReportExec reportExec) throws IOException;
+
+    /**
+     * @param reportExec report execution
+     * @return whether a result is available for the given report execution
+     */
+    boolean exists(ReportExec reportExec);
+
+    /**
+     * Opens a stream for reading the result of the given report execution.
+     *
+     * @param reportExec report execution
+     * @return stream for reading the report execution result
+     * @throws IOException if the stream could not be opened
+     */
+    InputStream load(ReportExec reportExec) throws IOException;
+
+    /**
+     * Removes the result of the given report execution, if any; the report execution itself might have already been
+     * removed.
+     *
+     * @param reportExecKey report execution key
+     */
+    void delete(String reportExecKey);
+}
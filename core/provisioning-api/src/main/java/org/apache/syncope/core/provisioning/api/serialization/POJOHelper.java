@@ -20,9 +20,18 @@ package org.apache.syncope.core.provisioning.api.serialization;
 
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 import org.identityconnectors.common.security.GuardedString;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.SyncToken;
@@ -36,6 +45,11 @@ public final class POJOHelper {
 
     private static final Logger LOG = LoggerFactory.getLogger(POJOHelper.class);
 
+    /**
+     * Marks values produced by {@link #serializeCompressed(Object)} as deflated and Base64-encoded JSON.
+     */
+    public static final String COMPRESSED_PREFIX = "deflate:";
+
     private static final ObjectMapper MAPPER;
 
     static {
@@ -64,6 +78,18 @@ public final class POJOHelper {
         return result;
     }
 
+    public static JsonNode toJSON(final Object object) {
+        JsonNode result = null;
+
+        try {
+            result = MAPPER.valueToTree(object);
+        } catch (Exception e) {
+            LOG.error("During serialization", e);
+        }
+
+        return result;
+    }
+
     public static <T extends Object> T deserialize(final String serialized, final Class<T> reference) {
         T result = null;
 
@@ -88,6 +114,88 @@ public final class POJOHelper {
         return result;
     }
 
+    /**
+     * Serializes the given object as JSON, then deflates and Base64-encodes the result, unless this would not be
+     * shorter than plain JSON.
+     *
+     * @param object object to serialize
+     * @return either plain JSON or deflated JSON marked by {@link #COMPRESSED_PREFIX}
+     */
+    public static String serializeCompressed(final Object object) {
+        String result = null;
+
+        try {
+            byte[] json = MAPPER.writeValueAsBytes(object);
+
+            ByteArrayOutputStream baos = new ByteArrayOutputStream(json.length / 2 + 16);
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try (DeflaterOutputStream out = new DeflaterOutputStream(baos, deflater)) {
+                out.write(json);
+            } finally {
+                deflater.end();
+            }
+
+            String compressed = COMPRESSED_PREFIX + Base64.getEncoder().encodeToString(baos.toByteArray());
+            result = compressed.length() < json.length
+                    ? compressed
+                    : new String(json, StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            LOG.error("During serialization", e);
+        }
+
+        return result;
+    }
+
+    private static InputStream open(final String serialized) {
+        return serialized.startsWith(COMPRESSED_PREFIX)
+                ? new InflaterInputStream(new ByteArrayInputStream(
+                        Base64.getDecoder().decode(serialized.substring(COMPRESSED_PREFIX.length()))))
+                : new ByteArrayInputStream(serialized.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Deserializes values produced by either {@link #serialize(Object)} or {@link #serializeCompressed(Object)}.
+     *
+     * @param <T> type of the deserialized object
+     * @param serialized plain or compressed JSON
+     * @param reference class of the deserialized object
+     * @return deserialized object
+     */
+    public static <T extends Object> T deserializeCompressed(final String serialized, final Class<T> reference) {
+        T result = null;
+
+        try (InputStream in = open(serialized)) {
+            result = MAPPER.readValue(in, reference);
+        } catch (Exception e) {
+            LOG.error("During deserialization", e);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns plain JSON for values produced by either {@link #serialize(Object)} or
+     * {@link #serializeCompressed(Object)}.
+     *
+     * @param serialized plain or compressed JSON
+     * @return plain JSON
+     */
+    public static String decompress(final String serialized) {
+        if (serialized == null || !serialized.startsWith(COMPRESSED_PREFIX)) {
+            return serialized;
+        }
+
+        String result = null;
+
+        try (InputStream in = open(serialized)) {
+            result = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            LOG.error("During deserialization", e);
+        }
+
+        return result;
+    }
+
     private POJOHelper() {
     }
 }
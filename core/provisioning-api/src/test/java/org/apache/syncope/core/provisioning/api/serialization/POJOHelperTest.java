@@ -20,9 +20,14 @@ package org.apache.syncope.core.provisioning.api.serialization;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import java.util.HashSet;
+import java.util.Set;
 import org.apache.syncope.core.provisioning.api.AbstractTest;
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.framework.common.objects.AttributeBuilder;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 
@@ -48,4 +53,32 @@ public class POJOHelperTest extends AbstractTest {
 
         assertNull(POJOHelper.deserialize(serialized, reference));
     }
+
+    @Test
+    public void compressed() {
+        Set<Attribute> attrs = new HashSet<>();
+        attrs.add(AttributeBuilder.build("description", "a long description ".repeat(20)));
+        attrs.add(AttributeBuilder.build("email", "one@two.com", "three@four.com"));
+
+        String compressed = POJOHelper.serializeCompressed(attrs);
+        assertTrue(compressed.startsWith(POJOHelper.COMPRESSED_PREFIX));
+        assertTrue(compressed.length() < POJOHelper.serialize(attrs).length());
+
+        assertEquals(attrs, Set.of(POJOHelper.deserializeCompressed(compressed, Attribute[].class)));
+        assertEquals(
+                POJOHelper.toJSON(attrs),
+                POJOHelper.toJSON(POJOHelper.deserialize(POJOHelper.decompress(compressed), Attribute[].class)));
+    }
+
+    @Test
+    public void compressedFallsBackToPlain() {
+        Set<Attribute> attrs = Set.of(AttributeBuilder.build("cn", "x"));
+
+        String serialized = POJOHelper.serializeCompressed(attrs);
+        assertEquals(POJOHelper.serialize(attrs), serialized);
+        assertEquals(serialized, POJOHelper.decompress(serialized));
+
+        // values stored as plain JSON are read as well
+        assertEquals(attrs, Set.of(POJOHelper.deserializeCompressed(serialized, Attribute[].class)));
+    }
 }
@@ -18,13 +18,26 @@
  */
 package org.apache.syncope.core.provisioning.java;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
-import org.apache.commons.lang3.SerializationUtils;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.log.AuditEntry;
+import org.apache.syncope.common.lib.request.AnyUR;
 import org.apache.syncope.common.lib.request.UserCR;
 import org.apache.syncope.common.lib.request.UserUR;
+import org.apache.syncope.common.lib.to.EntityTO;
+import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.common.lib.types.AuditElements;
@@ -36,9 +49,12 @@ import org.apache.syncope.core.persistence.api.dao.LoggerDAO;
 import org.apache.syncope.core.provisioning.api.event.AfterHandlingEvent;
 import org.apache.syncope.core.provisioning.api.utils.ExceptionUtils2;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.apache.syncope.core.spring.security.SecureRandomUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -47,38 +63,75 @@ public class DefaultAuditManager implements AuditManager {
 
     private static final String MASKED_VALUE = "<MASKED>";
 
-    private static Object maskSensitive(final Object object) {
-        Object masked;
+    private static void mask(final JsonNode node, final String field) {
+        if (node instanceof ObjectNode && node.hasNonNull(field)) {
+            ((ObjectNode) node).put(field, MASKED_VALUE);
+        }
+    }
 
-        if (object instanceof UserTO) {
-            masked = SerializationUtils.clone((UserTO) object);
-            if (((UserTO) masked).getPassword() != null) {
-                ((UserTO) masked).setPassword(MASKED_VALUE);
-            }
-            if (((UserTO) masked).getSecurityAnswer() != null) {
-                ((UserTO) masked).setSecurityAnswer(MASKED_VALUE);
-            }
-        } else if (object instanceof UserCR) {
-            masked = SerializationUtils.clone((UserCR) object);
-            if (((UserCR) masked).getPassword() != null) {
-                ((UserCR) masked).setPassword(MASKED_VALUE);
-            }
-            if (((UserCR) masked).getSecurityAnswer() != null) {
-                ((UserCR) masked).setSecurityAnswer(MASKED_VALUE);
+    /**
+     * Serializes the given object, masking sensitive values on the serialized form rather than on a copy of the
+     * object.
+     *
+     * @param object object to serialize
+     * @return serialized object, with sensitive values masked
+     */
+    private static String serializeMasked(final Object object) {
+        if (object instanceof UserTO || object instanceof UserCR) {
+            JsonNode node = POJOHelper.toJSON(object);
+            mask(node, "password");
+            mask(node, "securityAnswer");
+            return POJOHelper.serialize(node);
+        }
+        if (object instanceof UserUR && ((UserUR) object).getPassword() != null) {
+            JsonNode node = POJOHelper.toJSON(object);
+            JsonNode password = node.path("password");
+            if (password instanceof ObjectNode) {
+                ((ObjectNode) password).put("value", MASKED_VALUE);
             }
-        } else if (object instanceof UserUR && ((UserUR) object).getPassword() != null) {
-            masked = SerializationUtils.clone((UserUR) object);
-            ((UserUR) masked).getPassword().setValue(MASKED_VALUE);
-        } else {
-            masked = object;
+            return POJOHelper.serialize(node);
         }
+        return POJOHelper.serialize(object);
+    }
 
-        return masked;
+    private static Optional<String> getKey(final Object object) {
+        String key = null;
+        if (object instanceof EntityTO) {
+            key = ((EntityTO) object).getKey();
+        } else if (object instanceof ProvisioningResult && ((ProvisioningResult<?>) object).getEntity() != null) {
+            key = ((ProvisioningResult<?>) object).getEntity().getKey();
+        } else if (object instanceof AnyUR) {
+            key = ((AnyUR) object).getKey();
+        } else if (object instanceof String && SyncopeConstants.UUID_PATTERN.matcher((String) object).matches()) {
+            key = (String) object;
+        }
+        return Optional.ofNullable(key);
+    }
+
+    /**
+     * Finds the key of the entity an audit event refers to, by looking at output, before and input in this order.
+     *
+     * @param before entity before the event
+     * @param output event output
+     * @param input event input
+     * @return key of the entity the audit event refers to, if found
+     */
+    protected static Optional<String> getEntityKey(final Object before, final Object output, final Object... input) {
+        return Stream.concat(
+                Stream.of(output, before),
+                Optional.ofNullable(input).map(Arrays::stream).orElseGet(Stream::empty)).
+                filter(Objects::nonNull).
+                map(DefaultAuditManager::getKey).
+                flatMap(Optional::stream).
+                findFirst();
     }
 
     @Autowired
     private LoggerDAO loggerDAO;
 
+    @Value("${enable.jdbcAuditAppender:true}")
+    private boolean enableJdbcAuditAppender;
+
     @Override
     public boolean auditRequested(
             final String who,
@@ -136,44 +189,122 @@ public class DefaultAuditManager implements AuditManager {
             final Object output,
             final Object... input) {
 
-        Throwable throwable = null;
-        if (output instanceof Throwable) {
-            throwable = (Throwable) output;
+        AuditEntry auditEntry = auditEntry(
+                who, new AuditLoggerName(type, category, subcategory, event, condition), before, output, input);
+        if (isEnabled(auditEntry.getLogger())) {
+            log(auditEntry,
+                    getEntityKey(before, output, input).orElse(null),
+                    output instanceof Throwable ? (Throwable) output : null,
+                    true);
         }
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public void audit(final List<AuditEntry> auditEntries) {
+        Map<String, Boolean> enabled = new HashMap<>();
+        List<Pair<AuditEntry, String>> matching = auditEntries.stream().
+                filter(reported -> enabled.computeIfAbsent(
+                        reported.getLogger().toLoggerName(), logger -> isEnabled(reported.getLogger()))).
+                map(reported -> {
+                    Object[] input = reported.getInputs().toArray();
+                    AuditEntry auditEntry = auditEntry(
+                            reported.getWho(), reported.getLogger(), reported.getBefore(), reported.getOutput(), input);
+                    Optional.ofNullable(reported.getDate()).ifPresent(auditEntry::setDate);
+                    return Pair.of(
+                            auditEntry,
+                            getEntityKey(reported.getBefore(), reported.getOutput(), input).orElse(null));
+                }).
+                collect(Collectors.toList());
+        if (matching.isEmpty()) {
+            return;
+        }
+
+        // the domain audit logger only feeds the audit table, which is written here in batch instead
+        if (enableJdbcAuditAppender) {
+            loggerDAO.saveAuditEntries(matching.stream().map(Pair::getLeft).collect(Collectors.toList()));
+        }
+        matching.forEach(entry -> log(entry.getLeft(), entry.getRight(), null, !enableJdbcAuditAppender));
+    }
+
+    protected boolean isEnabled(final AuditLoggerName auditLoggerName) {
+        org.apache.syncope.core.persistence.api.entity.Logger syncopeLogger =
+                loggerDAO.find(auditLoggerName.toLoggerName());
+        return syncopeLogger != null && syncopeLogger.getLevel() == LoggerLevel.DEBUG;
+    }
+
+    protected AuditEntry auditEntry(
+            final String who,
+            final AuditLoggerName auditLoggerName,
+            final Object before,
+            final Object output,
+            final Object... input) {
 
         AuditEntry auditEntry = new AuditEntry();
+        auditEntry.setKey(SecureRandomUtils.generateRandomUUID().toString());
         auditEntry.setWho(who);
-        auditEntry.setLogger(new AuditLoggerName(type, category, subcategory, event, condition));
+        auditEntry.setLogger(auditLoggerName);
         auditEntry.setDate(new Date());
-        auditEntry.setBefore(POJOHelper.serialize((maskSensitive(before))));
-        if (throwable == null) {
-            auditEntry.setOutput(POJOHelper.serialize((maskSensitive(output))));
+        auditEntry.setBefore(serializeMasked(before));
+        if (output instanceof Throwable) {
+            auditEntry.setOutput(((Throwable) output).getMessage());
+            auditEntry.setThrowable(ExceptionUtils2.getFullStackTrace((Throwable) output));
         } else {
-            auditEntry.setOutput(throwable.getMessage());
-            auditEntry.setThrowable(ExceptionUtils2.getFullStackTrace(throwable));
+            auditEntry.setOutput(serializeMasked(output));
         }
         if (input != null) {
             auditEntry.getInputs().addAll(Arrays.stream(input).
-                    map(DefaultAuditManager::maskSensitive).map(POJOHelper::serialize).
+                    map(DefaultAuditManager::serializeMasked).
                     collect(Collectors.toList()));
         }
+        return auditEntry;
+    }
 
-        org.apache.syncope.core.persistence.api.entity.Logger syncopeLogger =
-                loggerDAO.find(auditEntry.getLogger().toLoggerName());
-        if (syncopeLogger != null && syncopeLogger.getLevel() == LoggerLevel.DEBUG) {
-            Logger logger = LoggerFactory.getLogger(
-                    AuditLoggerName.getAuditLoggerName(AuthContextUtils.getDomain()));
-            Logger eventLogger = LoggerFactory.getLogger(
-                    AuditLoggerName.getAuditEventLoggerName(AuthContextUtils.getDomain(), syncopeLogger.getKey()));
-            String serializedAuditEntry = POJOHelper.serialize(auditEntry);
-
-            if (throwable == null) {
-                logger.debug(serializedAuditEntry);
-                eventLogger.debug(serializedAuditEntry);
-            } else {
-                logger.debug(serializedAuditEntry, throwable);
-                eventLogger.debug(serializedAuditEntry, throwable);
-            }
+    /**
+     * Logs the given audit entry to the event audit logger, where custom audit appenders are attached, and - if
+     * requested - to the domain audit logger, where the audit table appender is attached.
+     *
+     * @param auditEntry audit entry
+     * @param entityKey key of the entity the audit entry refers to, if any
+     * @param throwable throwable produced by the event, if any
+     * @param domainLogger whether to log to the domain audit logger as well
+     */
+    protected void log(
+            final AuditEntry auditEntry,
+            final String entityKey,
+            final Throwable throwable,
+            final boolean domainLogger) {
+
+        List<Logger> loggers = new ArrayList<>(2);
+        if (domainLogger) {
+            loggers.add(LoggerFactory.getLogger(AuditLoggerName.getAuditLoggerName(AuthContextUtils.getDomain())));
+        }
+        loggers.add(LoggerFactory.getLogger(AuditLoggerName.getAuditEventLoggerName(
+                AuthContextUtils.getDomain(), auditEntry.getLogger().toLoggerName())));
+        String serializedAuditEntry = POJOHelper.serialize(auditEntry);
+
+        // structured fields, for audit appenders to store in dedicated columns
+        MDC.put(LoggerDAO.AUDIT_ID_COLUMN, auditEntry.getKey());
+        MDC.put(LoggerDAO.AUDIT_WHO_COLUMN, auditEntry.getWho());
+        Optional.ofNullable(entityKey).ifPresent(key -> MDC.put(LoggerDAO.AUDIT_ENTITY_KEY_COLUMN, key));
+        MDC.put(LoggerDAO.AUDIT_TYPE_COLUMN, auditEntry.getLogger().getType().name());
+        MDC.put(LoggerDAO.AUDIT_CATEGORY_COLUMN, auditEntry.getLogger().getCategory());
+        MDC.put(LoggerDAO.AUDIT_SUBCATEGORY_COLUMN, auditEntry.getLogger().getSubcategory());
+        MDC.put(LoggerDAO.AUDIT_EVENT_COLUMN, auditEntry.getLogger().getEvent());
+        MDC.put(LoggerDAO.AUDIT_RESULT_COLUMN, auditEntry.getLogger().getResult().name());
+        try {
+            loggers.forEach(logger -> {
+                if (throwable == null) {
+                    logger.debug(serializedAuditEntry);
+                } else {
+                    logger.debug(serializedAuditEntry, throwable);
+                }
+            });
+        } finally {
+            Stream.of(LoggerDAO.AUDIT_ID_COLUMN, LoggerDAO.AUDIT_WHO_COLUMN, LoggerDAO.AUDIT_ENTITY_KEY_COLUMN,
+                    LoggerDAO.AUDIT_TYPE_COLUMN, LoggerDAO.AUDIT_CATEGORY_COLUMN,
+                    LoggerDAO.AUDIT_SUBCATEGORY_COLUMN, LoggerDAO.AUDIT_EVENT_COLUMN,
+                    LoggerDAO.AUDIT_RESULT_COLUMN).forEach(MDC::remove);
         }
     }
 }
@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.Set;
 import org.apache.commons.jexl3.JexlContext;
 import org.apache.commons.jexl3.MapContext;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
@@ -45,16 +46,31 @@ public class DerAttrHandlerImpl implements DerAttrHandler {
     @Autowired
     private AnyUtilsFactory anyUtilsFactory;
 
-    private static Map<DerSchema, String> getValues(final Any<?> any, final Set<DerSchema> schemas) {
-        Map<DerSchema, String> result = new HashMap<>(schemas.size());
+    @Autowired
+    private DerSchemaDAO derSchemaDAO;
 
-        schemas.forEach(schema -> {
-            JexlContext jexlContext = new MapContext();
-            JexlUtils.addPlainAttrsToContext(any.getPlainAttrs(), jexlContext);
-            JexlUtils.addFieldsToContext(any, jexlContext);
+    private Map<DerSchema, String> getValues(final Any<?> any, final Set<DerSchema> schemas) {
+        Map<DerSchema, String> result = new HashMap<>(schemas.size());
 
-            result.put(schema, JexlUtils.evaluate(schema.getExpression(), jexlContext));
-        });
+        // values of materialized schemas are read from storage; only the missing ones are evaluated
+        Map<String, String> materialized = any.getKey() != null && schemas.stream().anyMatch(DerSchema::isMaterialized)
+                ? derSchemaDAO.findMaterialized(any)
+                : Map.of();
+
+        JexlContext jexlContext = null;
+        for (DerSchema schema : schemas) {
+            if (schema.isMaterialized() && materialized.containsKey(schema.getKey())) {
+                result.put(schema, materialized.get(schema.getKey()));
+            } else {
+                if (jexlContext == null) {
+                    jexlContext = new MapContext();
+                    JexlUtils.addPlainAttrsToContext(any.getPlainAttrs(), jexlContext);
+                    JexlUtils.addFieldsToContext(any, jexlContext);
+                }
+
+                result.put(schema, JexlUtils.evaluate(schema.getExpression(), jexlContext));
+            }
+        }
 
         return result;
     }
@@ -95,13 +111,11 @@ public class DerAttrHandlerImpl implements DerAttrHandler {
 
         Map<DerSchema, String> result = new HashMap<>(schemas.size());
 
-        schemas.forEach(schema -> {
-            JexlContext jexlContext = new MapContext();
-            JexlUtils.addPlainAttrsToContext(any.getPlainAttrs(membership), jexlContext);
-            JexlUtils.addFieldsToContext(any, jexlContext);
+        JexlContext jexlContext = new MapContext();
+        JexlUtils.addPlainAttrsToContext(any.getPlainAttrs(membership), jexlContext);
+        JexlUtils.addFieldsToContext(any, jexlContext);
 
-            result.put(schema, JexlUtils.evaluate(schema.getExpression(), jexlContext));
-        });
+        schemas.forEach(schema -> result.put(schema, JexlUtils.evaluate(schema.getExpression(), jexlContext)));
 
         return result;
     }
@@ -18,6 +18,9 @@
  */
 package org.apache.syncope.core.provisioning.java;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.lang.reflect.InvocationTargetException;
@@ -44,6 +47,7 @@ import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
 import org.apache.syncope.core.provisioning.api.UserProvisioningManager;
 import org.apache.syncope.core.provisioning.api.cache.VirAttrCache;
 import org.apache.syncope.core.provisioning.api.job.JobManager;
+import org.apache.syncope.core.provisioning.api.job.report.ReportExecResultStore;
 import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationManager;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
@@ -99,6 +103,9 @@ public class ProvisioningContext implements EnvironmentAware, AsyncConfigurer {
     @Autowired
     private ApplicationContext ctx;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private Environment env;
 
     @Override
@@ -121,6 +128,8 @@ public class ProvisioningContext implements EnvironmentAware, AsyncConfigurer {
         executor.setThreadNamePrefix("AsyncConnectorFacadeExecutor-");
         executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
         executor.initialize();
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "asyncConnectorFacadeExecutor", Tags.empty()).
+                bindTo(meterRegistry);
         return executor;
     }
 
@@ -143,6 +152,29 @@ public class ProvisioningContext implements EnvironmentAware, AsyncConfigurer {
         executor.setThreadNamePrefix("PropagationTaskExecutor-");
         executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
         executor.initialize();
+        new ExecutorServiceMetrics(
+                executor.getThreadPoolExecutor(), "propagationTaskExecutorAsyncExecutor", Tags.empty()).
+                bindTo(meterRegistry);
+        return executor;
+    }
+
+    /**
+     * Used by {@link org.apache.syncope.core.provisioning.java.job.report.AbstractReportlet} to build report fragments
+     * in parallel; when saturated, fragments are built by the report job thread.
+     *
+     * @return executor
+     */
+    @Bean
+    public Executor reportletExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(env.getProperty("reportletExecutor.corePoolSize", Integer.class, 5));
+        executor.setMaxPoolSize(env.getProperty("reportletExecutor.maxPoolSize", Integer.class, 10));
+        executor.setQueueCapacity(env.getProperty("reportletExecutor.queueCapacity", Integer.class, 100));
+        executor.setThreadNamePrefix("ReportletExecutor-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "reportletExecutor", Tags.empty()).
+                bindTo(meterRegistry);
         return executor;
     }
 
@@ -360,4 +392,13 @@ public class ProvisioningContext implements EnvironmentAware, AsyncConfigurer {
         return (AuditManager) Class.forName(env.getProperty("auditManager")).
                 getConstructor().newInstance();
     }
+
+    @Bean
+    public ReportExecResultStore reportExecResultStore()
+            throws ClassNotFoundException, InstantiationException, IllegalAccessException, NoSuchMethodException,
+            IllegalArgumentException, InvocationTargetException {
+
+        return (ReportExecResultStore) Class.forName(env.getProperty("reportExecResultStore")).
+                getConstructor().newInstance();
+    }
 }
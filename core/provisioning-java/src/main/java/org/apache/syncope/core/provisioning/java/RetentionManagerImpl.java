@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
+import org.apache.syncope.common.lib.types.ExecStatus;
+import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.core.persistence.api.dao.BatchDAO;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.ReportExecDAO;
+import org.apache.syncope.core.persistence.api.dao.TaskDAO;
+import org.apache.syncope.core.persistence.api.dao.TaskExecDAO;
+import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
+import org.apache.syncope.core.provisioning.api.RetentionManager;
+import org.apache.syncope.core.provisioning.api.job.report.ReportExecResultStore;
+import org.apache.syncope.core.provisioning.java.job.TaskJob;
+import org.apache.syncope.core.provisioning.java.job.notification.NotificationJob;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads policies from {@code retention.<target>.<keepLast|keepDays|keepFailedDays>} configuration parameters, where
+ * target is one of {@code propagation}, {@code notification}, {@code scheduled}, {@code pull}, {@code push} and
+ * {@code report}; policies for {@code propagation}, {@code pull} and {@code push} can be overridden for a given
+ * resource via {@code retention.<target>.<resource>.<keepLast|keepDays|keepFailedDays>}.
+ * A policy is enforced only when {@code keepLast} or {@code keepDays} is set; {@code keepFailedDays} defaults to
+ * {@code keepDays}.
+ */
+@Component
+public class RetentionManagerImpl implements RetentionManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RetentionManager.class);
+
+    public static final String PREFIX = "retention.";
+
+    /**
+     * Maximum number of items deleted by a single transaction, also keeping {@code IN} lists within DBMS limits.
+     */
+    protected static final int CHUNK_SIZE = 500;
+
+    protected static class Policy {
+
+        protected Long keepLast;
+
+        protected Long keepDays;
+
+        protected Long keepFailedDays;
+
+        protected boolean isEnforced() {
+            return keepLast != null || keepDays != null;
+        }
+
+        protected int getKeepLast() {
+            return keepLast == null ? 0 : keepLast.intValue();
+        }
+
+        protected Date getEndedBefore(final long now) {
+            return keepDays == null ? null : new Date(now - TimeUnit.DAYS.toMillis(keepDays));
+        }
+
+        protected Date getFailedEndedBefore(final long now) {
+            Long days = keepFailedDays == null ? keepDays : keepFailedDays;
+            return days == null ? null : new Date(now - TimeUnit.DAYS.toMillis(days));
+        }
+
+        protected Policy override(final Policy other) {
+            Policy merged = new Policy();
+            merged.keepLast = other.keepLast == null ? keepLast : other.keepLast;
+            merged.keepDays = other.keepDays == null ? keepDays : other.keepDays;
+            merged.keepFailedDays = other.keepFailedDays == null ? keepFailedDays : other.keepFailedDays;
+            return merged;
+        }
+    }
+
+    protected static Long toLong(final Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+
+        try {
+            return Long.valueOf(value.toString().trim());
+        } catch (NumberFormatException e) {
+            LOG.error("Invalid retention value: {}", value, e);
+            return null;
+        }
+    }
+
+    protected static Policy getPolicy(final Map<String, Object> conf, final String prefix) {
+        Policy policy = new Policy();
+        policy.keepLast = toLong(conf.get(prefix + "keepLast"));
+        policy.keepDays = toLong(conf.get(prefix + "keepDays"));
+        policy.keepFailedDays = toLong(conf.get(prefix + "keepFailedDays"));
+        return policy;
+    }
+
+    protected static int purge(final IntSupplier chunk) {
+        int deleted = 0;
+        int chunkDeleted;
+        do {
+            chunkDeleted = chunk.getAsInt();
+            deleted += chunkDeleted;
+        } while (chunkDeleted >= CHUNK_SIZE);
+        return deleted;
+    }
+
+    @Autowired
+    protected ConfParamOps confParamOps;
+
+    @Autowired
+    protected TaskDAO taskDAO;
+
+    @Autowired
+    protected TaskExecDAO taskExecDAO;
+
+    @Autowired
+    protected ReportExecDAO reportExecDAO;
+
+    @Autowired
+    protected BatchDAO batchDAO;
+
+    @Autowired
+    protected ExternalResourceDAO resourceDAO;
+
+    @Autowired
+    protected ReportExecResultStore reportExecResultStore;
+
+    protected String getSuccessStatus(final TaskType type) {
+        switch (type) {
+            case PROPAGATION:
+                return ExecStatus.SUCCESS.name();
+
+            case NOTIFICATION:
+                return NotificationJob.Status.SENT.name();
+
+            default:
+                return TaskJob.Status.SUCCESS.name();
+        }
+    }
+
+    protected int purge(final TaskType type, final String resource, final Policy policy, final long now) {
+        if (!policy.isEnforced()) {
+            return 0;
+        }
+
+        String successStatus = getSuccessStatus(type);
+        Date endedBefore = policy.getEndedBefore(now);
+        Date failedEndedBefore = policy.getFailedEndedBefore(now);
+
+        int deleted = 0;
+        if ((type == TaskType.PROPAGATION || type == TaskType.NOTIFICATION) && policy.keepDays != null) {
+            // whole tasks, along with their executions, once all executions are out of retention
+            deleted += purge(() -> taskDAO.purge(
+                    type, resource, successStatus, policy.getKeepLast(), endedBefore, failedEndedBefore, CHUNK_SIZE));
+        }
+        if ((type != TaskType.PROPAGATION && type != TaskType.NOTIFICATION) || policy.keepLast != null) {
+            deleted += purge(() -> taskExecDAO.purge(
+                    type, resource, successStatus, policy.getKeepLast(), endedBefore, failedEndedBefore, CHUNK_SIZE));
+        }
+
+        LOG.debug("Deleted {} {} items{}", deleted, type, resource == null ? "" : " for " + resource);
+        return deleted;
+    }
+
+    @Override
+    public Map<String, Integer> purge() {
+        Map<String, Object> conf = confParamOps.list(AuthContextUtils.getDomain());
+        long now = System.currentTimeMillis();
+
+        Map<String, Integer> deleted = new LinkedHashMap<>();
+        for (TaskType type : new TaskType[] {
+            TaskType.PROPAGATION, TaskType.NOTIFICATION, TaskType.SCHEDULED, TaskType.PULL, TaskType.PUSH }) {
+
+            String target = type.name().toLowerCase(Locale.ENGLISH);
+            Policy policy = getPolicy(conf, PREFIX + target + '.');
+
+            int count;
+            if (type == TaskType.PROPAGATION || type == TaskType.PULL || type == TaskType.PUSH) {
+                count = 0;
+                for (ExternalResource resource : resourceDAO.findAll()) {
+                    count += purge(
+                            type,
+                            resource.getKey(),
+                            policy.override(getPolicy(conf, PREFIX + target + '.' + resource.getKey() + '.')),
+                            now);
+                }
+            } else {
+                count = purge(type, null, policy, now);
+            }
+            deleted.put(target, count);
+        }
+
+        Policy policy = getPolicy(conf, PREFIX + "report.");
+        int reportExecs = 0;
+        if (policy.isEnforced()) {
+            reportExecs = purge(() -> {
+                List<String> keys = reportExecDAO.purge(
+                        policy.getKeepLast(), policy.getEndedBefore(now), policy.getFailedEndedBefore(now), CHUNK_SIZE);
+                keys.forEach(reportExecResultStore::delete);
+                return keys.size();
+            });
+        }
+        deleted.put("report", reportExecs);
+
+        deleted.put("batch", batchDAO.deleteExpired());
+
+        LOG.info("Retention policies applied, deleted: {}", deleted);
+        return deleted;
+    }
+}
@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -52,6 +53,7 @@ import org.apache.syncope.core.persistence.api.entity.anyobject.APlainAttr;
 import org.apache.syncope.core.persistence.api.entity.anyobject.ARelationship;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
 import org.apache.syncope.core.provisioning.api.data.AnyObjectDataBinder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -73,6 +75,33 @@ public class AnyObjectDataBinderImpl extends AbstractAnyDataBinder implements An
     @Transactional(readOnly = true)
     @Override
     public AnyObjectTO getAnyObjectTO(final AnyObject anyObject, final boolean details) {
+        return getAnyObjectTOs(List.of(anyObject), details).get(0);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<AnyObjectTO> getAnyObjectTOs(final List<AnyObject> anyObjects, final boolean details) {
+        List<String> keys = anyObjects.stream().map(AnyObject::getKey).collect(Collectors.toList());
+
+        Map<String, List<String>> dynRealms = anyObjectDAO.findDynRealms(keys);
+        Map<String, List<String>> dynGroups = anyObjectDAO.findDynGroupKeys(keys);
+
+        // dynamic groups are looked up here rather than by the DAO, so that their resources can be read
+        return anyObjects.stream().map(anyObject -> getAnyObjectTO(
+                anyObject,
+                details,
+                dynRealms.getOrDefault(anyObject.getKey(), List.of()),
+                dynGroups.getOrDefault(anyObject.getKey(), List.of()).stream().
+                        map(groupDAO::find).filter(Objects::nonNull).collect(Collectors.toList()))).
+                collect(Collectors.toList());
+    }
+
+    protected AnyObjectTO getAnyObjectTO(
+            final AnyObject anyObject,
+            final boolean details,
+            final List<String> dynRealms,
+            final List<Group> dynGroups) {
+
         AnyObjectTO anyObjectTO = new AnyObjectTO();
 
         anyObjectTO.setCreator(anyObject.getCreator());
@@ -87,6 +116,11 @@ public class AnyObjectDataBinderImpl extends AbstractAnyDataBinder implements An
         anyObjectTO.setType(anyObject.getType().getKey());
         anyObjectTO.setStatus(anyObject.getStatus());
 
+        // same as AnyObjectDAO#findAllResources, but relying on the dynamic groups provided
+        Set<ExternalResource> resources = new HashSet<>(anyObject.getResources());
+        anyObject.getMemberships().forEach(membership -> resources.addAll(membership.getRightEnd().getResources()));
+        dynGroups.forEach(group -> resources.addAll(group.getResources()));
+
         Map<VirSchema, List<String>> virAttrValues = details
                 ? virAttrHandler.getValues(anyObject)
                 : Collections.<VirSchema, List<String>>emptyMap();
@@ -95,10 +129,10 @@ public class AnyObjectDataBinderImpl extends AbstractAnyDataBinder implements An
                 anyObject.getPlainAttrs(),
                 derAttrHandler.getValues(anyObject),
                 virAttrValues,
-                anyObjectDAO.findAllResources(anyObject));
+                resources);
 
         // dynamic realms
-        anyObjectTO.getDynRealms().addAll(anyObjectDAO.findDynRealms(anyObject.getKey()));
+        anyObjectTO.getDynRealms().addAll(dynRealms);
 
         if (details) {
             // relationships
@@ -121,7 +155,7 @@ public class AnyObjectDataBinderImpl extends AbstractAnyDataBinder implements An
 
             // dynamic memberships
             anyObjectTO.getDynMemberships().addAll(
-                    anyObjectDAO.findDynGroups(anyObject.getKey()).stream().
+                    dynGroups.stream().
                             map(group -> new MembershipTO.Builder(group.getKey()).groupName(group.getName()).build()).
                             collect(Collectors.toList()));
         }
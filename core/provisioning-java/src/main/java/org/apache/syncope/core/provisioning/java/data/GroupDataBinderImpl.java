@@ -315,6 +315,47 @@ public class GroupDataBinderImpl extends AbstractAnyDataBinder implements GroupD
     @Transactional(readOnly = true)
     @Override
     public GroupTO getGroupTO(final Group group, final boolean details) {
+        return getGroupTO(
+                group,
+                details,
+                groupDAO.findDynRealms(group.getKey()),
+                groupDAO.countUMembers(group),
+                groupDAO.countAMembers(group),
+                groupDAO.countUDynMembers(group),
+                groupDAO.countADynMembers(group));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<GroupTO> getGroupTOs(final List<Group> groups, final boolean details) {
+        List<String> keys = groups.stream().map(Group::getKey).collect(Collectors.toList());
+
+        Map<String, List<String>> dynRealms = groupDAO.findDynRealms(keys);
+        Map<String, Integer> uMembers = groupDAO.countUMembers(keys);
+        Map<String, Integer> aMembers = groupDAO.countAMembers(keys);
+        Map<String, Integer> uDynMembers = groupDAO.countUDynMembers(keys);
+        Map<String, Integer> aDynMembers = groupDAO.countADynMembers(keys);
+
+        return groups.stream().map(group -> getGroupTO(
+                group,
+                details,
+                dynRealms.getOrDefault(group.getKey(), List.of()),
+                uMembers.getOrDefault(group.getKey(), 0),
+                aMembers.getOrDefault(group.getKey(), 0),
+                group.getUDynMembership() == null ? 0 : uDynMembers.getOrDefault(group.getKey(), 0),
+                aDynMembers.getOrDefault(group.getKey(), 0))).
+                collect(Collectors.toList());
+    }
+
+    protected GroupTO getGroupTO(
+            final Group group,
+            final boolean details,
+            final List<String> dynRealms,
+            final int uMembers,
+            final int aMembers,
+            final int uDynMembers,
+            final int aDynMembers) {
+
         GroupTO groupTO = new GroupTO();
 
         groupTO.setCreator(group.getCreator());
@@ -348,15 +389,15 @@ public class GroupDataBinderImpl extends AbstractAnyDataBinder implements GroupD
                 group.getResources());
 
         // dynamic realms
-        groupTO.getDynRealms().addAll(groupDAO.findDynRealms(group.getKey()));
+        groupTO.getDynRealms().addAll(dynRealms);
 
         // Static user and AnyType membership counts
-        groupTO.setStaticUserMembershipCount(groupDAO.countUMembers(group));
-        groupTO.setStaticAnyObjectMembershipCount(groupDAO.countAMembers(group));
+        groupTO.setStaticUserMembershipCount(uMembers);
+        groupTO.setStaticAnyObjectMembershipCount(aMembers);
 
         // Dynamic user and AnyType membership counts
-        groupTO.setDynamicUserMembershipCount(groupDAO.countUDynMembers(group));
-        groupTO.setDynamicAnyObjectMembershipCount(groupDAO.countADynMembers(group));
+        groupTO.setDynamicUserMembershipCount(uDynMembers);
+        groupTO.setDynamicAnyObjectMembershipCount(aDynMembers);
 
         if (group.getUDynMembership() != null) {
             groupTO.setUDynMembershipCond(group.getUDynMembership().getFIQLCond());
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.java.data;
 
+import java.util.Objects;
 import java.util.stream.Collectors;
 import org.apache.syncope.core.provisioning.api.data.SchemaDataBinder;
 import org.apache.commons.lang3.StringUtils;
@@ -51,10 +52,14 @@ import org.apache.syncope.core.persistence.api.entity.Schema;
 import org.apache.syncope.core.persistence.api.entity.SchemaLabel;
 import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.resource.Provision;
+import org.apache.syncope.core.provisioning.java.job.MaterializeDerSchemaJob;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.quartz.SchedulerFactoryBean;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Component
 public class SchemaDataBinderImpl implements SchemaDataBinder {
@@ -88,6 +93,9 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
     @Autowired
     private AnyUtilsFactory anyUtilsFactory;
 
+    @Autowired
+    private SchedulerFactoryBean scheduler;
+
     private <S extends Schema, T extends SchemaTO> void labels(final T src, final S dst) {
         src.getLabels().forEach((locale, display) -> {
             SchemaLabel label = dst.getLabel(locale).orElse(null);
@@ -126,6 +134,7 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
         schema.setMimeType(schemaTO.getMimeType());
         schema.setMultivalue(schemaTO.isMultivalue());
         schema.setReadonly(schemaTO.isReadonly());
+        schema.setProjected(schemaTO.isProjected());
         schema.setSecretKey(schemaTO.getSecretKey());
         schema.setUniqueConstraint(schemaTO.isUniqueConstraint());
 
@@ -167,7 +176,13 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
 
     @Override
     public PlainSchema create(final PlainSchemaTO schemaTO) {
-        return fill(entityFactory.newEntity(PlainSchema.class), schemaTO);
+        PlainSchema created = fill(entityFactory.newEntity(PlainSchema.class), schemaTO);
+
+        if (created.isProjected()) {
+            plainSchemaDAO.refreshProjection(created);
+        }
+
+        return created;
     }
 
     @Override
@@ -199,7 +214,15 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
             throw scce;
         }
 
-        return fill(schema, schemaTO);
+        boolean projectionChanged = schema.isProjected() != schemaTO.isProjected();
+
+        PlainSchema merged = fill(schema, schemaTO);
+
+        if (projectionChanged) {
+            plainSchemaDAO.refreshProjection(merged);
+        }
+
+        return merged;
     }
 
     @Override
@@ -220,6 +243,7 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
         schemaTO.setMimeType(schema.getMimeType());
         schemaTO.setMultivalue(schema.isMultivalue());
         schemaTO.setReadonly(schema.isReadonly());
+        schemaTO.setProjected(schema.isProjected());
         schemaTO.setSecretKey(schema.getSecretKey());
         schemaTO.setUniqueConstraint(schema.isUniqueConstraint());
 
@@ -256,6 +280,7 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
 
         schema.setKey(schemaTO.getKey());
         schema.setExpression(schemaTO.getExpression());
+        schema.setMaterialized(schemaTO.isMaterialized());
 
         labels(schemaTO, schema);
 
@@ -281,14 +306,55 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
         return merged;
     }
 
+    /**
+     * Schedules the computation of the values for the given schema, once the current transaction has committed.
+     *
+     * @param schema materialized derived schema
+     */
+    private void materialize(final DerSchema schema) {
+        String key = schema.getKey();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    MaterializeDerSchemaJob.schedule(scheduler, key);
+                }
+            });
+        } else {
+            MaterializeDerSchemaJob.schedule(scheduler, key);
+        }
+    }
+
     @Override
     public DerSchema create(final DerSchemaTO schemaTO) {
-        return fill(entityFactory.newEntity(DerSchema.class), schemaTO);
+        DerSchema created = fill(entityFactory.newEntity(DerSchema.class), schemaTO);
+
+        if (created.isMaterialized()) {
+            materialize(created);
+        }
+
+        return created;
     }
 
     @Override
     public DerSchema update(final DerSchemaTO schemaTO, final DerSchema schema) {
-        return fill(schema, schemaTO);
+        String anyTypeClass = schema.getAnyTypeClass() == null ? null : schema.getAnyTypeClass().getKey();
+        boolean materializationChanged = schema.isMaterialized() != schemaTO.isMaterialized()
+                || schema.isMaterialized() && (!schema.getExpression().equals(schemaTO.getExpression())
+                || !Objects.equals(anyTypeClass, schemaTO.getAnyTypeClass()));
+
+        DerSchema merged = fill(schema, schemaTO);
+
+        if (materializationChanged) {
+            merged.setMaterializationComplete(false);
+            derSchemaDAO.removeMaterialized(merged);
+            if (merged.isMaterialized()) {
+                materialize(merged);
+            }
+        }
+
+        return merged;
     }
 
     @Override
@@ -301,6 +367,7 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
         DerSchemaTO schemaTO = new DerSchemaTO();
         schemaTO.setKey(schema.getKey());
         schemaTO.setExpression(schema.getExpression());
+        schemaTO.setMaterialized(schema.isMaterialized());
 
         labels(schema, schemaTO);
 
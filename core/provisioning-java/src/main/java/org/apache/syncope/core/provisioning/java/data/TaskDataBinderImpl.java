@@ -215,6 +215,7 @@ public class TaskDataBinderImpl implements TaskDataBinder {
                     removeIf(anyTemplate -> !pullTaskTO.getTemplates().containsKey(anyTemplate.getAnyType().getKey()));
 
             pullTask.setRemediation(pullTaskTO.isRemediation());
+            pullTask.setSkipUnchanged(pullTaskTO.isSkipUnchanged());
         }
 
         // 3. fill the remaining fields
@@ -429,6 +430,7 @@ public class TaskDataBinderImpl implements TaskDataBinder {
                         put(template.getAnyType().getKey(), template.get()));
 
                 pullTaskTO.setRemediation(pullTask.isRemediation());
+                pullTaskTO.setSkipUnchanged(pullTask.isSkipUnchanged());
                 break;
 
             case PUSH:
@@ -20,7 +20,9 @@ package org.apache.syncope.core.provisioning.java.data;
 
 import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -699,6 +701,38 @@ public class UserDataBinderImpl extends AbstractAnyDataBinder implements UserDat
     @Transactional(readOnly = true)
     @Override
     public UserTO getUserTO(final User user, final boolean details) {
+        return getUserTOs(List.of(user), details).get(0);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<UserTO> getUserTOs(final List<User> users, final boolean details) {
+        List<String> keys = users.stream().map(User::getKey).collect(Collectors.toList());
+
+        Map<String, List<String>> dynRealms = userDAO.findDynRealms(keys);
+        Map<String, List<String>> dynRoles = details ? userDAO.findDynRoleKeys(keys) : Map.of();
+        Map<String, List<String>> dynGroups = userDAO.findDynGroupKeys(keys);
+
+        // dynamic roles and groups are looked up here rather than by the DAO, so that their privileges and resources
+        // can be read
+        return users.stream().map(user -> getUserTO(
+                user,
+                details,
+                dynRealms.getOrDefault(user.getKey(), List.of()),
+                dynRoles.getOrDefault(user.getKey(), List.of()).stream().
+                        map(roleDAO::find).filter(Objects::nonNull).collect(Collectors.toList()),
+                dynGroups.getOrDefault(user.getKey(), List.of()).stream().
+                        map(groupDAO::find).filter(Objects::nonNull).collect(Collectors.toList()))).
+                collect(Collectors.toList());
+    }
+
+    protected UserTO getUserTO(
+            final User user,
+            final boolean details,
+            final List<String> dynRealms,
+            final List<Role> dynRoles,
+            final List<Group> dynGroups) {
+
         UserTO userTO = new UserTO();
 
         userTO.setCreator(user.getCreator());
@@ -726,26 +760,32 @@ public class UserDataBinderImpl extends AbstractAnyDataBinder implements UserDat
             userTO.setSecurityQuestion(user.getSecurityQuestion().getKey());
         }
 
+        // same as UserDAO#findAllResources, but relying on the dynamic groups provided
+        Set<ExternalResource> resources = new HashSet<>(user.getResources());
+        user.getMemberships().forEach(membership -> resources.addAll(membership.getRightEnd().getResources()));
+        dynGroups.forEach(group -> resources.addAll(group.getResources()));
+
         fillTO(userTO, user.getRealm().getFullPath(),
                 user.getAuxClasses(),
                 user.getPlainAttrs(),
                 derAttrHandler.getValues(user),
                 details ? virAttrHandler.getValues(user) : Map.of(),
-                userDAO.findAllResources(user));
+                resources);
 
         // dynamic realms
-        userTO.getDynRealms().addAll(userDAO.findDynRealms(user.getKey()));
+        userTO.getDynRealms().addAll(dynRealms);
 
         if (details) {
             // roles
             userTO.getRoles().addAll(user.getRoles().stream().map(Entity::getKey).collect(Collectors.toList()));
 
             // dynamic roles
-            userTO.getDynRoles().addAll(
-                    userDAO.findDynRoles(user.getKey()).stream().map(Entity::getKey).collect(Collectors.toList()));
+            userTO.getDynRoles().addAll(dynRoles.stream().map(Entity::getKey).collect(Collectors.toList()));
 
             // privileges
-            userTO.getPrivileges().addAll(userDAO.findAllRoles(user).stream().
+            Set<Role> allRoles = new HashSet<>(user.getRoles());
+            allRoles.addAll(dynRoles);
+            userTO.getPrivileges().addAll(allRoles.stream().
                     flatMap(role -> role.getPrivileges().stream()).map(Entity::getKey).collect(Collectors.toSet()));
 
             // relationships
@@ -762,10 +802,9 @@ public class UserDataBinderImpl extends AbstractAnyDataBinder implements UserDat
                     membership)).collect(Collectors.toList()));
 
             // dynamic memberships
-            userTO.getDynMemberships().addAll(
-                    userDAO.findDynGroups(user.getKey()).stream().
-                            map(group -> new MembershipTO.Builder(group.getKey()).groupName(group.getName()).build()).
-                            collect(Collectors.toList()));
+            userTO.getDynMemberships().addAll(dynGroups.stream().
+                    map(group -> new MembershipTO.Builder(group.getKey()).groupName(group.getName()).build()).
+                    collect(Collectors.toList()));
 
             // linked accounts
             userTO.getLinkedAccounts().addAll(
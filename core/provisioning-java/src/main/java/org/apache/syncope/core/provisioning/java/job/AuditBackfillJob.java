@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import org.apache.syncope.core.persistence.api.dao.LoggerDAO;
+import org.apache.syncope.core.provisioning.api.job.JobManager;
+import org.apache.syncope.core.provisioning.api.job.JobNamer;
+import org.apache.syncope.core.spring.ApplicationContextProvider;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.quartz.JobBuilder;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobKey;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.scheduling.quartz.SchedulerFactoryBean;
+
+/**
+ * Quartz job for populating the structured columns of audit entries stored before such columns were introduced.
+ * Entries are processed one chunk per transaction; as processed entries are not selected again, an interrupted
+ * run is resumed where it stopped by the job scheduled at next startup.
+ */
+public class AuditBackfillJob extends AbstractInterruptableJob {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AuditBackfillJob.class);
+
+    protected static final int CHUNK_SIZE = 1000;
+
+    public static void schedule(final SchedulerFactoryBean scheduler, final String domain) {
+        String jobName = AuditBackfillJob.class.getSimpleName() + '_' + domain;
+        try {
+            if (scheduler.getScheduler().checkExists(new JobKey(jobName))) {
+                LOG.debug("Job {} already scheduled", jobName);
+                return;
+            }
+
+            if (!ApplicationContextProvider.getBeanFactory().containsSingleton(jobName)) {
+                AuditBackfillJob jobInstance = (AuditBackfillJob) ApplicationContextProvider.getBeanFactory().
+                        createBean(AuditBackfillJob.class, AbstractBeanDefinition.AUTOWIRE_BY_TYPE, false);
+                ApplicationContextProvider.getBeanFactory().registerSingleton(jobName, jobInstance);
+            }
+
+            JobBuilder jobDetailBuilder = JobBuilder.newJob(AuditBackfillJob.class).
+                    withIdentity(jobName).
+                    usingJobData(JobManager.DOMAIN_KEY, domain);
+
+            TriggerBuilder<Trigger> triggerBuilder = TriggerBuilder.newTrigger().
+                    withIdentity(JobNamer.getTriggerName(jobName)).
+                    startNow();
+
+            scheduler.getScheduler().scheduleJob(jobDetailBuilder.build(), triggerBuilder.build());
+        } catch (SchedulerException e) {
+            LOG.error("Could not schedule backfill of audit entries for domain {}", domain, e);
+        }
+    }
+
+    @Autowired
+    private LoggerDAO loggerDAO;
+
+    private volatile boolean interrupted;
+
+    @Override
+    public void interrupt() {
+        interrupted = true;
+    }
+
+    @Override
+    public void execute(final JobExecutionContext context) throws JobExecutionException {
+        String domain = context.getMergedJobDataMap().getString(JobManager.DOMAIN_KEY);
+        try {
+            AuthContextUtils.callAsAdmin(domain, () -> {
+                int backfilled = 0;
+                int chunk;
+                do {
+                    chunk = loggerDAO.backfillAuditEntries(CHUNK_SIZE);
+                    backfilled += chunk;
+                    LOG.debug("Domain {}: backfilled {} audit entries so far", domain, backfilled);
+                } while (chunk > 0 && !interrupted);
+                if (backfilled > 0) {
+                    LOG.info("Domain {}: backfilled {} audit entries{}",
+                            domain, backfilled, interrupted ? ", interrupted" : "");
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            LOG.error("While backfilling audit entries for domain {}", domain, e);
+            throw new JobExecutionException("While backfilling audit entries for domain " + domain, e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
+import org.apache.syncope.core.provisioning.api.job.JobManager;
+import org.apache.syncope.core.provisioning.api.job.JobNamer;
+import org.apache.syncope.core.spring.ApplicationContextProvider;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.apache.syncope.core.spring.security.SecureRandomUtils;
+import org.quartz.JobBuilder;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.scheduling.quartz.SchedulerFactoryBean;
+
+/**
+ * Quartz job for computing the values of a newly materialized derived schema for all users, groups and any objects.
+ * Values are computed one page at a time, each in its own transaction, so that neither the transaction updating the
+ * schema nor the persistence context grow with the number of entities; once done, the materialization is flagged as
+ * complete and the computed values start being used for search and correlation.
+ */
+public class MaterializeDerSchemaJob extends AbstractInterruptableJob {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MaterializeDerSchemaJob.class);
+
+    public static final String SCHEMA_KEY = "schema";
+
+    public static void schedule(final SchedulerFactoryBean scheduler, final String schema) {
+        MaterializeDerSchemaJob jobInstance = (MaterializeDerSchemaJob) ApplicationContextProvider.getBeanFactory().
+                createBean(MaterializeDerSchemaJob.class, AbstractBeanDefinition.AUTOWIRE_BY_TYPE, false);
+        String jobName = MaterializeDerSchemaJob.class.getName() + SecureRandomUtils.generateRandomUUID();
+
+        ApplicationContextProvider.getBeanFactory().registerSingleton(jobName, jobInstance);
+
+        JobBuilder jobDetailBuilder = JobBuilder.newJob(MaterializeDerSchemaJob.class).
+                withIdentity(jobName).
+                usingJobData(JobManager.DOMAIN_KEY, AuthContextUtils.getDomain()).
+                usingJobData(SCHEMA_KEY, schema);
+
+        TriggerBuilder<Trigger> triggerBuilder = TriggerBuilder.newTrigger().
+                withIdentity(JobNamer.getTriggerName(jobName)).
+                startNow();
+
+        try {
+            scheduler.getScheduler().scheduleJob(jobDetailBuilder.build(), triggerBuilder.build());
+        } catch (SchedulerException e) {
+            LOG.error("Could not schedule materialization of {}, aborting", schema, e);
+        }
+    }
+
+    @Autowired
+    private DerSchemaDAO derSchemaDAO;
+
+    @Override
+    public void execute(final JobExecutionContext context) throws JobExecutionException {
+        String schema = context.getMergedJobDataMap().getString(SCHEMA_KEY);
+        try {
+            AuthContextUtils.callAsAdmin(context.getMergedJobDataMap().getString(JobManager.DOMAIN_KEY), () -> {
+                for (AnyTypeKind anyTypeKind : AnyTypeKind.values()) {
+                    int page = 1;
+                    int read;
+                    do {
+                        read = derSchemaDAO.materialize(schema, anyTypeKind, page++, AnyDAO.DEFAULT_PAGE_SIZE);
+                    } while (read == AnyDAO.DEFAULT_PAGE_SIZE);
+                }
+                derSchemaDAO.completeMaterialization(schema);
+
+                LOG.debug("Values of {} materialized", schema);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            LOG.error("While materializing {}", schema, e);
+            throw new JobExecutionException("While materializing " + schema, e);
+        }
+    }
+}
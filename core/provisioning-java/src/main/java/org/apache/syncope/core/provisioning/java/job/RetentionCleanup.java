@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.syncope.core.provisioning.api.RetentionManager;
+import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Applies the configured retention policies, see {@link RetentionManager}.
+ */
+public class RetentionCleanup extends AbstractSchedTaskJobDelegate {
+
+    @Autowired
+    private RetentionManager retentionManager;
+
+    @Override
+    protected String doExecute(final boolean dryRun, final String executor) throws JobExecutionException {
+        if (dryRun) {
+            return "SUCCESS";
+        }
+
+        Map<String, Integer> deleted = retentionManager.purge();
+        return deleted.entrySet().stream().
+                map(entry -> entry.getKey() + '=' + entry.getValue()).
+                collect(Collectors.joining(", ", "Deleted: ", ""));
+    }
+}
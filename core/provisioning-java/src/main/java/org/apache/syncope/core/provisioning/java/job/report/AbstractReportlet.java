@@ -18,11 +18,31 @@
  */
 package org.apache.syncope.core.provisioning.java.job.report;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import javax.annotation.Resource;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.Reportlet;
 import org.apache.syncope.common.lib.report.ReportletConf;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
+import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.annotation.Transactional;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.SAXException;
@@ -32,6 +52,26 @@ public abstract class AbstractReportlet implements Reportlet {
 
     protected static final Logger LOG = LoggerFactory.getLogger(AbstractReportlet.class);
 
+    /**
+     * Maximum number of fragments being built or waiting to be written, at any time.
+     */
+    protected static final int MAX_PENDING_FRAGMENTS = AnyDAO.DEFAULT_PAGE_SIZE;
+
+    /**
+     * Writes the SAX events for the entity with given key.
+     */
+    @FunctionalInterface
+    public interface FragmentWriter {
+
+        void write(ContentHandler handler, String key) throws SAXException;
+    }
+
+    @Resource(name = "reportletExecutor")
+    protected ThreadPoolTaskExecutor reportletExecutor;
+
+    @Autowired
+    protected ReportFragmentBuilder fragmentBuilder;
+
     protected ReportletConf conf;
 
     @Override
@@ -39,6 +79,106 @@ public abstract class AbstractReportlet implements Reportlet {
         this.conf = conf;
     }
 
+    /**
+     * Builds a keyset cursor over the keys of entities matching the given search condition.
+     *
+     * @param searchDAO search DAO
+     * @param cond search condition
+     * @param kind any type kind
+     * @return keyset cursor, to be used with {@link #extract(ContentHandler, BiFunction, FragmentWriter, int, String,
+     * AtomicReference)}
+     */
+    protected static BiFunction<String, Integer, List<String>> keyset(
+            final AnySearchDAO searchDAO, final SearchCond cond, final AnyTypeKind kind) {
+
+        OrderByClause orderByKey = new OrderByClause();
+        orderByKey.setField("key");
+        orderByKey.setDirection(OrderByClause.Direction.ASC);
+
+        return (after, size) -> {
+            SearchCond keysetCond = cond;
+            if (after != null) {
+                AnyCond afterCond = new AnyCond(AttrCond.Type.GT);
+                afterCond.setSchema("key");
+                afterCond.setExpression(after);
+                keysetCond = SearchCond.getAnd(cond, SearchCond.getLeaf(afterCond));
+            }
+
+            List<Any<?>> result = searchDAO.search(
+                    SyncopeConstants.FULL_ADMIN_REALMS, keysetCond, 1, size, List.of(orderByKey), kind);
+            return result.stream().map(Any::getKey).collect(Collectors.toList());
+        };
+    }
+
+    private static void write(final ContentHandler handler, final Future<ReportFragment> fragment)
+            throws SAXException {
+
+        try {
+            fragment.get().replay(handler);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReportException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SAXException) {
+                throw (SAXException) e.getCause();
+            }
+            throw new ReportException(e.getCause());
+        }
+    }
+
+    /**
+     * Writes the fragments for all keys read via the given keyset cursor: fragments are built in parallel by worker
+     * threads, each in its own transaction, and written in key order by the calling thread.
+     *
+     * @param handler SAX handler
+     * @param cursor returns, in key order, up to the given number of keys following the given key - or from the first
+     * key, if {@code null}
+     * @param writer writes the fragment for a given key
+     * @param total number of expected keys, for reporting progress
+     * @param description what is being processed, for reporting progress
+     * @param status current status
+     * @throws SAXException if any error occurs while building or writing fragments
+     */
+    protected void extract(
+            final ContentHandler handler,
+            final BiFunction<String, Integer, List<String>> cursor,
+            final FragmentWriter writer,
+            final int total,
+            final String description,
+            final AtomicReference<String> status)
+            throws SAXException {
+
+        String domain = AuthContextUtils.getDomain();
+        Deque<Future<ReportFragment>> pending = new ArrayDeque<>();
+        int processed = 0;
+        try {
+            String after = null;
+            List<String> keys = cursor.apply(after, AnyDAO.DEFAULT_PAGE_SIZE);
+            while (!keys.isEmpty()) {
+                for (String key : keys) {
+                    if (pending.size() >= MAX_PENDING_FRAGMENTS) {
+                        write(handler, pending.poll());
+                        processed++;
+                    }
+                    pending.add(reportletExecutor.submit(
+                            () -> AuthContextUtils.callAsAdmin(domain, () -> fragmentBuilder.build(key, writer))));
+                }
+                status.set("Processing " + total + ' ' + description + ": " + processed + " processed");
+
+                after = keys.get(keys.size() - 1);
+                keys = cursor.apply(after, AnyDAO.DEFAULT_PAGE_SIZE);
+            }
+
+            while (!pending.isEmpty()) {
+                write(handler, pending.poll());
+                processed++;
+            }
+            status.set("Processed " + processed + ' ' + description);
+        } finally {
+            pending.forEach(fragment -> fragment.cancel(true));
+        }
+    }
+
     protected abstract void doExtract(ReportletConf conf, ContentHandler handler, AtomicReference<String> status)
             throws SAXException;
 
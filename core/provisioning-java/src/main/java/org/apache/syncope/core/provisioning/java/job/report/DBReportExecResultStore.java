@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.apache.syncope.core.persistence.api.dao.ReportExecDAO;
+import org.apache.syncope.core.persistence.api.entity.ReportExec;
+import org.apache.syncope.core.provisioning.api.job.report.ReportExecResultOutputStream;
+import org.apache.syncope.core.provisioning.api.job.report.ReportExecResultStore;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Stores report execution results in the internal storage, along with report executions.
+ * Results are spooled to a temporary file, both when generated and when read, and streamed from / to the internal
+ * storage via JDBC, so that they are never fully held in memory.
+ */
+public class DBReportExecResultStore implements ReportExecResultStore {
+
+    @Autowired
+    protected ReportExecDAO reportExecDAO;
+
+    @Override
+    public ReportExecResultOutputStream store(final ReportExec reportExec) throws IOException {
+        Path spool = Files.createTempFile("syncope-report-" + reportExec.getKey(), ".zip");
+        return new ReportExecResultOutputStream(Files.newOutputStream(spool)) {
+
+            @Override
+            protected void complete(final boolean succeeded) throws IOException {
+                try {
+                    if (succeeded) {
+                        try (InputStream in = Files.newInputStream(spool)) {
+                            reportExecDAO.storeExecResult(reportExec.getKey(), in, Files.size(spool));
+                        }
+                    }
+                } finally {
+                    Files.deleteIfExists(spool);
+                }
+            }
+        };
+    }
+
+    @Override
+    public boolean exists(final ReportExec reportExec) {
+        return reportExecDAO.hasExecResult(reportExec.getKey());
+    }
+
+    @Override
+    public InputStream load(final ReportExec reportExec) throws IOException {
+        Path spool = Files.createTempFile("syncope-report-" + reportExec.getKey(), ".zip");
+        boolean found = false;
+        try {
+            try (OutputStream out = Files.newOutputStream(spool)) {
+                found = reportExecDAO.loadExecResult(reportExec.getKey(), out);
+            }
+            if (!found) {
+                throw new IOException("No result found for report execution " + reportExec.getKey());
+            }
+            return Files.newInputStream(spool, StandardOpenOption.DELETE_ON_CLOSE);
+        } finally {
+            if (!found) {
+                Files.deleteIfExists(spool);
+            }
+        }
+    }
+
+    @Override
+    public void delete(final String reportExecKey) {
+        // the result is removed along with the report execution
+    }
+}
@@ -18,7 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.java.job.report;
 
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
@@ -45,6 +45,8 @@ import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.Report;
 import org.apache.syncope.core.persistence.api.entity.ReportExec;
 import org.apache.syncope.core.spring.ImplementationManager;
+import org.apache.syncope.core.provisioning.api.job.report.ReportExecResultOutputStream;
+import org.apache.syncope.core.provisioning.api.job.report.ReportExecResultStore;
 import org.apache.syncope.core.provisioning.api.job.report.ReportJobDelegate;
 import org.quartz.JobExecutionException;
 import org.slf4j.Logger;
@@ -86,6 +88,9 @@ public class DefaultReportJobDelegate implements ReportJobDelegate {
     @Autowired
     private EntityFactory entityFactory;
 
+    @Autowired
+    private ReportExecResultStore reportExecResultStore;
+
     private final AtomicReference<String> status = new AtomicReference<>();
 
     private boolean interrupt;
@@ -135,9 +140,15 @@ public class DefaultReportJobDelegate implements ReportJobDelegate {
         // 2. define a SAX handler for generating result as XML
         TransformerHandler handler;
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        ZipOutputStream zos = new ZipOutputStream(baos);
-        zos.setLevel(Deflater.BEST_COMPRESSION);
+        ReportExecResultOutputStream result;
+        ZipOutputStream zos;
+        try {
+            result = reportExecResultStore.store(execution);
+            zos = new ZipOutputStream(new BufferedOutputStream(result));
+            zos.setLevel(Deflater.BEST_COMPRESSION);
+        } catch (IOException e) {
+            throw new JobExecutionException("While opening report execution result store", e, true);
+        }
         try {
             handler = TRANSFORMER_FACTORY.newTransformerHandler();
             Transformer serializer = handler.getTransformer();
@@ -147,9 +158,15 @@ public class DefaultReportJobDelegate implements ReportJobDelegate {
             // a single ZipEntry in the ZipOutputStream
             zos.putNextEntry(new ZipEntry(report.getName()));
 
-            // streaming SAX handler in a compressed byte array stream
+            // streaming SAX handler in a compressed stream to the result store
             handler.setResult(new StreamResult(zos));
         } catch (Exception e) {
+            result.fail();
+            try {
+                zos.close();
+            } catch (IOException ioe) {
+                LOG.error("While closing StreamResult's backend", ioe);
+            }
             throw new JobExecutionException("While configuring for SAX generation", e, true);
         }
 
@@ -205,6 +222,7 @@ public class DefaultReportJobDelegate implements ReportJobDelegate {
                 execution.setStatus(ReportExecStatus.SUCCESS);
             }
         } catch (Exception e) {
+            result.fail();
             execution.setStatus(ReportExecStatus.FAILURE);
             reportExecutionMessage.append(ExceptionUtils2.getFullStackTrace(e));
 
@@ -214,13 +232,16 @@ public class DefaultReportJobDelegate implements ReportJobDelegate {
 
             try {
                 zos.closeEntry();
+            } catch (IOException e) {
+                LOG.error("While closing StreamResult's backend", e);
+                result.fail();
+            }
+            try {
                 zos.close();
-                baos.close();
             } catch (IOException e) {
                 LOG.error("While closing StreamResult's backend", e);
             }
 
-            execution.setExecResult(baos.toByteArray());
             execution.setMessage(reportExecutionMessage.toString());
             execution.setEnd(new Date());
             reportExecDAO.save(execution);
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import org.apache.syncope.core.persistence.api.entity.ReportExec;
+import org.apache.syncope.core.provisioning.api.job.report.ReportExecResultOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * Stores report execution results as files under the directory set by the {@code reportExecResultStore.directory}
+ * property, which is required and shall be shared among all Core instances.
+ * Results stored in the internal storage - as by {@link DBReportExecResultStore} - are still available.
+ */
+public class FileSystemReportExecResultStore extends DBReportExecResultStore {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileSystemReportExecResultStore.class);
+
+    @Value("${reportExecResultStore.directory}")
+    protected String directory;
+
+    protected Path getPath(final String reportExecKey) {
+        return Paths.get(directory, reportExecKey + ".zip");
+    }
+
+    protected Path getPath(final ReportExec reportExec) {
+        return getPath(reportExec.getKey());
+    }
+
+    @Override
+    public ReportExecResultOutputStream store(final ReportExec reportExec) throws IOException {
+        Path path = getPath(reportExec);
+        Files.createDirectories(path.getParent());
+
+        // write aside, then move in place: partial or failed results are never visible
+        Path partial = path.resolveSibling(path.getFileName() + ".part");
+        return new ReportExecResultOutputStream(Files.newOutputStream(partial)) {
+
+            @Override
+            protected void complete(final boolean succeeded) throws IOException {
+                if (succeeded) {
+                    Files.move(partial, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } else {
+                    Files.deleteIfExists(partial);
+                }
+            }
+        };
+    }
+
+    @Override
+    public boolean exists(final ReportExec reportExec) {
+        return Files.exists(getPath(reportExec)) || super.exists(reportExec);
+    }
+
+    @Override
+    public InputStream load(final ReportExec reportExec) throws IOException {
+        Path path = getPath(reportExec);
+        return Files.exists(path) ? Files.newInputStream(path) : super.load(reportExec);
+    }
+
+    @Override
+    public void delete(final String reportExecKey) {
+        try {
+            Files.deleteIfExists(getPath(reportExecKey));
+        } catch (IOException e) {
+            LOG.error("Could not delete result of report execution {}", reportExecKey, e);
+        }
+    }
+}
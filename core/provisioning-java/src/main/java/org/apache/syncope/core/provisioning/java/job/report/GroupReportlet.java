@@ -19,7 +19,6 @@
 package org.apache.syncope.core.provisioning.java.job.report;
 
 import java.util.Collection;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.commons.lang3.StringUtils;
@@ -32,7 +31,6 @@ import org.apache.syncope.common.lib.to.AnyTO;
 import org.apache.syncope.common.lib.Attr;
 import org.apache.syncope.common.lib.to.GroupTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
-import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
@@ -169,76 +167,78 @@ public class GroupReportlet extends AbstractReportlet {
         }
     }
 
-    private void doExtract(final ContentHandler handler, final List<Group> groups) throws SAXException {
-        AttributesImpl atts = new AttributesImpl();
-        for (Group group : groups) {
-            atts.clear();
+    private void doExtract(final ContentHandler handler, final String key) throws SAXException {
+        Group group = groupDAO.find(key);
+        if (group == null) {
+            LOG.debug("Group {} not found, was probably removed meanwhile", key);
+            return;
+        }
 
-            for (Feature feature : conf.getFeatures()) {
-                String type = null;
-                String value = null;
-                switch (feature) {
-                    case key:
-                        type = ReportXMLConst.XSD_STRING;
-                        value = group.getKey();
-                        break;
-
-                    case name:
-                        type = ReportXMLConst.XSD_STRING;
-                        value = String.valueOf(group.getName());
-                        break;
-
-                    case groupOwner:
-                        type = ReportXMLConst.XSD_STRING;
-                        value = group.getGroupOwner().getKey();
-                        break;
-
-                    case userOwner:
-                        type = ReportXMLConst.XSD_STRING;
-                        value = group.getUserOwner().getKey();
-                        break;
-
-                    default:
-                }
+        // Using GroupTO for attribute values, since the conversion logic of
+        // values to String is already encapsulated there
+        GroupTO groupTO = groupDataBinder.getGroupTO(group, true);
 
-                if (type != null && value != null) {
-                    atts.addAttribute("", "", feature.name(), type, value);
-                }
+        AttributesImpl atts = new AttributesImpl();
+        for (Feature feature : conf.getFeatures()) {
+            String type = null;
+            String value = null;
+            switch (feature) {
+                case key:
+                    type = ReportXMLConst.XSD_STRING;
+                    value = group.getKey();
+                    break;
+
+                case name:
+                    type = ReportXMLConst.XSD_STRING;
+                    value = String.valueOf(group.getName());
+                    break;
+
+                case groupOwner:
+                    type = ReportXMLConst.XSD_STRING;
+                    value = group.getGroupOwner().getKey();
+                    break;
+
+                case userOwner:
+                    type = ReportXMLConst.XSD_STRING;
+                    value = group.getUserOwner().getKey();
+                    break;
+
+                default:
             }
 
-            handler.startElement("", "", "group", atts);
+            if (type != null && value != null) {
+                atts.addAttribute("", "", feature.name(), type, value);
+            }
+        }
 
-            // Using GroupTO for attribute values, since the conversion logic of
-            // values to String is already encapsulated there
-            GroupTO groupTO = groupDataBinder.getGroupTO(group, true);
+        handler.startElement("", "", "group", atts);
 
-            doExtractAttributes(handler, groupTO, conf.getPlainAttrs(), conf.getDerAttrs(), conf.getVirAttrs());
+        doExtractAttributes(handler, groupTO, conf.getPlainAttrs(), conf.getDerAttrs(), conf.getVirAttrs());
 
-            // to get resources associated to a group
-            if (conf.getFeatures().contains(Feature.resources)) {
-                doExtractResources(handler, groupTO);
-            }
-            //to get users asscoiated to a group is preferred GroupDAO to GroupTO
-            if (conf.getFeatures().contains(Feature.users)) {
-                handler.startElement("", "", "users", null);
-
-                for (UMembership memb : groupDAO.findUMemberships(group)) {
-                    atts.clear();
+        // to get resources associated to a group
+        if (conf.getFeatures().contains(Feature.resources)) {
+            doExtractResources(handler, groupTO);
+        }
+        //to get users asscoiated to a group is preferred GroupDAO to GroupTO
+        if (conf.getFeatures().contains(Feature.users)) {
+            handler.startElement("", "", "users", null);
 
-                    atts.addAttribute("", "", "key", ReportXMLConst.XSD_STRING,
-                            memb.getLeftEnd().getKey());
-                    atts.addAttribute("", "", "username", ReportXMLConst.XSD_STRING,
-                            String.valueOf(memb.getLeftEnd().getUsername()));
+            for (UMembership memb : groupDAO.findUMemberships(group)) {
+                atts.clear();
 
-                    handler.startElement("", "", "user", atts);
-                    handler.endElement("", "", "user");
-                }
+                atts.addAttribute("", "", "key", ReportXMLConst.XSD_STRING,
+                        memb.getLeftEnd().getKey());
+                atts.addAttribute("", "", "username", ReportXMLConst.XSD_STRING,
+                        String.valueOf(memb.getLeftEnd().getUsername()));
 
-                handler.endElement("", "", "users");
+                handler.startElement("", "", "user", atts);
+                handler.endElement("", "", "user");
             }
 
-            handler.endElement("", "", "group");
+            handler.endElement("", "", "users");
         }
+
+        handler.endElement("", "", "group");
     }
 
     private void doExtractConf(final ContentHandler handler) throws SAXException {
@@ -306,30 +306,16 @@ public class GroupReportlet extends AbstractReportlet {
 
         doExtractConf(handler);
 
-        int total = count();
-        int pages = (total / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
-
-        status.set("Processing " + total + " groups in " + pages + " pages");
-
-        for (int page = 1; page <= pages; page++) {
-            status.set("Processing " + total + " groups: page " + page + " of " + pages);
-
-            List<Group> groups;
-            if (StringUtils.isBlank(this.conf.getMatchingCond())) {
-                groups = groupDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE);
-            } else {
-                groups = searchDAO.search(
-                        SyncopeConstants.FULL_ADMIN_REALMS,
+        extract(
+                handler,
+                StringUtils.isBlank(this.conf.getMatchingCond())
+                ? groupDAO::findAllKeys
+                : keyset(searchDAO,
                         SearchCondConverter.convert(searchCondVisitor, this.conf.getMatchingCond()),
-                        page,
-                        AnyDAO.DEFAULT_PAGE_SIZE,
-                        List.of(),
-                        AnyTypeKind.USER);
-            }
-
-            doExtract(handler, groups);
-
-            status.set("Processed " + total + " groups: page " + page + " of " + pages);
-        }
+                        AnyTypeKind.GROUP),
+                this::doExtract,
+                count(),
+                "groups",
+                status);
     }
 }
@@ -27,6 +27,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -34,10 +35,10 @@ import org.apache.syncope.common.lib.report.ReconciliationReportletConf;
 import org.apache.syncope.common.lib.report.ReconciliationReportletConf.Feature;
 import org.apache.syncope.common.lib.report.ReportletConf;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
-import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.ReportletConfClass;
@@ -74,14 +75,15 @@ import org.xml.sax.helpers.AttributesImpl;
 @ReportletConfClass(ReconciliationReportletConf.class)
 public class ReconciliationReportlet extends AbstractReportlet {
 
-    private static final int PAGE_SIZE = 10;
-
     @Autowired
     private UserDAO userDAO;
 
     @Autowired
     private GroupDAO groupDAO;
 
+    @Autowired
+    private AnyObjectDAO anyObjectDAO;
+
     @Autowired
     private AnyTypeDAO anyTypeDAO;
 
@@ -268,91 +270,89 @@ public class ReconciliationReportlet extends AbstractReportlet {
         return values;
     }
 
-    private void doExtract(final ContentHandler handler, final List<? extends Any<?>> anys)
-            throws SAXException, ReportException {
-
-        final Set<Missing> missing = new HashSet<>();
-        final Set<Misaligned> misaligned = new HashSet<>();
-
-        for (Any<?> any : anys) {
-            missing.clear();
-            misaligned.clear();
-
-            AnyUtils anyUtils = anyUtilsFactory.getInstance(any);
-            anyUtils.getAllResources(any).forEach(resource -> {
-                Provision provision = resource.getProvision(any.getType()).orElse(null);
-                Optional<? extends MappingItem> connObjectKeyItem = MappingUtils.getConnObjectKeyItem(provision);
-                final String connObjectKeyValue = connObjectKeyItem.isPresent()
-                        ? mappingManager.getConnObjectKeyValue(any, provision).get()
-                        : StringUtils.EMPTY;
-                if (provision != null && connObjectKeyItem.isPresent() && StringUtils.isNotBlank(connObjectKeyValue)) {
-                    // 1. read from the underlying connector
-                    Connector connector = connFactory.getConnector(resource);
-                    ConnectorObject connectorObject = connector.getObject(
-                            provision.getObjectClass(),
-                            AttributeBuilder.build(connObjectKeyItem.get().getExtAttrName(), connObjectKeyValue),
-                            provision.isIgnoreCaseMatch(),
-                            MappingUtils.buildOperationOptions(provision.getMapping().getItems().stream()));
-
-                    if (connectorObject == null) {
-                        // 2. not found on resource?
-                        LOG.error("Object {} with class {} not found on resource {}",
-                                connObjectKeyValue, provision.getObjectClass(), resource);
-
-                        missing.add(new Missing(resource.getKey(), connObjectKeyValue));
-                    } else {
-                        // 3. found but misaligned?
-                        Pair<String, Set<Attribute>> preparedAttrs =
-                                mappingManager.prepareAttrsFromAny(any, null, false, null, provision);
-                        preparedAttrs.getRight().add(AttributeBuilder.build(
-                                Uid.NAME, preparedAttrs.getLeft()));
-                        preparedAttrs.getRight().add(AttributeBuilder.build(
-                                connObjectKeyItem.get().getExtAttrName(), preparedAttrs.getLeft()));
-
-                        final Map<String, Set<Object>> syncopeAttrs = new HashMap<>();
-                        preparedAttrs.getRight().forEach(attr -> syncopeAttrs.put(attr.getName(), getValues(attr)));
-
-                        final Map<String, Set<Object>> resourceAttrs = new HashMap<>();
-                        connectorObject.getAttributes().stream().
-                                filter(attr -> (!OperationalAttributes.PASSWORD_NAME.equals(attr.getName())
-                                && !OperationalAttributes.ENABLE_NAME.equals(attr.getName()))).
-                                forEachOrdered(attr -> resourceAttrs.put(attr.getName(), getValues(attr)));
-
-                        syncopeAttrs.keySet().stream().
-                                filter(syncopeAttr -> !resourceAttrs.containsKey(syncopeAttr)).
-                                forEach(name -> misaligned.add(new Misaligned(
-                                resource.getKey(),
-                                connObjectKeyValue,
-                                name,
-                                syncopeAttrs.get(name),
-                                Set.of())));
-
-                        resourceAttrs.forEach((key, values) -> {
-                            if (syncopeAttrs.containsKey(key)) {
-                                if (!Objects.equals(syncopeAttrs.get(key), values)) {
-                                    misaligned.add(new Misaligned(
-                                            resource.getKey(),
-                                            connObjectKeyValue,
-                                            key,
-                                            syncopeAttrs.get(key),
-                                            values));
-                                }
-                            } else {
+    private void doExtract(final ContentHandler handler, final Any<?> any) throws SAXException, ReportException {
+        if (any == null) {
+            LOG.debug("Entity not found, was probably removed meanwhile");
+            return;
+        }
+
+        Set<Missing> missing = new HashSet<>();
+        Set<Misaligned> misaligned = new HashSet<>();
+
+        AnyUtils anyUtils = anyUtilsFactory.getInstance(any);
+        anyUtils.getAllResources(any).forEach(resource -> {
+            Provision provision = resource.getProvision(any.getType()).orElse(null);
+            Optional<? extends MappingItem> connObjectKeyItem = MappingUtils.getConnObjectKeyItem(provision);
+            final String connObjectKeyValue = connObjectKeyItem.isPresent()
+                    ? mappingManager.getConnObjectKeyValue(any, provision).get()
+                    : StringUtils.EMPTY;
+            if (provision != null && connObjectKeyItem.isPresent() && StringUtils.isNotBlank(connObjectKeyValue)) {
+                // 1. read from the underlying connector
+                Connector connector = connFactory.getConnector(resource);
+                ConnectorObject connectorObject = connector.getObject(
+                        provision.getObjectClass(),
+                        AttributeBuilder.build(connObjectKeyItem.get().getExtAttrName(), connObjectKeyValue),
+                        provision.isIgnoreCaseMatch(),
+                        MappingUtils.buildOperationOptions(provision.getMapping().getItems().stream()));
+
+                if (connectorObject == null) {
+                    // 2. not found on resource?
+                    LOG.error("Object {} with class {} not found on resource {}",
+                            connObjectKeyValue, provision.getObjectClass(), resource);
+
+                    missing.add(new Missing(resource.getKey(), connObjectKeyValue));
+                } else {
+                    // 3. found but misaligned?
+                    Pair<String, Set<Attribute>> preparedAttrs =
+                            mappingManager.prepareAttrsFromAny(any, null, false, null, provision);
+                    preparedAttrs.getRight().add(AttributeBuilder.build(
+                            Uid.NAME, preparedAttrs.getLeft()));
+                    preparedAttrs.getRight().add(AttributeBuilder.build(
+                            connObjectKeyItem.get().getExtAttrName(), preparedAttrs.getLeft()));
+
+                    final Map<String, Set<Object>> syncopeAttrs = new HashMap<>();
+                    preparedAttrs.getRight().forEach(attr -> syncopeAttrs.put(attr.getName(), getValues(attr)));
+
+                    final Map<String, Set<Object>> resourceAttrs = new HashMap<>();
+                    connectorObject.getAttributes().stream().
+                            filter(attr -> (!OperationalAttributes.PASSWORD_NAME.equals(attr.getName())
+                            && !OperationalAttributes.ENABLE_NAME.equals(attr.getName()))).
+                            forEachOrdered(attr -> resourceAttrs.put(attr.getName(), getValues(attr)));
+
+                    syncopeAttrs.keySet().stream().
+                            filter(syncopeAttr -> !resourceAttrs.containsKey(syncopeAttr)).
+                            forEach(name -> misaligned.add(new Misaligned(
+                            resource.getKey(),
+                            connObjectKeyValue,
+                            name,
+                            syncopeAttrs.get(name),
+                            Set.of())));
+
+                    resourceAttrs.forEach((key, values) -> {
+                        if (syncopeAttrs.containsKey(key)) {
+                            if (!Objects.equals(syncopeAttrs.get(key), values)) {
                                 misaligned.add(new Misaligned(
                                         resource.getKey(),
                                         connObjectKeyValue,
                                         key,
-                                        Set.of(),
+                                        syncopeAttrs.get(key),
                                         values));
                             }
-                        });
-                    }
+                        } else {
+                            misaligned.add(new Misaligned(
+                                    resource.getKey(),
+                                    connObjectKeyValue,
+                                    key,
+                                    Set.of(),
+                                    values));
+                        }
+                    });
                 }
-            });
-
-            if (!missing.isEmpty() || !misaligned.isEmpty()) {
-                doExtract(handler, any, missing, misaligned);
             }
+        });
+
+        if (!missing.isEmpty() || !misaligned.isEmpty()) {
+            doExtract(handler, any, missing, misaligned);
         }
     }
 
@@ -371,83 +371,35 @@ public class ReconciliationReportlet extends AbstractReportlet {
 
         AttributesImpl atts = new AttributesImpl();
 
+        int total;
+        BiFunction<String, Integer, List<String>> cursor;
         if (StringUtils.isBlank(this.conf.getUserMatchingCond())) {
-            int total = userDAO.count();
-            int pages = (total / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
-
-            status.set("Processing " + total + " users in " + pages + " pages");
-
-            atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(total));
-            handler.startElement("", "", getAnyElementName(AnyTypeKind.USER) + 's', atts);
-
-            for (int page = 1; page <= pages; page++) {
-                status.set("Processing " + total + " users: page " + page + " of " + pages);
-
-                doExtract(handler, userDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE));
-            }
+            total = userDAO.count();
+            cursor = userDAO::findAllKeys;
         } else {
             SearchCond cond = SearchCondConverter.convert(searchCondVisitor, this.conf.getUserMatchingCond());
-
-            int total = searchDAO.count(SyncopeConstants.FULL_ADMIN_REALMS, cond, AnyTypeKind.USER);
-            int pages = (total / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
-
-            status.set("Processing " + total + " users in " + pages + " pages");
-
-            atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(total));
-            handler.startElement("", "", getAnyElementName(AnyTypeKind.USER) + 's', atts);
-
-            for (int page = 1; page <= pages; page++) {
-                status.set("Processing " + total + " users: page " + page + " of " + pages);
-
-                doExtract(handler, searchDAO.search(
-                        SyncopeConstants.FULL_ADMIN_REALMS,
-                        cond,
-                        page,
-                        PAGE_SIZE,
-                        List.of(),
-                        AnyTypeKind.USER));
-            }
+            total = searchDAO.count(SyncopeConstants.FULL_ADMIN_REALMS, cond, AnyTypeKind.USER);
+            cursor = keyset(searchDAO, cond, AnyTypeKind.USER);
         }
+
+        atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(total));
+        handler.startElement("", "", getAnyElementName(AnyTypeKind.USER) + 's', atts);
+        extract(handler, cursor, (h, key) -> doExtract(h, userDAO.find(key)), total, "users", status);
         handler.endElement("", "", getAnyElementName(AnyTypeKind.USER) + 's');
 
-        atts.clear();
         if (StringUtils.isBlank(this.conf.getGroupMatchingCond())) {
-            int total = groupDAO.count();
-            int pages = (total / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
-
-            status.set("Processing " + total + " groups in " + pages + " pages");
-
-            atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(total));
-            handler.startElement("", "", getAnyElementName(AnyTypeKind.GROUP) + 's', atts);
-
-            for (int page = 1; page <= pages; page++) {
-                status.set("Processing " + total + " groups: page " + page + " of " + pages);
-
-                doExtract(handler, groupDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE));
-            }
+            total = groupDAO.count();
+            cursor = groupDAO::findAllKeys;
         } else {
-            SearchCond cond = SearchCondConverter.convert(searchCondVisitor, this.conf.getUserMatchingCond());
-
-            int total = searchDAO.count(SyncopeConstants.FULL_ADMIN_REALMS, cond, AnyTypeKind.GROUP);
-            int pages = (total / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
-
-            status.set("Processing " + total + " groups in " + pages + " pages");
-
-            atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(total));
-            handler.startElement("", "", getAnyElementName(AnyTypeKind.GROUP) + 's', atts);
-
-            for (int page = 1; page <= pages; page++) {
-                status.set("Processing " + total + " groups: page " + page + " of " + pages);
-
-                doExtract(handler, searchDAO.search(
-                        SyncopeConstants.FULL_ADMIN_REALMS,
-                        cond,
-                        page,
-                        PAGE_SIZE,
-                        List.of(),
-                        AnyTypeKind.GROUP));
-            }
+            SearchCond cond = SearchCondConverter.convert(searchCondVisitor, this.conf.getGroupMatchingCond());
+            total = searchDAO.count(SyncopeConstants.FULL_ADMIN_REALMS, cond, AnyTypeKind.GROUP);
+            cursor = keyset(searchDAO, cond, AnyTypeKind.GROUP);
         }
+
+        atts.clear();
+        atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(total));
+        handler.startElement("", "", getAnyElementName(AnyTypeKind.GROUP) + 's', atts);
+        extract(handler, cursor, (h, key) -> doExtract(h, groupDAO.find(key)), total, "groups", status);
         handler.endElement("", "", getAnyElementName(AnyTypeKind.GROUP) + 's');
 
         for (AnyType anyType : anyTypeDAO.findAll()) {
@@ -460,29 +412,19 @@ public class ReconciliationReportlet extends AbstractReportlet {
                                 SearchCond.getLeaf(anyTypeCond),
                                 SearchCondConverter.convert(searchCondVisitor, this.conf.getAnyObjectMatchingCond()));
 
-                int total = searchDAO.count(SyncopeConstants.FULL_ADMIN_REALMS, cond, AnyTypeKind.ANY_OBJECT);
-                int pages = (total / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
-
-                status.set("Processing " + total + " any objects " + anyType.getKey() + " in " + pages + " pages");
+                total = searchDAO.count(SyncopeConstants.FULL_ADMIN_REALMS, cond, AnyTypeKind.ANY_OBJECT);
 
                 atts.clear();
                 atts.addAttribute("", "", "type", ReportXMLConst.XSD_STRING, anyType.getKey());
                 atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(total));
                 handler.startElement("", "", getAnyElementName(AnyTypeKind.ANY_OBJECT) + 's', atts);
-
-                for (int page = 1; page <= pages; page++) {
-                    status.set("Processing " + total + " any objects " + anyType.getKey()
-                            + ": page " + page + " of " + pages);
-
-                    doExtract(handler, searchDAO.search(
-                            SyncopeConstants.FULL_ADMIN_REALMS,
-                            cond,
-                            page,
-                            PAGE_SIZE,
-                            List.of(),
-                            AnyTypeKind.ANY_OBJECT));
-                }
-
+                extract(
+                        handler,
+                        keyset(searchDAO, cond, AnyTypeKind.ANY_OBJECT),
+                        (h, key) -> doExtract(h, anyObjectDAO.find(key)),
+                        total,
+                        "any objects " + anyType.getKey(),
+                        status);
                 handler.endElement("", "", getAnyElementName(AnyTypeKind.ANY_OBJECT) + 's');
             }
         }
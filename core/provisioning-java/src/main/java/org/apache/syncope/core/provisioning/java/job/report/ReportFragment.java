@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Records the SAX events generated by reportlets for a single entity, to be replayed later on the report handler.
+ */
+public class ReportFragment extends DefaultHandler {
+
+    @FunctionalInterface
+    private interface Event {
+
+        void replay(ContentHandler handler) throws SAXException;
+    }
+
+    private final List<Event> events = new ArrayList<>();
+
+    @Override
+    public void startElement(final String uri, final String localName, final String qName, final Attributes atts) {
+        AttributesImpl copy = atts == null ? null : new AttributesImpl(atts);
+        events.add(handler -> handler.startElement(uri, localName, qName, copy));
+    }
+
+    @Override
+    public void endElement(final String uri, final String localName, final String qName) {
+        events.add(handler -> handler.endElement(uri, localName, qName));
+    }
+
+    @Override
+    public void characters(final char[] ch, final int start, final int length) {
+        char[] copy = Arrays.copyOfRange(ch, start, start + length);
+        events.add(handler -> handler.characters(copy, 0, copy.length));
+    }
+
+    @Override
+    public void ignorableWhitespace(final char[] ch, final int start, final int length) {
+        char[] copy = Arrays.copyOfRange(ch, start, start + length);
+        events.add(handler -> handler.ignorableWhitespace(copy, 0, copy.length));
+    }
+
+    /**
+     * Replays the recorded events, in order, on the given handler.
+     *
+     * @param handler SAX handler
+     * @throws SAXException if any error occurs while replaying
+     */
+    public void replay(final ContentHandler handler) throws SAXException {
+        for (Event event : events) {
+            event.replay(handler);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.xml.sax.SAXException;
+
+/**
+ * Builds report fragments in their own read-only transaction, so that they can be built by worker threads.
+ */
+@Component
+public class ReportFragmentBuilder {
+
+    @Transactional(readOnly = true)
+    public ReportFragment build(final String key, final AbstractReportlet.FragmentWriter writer) throws SAXException {
+        ReportFragment fragment = new ReportFragment();
+        writer.write(fragment, key);
+        return fragment;
+    }
+}
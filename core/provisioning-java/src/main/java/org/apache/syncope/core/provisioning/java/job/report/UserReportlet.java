@@ -19,7 +19,6 @@
 package org.apache.syncope.core.provisioning.java.job.report;
 
 import java.util.Collection;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.commons.lang3.StringUtils;
@@ -34,7 +33,6 @@ import org.apache.syncope.common.lib.to.MembershipTO;
 import org.apache.syncope.common.lib.to.RelationshipTO;
 import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
-import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
@@ -180,132 +178,134 @@ public class UserReportlet extends AbstractReportlet {
         }
     }
 
-    private void doExtract(final ContentHandler handler, final List<User> users) throws SAXException {
-        AttributesImpl atts = new AttributesImpl();
-        for (User user : users) {
-            atts.clear();
+    private void doExtract(final ContentHandler handler, final String key) throws SAXException {
+        User user = userDAO.find(key);
+        if (user == null) {
+            LOG.debug("User {} not found, was probably removed meanwhile", key);
+            return;
+        }
 
-            for (Feature feature : conf.getFeatures()) {
-                String type = null;
-                String value = null;
-                switch (feature) {
-                    case key:
-                        type = ReportXMLConst.XSD_STRING;
-                        value = user.getKey();
-                        break;
-
-                    case username:
-                        type = ReportXMLConst.XSD_STRING;
-                        value = user.getUsername();
-                        break;
-
-                    case status:
-                        type = ReportXMLConst.XSD_STRING;
-                        value = user.getStatus();
-                        break;
-
-                    case creationDate:
-                        type = ReportXMLConst.XSD_DATETIME;
-                        value = user.getCreationDate() == null
-                                ? ""
-                                : FormatUtils.format(user.getCreationDate());
-                        break;
-
-                    case lastLoginDate:
-                        type = ReportXMLConst.XSD_DATETIME;
-                        value = user.getLastLoginDate() == null
-                                ? ""
-                                : FormatUtils.format(user.getLastLoginDate());
-                        break;
-
-                    case changePwdDate:
-                        type = ReportXMLConst.XSD_DATETIME;
-                        value = user.getChangePwdDate() == null
-                                ? ""
-                                : FormatUtils.format(user.getChangePwdDate());
-                        break;
-
-                    case passwordHistorySize:
-                        type = ReportXMLConst.XSD_INT;
-                        value = String.valueOf(user.getPasswordHistory().size());
-                        break;
-
-                    case failedLoginCount:
-                        type = ReportXMLConst.XSD_INT;
-                        value = String.valueOf(user.getFailedLogins());
-                        break;
-
-                    default:
-                }
+        // Using UserTO for attribute values, since the conversion logic of
+        // values to String is already encapsulated there
+        UserTO userTO = userDataBinder.getUserTO(user, true);
 
-                if (type != null && value != null) {
-                    atts.addAttribute("", "", feature.name(), type, value);
-                }
+        AttributesImpl atts = new AttributesImpl();
+        for (Feature feature : conf.getFeatures()) {
+            String type = null;
+            String value = null;
+            switch (feature) {
+                case key:
+                    type = ReportXMLConst.XSD_STRING;
+                    value = user.getKey();
+                    break;
+
+                case username:
+                    type = ReportXMLConst.XSD_STRING;
+                    value = user.getUsername();
+                    break;
+
+                case status:
+                    type = ReportXMLConst.XSD_STRING;
+                    value = user.getStatus();
+                    break;
+
+                case creationDate:
+                    type = ReportXMLConst.XSD_DATETIME;
+                    value = user.getCreationDate() == null
+                            ? ""
+                            : FormatUtils.format(user.getCreationDate());
+                    break;
+
+                case lastLoginDate:
+                    type = ReportXMLConst.XSD_DATETIME;
+                    value = user.getLastLoginDate() == null
+                            ? ""
+                            : FormatUtils.format(user.getLastLoginDate());
+                    break;
+
+                case changePwdDate:
+                    type = ReportXMLConst.XSD_DATETIME;
+                    value = user.getChangePwdDate() == null
+                            ? ""
+                            : FormatUtils.format(user.getChangePwdDate());
+                    break;
+
+                case passwordHistorySize:
+                    type = ReportXMLConst.XSD_INT;
+                    value = String.valueOf(user.getPasswordHistory().size());
+                    break;
+
+                case failedLoginCount:
+                    type = ReportXMLConst.XSD_INT;
+                    value = String.valueOf(user.getFailedLogins());
+                    break;
+
+                default:
             }
 
-            handler.startElement("", "", "user", atts);
+            if (type != null && value != null) {
+                atts.addAttribute("", "", feature.name(), type, value);
+            }
+        }
 
-            // Using UserTO for attribute values, since the conversion logic of
-            // values to String is already encapsulated there
-            UserTO userTO = userDataBinder.getUserTO(user, true);
+        handler.startElement("", "", "user", atts);
 
-            doExtractAttributes(handler, userTO, conf.getPlainAttrs(), conf.getDerAttrs(), conf.getVirAttrs());
+        doExtractAttributes(handler, userTO, conf.getPlainAttrs(), conf.getDerAttrs(), conf.getVirAttrs());
 
-            if (conf.getFeatures().contains(Feature.relationships)) {
-                handler.startElement("", "", "relationships", null);
+        if (conf.getFeatures().contains(Feature.relationships)) {
+            handler.startElement("", "", "relationships", null);
 
-                for (RelationshipTO rel : userTO.getRelationships()) {
-                    atts.clear();
+            for (RelationshipTO rel : userTO.getRelationships()) {
+                atts.clear();
 
-                    atts.addAttribute("", "", "anyObjectKey",
-                            ReportXMLConst.XSD_STRING, rel.getOtherEndKey());
-                    handler.startElement("", "", "relationship", atts);
+                atts.addAttribute("", "", "anyObjectKey",
+                        ReportXMLConst.XSD_STRING, rel.getOtherEndKey());
+                handler.startElement("", "", "relationship", atts);
 
-                    if (conf.getFeatures().contains(Feature.resources)) {
-                        for (URelationship actualRel : user.getRelationships(rel.getOtherEndKey())) {
-                            doExtractResources(
-                                    handler, anyObjectDataBinder.getAnyObjectTO(actualRel.getRightEnd(), true));
-                        }
+                if (conf.getFeatures().contains(Feature.resources)) {
+                    for (URelationship actualRel : user.getRelationships(rel.getOtherEndKey())) {
+                        doExtractResources(
+                                handler, anyObjectDataBinder.getAnyObjectTO(actualRel.getRightEnd(), true));
                     }
-
-                    handler.endElement("", "", "relationship");
                 }
 
-                handler.endElement("", "", "relationships");
+                handler.endElement("", "", "relationship");
             }
-            if (conf.getFeatures().contains(Feature.memberships)) {
-                handler.startElement("", "", "memberships", null);
-
-                for (MembershipTO memb : userTO.getMemberships()) {
-                    atts.clear();
-
-                    atts.addAttribute("", "", "groupKey",
-                            ReportXMLConst.XSD_STRING, memb.getGroupKey());
-                    atts.addAttribute("", "", "groupName", ReportXMLConst.XSD_STRING, memb.getGroupName());
-                    handler.startElement("", "", "membership", atts);
-
-                    if (conf.getFeatures().contains(Feature.resources)) {
-                        UMembership actualMemb = user.getMembership(memb.getGroupKey()).orElse(null);
-                        if (actualMemb == null) {
-                            LOG.warn("Unexpected: cannot find membership for group {} for user {}",
-                                    memb.getGroupKey(), user);
-                        } else {
-                            doExtractResources(handler, groupDataBinder.getGroupTO(actualMemb.getRightEnd(), true));
-                        }
-                    }
 
-                    handler.endElement("", "", "membership");
+            handler.endElement("", "", "relationships");
+        }
+        if (conf.getFeatures().contains(Feature.memberships)) {
+            handler.startElement("", "", "memberships", null);
+
+            for (MembershipTO memb : userTO.getMemberships()) {
+                atts.clear();
+
+                atts.addAttribute("", "", "groupKey",
+                        ReportXMLConst.XSD_STRING, memb.getGroupKey());
+                atts.addAttribute("", "", "groupName", ReportXMLConst.XSD_STRING, memb.getGroupName());
+                handler.startElement("", "", "membership", atts);
+
+                if (conf.getFeatures().contains(Feature.resources)) {
+                    UMembership actualMemb = user.getMembership(memb.getGroupKey()).orElse(null);
+                    if (actualMemb == null) {
+                        LOG.warn("Unexpected: cannot find membership for group {} for user {}",
+                                memb.getGroupKey(), user);
+                    } else {
+                        doExtractResources(handler, groupDataBinder.getGroupTO(actualMemb.getRightEnd(), true));
+                    }
                 }
 
-                handler.endElement("", "", "memberships");
+                handler.endElement("", "", "membership");
             }
 
-            if (conf.getFeatures().contains(Feature.resources)) {
-                doExtractResources(handler, userTO);
-            }
+            handler.endElement("", "", "memberships");
+        }
 
-            handler.endElement("", "", "user");
+        if (conf.getFeatures().contains(Feature.resources)) {
+            doExtractResources(handler, userTO);
         }
+
+        handler.endElement("", "", "user");
     }
 
     private void doExtractConf(final ContentHandler handler) throws SAXException {
@@ -367,28 +367,16 @@ public class UserReportlet extends AbstractReportlet {
 
         doExtractConf(handler);
 
-        int total = count();
-        int pages = (total / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
-
-        status.set("Processing " + total + " users in " + pages + " pages");
-
-        for (int page = 1; page <= pages; page++) {
-            status.set("Processing " + total + " users: page " + page + " of " + pages);
-
-            List<User> users;
-            if (StringUtils.isBlank(this.conf.getMatchingCond())) {
-                users = userDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE);
-            } else {
-                users = searchDAO.search(
-                        SyncopeConstants.FULL_ADMIN_REALMS,
+        extract(
+                handler,
+                StringUtils.isBlank(this.conf.getMatchingCond())
+                ? userDAO::findAllKeys
+                : keyset(searchDAO,
                         SearchCondConverter.convert(searchCondVisitor, this.conf.getMatchingCond()),
-                        page,
-                        AnyDAO.DEFAULT_PAGE_SIZE,
-                        List.of(),
-                        AnyTypeKind.USER);
-            }
-
-            doExtract(handler, users);
-        }
+                        AnyTypeKind.USER),
+                this::doExtract,
+                count(),
+                "users",
+                status);
     }
 }
@@ -18,12 +18,17 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.TraceLevel;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
@@ -50,6 +55,16 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
 
     private static final String LINKED_ACCOUNT = "LINKED_ACCOUNT";
 
+    /**
+     * Times provisioning task executions, tagged by task and resource.
+     */
+    private static final String EXECUTION_TIMER = "syncope.provisioning.execution";
+
+    /**
+     * Counts provisioning results, tagged by task, resource, operation and status.
+     */
+    private static final String RESULTS_COUNTER = "syncope.provisioning.results";
+
     /**
      * Helper method to invoke logging per provisioning result, for the given trace level.
      *
@@ -105,8 +120,31 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
     @Autowired
     protected PolicyDAO policyDAO;
 
+    @Autowired
+    protected MeterRegistry meterRegistry;
+
+    /**
+     * Counts the given provisioning results, so that throughput can be computed together with execution times.
+     *
+     * @param provResults Provisioning results
+     * @param resource Provisioning resource
+     */
+    protected void countResults(final Collection<ProvisioningReport> provResults, final ExternalResource resource) {
+        Map<Pair<String, String>, Long> counts = provResults.stream().collect(Collectors.groupingBy(
+                result -> Pair.of(
+                        Objects.toString(result.getOperation(), "none"),
+                        Objects.toString(result.getStatus(), "none")),
+                Collectors.counting()));
+        counts.forEach((opStatus, count) -> meterRegistry.counter(RESULTS_COUNTER,
+                "task", task.getKey(),
+                "resource", resource.getKey(),
+                "operation", opStatus.getLeft(),
+                "status", opStatus.getRight()).increment(count));
+    }
+
     /**
-     * Create a textual report of the provisioning operation, based on the trace level.
+     * Count the provisioning results, then create a textual report of the provisioning operation, based on the trace
+     * level.
      *
      * @param provResults Provisioning results
      * @param resource Provisioning resource
@@ -118,6 +156,8 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
             final ExternalResource resource,
             final boolean dryRun) {
 
+        countResults(provResults, resource);
+
         TraceLevel traceLevel = resource.getProvisioningTraceLevel();
         if (traceLevel == TraceLevel.NONE) {
             return null;
@@ -661,7 +701,14 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
                 return "No provisions nor orgUnit available: aborting...";
             }
 
-            return doExecuteProvisioning(provisioningTask, connector, dryRun, executor);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                return doExecuteProvisioning(provisioningTask, connector, dryRun, executor);
+            } finally {
+                sample.stop(meterRegistry.timer(EXECUTION_TIMER,
+                        "task", provisioningTask.getKey(),
+                        "resource", provisioningTask.getResource().getKey()));
+            }
         } catch (Throwable t) {
             LOG.error("While executing provisioning job {}", getClass().getName(), t);
             throw t;
@@ -18,9 +18,15 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.exception.ExceptionUtils;
@@ -40,11 +46,14 @@ import org.apache.syncope.common.lib.types.PullMode;
 import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.common.lib.types.UnmatchingRule;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
+import org.apache.syncope.core.persistence.api.dao.PullFingerprintDAO;
 import org.apache.syncope.core.persistence.api.dao.RemediationDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationException;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
+import org.apache.syncope.core.spring.security.Encryptor;
 import org.apache.syncope.core.persistence.api.dao.VirSchemaDAO;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.Remediation;
 import org.apache.syncope.core.persistence.api.entity.resource.Provision;
@@ -63,7 +72,11 @@ import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullExecutor;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.identityconnectors.common.security.GuardedByteArray;
+import org.identityconnectors.common.security.GuardedString;
+import org.identityconnectors.common.security.SecurityUtil;
 import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
 import org.identityconnectors.framework.common.objects.SyncDelta;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.quartz.JobExecutionException;
@@ -101,6 +114,9 @@ public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHan
     @Autowired
     protected EntityFactory entityFactory;
 
+    @Autowired
+    protected PullFingerprintDAO pullFingerprintDAO;
+
     protected SyncopePullExecutor executor;
 
     protected Result latestResult;
@@ -115,6 +131,64 @@ public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHan
 
     protected abstract AnyUR doUpdate(AnyTO before, AnyUR anyUR, SyncDelta delta, ProvisioningReport result);
 
+    private static String getFingerprintValue(final Object value) {
+        if (value instanceof GuardedString) {
+            return Encryptor.getInstance().hmac(
+                    SecurityUtil.decrypt((GuardedString) value).getBytes(StandardCharsets.UTF_8));
+        }
+        if (value instanceof GuardedByteArray) {
+            return Encryptor.getInstance().hmac(SecurityUtil.decrypt((GuardedByteArray) value));
+        }
+        return value instanceof byte[]
+                ? Base64.getEncoder().encodeToString((byte[]) value)
+                : String.valueOf(value);
+    }
+
+    /**
+     * Computes a digest of all attributes of the given connector object, regardless of their order; passwords and
+     * any other guarded value only contribute through their HMAC, keyed with the configured secret key, so that
+     * changes to them are detected while no secret can be inferred from the stored digest.
+     *
+     * @param connObj connector object
+     * @return digest of all attributes of the given connector object
+     */
+    protected static String getFingerprint(final ConnectorObject connObj) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        connObj.getAttributes().stream().sorted(Comparator.comparing(Attribute::getName)).forEach(attr -> {
+            digest.update(attr.getName().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+
+            Optional.ofNullable(attr.getValue()).orElse(List.of()).stream().
+                    map(AbstractPullResultHandler::getFingerprintValue).
+                    sorted().forEach(value -> {
+                        digest.update(value.getBytes(StandardCharsets.UTF_8));
+                        digest.update((byte) 0);
+                    });
+            digest.update((byte) 1);
+        });
+
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    /**
+     * Combines the fingerprint of the pulled connector object with the latest change of the matching any, so that
+     * local changes occurred after the latest pull are not ignored.
+     *
+     * @param connObjFingerprint fingerprint of the pulled connector object
+     * @param any matching any
+     * @return fingerprint for the given connector object and any
+     */
+    protected static String getFingerprint(final String connObjFingerprint, final Any<?> any) {
+        return connObjFingerprint + ':' + Optional.ofNullable(any.getLastChangeDate()).
+                orElse(any.getCreationDate()).getTime();
+    }
+
     @Override
     public void setPullExecutor(final SyncopePullExecutor executor) {
         this.executor = executor;
@@ -313,6 +387,20 @@ public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHan
             result.setKey(match.getAny().getKey());
             result.setUidValue(delta.getUid().getUidValue());
 
+            String connObjFingerprint = null;
+            if (profile.getTask().isSkipUnchanged()) {
+                connObjFingerprint = getFingerprint(delta.getObject());
+                if (getFingerprint(connObjFingerprint, match.getAny()).equals(pullFingerprintDAO.find(
+                        profile.getTask().getResource().getKey(), match.getAny().getKey()))) {
+
+                    LOG.debug("{} {} unchanged since latest pull, skipping", provision.getAnyType().getKey(), match);
+                    result.setStatus(ProvisioningReport.Status.IGNORE);
+                    result.setMessage("Unchanged since latest pull");
+                    results.add(result);
+                    continue;
+                }
+            }
+
             AnyTO before = getAnyTO(match.getAny());
             if (before == null) {
                 result.setStatus(ProvisioningReport.Status.FAILURE);
@@ -354,6 +442,13 @@ public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHan
                         resultStatus = Result.SUCCESS;
                         result.setName(getName(updated));
 
+                        if (connObjFingerprint != null) {
+                            pullFingerprintDAO.save(
+                                    profile.getTask().getResource().getKey(),
+                                    before.getKey(),
+                                    getFingerprint(connObjFingerprint, getAnyUtils().dao().find(before.getKey())));
+                        }
+
                         LOG.debug("{} {} successfully updated", provision.getAnyType().getKey(), match);
                     } catch (PropagationException e) {
                         // A propagation failure doesn't imply a pull failure.
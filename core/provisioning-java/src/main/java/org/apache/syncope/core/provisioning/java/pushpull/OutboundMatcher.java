@@ -24,6 +24,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
@@ -94,8 +95,20 @@ public class OutboundMatcher {
     }
 
     public String getFIQL(final ConnectorObject connectorObject, final Provision provision) {
-        return rule(provision).
-                map(rule -> rule.getFiql(connectorObject, provision)).
+        return getFIQLBuilder(provision).apply(connectorObject);
+    }
+
+    /**
+     * Builds the correlation rule of the given provision once, for building the FIQL of several connector objects;
+     * the returned function can be also used once the transaction which loaded the provision is over.
+     *
+     * @param provision resource provision
+     * @return function building the FIQL of the given connector object
+     */
+    public Function<ConnectorObject, String> getFIQLBuilder(final Provision provision) {
+        Optional<PushCorrelationRule> rule = rule(provision);
+        return connectorObject -> rule.
+                map(r -> r.getFiql(connectorObject, provision)).
                 orElseGet(() -> PushCorrelationRule.DEFAULT_FIQL_BUILDER.apply(connectorObject, provision));
     }
 
@@ -0,0 +1,290 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.to.ConnObjectTO;
+import org.apache.syncope.common.lib.to.ReconStatus;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.MatchType;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.NotFoundException;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
+import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
+import org.apache.syncope.core.persistence.api.dao.search.ResourceCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.AnyType;
+import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.resource.MappingItem;
+import org.apache.syncope.core.persistence.api.entity.resource.Provision;
+import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.ConnectorFactory;
+import org.apache.syncope.core.provisioning.api.MappingManager;
+import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
+import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.framework.common.objects.AttributeUtil;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.OperationOptions;
+import org.identityconnectors.framework.common.objects.OperationalAttributes;
+import org.identityconnectors.framework.common.objects.SearchResult;
+import org.identityconnectors.framework.spi.SearchResultsHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reads, in key order, the users, groups or any objects assigned to an External Resource, as Syncope would propagate
+ * them there, and the objects found on the External Resource; each page of entities is read in its own transaction, so
+ * that bulk reconciliation does not retain entities, while objects are read outside of any transaction.
+ */
+@Component
+public class ReconDriftReader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReconDriftReader.class);
+
+    @Autowired
+    private AnyTypeDAO anyTypeDAO;
+
+    @Autowired
+    private ExternalResourceDAO resourceDAO;
+
+    @Autowired
+    private AnySearchDAO searchDAO;
+
+    @Autowired
+    private MappingManager mappingManager;
+
+    @Autowired
+    private ConnectorFactory connFactory;
+
+    @Autowired
+    private OutboundMatcher outboundMatcher;
+
+    /**
+     * Password values are never compared, hence they are not to be kept - and spilled to temporary files.
+     *
+     * @param connObjectTO connector object
+     * @return the given connector object, without password
+     */
+    protected static ConnObjectTO withoutPassword(final ConnObjectTO connObjectTO) {
+        connObjectTO.getAttrs().removeIf(attr -> OperationalAttributes.PASSWORD_NAME.equals(attr.getSchema()));
+        return connObjectTO;
+    }
+
+    protected Provision getProvision(final String anyTypeKey, final String resourceKey) {
+        AnyType anyType = anyTypeDAO.find(anyTypeKey);
+        if (anyType == null) {
+            throw new NotFoundException("AnyType '" + anyTypeKey + "'");
+        }
+        ExternalResource resource = resourceDAO.find(resourceKey);
+        if (resource == null) {
+            throw new NotFoundException("Resource '" + resourceKey + "'");
+        }
+        Provision provision = resource.getProvision(anyType).
+                orElseThrow(() -> new NotFoundException(
+                "Provision for " + anyType + " on Resource '" + resourceKey + "'"));
+        if (provision.getMapping() == null) {
+            throw new NotFoundException("Mapping for " + anyType + " on Resource '" + resourceKey + "'");
+        }
+        return provision;
+    }
+
+    protected static MappingItem getConnObjectKeyItem(final Provision provision) {
+        return MappingUtils.getConnObjectKeyItem(provision).
+                orElseThrow(() -> new NotFoundException(
+                "ConnObjectKey for " + provision.getAnyType().getKey()
+                + " on resource '" + provision.getResource().getKey() + "'"));
+    }
+
+    /**
+     * Checks that entities of the given type can be reconciled with the given resource.
+     *
+     * @param anyTypeKey any type key
+     * @param resourceKey resource key
+     * @return any type kind and whether connObjectKey values are to be matched ignoring case
+     */
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public Pair<AnyTypeKind, Boolean> check(final String anyTypeKey, final String resourceKey) {
+        Provision provision = getProvision(anyTypeKey, resourceKey);
+        getConnObjectKeyItem(provision);
+        return Pair.of(provision.getAnyType().getKind(), provision.isIgnoreCaseMatch());
+    }
+
+    /**
+     * Reads the page of entities following the given key.
+     *
+     * @param adminRealms realms where to search for entities
+     * @param anyTypeKey any type key
+     * @param resourceKey resource key
+     * @param after key of the last entity read by previous page, null for first page
+     * @param size page size
+     * @return connObjectKey value (null when not available) and reconciliation status, with on Syncope side only,
+     * for each entity read
+     */
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public List<Pair<String, ReconStatus>> read(
+            final Set<String> adminRealms,
+            final String anyTypeKey,
+            final String resourceKey,
+            final String after,
+            final int size) {
+
+        Provision provision = getProvision(anyTypeKey, resourceKey);
+        MappingItem connObjectKeyItem = getConnObjectKeyItem(provision);
+
+        ResourceCond resourceCond = new ResourceCond();
+        resourceCond.setResourceKey(resourceKey);
+        SearchCond cond = SearchCond.getLeaf(resourceCond);
+        if (after != null) {
+            AnyCond afterCond = new AnyCond(AttrCond.Type.GT);
+            afterCond.setSchema("key");
+            afterCond.setExpression(after);
+            cond = SearchCond.getAnd(cond, SearchCond.getLeaf(afterCond));
+        }
+
+        OrderByClause orderByKey = new OrderByClause();
+        orderByKey.setField("key");
+        orderByKey.setDirection(OrderByClause.Direction.ASC);
+
+        List<Any<?>> page = searchDAO.search(
+                adminRealms, cond, 1, size, List.of(orderByKey), provision.getAnyType().getKind());
+
+        List<Pair<String, ReconStatus>> result = new ArrayList<>(page.size());
+        page.forEach(any -> {
+            ReconStatus status = new ReconStatus();
+            status.setMatchType(MatchType.ANY);
+            status.setAnyTypeKind(provision.getAnyType().getKind());
+            status.setAnyKey(any.getKey());
+            status.setRealm(any.getRealm().getFullPath());
+
+            Pair<String, Set<Attribute>> prepared = mappingManager.prepareAttrsFromAny(
+                    any, null, false, true, provision);
+            if (prepared.getLeft() != null) {
+                status.setOnSyncope(withoutPassword(ConnObjectUtils.getConnObjectTO(
+                        connObjectKeyItem, prepared.getLeft(), prepared.getRight())));
+            }
+
+            result.add(Pair.of(prepared.getLeft(), status));
+        });
+        return result;
+    }
+
+    /**
+     * Resolves, in a short read-only transaction, what is needed to read all objects found on the given resource.
+     *
+     * @param anyTypeKey any type key
+     * @param resourceKey resource key
+     * @return what is needed to read all objects found on the given resource
+     */
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public ResourceScan prepareOnResource(final String anyTypeKey, final String resourceKey) {
+        Provision provision = getProvision(anyTypeKey, resourceKey);
+
+        return new ResourceScan(
+                connFactory.getConnector(provision.getResource()),
+                provision.getObjectClass(),
+                getConnObjectKeyItem(provision).getExtAttrName(),
+                MappingUtils.buildOperationOptions(provision.getMapping().getItems().stream()),
+                outboundMatcher.getFIQLBuilder(provision));
+    }
+
+    /**
+     * Reads all objects found on the given resource, outside of any transaction: no database connection is held
+     * while the connector scans the resource.
+     *
+     * @param scan what is needed to read all objects found on the resource, as resolved by
+     * {@link #prepareOnResource(java.lang.String, java.lang.String)}
+     * @param consumer invoked with connObjectKey value and reconciliation status, with on resource side only, for
+     * each object read
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void readOnResource(final ResourceScan scan, final BiConsumer<String, ReconStatus> consumer) {
+        SearchResultsHandler handler = new SearchResultsHandler() {
+
+            @Override
+            public boolean handle(final ConnectorObject connObj) {
+                Attribute connObjectKey = connObj.getAttributeByName(scan.connObjectKeyExtAttrName);
+                String connObjectKeyValue = connObjectKey == null
+                        ? connObj.getUid().getUidValue()
+                        : AttributeUtil.getAsStringValue(connObjectKey);
+
+                if (connObjectKeyValue == null) {
+                    LOG.debug("No connObjectKey value for {}, ignoring", connObj.getUid());
+                    return true;
+                }
+
+                ReconStatus status = new ReconStatus();
+                status.setOnResource(withoutPassword(ConnObjectUtils.getConnObjectTO(
+                        scan.fiqlBuilder.apply(connObj), connObj.getAttributes())));
+                consumer.accept(connObjectKeyValue, status);
+                return true;
+            }
+
+            @Override
+            public void handleResult(final SearchResult sr) {
+                // do nothing
+            }
+        };
+        scan.connector.search(scan.objectClass, null, handler, scan.options);
+    }
+
+    /**
+     * What is needed to read all objects found on a resource, once the transaction which resolved it is over.
+     */
+    public static class ResourceScan {
+
+        private final Connector connector;
+
+        private final ObjectClass objectClass;
+
+        private final String connObjectKeyExtAttrName;
+
+        private final OperationOptions options;
+
+        private final Function<ConnectorObject, String> fiqlBuilder;
+
+        protected ResourceScan(
+                final Connector connector,
+                final ObjectClass objectClass,
+                final String connObjectKeyExtAttrName,
+                final OperationOptions options,
+                final Function<ConnectorObject, String> fiqlBuilder) {
+
+            this.connector = connector;
+            this.objectClass = objectClass;
+            this.connObjectKeyExtAttrName = connObjectKeyExtAttrName;
+            this.options = options;
+            this.fiqlBuilder = fiqlBuilder;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.to.ReconStatus;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects reconciliation statuses keyed by connObjectKey value, to give them back sorted by key.
+ * At most {@code runSize} statuses are kept in memory: when exceeded, they are sorted and spilled as run onto a
+ * temporary file; runs are then merged while reading.
+ */
+public class ReconDriftSpool implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReconDriftSpool.class);
+
+    private static final Comparator<Pair<String, ReconStatus>> BY_KEY = Comparator.comparing(Pair::getLeft);
+
+    private static class Run {
+
+        private final BufferedReader reader;
+
+        private Pair<String, ReconStatus> head;
+
+        Run(final BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        boolean advance() {
+            try {
+                String key = reader.readLine();
+                head = key == null
+                        ? null
+                        : Pair.of(
+                                POJOHelper.deserialize(key, String.class),
+                                POJOHelper.deserialize(reader.readLine(), ReconStatus.class));
+                return head != null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private final int runSize;
+
+    private final List<Pair<String, ReconStatus>> buffer = new ArrayList<>();
+
+    private final List<Path> runs = new ArrayList<>();
+
+    private final List<BufferedReader> readers = new ArrayList<>();
+
+    public ReconDriftSpool(final int runSize) {
+        this.runSize = runSize;
+    }
+
+    public void add(final String key, final ReconStatus status) throws IOException {
+        buffer.add(Pair.of(key, status));
+        if (buffer.size() >= runSize) {
+            spill();
+        }
+    }
+
+    private void spill() throws IOException {
+        buffer.sort(BY_KEY);
+
+        Path run = Files.createTempFile("reconDrift", ".run");
+        runs.add(run);
+        try (BufferedWriter writer = Files.newBufferedWriter(run)) {
+            for (Pair<String, ReconStatus> item : buffer) {
+                // JSON escapes line terminators, hence each entry takes exactly two lines
+                writer.write(POJOHelper.serialize(item.getLeft()));
+                writer.newLine();
+                writer.write(POJOHelper.serialize(item.getRight()));
+                writer.newLine();
+            }
+        }
+
+        buffer.clear();
+    }
+
+    /**
+     * Gives back all collected statuses, sorted by connObjectKey value; to be invoked once, after all statuses were
+     * added.
+     *
+     * @return collected statuses, sorted by connObjectKey value
+     * @throws IOException if runs cannot be written or read
+     */
+    public Iterator<Pair<String, ReconStatus>> sorted() throws IOException {
+        if (runs.isEmpty()) {
+            buffer.sort(BY_KEY);
+            return buffer.iterator();
+        }
+
+        if (!buffer.isEmpty()) {
+            spill();
+        }
+
+        PriorityQueue<Run> heads = new PriorityQueue<>(runs.size(), Comparator.comparing(run -> run.head, BY_KEY));
+        for (Path path : runs) {
+            BufferedReader reader = Files.newBufferedReader(path);
+            readers.add(reader);
+
+            Run run = new Run(reader);
+            if (run.advance()) {
+                heads.add(run);
+            }
+        }
+
+        return new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public Pair<String, ReconStatus> next() {
+                Run run = heads.poll();
+                if (run == null) {
+                    throw new NoSuchElementException();
+                }
+
+                Pair<String, ReconStatus> next = run.head;
+                if (run.advance()) {
+                    heads.add(run);
+                }
+                return next;
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        buffer.clear();
+
+        readers.forEach(reader -> {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                LOG.error("While closing {}", reader, e);
+            }
+        });
+        runs.forEach(run -> {
+            try {
+                Files.deleteIfExists(run);
+            } catch (IOException e) {
+                LOG.error("While deleting {}", run, e);
+            }
+        });
+    }
+}
@@ -99,6 +99,7 @@ public class SinglePullJobDelegate extends PullJobDelegate implements SyncopeSin
             pullTask.setSyncStatus(pullTaskTO.isSyncStatus());
             pullTask.setDestinationRealm(realmDAO.findByFullPath(pullTaskTO.getDestinationRealm()));
             pullTask.setRemediation(pullTaskTO.isRemediation());
+            pullTask.setSkipUnchanged(pullTaskTO.isSkipUnchanged());
             // validate JEXL expressions from templates and proceed if fine
             TemplateUtils.check(pullTaskTO.getTemplates(), ClientExceptionType.InvalidPullTask);
             pullTaskTO.getTemplates().forEach((type, template) -> {
@@ -46,6 +46,7 @@ import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.policy.PasswordPolicy;
+import org.apache.syncope.core.persistence.api.entity.resource.MappingItem;
 import org.apache.syncope.core.persistence.api.entity.resource.OrgUnit;
 import org.apache.syncope.core.persistence.api.entity.resource.Provision;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
@@ -59,6 +60,7 @@ import org.identityconnectors.common.security.GuardedString;
 import org.identityconnectors.common.security.SecurityUtil;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.Uid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -151,6 +153,28 @@ public class ConnObjectUtils {
         return connObjectTO;
     }
 
+    /**
+     * Builds {@link ConnObjectTO} out of the attributes prepared for propagation, as Syncope would send them.
+     *
+     * @param connObjectKeyItem connObjectKey mapping item
+     * @param connObjectKeyValue connObjectKey value
+     * @param attrs attributes prepared for propagation
+     * @return transfer object
+     */
+    public static ConnObjectTO getConnObjectTO(
+            final MappingItem connObjectKeyItem,
+            final String connObjectKeyValue,
+            final Set<Attribute> attrs) {
+
+        ConnObjectTO connObjectTO = getConnObjectTO(null, attrs);
+        connObjectTO.getAttrs().add(new Attr.Builder(connObjectKeyItem.getExtAttrName()).
+                value(connObjectKeyValue).build());
+        connObjectTO.getAttrs().add(new Attr.Builder(Uid.NAME).
+                value(connObjectKeyValue).build());
+
+        return connObjectTO;
+    }
+
     /**
      * Build a UserCR / GroupCR / AnyObjectCR out of connector object attributes and schema mapping.
      *
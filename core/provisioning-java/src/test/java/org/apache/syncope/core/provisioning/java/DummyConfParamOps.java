@@ -19,27 +19,34 @@
 package org.apache.syncope.core.provisioning.java;
 
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.springframework.stereotype.Component;
 
 @Component
 public class DummyConfParamOps implements ConfParamOps {
 
+    private final Map<String, Map<String, Object>> params = new ConcurrentHashMap<>();
+
     @Override
     public Map<String, Object> list(final String domain) {
-        return Map.of();
+        return Map.copyOf(params.getOrDefault(domain, Map.of()));
     }
 
     @Override
     public <T> T get(final String domain, final String key, final T defaultValue, final Class<T> reference) {
-        return defaultValue;
+        Object value = params.getOrDefault(domain, Map.of()).get(key);
+        return reference.isInstance(value) ? reference.cast(value) : defaultValue;
     }
 
     @Override
     public <T> void set(final String domain, final String key, final T value) {
+        params.computeIfAbsent(domain, k -> new ConcurrentHashMap<>()).put(key, value);
     }
 
     @Override
     public void remove(final String domain, final String key) {
+        Optional.ofNullable(params.get(domain)).ifPresent(domainParams -> domainParams.remove(key));
     }
 }
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.ExecStatus;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.TaskDAO;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
+import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
+import org.apache.syncope.core.provisioning.api.RetentionManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional("Master")
+public class RetentionManagerTest extends AbstractTest {
+
+    private static Date daysAgo(final int days) {
+        return new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(days));
+    }
+
+    @Autowired
+    private RetentionManager retentionManager;
+
+    @Autowired
+    private ConfParamOps confParamOps;
+
+    @Autowired
+    private EntityFactory entityFactory;
+
+    @Autowired
+    private TaskDAO taskDAO;
+
+    @Autowired
+    private ExternalResourceDAO resourceDAO;
+
+    private String newPropagationTask(final String resource, final Object... execs) {
+        PropagationTask task = entityFactory.newEntity(PropagationTask.class);
+        task.setResource(resourceDAO.find(resource));
+        task.setAnyTypeKind(AnyTypeKind.USER);
+        task.setAnyType(AnyTypeKind.USER.name());
+        task.setOperation(ResourceOperation.UPDATE);
+        task.setConnObjectKey("retention@syncope.apache.org");
+
+        // pairs of status and days since end
+        for (int i = 0; i < execs.length; i += 2) {
+            Date end = daysAgo((Integer) execs[i + 1]);
+
+            TaskExec exec = entityFactory.newEntity(TaskExec.class);
+            exec.setStatus(((ExecStatus) execs[i]).name());
+            exec.setExecutor("admin");
+            exec.setStart(new Date(end.getTime() - TimeUnit.MINUTES.toMillis(1)));
+            exec.setEnd(end);
+            exec.setTask(task);
+            task.add(exec);
+        }
+
+        return taskDAO.save(task).getKey();
+    }
+
+    private List<String> getExecStatuses(final String taskKey) {
+        return taskDAO.<PropagationTask>find(taskKey).getExecs().stream().
+                sorted((exec1, exec2) -> exec2.getStart().compareTo(exec1.getStart())).
+                map(TaskExec::getStatus).
+                collect(Collectors.toList());
+    }
+
+    @Test
+    public void purge() {
+        String overridden = "ws-target-resource-1";
+        String other = "ws-target-resource-timeout";
+
+        // whole task out of retention on the overridden resource, but for keepLast
+        String old = newPropagationTask(overridden, ExecStatus.SUCCESS, 10);
+        String mixed = newPropagationTask(overridden,
+                ExecStatus.SUCCESS, 10,
+                ExecStatus.FAILURE, 9,
+                ExecStatus.SUCCESS, 8,
+                ExecStatus.FAILURE, 2,
+                ExecStatus.SUCCESS, 1);
+        String otherMixed = newPropagationTask(other,
+                ExecStatus.SUCCESS, 10,
+                ExecStatus.SUCCESS, 9,
+                ExecStatus.FAILURE, 8);
+
+        // keepLast for all resources, keepDays and keepFailedDays only for the overridden resource
+        confParamOps.set(SyncopeConstants.MASTER_DOMAIN, "retention.propagation.keepLast", 2);
+        confParamOps.set(SyncopeConstants.MASTER_DOMAIN, "retention.propagation." + overridden + ".keepDays", 5);
+        confParamOps.set(SyncopeConstants.MASTER_DOMAIN, "retention.propagation." + overridden + ".keepFailedDays", 30);
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        TestTransaction.start();
+        try {
+            Map<String, Integer> deleted = retentionManager.purge();
+
+            // the successful executions of mixed older than 5 days, then the oldest of otherMixed
+            assertEquals(3, deleted.get("propagation"));
+            assertEquals(0, deleted.get("notification"));
+            assertEquals(0, deleted.get("report"));
+
+            assertEquals(List.of(ExecStatus.SUCCESS.name()), getExecStatuses(old));
+            assertEquals(
+                    List.of(ExecStatus.SUCCESS.name(), ExecStatus.FAILURE.name(), ExecStatus.FAILURE.name()),
+                    getExecStatuses(mixed));
+            assertEquals(List.of(ExecStatus.FAILURE.name(), ExecStatus.SUCCESS.name()), getExecStatuses(otherMixed));
+        } finally {
+            confParamOps.remove(SyncopeConstants.MASTER_DOMAIN, "retention.propagation.keepLast");
+            confParamOps.remove(SyncopeConstants.MASTER_DOMAIN, "retention.propagation." + overridden + ".keepDays");
+            confParamOps.remove(
+                    SyncopeConstants.MASTER_DOMAIN, "retention.propagation." + overridden + ".keepFailedDays");
+
+            for (String taskKey : List.of(old, mixed, otherMixed)) {
+                if (taskDAO.find(taskKey) != null) {
+                    taskDAO.delete(taskKey);
+                }
+            }
+            TestTransaction.flagForCommit();
+        }
+    }
+}
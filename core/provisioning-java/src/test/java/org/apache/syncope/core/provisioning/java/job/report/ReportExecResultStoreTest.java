@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import java.util.Date;
+import org.apache.syncope.common.lib.types.ReportExecStatus;
+import org.apache.syncope.core.persistence.api.dao.ReportDAO;
+import org.apache.syncope.core.persistence.api.dao.ReportExecDAO;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.ReportExec;
+import org.apache.syncope.core.provisioning.api.job.report.ReportExecResultOutputStream;
+import org.apache.syncope.core.provisioning.api.job.report.ReportExecResultStore;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional("Master")
+public class ReportExecResultStoreTest extends AbstractTest {
+
+    private static final byte[] RESULT = "<report/>".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private ReportDAO reportDAO;
+
+    @Autowired
+    private ReportExecDAO reportExecDAO;
+
+    @Autowired
+    private EntityFactory entityFactory;
+
+    private ReportExec reportExec() {
+        ReportExec reportExec = entityFactory.newEntity(ReportExec.class);
+        reportExec.setReport(reportDAO.find("0062ea9c-924d-4ecf-9961-4492a8cc6d1b"));
+        reportExec.setStatus(ReportExecStatus.SUCCESS);
+        reportExec.setStart(new Date());
+        reportExec.setExecutor("admin");
+        return reportExecDAO.save(reportExec);
+    }
+
+    private DBReportExecResultStore dbStore() {
+        DBReportExecResultStore store = new DBReportExecResultStore();
+        store.reportExecDAO = reportExecDAO;
+        return store;
+    }
+
+    private static void store(final ReportExecResultStore store, final ReportExec reportExec) throws IOException {
+        try (OutputStream out = store.store(reportExec)) {
+            out.write(RESULT, 0, 4);
+            out.write(RESULT, 4, RESULT.length - 4);
+        }
+    }
+
+    private static byte[] load(final ReportExecResultStore store, final ReportExec reportExec) throws IOException {
+        try (InputStream in = store.load(reportExec)) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Test
+    public void db() throws IOException {
+        DBReportExecResultStore store = dbStore();
+
+        ReportExec reportExec = reportExec();
+        assertFalse(store.exists(reportExec));
+        assertThrows(IOException.class, () -> store.load(reportExec));
+
+        // failed results are not stored
+        ReportExecResultOutputStream out = store.store(reportExec);
+        out.write(RESULT);
+        out.fail();
+        out.close();
+        assertFalse(store.exists(reportExec));
+
+        store(store, reportExec);
+        assertTrue(store.exists(reportExec));
+        assertArrayEquals(RESULT, load(store, reportExec));
+    }
+
+    @Test
+    public void fileSystem(final @TempDir Path directory) throws IOException {
+        FileSystemReportExecResultStore store = new FileSystemReportExecResultStore();
+        store.reportExecDAO = reportExecDAO;
+        store.directory = directory.resolve("reports").toString();
+
+        ReportExec reportExec = reportExec();
+        assertFalse(store.exists(reportExec));
+
+        // failed results are discarded
+        ReportExecResultOutputStream out = store.store(reportExec);
+        out.write(RESULT);
+        out.fail();
+        out.close();
+        assertFalse(store.exists(reportExec));
+        try (Stream<Path> files = Files.list(store.getPath(reportExec).getParent())) {
+            assertEquals(0, files.count());
+        }
+
+        // partial results are not visible
+        out = store.store(reportExec);
+        out.write(RESULT);
+        assertFalse(store.exists(reportExec));
+        out.close();
+
+        assertTrue(store.exists(reportExec));
+        assertTrue(Files.exists(store.getPath(reportExec)));
+        assertFalse(reportExecDAO.hasExecResult(reportExec.getKey()));
+        assertArrayEquals(RESULT, load(store, reportExec));
+
+        store.delete(reportExec.getKey());
+        assertFalse(store.exists(reportExec));
+        assertFalse(Files.exists(store.getPath(reportExec)));
+
+        // results stored in the internal storage are still available
+        ReportExec dbReportExec = reportExec();
+        store(dbStore(), dbReportExec);
+        assertTrue(store.exists(dbReportExec));
+        assertArrayEquals(RESULT, load(store, dbReportExec));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.Set;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.identityconnectors.common.security.GuardedString;
+import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.junit.jupiter.api.Test;
+
+public class PullFingerprintTest extends AbstractTest {
+
+    private static ConnectorObject connObj(final String email, final String password) {
+        return new ConnectorObjectBuilder().
+                setObjectClass(ObjectClass.ACCOUNT).
+                setUid("uid").
+                setName("name").
+                addAttribute(AttributeBuilder.build("email", email)).
+                addAttribute(AttributeBuilder.buildPassword(new GuardedString(password.toCharArray()))).
+                build();
+    }
+
+    @Test
+    public void fingerprint() {
+        String fingerprint = AbstractPullResultHandler.getFingerprint(connObj("user@apache.org", "password123"));
+
+        // stable, regardless of the attribute order
+        assertEquals(fingerprint, AbstractPullResultHandler.getFingerprint(new ConnectorObjectBuilder().
+                setObjectClass(ObjectClass.ACCOUNT).
+                addAttributes(Set.of(
+                        AttributeBuilder.buildPassword(new GuardedString("password123".toCharArray())),
+                        AttributeBuilder.build("email", "user@apache.org"))).
+                setUid("uid").
+                setName("name").
+                build()));
+
+        // changes to plain values are detected
+        assertNotEquals(fingerprint, AbstractPullResultHandler.getFingerprint(
+                connObj("user2@apache.org", "password123")));
+
+        // changes to guarded values are detected as well
+        assertNotEquals(fingerprint, AbstractPullResultHandler.getFingerprint(
+                connObj("user@apache.org", "password321")));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.to.ReconStatus;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.junit.jupiter.api.Test;
+
+public class ReconDriftSpoolTest extends AbstractTest {
+
+    private static List<Pair<String, String>> spool(final int runSize, final List<String> keys) throws IOException {
+        List<Pair<String, String>> sorted = new ArrayList<>();
+        try (ReconDriftSpool spool = new ReconDriftSpool(runSize)) {
+            for (String key : keys) {
+                ReconStatus status = new ReconStatus();
+                status.setAnyKey("any-" + key);
+                spool.add(key, status);
+            }
+
+            spool.sorted().forEachRemaining(item -> sorted.add(Pair.of(item.getLeft(), item.getRight().getAnyKey())));
+        }
+        return sorted;
+    }
+
+    @Test
+    public void sorted() throws IOException {
+        List<String> keys = IntStream.range(0, 50).mapToObj(i -> String.format("key%02d", i)).
+                collect(Collectors.toList());
+        List<Pair<String, String>> expected = keys.stream().map(key -> Pair.of(key, "any-" + key)).
+                collect(Collectors.toList());
+
+        List<String> shuffled = new ArrayList<>(keys);
+        Collections.shuffle(shuffled);
+
+        // all in memory
+        assertEquals(expected, spool(100, shuffled));
+
+        // spilled onto several runs
+        assertEquals(expected, spool(7, shuffled));
+    }
+}
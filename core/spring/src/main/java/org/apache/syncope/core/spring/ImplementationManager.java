@@ -23,6 +23,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.policy.AccountRuleConf;
 import org.apache.syncope.common.lib.policy.PasswordRuleConf;
 import org.apache.syncope.common.lib.policy.PullCorrelationRuleConf;
@@ -32,6 +34,7 @@ import org.apache.syncope.core.persistence.api.ImplementationLookup;
 import org.apache.syncope.core.persistence.api.dao.AccountRule;
 import org.apache.syncope.core.persistence.api.dao.PasswordRule;
 import org.apache.syncope.core.persistence.api.dao.Reportlet;
+import org.apache.syncope.core.persistence.api.dao.StatelessImplementation;
 import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.api.dao.PullCorrelationRule;
 import org.apache.syncope.core.persistence.api.dao.PushCorrelationRule;
@@ -48,9 +51,20 @@ public final class ImplementationManager {
 
     private static final Map<String, Class<?>> CLASS_CACHE = Collections.synchronizedMap(new HashMap<>());
 
+    /**
+     * Instances of {@link StatelessImplementation} classes, by implementation key; the body hash is kept along
+     * in order to never return instances built from outdated implementation bodies.
+     */
+    private static final Map<String, Pair<Integer, Object>> INSTANCE_CACHE = new ConcurrentHashMap<>();
+
     public static Optional<Reportlet> buildReportlet(final Implementation impl)
             throws InstantiationException, IllegalAccessException {
 
+        Optional<Reportlet> cached = getCached(impl);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
         switch (impl.getEngine()) {
             case GROOVY:
                 return Optional.of(ImplementationManager.<Reportlet>buildGroovy(impl));
@@ -66,6 +80,7 @@ public final class ImplementationManager {
                     LOG.warn("Could not find matching reportlet for {}", reportletConf.getClass());
                 } else {
                     reportlet.setConf(reportletConf);
+                    cacheIfStateless(impl, reportletClass, reportlet);
                 }
 
                 return Optional.ofNullable(reportlet);
@@ -75,6 +90,11 @@ public final class ImplementationManager {
     public static Optional<AccountRule> buildAccountRule(final Implementation impl)
             throws InstantiationException, IllegalAccessException {
 
+        Optional<AccountRule> cached = getCached(impl);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
         switch (impl.getEngine()) {
             case GROOVY:
                 return Optional.of(ImplementationManager.<AccountRule>buildGroovy(impl));
@@ -90,6 +110,7 @@ public final class ImplementationManager {
                     LOG.warn("Could not find matching account rule for {}", impl.getClass());
                 } else {
                     rule.setConf(ruleConf);
+                    cacheIfStateless(impl, ruleClass, rule);
                 }
 
                 return Optional.ofNullable(rule);
@@ -99,6 +120,11 @@ public final class ImplementationManager {
     public static Optional<PasswordRule> buildPasswordRule(final Implementation impl)
             throws InstantiationException, IllegalAccessException {
 
+        Optional<PasswordRule> cached = getCached(impl);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
         switch (impl.getEngine()) {
             case GROOVY:
                 return Optional.of(ImplementationManager.<PasswordRule>buildGroovy(impl));
@@ -114,6 +140,7 @@ public final class ImplementationManager {
                     LOG.warn("Could not find matching password rule for {}", impl.getClass());
                 } else {
                     rule.setConf(ruleConf);
+                    cacheIfStateless(impl, ruleClass, rule);
                 }
 
                 return Optional.ofNullable(rule);
@@ -123,6 +150,11 @@ public final class ImplementationManager {
     public static Optional<PullCorrelationRule> buildPullCorrelationRule(final Implementation impl)
             throws InstantiationException, IllegalAccessException {
 
+        Optional<PullCorrelationRule> cached = getCached(impl);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
         switch (impl.getEngine()) {
             case GROOVY:
                 return Optional.of(ImplementationManager.<PullCorrelationRule>buildGroovy(impl));
@@ -139,6 +171,7 @@ public final class ImplementationManager {
                     LOG.warn("Could not find matching pull correlation rule for {}", impl.getClass());
                 } else {
                     rule.setConf(ruleConf);
+                    cacheIfStateless(impl, ruleClass, rule);
                 }
 
                 return Optional.ofNullable(rule);
@@ -148,6 +181,11 @@ public final class ImplementationManager {
     public static Optional<PushCorrelationRule> buildPushCorrelationRule(final Implementation impl)
             throws InstantiationException, IllegalAccessException {
 
+        Optional<PushCorrelationRule> cached = getCached(impl);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
         switch (impl.getEngine()) {
             case GROOVY:
                 return Optional.of(ImplementationManager.<PushCorrelationRule>buildGroovy(impl));
@@ -164,6 +202,7 @@ public final class ImplementationManager {
                     LOG.warn("Could not find matching push correlation rule for {}", impl.getClass());
                 } else {
                     rule.setConf(ruleConf);
+                    cacheIfStateless(impl, ruleClass, rule);
                 }
 
                 return Optional.ofNullable(rule);
@@ -173,6 +212,11 @@ public final class ImplementationManager {
     public static <T> T build(final Implementation impl)
             throws InstantiationException, IllegalAccessException, ClassNotFoundException {
 
+        Optional<T> cached = getCached(impl);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         switch (impl.getEngine()) {
             case GROOVY:
                 return ImplementationManager.<T>buildGroovy(impl);
@@ -195,8 +239,8 @@ public final class ImplementationManager {
             CLASS_CACHE.put(impl.getKey(), clazz);
         }
 
-        return (T) ApplicationContextProvider.getBeanFactory().
-                createBean(clazz, AbstractBeanDefinition.AUTOWIRE_BY_TYPE, false);
+        return cacheIfStateless(impl, clazz, (T) ApplicationContextProvider.getBeanFactory().
+                createBean(clazz, AbstractBeanDefinition.AUTOWIRE_BY_TYPE, false));
     }
 
     @SuppressWarnings("unchecked")
@@ -211,8 +255,8 @@ public final class ImplementationManager {
             CLASS_CACHE.put(impl.getKey(), clazz);
         }
 
-        return (T) ApplicationContextProvider.getBeanFactory().
-                createBean(clazz, AbstractBeanDefinition.AUTOWIRE_BY_TYPE, false);
+        return cacheIfStateless(impl, clazz, (T) ApplicationContextProvider.getBeanFactory().
+                createBean(clazz, AbstractBeanDefinition.AUTOWIRE_BY_TYPE, false));
     }
 
     @SuppressWarnings("unchecked")
@@ -220,7 +264,11 @@ public final class ImplementationManager {
         T bean = null;
 
         if (clazz != null) {
-            if (ApplicationContextProvider.getBeanFactory().containsSingleton(clazz.getName())) {
+            if (isStateless(clazz)) {
+                // stateless instances are cached per implementation, hence cannot share the singleton's conf
+                bean = (T) ApplicationContextProvider.getBeanFactory().
+                        createBean(clazz, AbstractBeanDefinition.AUTOWIRE_BY_TYPE, false);
+            } else if (ApplicationContextProvider.getBeanFactory().containsSingleton(clazz.getName())) {
                 bean = (T) ApplicationContextProvider.getBeanFactory().getSingleton(clazz.getName());
             } else {
                 try {
@@ -240,7 +288,35 @@ public final class ImplementationManager {
         return bean;
     }
 
+    private static boolean isStateless(final Class<?> clazz) {
+        return clazz.isAnnotationPresent(StatelessImplementation.class);
+    }
+
+    private static int bodyHash(final Implementation impl) {
+        return Optional.ofNullable(impl.getBody()).map(String::hashCode).orElse(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Optional<T> getCached(final Implementation impl) {
+        if (impl.getKey() == null) {
+            return Optional.empty();
+        }
+
+        Pair<Integer, Object> cached = INSTANCE_CACHE.get(impl.getKey());
+        return cached == null || cached.getLeft() != bodyHash(impl)
+                ? Optional.empty()
+                : Optional.of((T) cached.getRight());
+    }
+
+    private static <T> T cacheIfStateless(final Implementation impl, final Class<?> clazz, final T instance) {
+        if (impl.getKey() != null && instance != null && isStateless(clazz)) {
+            INSTANCE_CACHE.put(impl.getKey(), Pair.of(bodyHash(impl), instance));
+        }
+        return instance;
+    }
+
     public static Class<?> purge(final String implementation) {
+        INSTANCE_CACHE.remove(implementation);
         return CLASS_CACHE.remove(implementation);
     }
 
@@ -32,6 +32,7 @@ import org.apache.syncope.common.lib.policy.PasswordRuleConf;
 import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.apache.syncope.core.persistence.api.dao.PasswordRule;
 import org.apache.syncope.core.persistence.api.dao.PasswordRuleConfClass;
+import org.apache.syncope.core.persistence.api.dao.StatelessImplementation;
 import org.apache.syncope.core.persistence.api.entity.user.LinkedAccount;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.spring.security.Encryptor;
@@ -46,6 +47,7 @@ import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
 @PasswordRuleConfClass(HaveIBeenPwnedPasswordRuleConf.class)
+@StatelessImplementation
 public class HaveIBeenPwnedPasswordRule implements PasswordRule {
 
     protected static final Logger LOG = LoggerFactory.getLogger(HaveIBeenPwnedPasswordRule.class);
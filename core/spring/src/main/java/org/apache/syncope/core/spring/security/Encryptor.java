@@ -29,6 +29,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.Mac;
 import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
 import org.apache.commons.lang3.ArrayUtils;
@@ -49,6 +50,8 @@ public final class Encryptor {
 
     private static final String DEFAULT_SECRET_KEY = "1abcdefghilmnopqrstuvz2!";
 
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
     /**
      * Default value for salted {@link StandardStringDigester#setIterations(int)}.
      */
@@ -227,6 +230,23 @@ public final class Encryptor {
         return decoded;
     }
 
+    /**
+     * Computes the HMAC-SHA256 of the given value, keyed with the configured secret key: the result can be compared
+     * across invocations to detect changes, without disclosing the value to anyone not knowing the secret key.
+     *
+     * @param value value to digest
+     * @return Base64-encoded HMAC of the given value
+     */
+    public String hmac(final byte[] value) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(keySpec.getEncoded(), HMAC_ALGORITHM));
+            return Base64.getEncoder().encodeToString(mac.doFinal(value));
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("Could not compute " + HMAC_ALGORITHM, e);
+        }
+    }
+
     private StandardStringDigester getDigester(final CipherAlgorithm cipherAlgorithm) {
         StandardStringDigester digester = digesters.get(cipherAlgorithm);
         if (digester == null) {
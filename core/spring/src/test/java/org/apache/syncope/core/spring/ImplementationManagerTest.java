@@ -18,10 +18,13 @@
  */
 package org.apache.syncope.core.spring;
 
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.apache.syncope.common.lib.policy.DefaultPasswordRuleConf;
+import org.apache.syncope.core.persistence.api.dao.PasswordRule;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.spring.security.TestImplementation;
 import org.junit.jupiter.api.Test;
@@ -101,4 +104,26 @@ public class ImplementationManagerTest {
                 () -> errorMessages.stream().collect(Collectors.joining(System.lineSeparator())));
         });
     }
+
+    @Test
+    public void statelessPasswordRuleCaching() throws Exception {
+        DefaultPasswordRuleConf conf = createBaseDefaultPasswordRuleConf();
+
+        TestImplementation implementation = new TestImplementation();
+        implementation.setBody(POJOHelper.serialize(conf));
+
+        PasswordRule rule = ImplementationManager.buildPasswordRule(implementation).orElseThrow();
+        assertSame(rule, ImplementationManager.buildPasswordRule(implementation).orElseThrow());
+
+        // body changes: a new instance is built
+        conf.setMinLength(10);
+        implementation.setBody(POJOHelper.serialize(conf));
+        PasswordRule updated = ImplementationManager.buildPasswordRule(implementation).orElseThrow();
+        assertNotSame(rule, updated);
+        assertSame(updated, ImplementationManager.buildPasswordRule(implementation).orElseThrow());
+
+        // purge: a new instance is built
+        ImplementationManager.purge(implementation.getKey());
+        assertNotSame(updated, ImplementationManager.buildPasswordRule(implementation).orElseThrow());
+    }
 }
@@ -22,10 +22,12 @@ import org.apache.syncope.common.lib.policy.DefaultPasswordRuleConf;
 import org.apache.syncope.common.lib.policy.PasswordRuleConf;
 import org.apache.syncope.core.persistence.api.dao.PasswordRule;
 import org.apache.syncope.core.persistence.api.dao.PasswordRuleConfClass;
+import org.apache.syncope.core.persistence.api.dao.StatelessImplementation;
 import org.apache.syncope.core.persistence.api.entity.user.LinkedAccount;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 
 @PasswordRuleConfClass(DefaultPasswordRuleConf.class)
+@StatelessImplementation
 public class TestPasswordRule implements PasswordRule {
 
     private DefaultPasswordRuleConf conf;
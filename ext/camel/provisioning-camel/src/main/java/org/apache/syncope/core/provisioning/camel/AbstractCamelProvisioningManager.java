@@ -18,16 +18,15 @@
  */
 package org.apache.syncope.core.provisioning.camel;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
-import org.apache.camel.PollingConsumer;
+import org.apache.camel.ExchangePattern;
 import org.apache.camel.ProducerTemplate;
+import org.apache.camel.StatefulService;
+import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.model.RoutesDefinition;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.DefaultMessage;
@@ -40,6 +39,11 @@ abstract class AbstractCamelProvisioningManager {
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractCamelProvisioningManager.class);
 
+    /**
+     * Exchange property holding a copy of the exchange as received by the reply port.
+     */
+    protected static final String REPLY = "syncope.reply";
+
     @Autowired
     protected CamelRouteDAO routeDAO;
 
@@ -48,23 +52,75 @@ abstract class AbstractCamelProvisioningManager {
 
     protected RoutesDefinition routes;
 
-    protected final Map<String, PollingConsumer> consumerMap = new HashMap<>();
+    /**
+     * Routes consuming from reply ports, by port URI: they just take note, on the exchange itself, of the state it
+     * has when reaching the port; since direct endpoints process exchanges synchronously in the caller thread, each
+     * caller gets its own reply, without sharing any queue with concurrent callers.
+     */
+    protected final Map<String, String> ports = new ConcurrentHashMap<>();
 
-    protected final List<String> knownURIs = new ArrayList<>();
+    private volatile ProducerTemplate template;
 
-    protected void sendMessage(final String uri, final Object obj) {
-        Exchange exchange = new DefaultExchange(contextFactory.getCamelContext());
+    private static boolean isStarted(final ProducerTemplate template) {
+        return template != null
+                && (!(template instanceof StatefulService) || ((StatefulService) template).isStarted());
+    }
 
-        DefaultMessage message = new DefaultMessage(contextFactory.getCamelContext());
-        message.setBody(obj);
-        exchange.setIn(message);
+    /**
+     * Provides the producer template, shared among all threads as it is thread-safe; a new one is created only if
+     * the current one was stopped, e.g. upon Camel context restart.
+     *
+     * @return producer template
+     */
+    protected ProducerTemplate getProducerTemplate() {
+        ProducerTemplate current = template;
+        if (!isStarted(current)) {
+            synchronized (this) {
+                current = template;
+                if (!isStarted(current)) {
+                    current = contextFactory.getCamelContext().createProducerTemplate();
+                    template = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    protected void registerPort(final String port) {
+        ports.computeIfAbsent(port, uri -> {
+            String routeId = "reply-" + uri;
+            try {
+                contextFactory.getCamelContext().addRoutes(new RouteBuilder() {
 
-        ProducerTemplate template = contextFactory.getCamelContext().createProducerTemplate();
-        template.send(uri, exchange);
+                    @Override
+                    public void configure() {
+                        from(uri).routeId(routeId).process(exchange -> exchange.setProperty(REPLY, exchange.copy()));
+                    }
+                });
+            } catch (Exception e) {
+                LOG.error("While registering reply route for {}", uri, e);
+                throw new CamelException(e);
+            }
+            return routeId;
+        });
     }
 
-    protected void sendMessage(final String uri, final Object body, final Map<String, Object> properties) {
-        DefaultExchange exchange = new DefaultExchange(contextFactory.getCamelContext());
+    /**
+     * Sends the given body and properties as in-out exchange to the given route, then returns the exchange as
+     * received by the given reply port.
+     *
+     * @param uri route URI
+     * @param body message body
+     * @param properties exchange properties
+     * @param port reply port URI
+     * @return exchange as received by the reply port
+     */
+    protected Exchange sendMessage(
+            final String uri, final Object body, final Map<String, Object> properties, final String port) {
+
+        registerPort(port);
+
+        DefaultExchange exchange = new DefaultExchange(contextFactory.getCamelContext(), ExchangePattern.InOut);
         // exclude properties with null value, otherwise DefaultExchange#properties, being a ConcurrentHashMap,
         // will raise NPE; no problems for later usage, as Map#get will return null for missing keys anyway
         exchange.setProperties(properties.keySet().stream().
@@ -74,25 +130,16 @@ abstract class AbstractCamelProvisioningManager {
         DefaultMessage message = new DefaultMessage(contextFactory.getCamelContext());
         message.setBody(body);
         exchange.setIn(message);
-        ProducerTemplate template = contextFactory.getCamelContext().createProducerTemplate();
-        template.send(uri, exchange);
-    }
 
-    protected PollingConsumer getConsumer(final String uri) {
-        if (!knownURIs.contains(uri)) {
-            knownURIs.add(uri);
-            Endpoint endpoint = contextFactory.getCamelContext().getEndpoint(uri);
-            PollingConsumer pollingConsumer = null;
-            try {
-                pollingConsumer = endpoint.createPollingConsumer();
-                consumerMap.put(uri, pollingConsumer);
-                pollingConsumer.start();
-            } catch (Exception ex) {
-                LOG.error("Unexpected error in Consumer creation ", ex);
-            }
-            return pollingConsumer;
-        } else {
-            return consumerMap.get(uri);
+        Exchange result = getProducerTemplate().send(uri, exchange);
+
+        Exchange reply = result.getProperty(REPLY, Exchange.class);
+        if (reply == null) {
+            LOG.error("No reply received on {} from {}", port, uri, result.getException());
+            throw new CamelException(result.getException() == null
+                    ? new IllegalStateException("No reply received on " + port + " from " + uri)
+                    : result.getException());
         }
+        return reply;
     }
 }
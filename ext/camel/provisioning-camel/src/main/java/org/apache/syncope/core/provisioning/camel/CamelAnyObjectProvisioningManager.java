@@ -24,7 +24,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.apache.camel.Exchange;
-import org.apache.camel.PollingConsumer;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.request.AnyObjectCR;
 import org.apache.syncope.common.lib.request.AnyObjectUR;
@@ -53,17 +52,13 @@ public class CamelAnyObjectProvisioningManager
             final String creator,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:createAnyObjectPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("excludedResources", excludedResources);
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("creator", creator);
         props.put("context", context);
 
-        sendMessage("direct:createAnyObject", req, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:createAnyObject", req, props, "direct:createAnyObjectPort");
 
         if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
             throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
@@ -89,17 +84,13 @@ public class CamelAnyObjectProvisioningManager
             final String updater,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:updateAnyObjectPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("excludedResources", excludedResources);
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:updateAnyObject", anyUR, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:updateAnyObject", anyUR, props, "direct:updateAnyObjectPort");
 
         if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
             throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
@@ -128,17 +119,13 @@ public class CamelAnyObjectProvisioningManager
             final String eraser,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:deleteAnyObjectPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("excludedResources", excludedResources);
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("eraser", eraser);
         props.put("context", context);
 
-        sendMessage("direct:deleteAnyObject", key, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:deleteAnyObject", key, props, "direct:deleteAnyObjectPort");
 
         if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
             throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
@@ -149,15 +136,11 @@ public class CamelAnyObjectProvisioningManager
 
     @Override
     public String unlink(final AnyObjectUR anyObjectUR, final String updater, final String context) {
-        PollingConsumer pollingConsumer = getConsumer("direct:unlinkAnyObjectPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:unlinkAnyObject", anyObjectUR, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:unlinkAnyObject", anyObjectUR, props, "direct:unlinkAnyObjectPort");
 
         if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
             throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
@@ -168,15 +151,11 @@ public class CamelAnyObjectProvisioningManager
 
     @Override
     public String link(final AnyObjectUR anyObjectUR, final String updater, final String context) {
-        PollingConsumer pollingConsumer = getConsumer("direct:linkAnyObjectPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:linkAnyObject", anyObjectUR, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:linkAnyObject", anyObjectUR, props, "direct:linkAnyObjectPort");
 
         if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
             throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
@@ -194,17 +173,13 @@ public class CamelAnyObjectProvisioningManager
             final String updater,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:provisionAnyObjectPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("resources", resources);
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:provisionAnyObject", key, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:provisionAnyObject", key, props, "direct:provisionAnyObjectPort");
 
         if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
             throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
@@ -222,17 +197,13 @@ public class CamelAnyObjectProvisioningManager
             final String updater,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:deprovisionAnyObjectPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("resources", resources);
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:deprovisionAnyObject", key, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:deprovisionAnyObject", key, props, "direct:deprovisionAnyObjectPort");
 
         if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
             throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
@@ -24,7 +24,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.apache.camel.Exchange;
-import org.apache.camel.PollingConsumer;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.request.GroupCR;
 import org.apache.syncope.common.lib.request.GroupUR;
@@ -41,17 +40,13 @@ public class CamelGroupProvisioningManager
     public Pair<String, List<PropagationStatus>> create(
             final GroupCR req, final boolean nullPriorityAsync, final String creator, final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:createGroupPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("excludedResources", Set.of());
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("creator", creator);
         props.put("context", context);
 
-        sendMessage("direct:createGroup", req, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:createGroup", req, props, "direct:createGroupPort");
 
         if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
             throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
@@ -71,8 +66,6 @@ public class CamelGroupProvisioningManager
             final String creator,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:createGroupInPullPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("groupOwnerMap", groupOwnerMap);
         props.put("excludedResources", excludedResources);
@@ -80,9 +73,7 @@ public class CamelGroupProvisioningManager
         props.put("creator", creator);
         props.put("context", context);
 
-        sendMessage("direct:createGroupInPull", req, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:createGroupInPull", req, props, "direct:createGroupInPullPort");
 
         if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
             throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
@@ -108,17 +99,13 @@ public class CamelGroupProvisioningManager
             final String updater,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:updateGroupPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("excludedResources", excludedResources);
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:updateGroup", groupUR, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:updateGroup", groupUR, props, "direct:updateGroupPort");
 
         if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
             throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
@@ -144,17 +131,13 @@ public class CamelGroupProvisioningManager
             final String eraser,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:deleteGroupPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("excludedResources", excludedResources);
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("eraser", eraser);
         props.put("context", context);
 
-        sendMessage("direct:deleteGroup", key, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:deleteGroup", key, props, "direct:deleteGroupPort");
 
         if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
             throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
@@ -165,15 +148,11 @@ public class CamelGroupProvisioningManager
 
     @Override
     public String unlink(final GroupUR groupUR, final String updater, final String context) {
-        PollingConsumer pollingConsumer = getConsumer("direct:unlinkGroupPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:unlinkGroup", groupUR, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:unlinkGroup", groupUR, props, "direct:unlinkGroupPort");
 
         if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
             throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
@@ -184,15 +163,11 @@ public class CamelGroupProvisioningManager
 
     @Override
     public String link(final GroupUR groupUR, final String updater, final String context) {
-        PollingConsumer pollingConsumer = getConsumer("direct:linkGroupPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:linkGroup", groupUR, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:linkGroup", groupUR, props, "direct:linkGroupPort");
 
         if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
             throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
@@ -210,17 +185,13 @@ public class CamelGroupProvisioningManager
             final String updater,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:provisionGroupPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("resources", resources);
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:provisionGroup", key, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:provisionGroup", key, props, "direct:provisionGroupPort");
 
         if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
             throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
@@ -238,17 +209,13 @@ public class CamelGroupProvisioningManager
             final String updater,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:deprovisionGroupPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("resources", resources);
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:deprovisionGroup", key, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:deprovisionGroup", key, props, "direct:deprovisionGroupPort");
 
         if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
             throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
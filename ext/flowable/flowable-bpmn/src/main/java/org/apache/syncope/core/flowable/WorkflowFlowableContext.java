@@ -26,6 +26,7 @@ import org.apache.syncope.core.flowable.support.ShellServiceTaskDisablingBpmnPar
 import org.apache.syncope.core.flowable.support.SyncopeEntitiesVariableType;
 import org.apache.syncope.core.flowable.support.SyncopeFormHandlerHelper;
 import org.apache.syncope.core.flowable.support.SyncopeIdmIdentityService;
+import org.apache.syncope.core.flowable.support.SyncopeJsonVariableType;
 import org.apache.syncope.core.spring.ResourceWithFallbackLoader;
 import org.apache.syncope.core.workflow.java.WorkflowContext;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
@@ -105,6 +106,12 @@ public class WorkflowFlowableContext {
         return new SyncopeEntitiesVariableType();
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public SyncopeJsonVariableType syncopeJsonVariableType() {
+        return new SyncopeJsonVariableType();
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public IdGenerator idGenerator() {
@@ -121,7 +128,7 @@ public class WorkflowFlowableContext {
         conf.setJpaCloseEntityManager(false);
         conf.setHistoryLevel(historyLevel);
         conf.setIdmEngineConfigurator(syncopeIdmEngineConfigurator());
-        conf.setCustomPreVariableTypes(List.of(syncopeEntitiesVariableType()));
+        conf.setCustomPreVariableTypes(List.of(syncopeJsonVariableType(), syncopeEntitiesVariableType()));
         conf.setFormHandlerHelper(syncopeFormHandlerHelper());
         conf.setIdGenerator(idGenerator());
         conf.setPreBpmnParseHandlers(List.of(new ShellServiceTaskDisablingBpmnParseHandler()));
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.flowable.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.apache.syncope.common.lib.request.AnyCR;
+import org.apache.syncope.common.lib.request.AnyUR;
+import org.apache.syncope.common.lib.to.AnyTO;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.service.impl.types.SerializableType;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Flowable variable type for handling Syncope TOs and requests as Flowable variables.
+ * Values are stored as JSON, GZIP-compressed when larger than {@link #COMPRESSION_THRESHOLD} bytes, instead of
+ * relying on Java serialization; the value class name is stored as well, for deserialization.
+ * Values are deserialized only when actually read, as for any other {@link SerializableType}.
+ */
+public class SyncopeJsonVariableType extends SerializableType {
+
+    public static final String TYPE_NAME = "syncopeJson";
+
+    protected static final int COMPRESSION_THRESHOLD = 2048;
+
+    protected static boolean isCompressed(final byte[] bytes) {
+        return bytes.length > 1
+                && bytes[0] == (byte) GZIPInputStream.GZIP_MAGIC
+                && bytes[1] == (byte) (GZIPInputStream.GZIP_MAGIC >> 8);
+    }
+
+    public SyncopeJsonVariableType() {
+        // as Flowable's own serializable type, detect changes made to deserialized values
+        super(true);
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+
+    @Override
+    public boolean isAbleToStore(final Object value) {
+        return value instanceof AnyTO || value instanceof AnyCR || value instanceof AnyUR;
+    }
+
+    @Override
+    public byte[] serialize(final Object value, final ValueFields valueFields) {
+        if (value == null) {
+            return null;
+        }
+
+        valueFields.setTextValue2(value.getClass().getName());
+
+        byte[] json = POJOHelper.serialize(value).getBytes(StandardCharsets.UTF_8);
+        if (json.length <= COMPRESSION_THRESHOLD) {
+            return json;
+        }
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(json.length / 4);
+        try (OutputStream gzip = new GZIPOutputStream(baos)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new FlowableException("While compressing value of variable " + valueFields.getName(), e);
+        }
+        return baos.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(final byte[] bytes, final ValueFields valueFields) {
+        try {
+            Class<?> reference = ClassUtils.forName(valueFields.getTextValue2(), ClassUtils.getDefaultClassLoader());
+
+            String json;
+            if (isCompressed(bytes)) {
+                try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+                    json = new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            } else {
+                json = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            return POJOHelper.deserialize(json, reference);
+        } catch (ClassNotFoundException | IOException e) {
+            throw new FlowableException("While deserializing value of variable " + valueFields.getName(), e);
+        }
+    }
+}
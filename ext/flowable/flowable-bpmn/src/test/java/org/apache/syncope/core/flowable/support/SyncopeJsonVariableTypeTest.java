@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.flowable.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+import org.apache.syncope.common.lib.Attr;
+import org.apache.syncope.common.lib.request.AttrPatch;
+import org.apache.syncope.common.lib.request.PasswordPatch;
+import org.apache.syncope.common.lib.request.UserCR;
+import org.apache.syncope.common.lib.request.UserUR;
+import org.apache.syncope.common.lib.to.UserTO;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntityImpl;
+import org.junit.jupiter.api.Test;
+
+public class SyncopeJsonVariableTypeTest {
+
+    private static final SyncopeJsonVariableType TYPE = new SyncopeJsonVariableType();
+
+    private static ValueFields valueFields() {
+        VariableInstanceEntityImpl valueFields = new VariableInstanceEntityImpl();
+        valueFields.setName("variable");
+        return valueFields;
+    }
+
+    private static Object roundTrip(final Object value, final boolean compressed) {
+        ValueFields valueFields = valueFields();
+
+        byte[] bytes = TYPE.serialize(value, valueFields);
+        assertEquals(value.getClass().getName(), valueFields.getTextValue2());
+        assertEquals(compressed, SyncopeJsonVariableType.isCompressed(bytes));
+
+        return TYPE.deserialize(bytes, valueFields);
+    }
+
+    @Test
+    public void isAbleToStore() {
+        assertTrue(TYPE.isAbleToStore(new UserTO()));
+        assertTrue(TYPE.isAbleToStore(new UserCR()));
+        assertTrue(TYPE.isAbleToStore(new UserUR()));
+        assertFalse(TYPE.isAbleToStore("value"));
+        assertFalse(TYPE.isAbleToStore(null));
+    }
+
+    @Test
+    public void serializeNull() {
+        assertNull(TYPE.serialize(null, valueFields()));
+    }
+
+    @Test
+    public void roundTripSmall() {
+        UserTO userTO = new UserTO();
+        userTO.setKey("1417acbe-cbf6-4277-9372-e75e04f97000");
+        userTO.setUsername("rossini");
+        userTO.setRealm("/");
+        userTO.getPlainAttrs().add(new Attr.Builder("firstname").value("Gioacchino").build());
+
+        ValueFields valueFields = valueFields();
+        byte[] bytes = TYPE.serialize(userTO, valueFields);
+        assertTrue(new String(bytes, StandardCharsets.UTF_8).contains("\"rossini\""));
+
+        assertEquals(userTO, roundTrip(userTO, false));
+    }
+
+    @Test
+    public void roundTripLarge() {
+        UserCR userCR = new UserCR.Builder("/", "verdi").password("password123").build();
+        IntStream.range(0, 200).forEach(i -> userCR.getPlainAttrs().add(
+                new Attr.Builder("schema" + i).value("value" + i).build()));
+
+        int jsonLength = POJOHelper.serialize(userCR).getBytes(StandardCharsets.UTF_8).length;
+        assertTrue(jsonLength > SyncopeJsonVariableType.COMPRESSION_THRESHOLD);
+        assertTrue(TYPE.serialize(userCR, valueFields()).length < jsonLength);
+
+        assertEquals(userCR, roundTrip(userCR, true));
+    }
+
+    @Test
+    public void roundTripRequest() {
+        UserUR userUR = new UserUR.Builder("1417acbe-cbf6-4277-9372-e75e04f97000").
+                password(new PasswordPatch.Builder().value("new2Password").build()).
+                plainAttr(new AttrPatch.Builder(new Attr.Builder("surname").value("Rossini").build()).build()).
+                build();
+
+        assertEquals(userUR, roundTrip(userUR, false));
+    }
+}
@@ -128,6 +128,25 @@ public class SCIMDataBinder {
                 : null;
     }
 
+    /**
+     * Tells whether the given resource type, when returned with the given requested and excluded attributes, needs
+     * full details (memberships, roles and virtual attributes) to be loaded.
+     *
+     * @param type resource type
+     * @param attributes requested attributes
+     * @param excludedAttributes excluded attributes
+     * @return whether full details need to be loaded
+     */
+    public static boolean requiresDetails(
+            final Resource type,
+            final List<String> attributes,
+            final List<String> excludedAttributes) {
+
+        return type == Resource.User
+                && (output(attributes, excludedAttributes, "groups")
+                || output(attributes, excludedAttributes, "roles"));
+    }
+
     public SCIMUser toSCIMUser(
             final UserTO userTO,
             final String location,
@@ -20,6 +20,8 @@ package org.apache.syncope.core.logic.scim;
 
 import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.ws.rs.core.MediaType;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.lib.scim.SCIMConf;
@@ -49,9 +51,18 @@ public class SCIMConfManager {
     @Autowired
     private SchemaLogic schemaLogic;
 
+    /**
+     * Parsed configuration, per domain; refreshed upon {@link #set(SCIMConf)}.
+     */
+    private final Map<String, SCIMConf> confs = new ConcurrentHashMap<>();
+
     @PreAuthorize("hasRole('" + SCIMEntitlement.SCIM_CONF_GET + "')")
     public SCIMConf get() {
-        SCIMConf conf = null;
+        SCIMConf conf = confs.get(AuthContextUtils.getDomain());
+        if (conf != null) {
+            return conf;
+        }
+
         String confString = confParamOps.get(AuthContextUtils.getDomain(), SCIMConf.KEY, null, String.class);
         if (confString != null) {
             try {
@@ -63,6 +74,8 @@ public class SCIMConfManager {
         if (conf == null) {
             conf = new SCIMConf();
             set(conf);
+        } else {
+            confs.put(AuthContextUtils.getDomain(), conf);
         }
 
         return conf;
@@ -84,5 +97,6 @@ public class SCIMConfManager {
 
         confParamOps.set(AuthContextUtils.getDomain(),
                 SCIMConf.KEY, Base64.getEncoder().encodeToString(POJOHelper.serialize(conf).getBytes()));
+        confs.put(AuthContextUtils.getDomain(), conf);
     }
 }
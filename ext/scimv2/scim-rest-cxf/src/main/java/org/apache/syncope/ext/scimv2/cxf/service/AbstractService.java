@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.ext.scimv2.cxf.service;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import javax.ws.rs.core.Context;
@@ -29,6 +30,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.cxf.jaxrs.ext.MessageContext;
 import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.scim.SCIMConf;
 import org.apache.syncope.common.lib.to.AnyTO;
 import org.apache.syncope.common.lib.to.GroupTO;
 import org.apache.syncope.common.lib.to.UserTO;
@@ -44,6 +46,7 @@ import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.apache.syncope.ext.scimv2.api.BadRequestException;
 import org.apache.syncope.ext.scimv2.api.data.ListResponse;
@@ -188,15 +191,15 @@ abstract class AbstractService<R extends SCIMResource> {
             throw new UnsupportedOperationException();
         }
 
-        if (request.getCount() > confManager().get().getGeneralConf().getFilterMaxResults()) {
+        SCIMConf conf = confManager().get();
+
+        if (request.getCount() > conf.getGeneralConf().getFilterMaxResults()) {
             throw new BadRequestException(ErrorType.tooMany, "Too many results requested");
         }
 
-        SearchCondVisitor visitor = new SearchCondVisitor(type, confManager().get());
+        SearchCondVisitor visitor = new SearchCondVisitor(type, conf);
 
-        int startIndex = request.getStartIndex() <= 1
-                ? 1
-                : (request.getStartIndex() / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
+        int startIndex = Math.max(request.getStartIndex(), 1);
 
         int itemsPerPage = request.getCount() <= 1 ? AnyDAO.DEFAULT_PAGE_SIZE : request.getCount();
 
@@ -212,24 +215,37 @@ abstract class AbstractService<R extends SCIMResource> {
             sort = List.of(clause);
         }
 
-        Pair<Integer, ? extends List<? extends AnyTO>> result = anyLogic(type).search(
-                StringUtils.isBlank(request.getFilter())
+        SearchCond searchCond = StringUtils.isBlank(request.getFilter())
                 ? null
-                : SearchCondConverter.convert(visitor, request.getFilter()),
-                startIndex,
-                itemsPerPage,
-                sort,
-                SyncopeConstants.ROOT_REALM,
-                false);
-
-        if (result.getLeft() > confManager().get().getGeneralConf().getFilterMaxResults()) {
+                : SearchCondConverter.convert(visitor, request.getFilter());
+
+        // memberships, roles and virtual attributes are only loaded when groups or roles are returned
+        boolean details = SCIMDataBinder.requiresDetails(
+                type, request.getAttributes(), request.getExcludedAttributes());
+
+        // startIndex is 1-based and not necessarily aligned to pages: fetch the page containing it and, if needed,
+        // the following one
+        int page = (startIndex - 1) / itemsPerPage + 1;
+        int offset = (startIndex - 1) % itemsPerPage;
+
+        Pair<Integer, ? extends List<? extends AnyTO>> result = anyLogic(type).search(
+                searchCond, page, itemsPerPage, sort, SyncopeConstants.ROOT_REALM, details);
+
+        if (result.getLeft() > conf.getGeneralConf().getFilterMaxResults()) {
             throw new BadRequestException(ErrorType.tooMany, "Too many results found");
         }
 
-        ListResponse<R> response = new ListResponse<>(
-                result.getLeft(), startIndex == 1 ? 1 : startIndex - 1, itemsPerPage);
+        List<AnyTO> anyTOs = new ArrayList<>(result.getRight().subList(
+                Math.min(offset, result.getRight().size()), result.getRight().size()));
+        if (offset > 0 && result.getLeft() > page * itemsPerPage) {
+            List<? extends AnyTO> next = anyLogic(type).search(
+                    searchCond, page + 1, itemsPerPage, sort, SyncopeConstants.ROOT_REALM, details).getRight();
+            anyTOs.addAll(next.subList(0, Math.min(offset, next.size())));
+        }
+
+        ListResponse<R> response = new ListResponse<>(result.getLeft(), startIndex, itemsPerPage);
 
-        result.getRight().forEach(anyTO -> {
+        anyTOs.forEach(anyTO -> {
             SCIMResource resource = null;
             if (anyTO instanceof UserTO) {
                 resource = binder().toSCIMUser(
@@ -35,6 +35,7 @@ import org.apache.commons.lang3.SerializationUtils;
 import org.apache.syncope.client.lib.SyncopeClient;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.log.AuditEntry;
+import org.apache.syncope.common.lib.request.UserUR;
 import org.apache.syncope.common.lib.to.AnyObjectTO;
 import org.apache.syncope.common.lib.to.ConnInstanceTO;
 import org.apache.syncope.common.lib.to.GroupTO;
@@ -127,6 +128,32 @@ public class AuditITCase extends AbstractITCase {
         userService.delete(userTO.getKey());
     }
 
+    @Test
+    public void findByUserAfter() {
+        UserTO userTO = createUser(UserITCase.getUniqueSample("audit-3@syncope.org")).getEntity();
+        assertNotNull(userTO.getKey());
+        for (int i = 0; i < 2; i++) {
+            UserUR req = new UserUR();
+            req.setKey(userTO.getKey());
+            req.getPlainAttrs().add(attrAddReplacePatch("firstname", "Audit" + i));
+            updateUser(req);
+        }
+
+        AuditQuery query = new AuditQuery.Builder().entityKey(userTO.getKey()).page(1).size(2).build();
+        List<AuditEntry> first = query(query, MAX_WAIT_SECONDS);
+        assertEquals(2, first.size());
+        assertEquals("update", first.get(0).getLogger().getEvent());
+        assertFalse(first.get(0).getDate().before(first.get(1).getDate()));
+
+        query = new AuditQuery.Builder().entityKey(userTO.getKey()).after(first.get(1).getKey()).size(2).build();
+        List<AuditEntry> next = loggerService.search(query).getResult();
+        assertEquals(1, next.size());
+        assertEquals("create", next.get(0).getLogger().getEvent());
+        assertFalse(first.stream().anyMatch(entry -> entry.getKey().equals(next.get(0).getKey())));
+
+        userService.delete(userTO.getKey());
+    }
+
     @Test
     public void findByGroup() {
         GroupTO groupTO = createGroup(GroupITCase.getBasicSample("AuditGroup")).getEntity();
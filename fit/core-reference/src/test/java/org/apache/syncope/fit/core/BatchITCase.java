@@ -340,4 +340,48 @@ public class BatchITCase extends AbstractITCase {
         response = batchResponse.poll();
         assertEquals(Response.Status.NOT_FOUND.getStatusCode(), response.getStatus());
     }
+
+    @Test
+    public void syncopeClientParallel() throws IOException {
+        // more items than fitting in a single chunk, processed in parallel
+        List<GroupCR> groupCRs = new ArrayList<>();
+        BatchRequest batchRequest = adminClient.batch();
+        GroupService batchGroupService = batchRequest.getService(GroupService.class);
+        for (int i = 0; i < 150; i++) {
+            GroupCR groupCR = GroupITCase.getBasicSample("parallel");
+            groupCRs.add(groupCR);
+            batchGroupService.create(groupCR);
+        }
+
+        BatchResponse batchResponse = batchRequest.commit(false, 4);
+        Response response = batchResponse.getResponse();
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertEquals(Preference.parallel(4), response.getHeaderString(RESTHeaders.PREFERENCE_APPLIED));
+
+        // results are reported in the same order as requests
+        List<BatchResponseItem> resItems = batchResponse.getItems();
+        assertEquals(groupCRs.size(), resItems.size());
+        for (int i = 0; i < groupCRs.size(); i++) {
+            assertEquals(Response.Status.CREATED.getStatusCode(), resItems.get(i).getStatus());
+            ProvisioningResult<GroupTO> group = OBJECT_MAPPER.readValue(
+                    resItems.get(i).getContent(), new TypeReference<ProvisioningResult<GroupTO>>() {
+            });
+            assertEquals(groupCRs.get(i).getName(), group.getEntity().getName());
+        }
+
+        // cleanup, asynchronously and in parallel
+        batchRequest = adminClient.batch();
+        batchGroupService = batchRequest.getService(GroupService.class);
+        for (GroupCR groupCR : groupCRs) {
+            batchGroupService.delete(groupCR.getName());
+        }
+        BatchResponse cleanup = batchRequest.commit(true, 4);
+        assertEquals(Response.Status.ACCEPTED.getStatusCode(), cleanup.getResponse().getStatus());
+
+        await().atMost(MAX_WAIT_SECONDS, TimeUnit.SECONDS).pollInterval(1, TimeUnit.SECONDS).
+                until(() -> cleanup.poll().getStatus() == Response.Status.OK.getStatusCode());
+        resItems = cleanup.getItems();
+        assertEquals(groupCRs.size(), resItems.size());
+        assertTrue(resItems.stream().allMatch(item -> item.getStatus() == Response.Status.OK.getStatusCode()));
+    }
 }
@@ -23,16 +23,25 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.core.GenericType;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.request.UserCR;
 import org.apache.syncope.common.lib.to.AnyTypeClassTO;
 import org.apache.syncope.common.lib.to.CamelRouteTO;
 import org.apache.syncope.common.lib.to.PlainSchemaTO;
+import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.common.lib.types.SchemaType;
+import org.apache.syncope.common.rest.api.service.UserService;
 import org.apache.syncope.fit.AbstractITCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -206,4 +215,36 @@ public class CamelRouteITCase extends AbstractITCase {
             doUpdate(AnyTypeKind.USER, oldRoute.getKey(), oldRoute.getContent());
         }
     }
+
+    @Test
+    public void concurrentCreate() throws Exception {
+        int threads = 5;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Pair<String, UserTO>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    UserCR req = UserITCase.getUniqueSample("camel@syncope.apache.org");
+
+                    UserService service = clientFactory.create(ADMIN_UNAME, ADMIN_PWD).getService(UserService.class);
+                    UserTO userTO = service.create(req).
+                            readEntity(new GenericType<ProvisioningResult<UserTO>>() {
+                            }).getEntity();
+                    return Pair.of(req.getUsername(), userTO);
+                }));
+            }
+
+            for (Future<Pair<String, UserTO>> future : futures) {
+                Pair<String, UserTO> created = future.get(60, TimeUnit.SECONDS);
+
+                // each caller gets the reply for its own request
+                assertNotNull(created.getRight());
+                assertEquals(created.getLeft(), created.getRight().getUsername());
+
+                deleteUser(created.getRight().getKey());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
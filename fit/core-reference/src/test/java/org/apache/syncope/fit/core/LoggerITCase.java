@@ -41,6 +41,8 @@ import java.util.Properties;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.ws.rs.core.Response;
 import javax.xml.ws.WebServiceException;
 import org.apache.commons.lang3.StringUtils;
@@ -299,6 +301,50 @@ public class LoggerITCase extends AbstractITCase {
         assertEquals(1, events.getSize());
     }
     
+    @Test
+    public void saveAuditEvents() {
+        AuditQuery query = new AuditQuery.Builder().
+                size(1).
+                type(EventCategoryType.WA).
+                category("LoggerLogic").
+                subcategory(AuditElements.AUTHENTICATION_CATEGORY.toUpperCase()).
+                event("validate").
+                result(AuditElements.Result.SUCCESS).
+                build();
+        int before = loggerService.search(query).getTotalCount();
+
+        List<AuditEntry> auditEntries = IntStream.range(0, 3).mapToObj(i -> {
+            AuditEntry auditEntry = new AuditEntry();
+            auditEntry.setWho("syncope-user " + UUID.randomUUID().toString());
+            auditEntry.setLogger(new AuditLoggerName(
+                    EventCategoryType.WA,
+                    "LoggerLogic",
+                    AuditElements.AUTHENTICATION_CATEGORY.toUpperCase(),
+                    "validate",
+                    AuditElements.Result.SUCCESS));
+            auditEntry.setDate(new Date());
+            auditEntry.setOutput(UUID.randomUUID().toString());
+            return auditEntry;
+        }).collect(Collectors.toList());
+        // reported dates are kept, but do not place entries back in time
+        Date backdated = new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(365));
+        auditEntries.get(0).setDate(backdated);
+        assertDoesNotThrow(() -> loggerService.create(auditEntries));
+
+        assertEquals(before + auditEntries.size(), loggerService.search(query).getTotalCount());
+
+        List<AuditEntry> newest = loggerService.search(new AuditQuery.Builder().
+                size(auditEntries.size()).
+                type(EventCategoryType.WA).
+                category("LoggerLogic").
+                subcategory(AuditElements.AUTHENTICATION_CATEGORY.toUpperCase()).
+                event("validate").
+                result(AuditElements.Result.SUCCESS).
+                build()).getResult();
+        assertTrue(newest.stream().anyMatch(auditEntry -> auditEntries.get(0).getWho().equals(auditEntry.getWho())
+                && backdated.equals(auditEntry.getDate())));
+    }
+
     @Test
     public void saveAuthEvent() {
         AuditEntry auditEntry = new AuditEntry();
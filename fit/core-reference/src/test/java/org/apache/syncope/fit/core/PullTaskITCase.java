@@ -643,6 +643,58 @@ public class PullTaskITCase extends AbstractTaskITCase {
         }
     }
 
+    @Test
+    public void skipUnchanged() {
+        String userOnTestPull = UUID.randomUUID().toString();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(testDataSource);
+        PullTaskTO task = null;
+        try {
+            jdbcTemplate.execute("INSERT INTO testpull VALUES ("
+                    + '\'' + userOnTestPull + "', 'skipunchanged', 'Doe', false, 'skipunchanged@apache.org', NULL)");
+
+            task = taskService.read(TaskType.PULL, "7c2242f4-14af-4ab5-af31-cdae23783655", true);
+            task.setSkipUnchanged(true);
+            Response response = taskService.create(TaskType.PULL, task);
+            task = getObject(response.getLocation(), TaskService.class, PullTaskTO.class);
+            assertTrue(task.isSkipUnchanged());
+
+            // 1. first run creates the user, second run updates it and stores its fingerprint
+            ExecTO execution = execProvisioningTask(taskService, TaskType.PULL, task.getKey(), MAX_WAIT_SECONDS, false);
+            assertEquals(ExecStatus.SUCCESS, ExecStatus.valueOf(execution.getStatus()));
+            assertNotNull(userService.read("skipunchanged"));
+
+            execution = execProvisioningTask(taskService, TaskType.PULL, task.getKey(), MAX_WAIT_SECONDS, false);
+            assertEquals(ExecStatus.SUCCESS, ExecStatus.valueOf(execution.getStatus()));
+            UserTO userTO = userService.read("skipunchanged");
+
+            // 2. nothing changed on the resource: the user is ignored and left untouched
+            execution = execProvisioningTask(taskService, TaskType.PULL, task.getKey(), MAX_WAIT_SECONDS, false);
+            assertEquals(ExecStatus.SUCCESS, ExecStatus.valueOf(execution.getStatus()));
+            assertTrue(execution.getMessage().contains("Users ignored:"));
+            assertEquals(userTO.getLastChangeDate(), userService.read("skipunchanged").getLastChangeDate());
+
+            // 3. once changed on the resource, the user is updated again
+            jdbcTemplate.execute("UPDATE testpull SET email='skipunchanged2@apache.org' "
+                    + "WHERE id='" + userOnTestPull + '\'');
+
+            execution = execProvisioningTask(taskService, TaskType.PULL, task.getKey(), MAX_WAIT_SECONDS, false);
+            assertEquals(ExecStatus.SUCCESS, ExecStatus.valueOf(execution.getStatus()));
+            assertEquals("skipunchanged2@apache.org",
+                    userService.read("skipunchanged").getPlainAttr("email").get().getValues().get(0));
+        } finally {
+            jdbcTemplate.execute("DELETE FROM testpull WHERE id = '" + userOnTestPull + '\'');
+            if (task != null && !"7c2242f4-14af-4ab5-af31-cdae23783655".equals(task.getKey())) {
+                taskService.delete(TaskType.PULL, task.getKey());
+            }
+            try {
+                userService.delete(userService.read("skipunchanged").getKey());
+            } catch (SyncopeClientException e) {
+                // ignore
+            }
+        }
+    }
+
     @Test
     public void syncTokenWithErrors() {
         ResourceTO origResource = resourceService.read(RESOURCE_NAME_DBPULL);
@@ -21,6 +21,7 @@ package org.apache.syncope.fit.core;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -29,6 +30,11 @@ import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.security.AccessControlException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.ws.rs.ForbiddenException;
 import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.GenericType;
@@ -39,11 +45,14 @@ import javax.ws.rs.core.Response;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.cxf.jaxrs.client.ClientConfiguration;
 import org.apache.cxf.jaxrs.client.WebClient;
+import org.apache.cxf.transport.http.asyncclient.AsyncHTTPConduit;
 import org.apache.syncope.client.lib.BasicAuthenticationHandler;
 import org.apache.syncope.client.lib.SyncopeClient;
 import org.apache.syncope.client.lib.SyncopeClientFactoryBean;
 import org.apache.syncope.common.lib.SyncopeClientException;
+import org.apache.syncope.common.lib.info.PlatformInfo;
 import org.apache.syncope.common.lib.request.GroupCR;
 import org.apache.syncope.common.lib.request.GroupUR;
 import org.apache.syncope.common.lib.request.StringReplacePatchItem;
@@ -58,6 +67,7 @@ import org.apache.syncope.common.rest.api.RESTHeaders;
 import org.apache.syncope.common.rest.api.service.AnyTypeClassService;
 import org.apache.syncope.common.rest.api.service.ConnectorService;
 import org.apache.syncope.common.rest.api.service.GroupService;
+import org.apache.syncope.common.rest.api.service.SyncopeService;
 import org.apache.syncope.common.rest.api.service.UserService;
 import org.apache.syncope.fit.AbstractITCase;
 import org.junit.jupiter.api.Test;
@@ -208,4 +218,56 @@ public class RESTITCase extends AbstractITCase {
         assertFalse(configExport.isEmpty());
         assertTrue(configExport.length() > 1000);
     }
+
+    private static long concurrentCalls(final SyncopeClient client, final int calls) {
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        try {
+            long start = System.currentTimeMillis();
+            List<CompletableFuture<PlatformInfo>> platforms = IntStream.range(0, calls).
+                    mapToObj(i -> client.async(SyncopeService.class, SyncopeService::platform, executor).
+                    toCompletableFuture()).
+                    collect(Collectors.toList());
+            CompletableFuture.allOf(platforms.toArray(CompletableFuture<?>[]::new)).join();
+            long elapsed = System.currentTimeMillis() - start;
+
+            platforms.forEach(platform -> assertNotNull(platform.join().getVersion()));
+            return elapsed;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void asyncHttpClientTransport() {
+        SyncopeClient urlConnectionClient = new SyncopeClientFactoryBean().setAddress(ADDRESS).
+                create(ADMIN_UNAME, ADMIN_PWD);
+        SyncopeClientFactoryBean asyncHttpClientFactory = new SyncopeClientFactoryBean().setAddress(ADDRESS).
+                setTransport(SyncopeClientFactoryBean.Transport.ASYNC_HTTP_CLIENT).
+                setMaxConnectionsPerHost(20);
+        SyncopeClient asyncHttpClient = asyncHttpClientFactory.create(ADMIN_UNAME, ADMIN_PWD);
+
+        ClientConfiguration urlConnectionConfig =
+                WebClient.getConfig(urlConnectionClient.getService(SyncopeService.class));
+        assertFalse(urlConnectionConfig.getHttpConduit() instanceof AsyncHTTPConduit);
+        ClientConfiguration asyncHttpConfig = WebClient.getConfig(asyncHttpClient.getService(SyncopeService.class));
+        assertTrue(asyncHttpConfig.getHttpConduit() instanceof AsyncHTTPConduit);
+
+        // the connection pool is shared among all clients built by the same factory
+        SyncopeClient anotherAsyncHttpClient = asyncHttpClientFactory.create(ADMIN_UNAME, ADMIN_PWD);
+        assertSame(
+                asyncHttpConfig.getBus(),
+                WebClient.getConfig(anotherAsyncHttpClient.getService(SyncopeService.class)).getBus());
+
+        // warm up
+        concurrentCalls(urlConnectionClient, 20);
+        concurrentCalls(asyncHttpClient, 20);
+
+        // compare throughput: both are expected to complete all calls
+        int calls = 500;
+        long urlConnection = concurrentCalls(urlConnectionClient, calls);
+        long asyncHttp = concurrentCalls(asyncHttpClient, calls);
+        LOG.info("{} concurrent calls completed in {} ms with {}, in {} ms with {}", calls,
+                urlConnection, SyncopeClientFactoryBean.Transport.URL_CONNECTION,
+                asyncHttp, SyncopeClientFactoryBean.Transport.ASYNC_HTTP_CLIENT);
+    }
 }
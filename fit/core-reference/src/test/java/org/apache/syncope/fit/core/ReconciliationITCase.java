@@ -25,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import com.fasterxml.jackson.dataformat.csv.CsvSchema;
@@ -160,6 +161,77 @@ public class ReconciliationITCase extends AbstractITCase {
         assertTrue(printer.getResources().isEmpty());
     }
 
+    @Test
+    public void drift() throws IOException {
+        // 1. create printer, with no resources, then push it: it is on the external resource's db but not assigned
+        AnyObjectCR printerCR = AnyObjectITCase.getSample("drift");
+        printerCR.getResources().clear();
+        AnyObjectTO printer = createAnyObject(printerCR).getEntity();
+
+        PushTaskTO pushTask = new PushTaskTO();
+        pushTask.setPerformCreate(true);
+        pushTask.setUnmatchingRule(UnmatchingRule.PROVISION);
+        reconciliationService.push(new ReconQuery.Builder(PRINTER, RESOURCE_NAME_DBSCRIPTED).
+                anyKey(printer.getKey()).build(), pushTask);
+
+        // 2. the printer is reported as missing on Syncope
+        List<ReconStatus> drift = drift(PRINTER, RESOURCE_NAME_DBSCRIPTED);
+        String name = printer.getName();
+        assertTrue(drift.stream().anyMatch(status -> status.getOnSyncope() == null
+                && status.getOnResource().getAttrs().stream().anyMatch(attr -> attr.getValues().contains(name))));
+    }
+
+    private List<ReconStatus> drift(final String anyTypeKey, final String resourceKey) throws IOException {
+        Response response = reconciliationService.drift(anyTypeKey, resourceKey);
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+
+        return OBJECT_MAPPER.readValue((InputStream) response.getEntity(), new TypeReference<List<ReconStatus>>() {
+        });
+    }
+
+    @Test
+    public void driftMisaligned() throws IOException {
+        // 1. create printer, propagated to the external resource: no drift reported
+        AnyObjectTO printer = createAnyObject(AnyObjectITCase.getSample("driftMisaligned")).getEntity();
+        String key = printer.getKey();
+        assertFalse(drift(PRINTER, RESOURCE_NAME_DBSCRIPTED).stream().
+                anyMatch(status -> key.equals(status.getAnyKey())));
+
+        // 2. change location on the external resource only
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(testDataSource);
+        jdbcTemplate.update("UPDATE TESTPRINTER SET location=? WHERE id=?", "Nowhere", key);
+
+        // 3. the printer is reported as misaligned
+        ReconStatus status = drift(PRINTER, RESOURCE_NAME_DBSCRIPTED).stream().
+                filter(s -> key.equals(s.getAnyKey())).findFirst().orElseThrow();
+        assertEquals(MatchType.ANY, status.getMatchType());
+        assertNotNull(status.getOnSyncope());
+        assertNotNull(status.getOnResource());
+        assertEquals(
+                printer.getPlainAttr("location").get().getValues(),
+                status.getOnSyncope().getAttr("LOCATION").get().getValues());
+        assertEquals(List.of("Nowhere"), status.getOnResource().getAttr("LOCATION").get().getValues());
+    }
+
+    @Test
+    public void driftMissingOnResource() throws IOException {
+        // 1. create printer, propagated to the external resource
+        AnyObjectTO printer = createAnyObject(AnyObjectITCase.getSample("driftMissingOnResource")).getEntity();
+        String key = printer.getKey();
+
+        // 2. remove it from the external resource only
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(testDataSource);
+        jdbcTemplate.update("DELETE FROM TESTPRINTER WHERE id=?", key);
+
+        // 3. the printer is reported as missing on the external resource
+        ReconStatus status = drift(PRINTER, RESOURCE_NAME_DBSCRIPTED).stream().
+                filter(s -> key.equals(s.getAnyKey())).findFirst().orElseThrow();
+        assertEquals(MatchType.ANY, status.getMatchType());
+        assertEquals(printer.getRealm(), status.getRealm());
+        assertNotNull(status.getOnSyncope());
+        assertNull(status.getOnResource());
+    }
+
     @Test
     public void importSingle() {
         // 1. add row into the external resource's table
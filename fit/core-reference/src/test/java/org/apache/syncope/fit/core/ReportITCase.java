@@ -289,8 +289,11 @@ public class ReportITCase extends AbstractITCase {
                 new ExecDeleteQuery.Builder().key(reportTO.getKey()).startedAfter(start).endedBefore(end).build());
         List<BatchResponseItem> batchResponseItems = parseBatchResponse(response);
         assertEquals(1, batchResponseItems.size());
-        assertEquals(execKey, batchResponseItems.get(0).getHeaders().get(RESTHeaders.RESOURCE_KEY).get(0));
+        assertEquals(reportTO.getKey(), batchResponseItems.get(0).getHeaders().get(RESTHeaders.RESOURCE_KEY).get(0));
         assertEquals(Response.Status.OK.getStatusCode(), batchResponseItems.get(0).getStatus());
+        assertEquals("1", batchResponseItems.get(0).getContent());
+
+        assertTrue(reportService.read(reportTO.getKey()).getExecutions().isEmpty());
     }
 
     @Test
@@ -334,6 +334,28 @@ public class SCIMITCase extends AbstractITCase {
 
         SCIMUser newSCIMUser = users.getResources().get(0);
         assertEquals(newUser.getUsername(), newSCIMUser.getUserName());
+
+        // groups are returned by default...
+        response = webClient().path("Users").query("filter", "userName eq \"rossini\"").get();
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+
+        users = response.readEntity(new GenericType<ListResponse<SCIMUser>>() {
+        });
+        assertEquals(1, users.getTotalResults());
+        assertEquals("rossini", users.getResources().get(0).getUserName());
+        assertFalse(users.getResources().get(0).getGroups().isEmpty());
+
+        // ...unless excluded
+        response = webClient().path("Users").
+                query("filter", "userName eq \"rossini\"").
+                query("excludedAttributes", "groups,roles").get();
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+
+        users = response.readEntity(new GenericType<ListResponse<SCIMUser>>() {
+        });
+        assertEquals(1, users.getTotalResults());
+        assertEquals("rossini", users.getResources().get(0).getUserName());
+        assertTrue(users.getResources().get(0).getGroups().isEmpty());
     }
 
     private static SCIMUser getSampleUser(final String username) {
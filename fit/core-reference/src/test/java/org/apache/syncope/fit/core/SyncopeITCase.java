@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.fit.core;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.info.MetricsInfo;
+import org.apache.syncope.common.lib.info.NumbersInfo;
+import org.apache.syncope.common.lib.to.UserTO;
+import org.apache.syncope.fit.AbstractITCase;
+import org.junit.jupiter.api.Test;
+
+public class SyncopeITCase extends AbstractITCase {
+
+    @Test
+    public void numbers() {
+        NumbersInfo before = syncopeService.numbers();
+        assertNotNull(before);
+        assertTrue(before.getTotalUsers() > 0);
+
+        UserTO userTO = createUser(UserITCase.getUniqueSample("numbers@syncope.apache.org")).getEntity();
+        assertNotNull(userTO.getKey());
+
+        // numbers are updated once the user creation has committed
+        await().atMost(MAX_WAIT_SECONDS, TimeUnit.SECONDS).pollInterval(1, TimeUnit.SECONDS).
+                until(() -> syncopeService.numbers().getTotalUsers() > before.getTotalUsers());
+
+        NumbersInfo after = syncopeService.numbers();
+        assertTrue(after.getUsersByRealm().get(SyncopeConstants.ROOT_REALM) > 0);
+        assertTrue(after.getUsersByStatus().get(userTO.getStatus()) > 0);
+        assertFalse(after.getConfCompleteness().isEmpty());
+        assertTrue(after.getPropagationTaskExecutor().getSize() >= 0);
+
+        // numbers are also exposed as metrics
+        MetricsInfo metrics = syncopeService.metrics();
+        assertTrue(metrics.getMeters().stream().anyMatch(meter -> "syncope.numbers.users".equals(meter.getName())
+                && SyncopeConstants.MASTER_DOMAIN.equals(meter.getTags().get("domain"))
+                && meter.getMeasurements().getOrDefault("value", 0.0) > 0));
+
+        deleteUser(userTO.getKey());
+
+        await().atMost(MAX_WAIT_SECONDS, TimeUnit.SECONDS).pollInterval(1, TimeUnit.SECONDS).
+                until(() -> syncopeService.numbers().getTotalUsers() < after.getTotalUsers());
+    }
+}
@@ -37,6 +37,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import javax.ws.rs.ForbiddenException;
 import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.RandomStringUtils;
@@ -47,6 +48,7 @@ import org.apache.syncope.client.lib.SyncopeClient;
 import org.apache.syncope.client.lib.batch.BatchRequest;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.info.MetricsInfo;
 import org.apache.syncope.common.lib.policy.AccountPolicyTO;
 import org.apache.syncope.common.lib.policy.HaveIBeenPwnedPasswordRuleConf;
 import org.apache.syncope.common.lib.policy.PasswordPolicyTO;
@@ -87,6 +89,7 @@ import org.apache.syncope.common.rest.api.beans.AnyQuery;
 import org.apache.syncope.common.rest.api.beans.RealmQuery;
 import org.apache.syncope.common.rest.api.beans.TaskQuery;
 import org.apache.syncope.common.rest.api.service.ResourceService;
+import org.apache.syncope.common.rest.api.service.SyncopeService;
 import org.apache.syncope.common.rest.api.service.UserSelfService;
 import org.apache.syncope.common.rest.api.service.UserService;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
@@ -1371,4 +1374,24 @@ public class UserITCase extends AbstractITCase {
         UserTO userTO = createUser(userCR).getEntity();
         assertNotNull(userTO.getKey());
     }
+
+    @Test
+    public void metrics() {
+        int count = userService.search(new AnyQuery.Builder().realm(SyncopeConstants.ROOT_REALM).build()).
+                getTotalCount();
+        assertTrue(count > 0);
+
+        MetricsInfo metrics = syncopeService.metrics();
+        assertTrue(metrics.getMeters().stream().anyMatch(meter -> "syncope.search".equals(meter.getName())
+                && meter.getMeasurements().getOrDefault("count", 0.0) > 0));
+        assertTrue(metrics.getMeters().stream().anyMatch(meter -> meter.getName().startsWith("executor")));
+
+        // metrics require a dedicated entitlement
+        try {
+            clientFactory.create("puccini", ADMIN_PWD).getService(SyncopeService.class).metrics();
+            fail("This should not happen");
+        } catch (ForbiddenException e) {
+            assertNotNull(e);
+        }
+    }
 }
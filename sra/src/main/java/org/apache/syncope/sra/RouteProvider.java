@@ -19,8 +19,9 @@
 package org.apache.syncope.sra;
 
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -28,6 +29,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.client.lib.AnonymousAuthenticationHandler;
 import org.apache.syncope.client.lib.SyncopeClient;
 import org.apache.syncope.client.lib.SyncopeClientFactoryBean;
@@ -120,7 +122,12 @@ public class RouteProvider {
 
     private SyncopeClient client;
 
-    private final List<SRARouteTO> routeTOs = new ArrayList<>();
+    private volatile List<SRARouteTO> routeTOs = List.of();
+
+    /**
+     * Routes built so far, by key: each is re-used until the matching {@link SRARouteTO} changes.
+     */
+    private volatile Map<String, Pair<SRARouteTO, Route>> routes = Map.of();
 
     @SuppressWarnings("unchecked")
     private GatewayFilter toFilter(final SRARouteTO route, final SRARouteFilter gwfilter)
@@ -553,7 +560,7 @@ public class RouteProvider {
         return builder;
     }
 
-    public List<Route.AsyncBuilder> fetch() {
+    public List<Route> fetch() {
         synchronized (this) {
             if (client == null) {
                 try {
@@ -568,12 +575,34 @@ public class RouteProvider {
             }
         }
 
-        synchronized (routeTOs) {
-            routeTOs.clear();
-            routeTOs.addAll(client.getService(SRARouteService.class).list());
+        List<SRARouteTO> fetched;
+        try {
+            fetched = client.getService(SRARouteService.class).list();
+        } catch (Exception e) {
+            LOG.error("Could not fetch routes, keeping current", e);
+            return routes.values().stream().map(Pair::getRight).collect(Collectors.toList());
+        }
+
+        synchronized (this) {
+            Map<String, Pair<SRARouteTO, Route>> current = routes;
+            Map<String, Pair<SRARouteTO, Route>> updated = new LinkedHashMap<>();
+            int changed = 0;
+            for (SRARouteTO routeTO : fetched) {
+                Pair<SRARouteTO, Route> route = current.get(routeTO.getKey());
+                if (route == null || !route.getLeft().equals(routeTO)) {
+                    route = Pair.of(routeTO, toRoute(routeTO).build());
+                    changed++;
+                }
+                updated.put(routeTO.getKey(), route);
+            }
+            LOG.debug("Routes fetched: {}, rebuilt: {}, removed: {}", updated.size(), changed,
+                    current.keySet().stream().filter(key -> !updated.containsKey(key)).count());
+
+            routes = updated;
+            routeTOs = List.copyOf(fetched);
         }
 
-        return routeTOs.stream().map(this::toRoute).collect(Collectors.toList());
+        return routes.values().stream().map(Pair::getRight).collect(Collectors.toList());
     }
 
     public List<SRARouteTO> getRouteTOs() {
@@ -19,24 +19,44 @@
 package org.apache.syncope.wa.starter.audit;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import org.apereo.cas.audit.spi.AbstractAuditTrailManager;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.client.lib.SyncopeClient;
 import org.apache.syncope.common.lib.log.AuditEntry;
 import org.apache.syncope.common.lib.types.AuditElements;
 import org.apache.syncope.common.lib.types.AuditLoggerName;
 import org.apache.syncope.common.rest.api.service.LoggerService;
 import org.apache.syncope.wa.bootstrap.WARestClient;
+import org.apereo.cas.audit.spi.AbstractAuditTrailManager;
 import org.apereo.inspektr.audit.AuditActionContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 
-import org.apache.syncope.client.lib.SyncopeClient;
-
-public class SyncopeWAAuditTrailManager extends AbstractAuditTrailManager {
+/**
+ * Ships CAS audit records to Core asynchronously: records are buffered in a bounded queue and sent in batches, either
+ * periodically or as soon as a full batch is available; when Core cannot be reached, or the queue is full, records are
+ * spilled to a local file, to be sent again with the next successful batch.
+ */
+public class SyncopeWAAuditTrailManager extends AbstractAuditTrailManager implements DisposableBean {
 
     private static final Logger LOG = LoggerFactory.getLogger(SyncopeWAAuditTrailManager.class);
 
@@ -44,42 +64,222 @@ public class SyncopeWAAuditTrailManager extends AbstractAuditTrailManager {
 
     private final WARestClient waRestClient;
 
-    public SyncopeWAAuditTrailManager(final WARestClient restClient) {
-        super(true);
+    private final int batchSize;
+
+    private final Path spillFile;
+
+    private final Object spillLock = new Object();
+
+    private final BlockingQueue<AuditEntry> queue;
+
+    private final ScheduledExecutorService shipper = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "SyncopeWAAuditShipper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SyncopeWAAuditTrailManager(
+            final WARestClient restClient,
+            final int queueCapacity,
+            final int batchSize,
+            final long flushInterval,
+            final Path spillFile) {
+
+        super(false);
         this.waRestClient = restClient;
+        this.batchSize = batchSize;
+        this.spillFile = spillFile;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        shipper.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    protected AuditEntry toAuditEntry(final AuditActionContext audit) throws JsonProcessingException {
+        String output = OBJECT_MAPPER.writeValueAsString(Map.of("resource", audit.getResourceOperatedUpon(),
+                "clientIpAddress", audit.getClientIpAddress(),
+                "serverIpAddress", audit.getServerIpAddress()));
+
+        AuditEntry auditEntry = new AuditEntry();
+        auditEntry.setWho(audit.getPrincipal());
+        auditEntry.setDate(audit.getWhenActionWasPerformed());
+        auditEntry.setOutput(output);
+        AuditElements.Result result = StringUtils.containsIgnoreCase(audit.getActionPerformed(), "fail")
+                ? AuditElements.Result.FAILURE
+                : AuditElements.Result.SUCCESS;
+
+        AuditLoggerName auditLogger = new AuditLoggerName(AuditElements.EventCategoryType.WA,
+                "LoggerLogic", AuditElements.AUTHENTICATION_CATEGORY.toUpperCase(),
+                audit.getActionPerformed(), result);
+
+        auditEntry.setLogger(auditLogger);
+        return auditEntry;
     }
 
     @Override
     protected void saveAuditRecord(final AuditActionContext audit) {
+        AuditEntry auditEntry;
+        try {
+            auditEntry = toAuditEntry(audit);
+        } catch (JsonProcessingException e) {
+            LOG.error("During serialization", e);
+            return;
+        }
+
+        if (!queue.offer(auditEntry)) {
+            LOG.warn("Audit queue is full, spilling audit record to {}", spillFile);
+            spill(List.of(auditEntry));
+        } else if (queue.size() >= batchSize) {
+            shipper.execute(this::flush);
+        }
+    }
+
+    protected void spill(final List<AuditEntry> auditEntries) {
+        synchronized (spillLock) {
+            try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+
+                for (AuditEntry auditEntry : auditEntries) {
+                    writer.write(OBJECT_MAPPER.writeValueAsString(auditEntry));
+                    writer.newLine();
+                }
+            } catch (IOException e) {
+                LOG.error("While spilling {} audit records to {}, discarding", auditEntries.size(), spillFile, e);
+            }
+        }
+    }
+
+    protected boolean send(final LoggerService loggerService, final List<AuditEntry> batch) {
+        try {
+            loggerService.create(batch);
+            return true;
+        } catch (Exception e) {
+            LOG.error("While sending {} audit records to Core", batch.size(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Sends the audit records found in the given file, streamed in batches; the file is removed once all records were
+     * sent, otherwise it is rewritten with the records not sent.
+     *
+     * @param loggerService logger service
+     * @param file file with one serialized audit record per line
+     * @return whether all records were sent
+     * @throws IOException if the given file cannot be read or rewritten
+     */
+    protected boolean resend(final LoggerService loggerService, final Path file) throws IOException {
+        Path remaining = file.resolveSibling(file.getFileName() + ".tmp");
+        boolean sent = true;
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            List<String> lines = new ArrayList<>(batchSize);
+            List<AuditEntry> batch = new ArrayList<>(batchSize);
+            for (String line = reader.readLine(); sent && line != null; line = reader.readLine()) {
+                if (StringUtils.isNotBlank(line)) {
+                    try {
+                        batch.add(OBJECT_MAPPER.readValue(line, AuditEntry.class));
+                        lines.add(line);
+                    } catch (JsonProcessingException e) {
+                        LOG.error("Discarding unreadable audit record from {}: {}", file, line, e);
+                    }
+                }
+                if (batch.size() >= batchSize) {
+                    sent = send(loggerService, batch);
+                    if (sent) {
+                        lines = new ArrayList<>(batchSize);
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+            }
+            if (sent && !batch.isEmpty()) {
+                sent = send(loggerService, batch);
+            }
+
+            if (!sent) {
+                try (BufferedWriter writer = Files.newBufferedWriter(remaining, StandardCharsets.UTF_8)) {
+                    for (String line : lines) {
+                        writer.write(line);
+                        writer.newLine();
+                    }
+                    for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                        writer.write(line);
+                        writer.newLine();
+                    }
+                }
+            }
+        }
+
+        if (sent) {
+            Files.delete(file);
+        } else {
+            Files.move(remaining, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return sent;
+    }
+
+    /**
+     * Sends the spilled audit records: the spill file is first moved aside, so that records spilled meanwhile are
+     * appended to a new spill file.
+     *
+     * @param loggerService logger service
+     * @return whether all spilled records were sent
+     * @throws IOException if spilled records cannot be read or rewritten
+     */
+    protected boolean resendSpilled(final LoggerService loggerService) throws IOException {
+        Path sending = spillFile.resolveSibling(spillFile.getFileName() + ".sending");
+        boolean sent = true;
+        while (sent) {
+            synchronized (spillLock) {
+                if (!Files.exists(sending)) {
+                    if (!Files.exists(spillFile)) {
+                        return true;
+                    }
+                    Files.move(spillFile, sending, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+            sent = resend(loggerService, sending);
+        }
+        return false;
+    }
+
+    /**
+     * Sends spilled and queued audit records to Core, in batches.
+     */
+    protected synchronized void flush() {
         SyncopeClient syncopeClient = waRestClient.getSyncopeClient();
         if (syncopeClient == null) {
-            LOG.debug("Syncope client is not yet ready to store audit record");
+            LOG.debug("Syncope client is not yet ready to store audit records");
             return;
         }
+        LoggerService loggerService = syncopeClient.getService(LoggerService.class);
 
-        LOG.info("Loading application definitions");
+        boolean available;
         try {
-            String output = OBJECT_MAPPER.writeValueAsString(Map.of("resource", audit.getResourceOperatedUpon(),
-                    "clientIpAddress", audit.getClientIpAddress(),
-                    "serverIpAddress", audit.getServerIpAddress()));
-
-            AuditEntry auditEntry = new AuditEntry();
-            auditEntry.setWho(audit.getPrincipal());
-            auditEntry.setDate(audit.getWhenActionWasPerformed());
-            auditEntry.setOutput(output);
-            AuditElements.Result result = StringUtils.containsIgnoreCase(audit.getActionPerformed(), "fail")
-                    ? AuditElements.Result.FAILURE
-                    : AuditElements.Result.SUCCESS;
-
-            AuditLoggerName auditLogger = new AuditLoggerName(AuditElements.EventCategoryType.WA,
-                    "LoggerLogic", AuditElements.AUTHENTICATION_CATEGORY.toUpperCase(),
-                    audit.getActionPerformed(), result);
-
-            auditEntry.setLogger(auditLogger);
-            syncopeClient.getService(LoggerService.class).create(auditEntry);
-        } catch (JsonProcessingException e) {
-            LOG.error("During serialization", e);
+            available = resendSpilled(loggerService);
+        } catch (IOException e) {
+            LOG.error("While sending spilled audit records from {}", spillFile, e);
+            available = false;
         }
+
+        do {
+            List<AuditEntry> batch = new ArrayList<>(batchSize);
+            queue.drainTo(batch, batchSize);
+            if (!batch.isEmpty()) {
+                if (available) {
+                    available = send(loggerService, batch);
+                }
+                if (!available) {
+                    LOG.warn("Spilling {} audit records to {}", batch.size(), spillFile);
+                    spill(batch);
+                }
+            }
+        } while (available && !queue.isEmpty());
+    }
+
+    @Override
+    public void destroy() {
+        shipper.shutdown();
+        flush();
     }
 
     @Override
@@ -76,11 +76,13 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.apache.syncope.wa.starter.events.SyncopeWAEventRepository;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
@@ -173,7 +175,12 @@ public class SyncopeWAConfiguration {
             final WARestClient restClient, final RegisteredServiceMapper registeredServiceMapper) {
 
         SyncopeWAServiceRegistry registry = new SyncopeWAServiceRegistry(
-                restClient, registeredServiceMapper, ctx, serviceRegistryListeners);
+                restClient,
+                registeredServiceMapper,
+                TimeUnit.SECONDS.toMillis(
+                        ctx.getEnvironment().getProperty("serviceRegistryMaxStaleness", Long.class, 300L)),
+                ctx,
+                serviceRegistryListeners);
         return plan -> plan.registerServiceRegistry(registry);
     }
 
@@ -199,8 +206,20 @@ public class SyncopeWAConfiguration {
 
     @Autowired
     @Bean
-    public AuditTrailExecutionPlanConfigurer auditConfigurer(final WARestClient restClient) {
-        return plan -> plan.registerAuditTrailManager(new SyncopeWAAuditTrailManager(restClient));
+    public SyncopeWAAuditTrailManager syncopeWAAuditTrailManager(final WARestClient restClient) {
+        return new SyncopeWAAuditTrailManager(
+                restClient,
+                ctx.getEnvironment().getProperty("audit.queueCapacity", Integer.class, 10000),
+                ctx.getEnvironment().getProperty("audit.batchSize", Integer.class, 100),
+                ctx.getEnvironment().getProperty("audit.flushInterval", Long.class, 5000L),
+                Paths.get(ctx.getEnvironment().getProperty("audit.spillFile",
+                        Paths.get(System.getProperty("java.io.tmpdir"), "syncope-wa-audit.spill").toString())));
+    }
+
+    @Autowired
+    @Bean
+    public AuditTrailExecutionPlanConfigurer auditConfigurer(final SyncopeWAAuditTrailManager auditTrailManager) {
+        return plan -> plan.registerAuditTrailManager(auditTrailManager);
     }
 
     @ConditionalOnMissingBean(name = "syncopWaEventRepositoryFilter")
@@ -18,40 +18,117 @@
  */
 package org.apache.syncope.wa.starter.services;
 
-import org.apache.syncope.wa.starter.mapping.RegisteredServiceMapper;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import org.apache.syncope.client.lib.SyncopeClient;
+import org.apache.syncope.common.lib.to.client.OIDCRPTO;
+import org.apache.syncope.common.lib.to.client.SAML2SPTO;
 import org.apache.syncope.common.lib.types.ClientAppType;
+import org.apache.syncope.common.lib.wa.WAClientApp;
+import org.apache.syncope.common.rest.api.service.wa.WAClientAppService;
 import org.apache.syncope.wa.bootstrap.WARestClient;
+import org.apache.syncope.wa.starter.mapping.RegisteredServiceMapper;
 import org.apereo.cas.services.AbstractServiceRegistry;
-import org.apereo.cas.services.OidcRegisteredService;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.ServiceRegistryListener;
-import org.apereo.cas.support.saml.services.SamlRegisteredService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ConfigurableApplicationContext;
-import org.apache.syncope.common.rest.api.service.wa.WAClientAppService;
 
+/**
+ * Service registry backed by client applications defined in Core.
+ * Client applications are kept in memory, indexed by type, id and name: lookups only reach Core for client
+ * applications not found in memory, while the whole index is refreshed by {@link #load()} - invoked by CAS upon
+ * startup, periodically and when Core pushes changes - or, in background, when older than the configured maximum
+ * staleness; meanwhile, lookups are still served by the current index.
+ */
 public class SyncopeWAServiceRegistry extends AbstractServiceRegistry {
 
     private static final Logger LOG = LoggerFactory.getLogger(SyncopeWAServiceRegistry.class);
 
+    protected static final class Index {
+
+        private final long loaded = System.currentTimeMillis();
+
+        private final List<RegisteredService> services = new ArrayList<>();
+
+        private final Map<ClientAppType, Map<Long, RegisteredService>> byId = new EnumMap<>(ClientAppType.class);
+
+        private final Map<ClientAppType, Map<String, RegisteredService>> byName =
+                new EnumMap<>(ClientAppType.class);
+
+        private Index() {
+            for (ClientAppType type : ClientAppType.values()) {
+                byId.put(type, new ConcurrentHashMap<>());
+                byName.put(type, new ConcurrentHashMap<>());
+            }
+        }
+
+        private void put(final ClientAppType type, final WAClientApp clientApp, final RegisteredService service) {
+            byId.get(type).put(clientApp.getClientAppTO().getClientAppId(), service);
+            byName.get(type).put(clientApp.getClientAppTO().getName(), service);
+        }
+
+        private <K> Optional<RegisteredService> find(
+                final Map<ClientAppType, Map<K, RegisteredService>> index,
+                final K key,
+                final Class<? extends RegisteredService> clazz) {
+
+            // same lookup order as Core, when no type is specified
+            return Stream.of(ClientAppType.values()).
+                    map(type -> index.get(type).get(key)).
+                    filter(Objects::nonNull).
+                    filter(clazz::isInstance).
+                    findFirst();
+        }
+    }
+
+    protected static ClientAppType getType(final WAClientApp clientApp) {
+        return clientApp.getClientAppTO() instanceof OIDCRPTO
+                ? ClientAppType.OIDCRP
+                : clientApp.getClientAppTO() instanceof SAML2SPTO
+                ? ClientAppType.SAML2SP
+                : ClientAppType.CASSP;
+    }
+
     private final WARestClient waRestClient;
 
     private final RegisteredServiceMapper registeredServiceMapper;
 
+    private final long maxStaleness;
+
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "SyncopeWAServiceRegistryRefresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    private volatile Index index;
+
     public SyncopeWAServiceRegistry(
             final WARestClient restClient,
             final RegisteredServiceMapper registeredServiceMapper,
+            final long maxStaleness,
             final ConfigurableApplicationContext applicationContext,
             final Collection<ServiceRegistryListener> serviceRegistryListeners) {
 
         super(applicationContext, serviceRegistryListeners);
         this.waRestClient = restClient;
         this.registeredServiceMapper = registeredServiceMapper;
+        this.maxStaleness = maxStaleness;
     }
 
     @Override
@@ -63,86 +140,120 @@ public class SyncopeWAServiceRegistry extends AbstractServiceRegistry {
     public boolean delete(final RegisteredService registeredService) {
         throw new UnsupportedOperationException("Deleting registered services from WA is not supported");
     }
-    
-    @Override
-    public Collection<RegisteredService> load() {
+
+    protected Optional<Index> refresh() {
         SyncopeClient syncopeClient = waRestClient.getSyncopeClient();
         if (syncopeClient == null) {
             LOG.debug("Syncope client is not yet ready to fetch application definitions");
-            return List.of();
-        } else {
-            LOG.info("Loading application definitions");
-            return waRestClient.getSyncopeClient().getService(WAClientAppService.class).list().stream().
-                    map(registeredServiceMapper::toRegisteredService).
-                    collect(Collectors.toList());
+            return Optional.empty();
+        }
+
+        LOG.info("Loading application definitions");
+        Index refreshed = new Index();
+        syncopeClient.getService(WAClientAppService.class).list().forEach(clientApp -> {
+            RegisteredService service = registeredServiceMapper.toRegisteredService(clientApp);
+            if (service != null) {
+                refreshed.services.add(service);
+                refreshed.put(getType(clientApp), clientApp, service);
+            }
+        });
+        synchronized (this) {
+            // a refresh started later might have completed meanwhile
+            if (index == null || index.loaded <= refreshed.loaded) {
+                index = refreshed;
+            }
+        }
+        return Optional.of(refreshed);
+    }
+
+    /**
+     * Returns the current index, if any; when missing or older than the configured maximum staleness, a refresh is
+     * started in background, unless already running.
+     *
+     * @return current index, if any
+     */
+    protected Optional<Index> index() {
+        Index current = index;
+        if ((current == null || System.currentTimeMillis() - current.loaded > maxStaleness)
+                && refreshing.compareAndSet(false, true)) {
+
+            refresher.execute(() -> {
+                try {
+                    refresh();
+                } catch (Exception e) {
+                    LOG.error("While loading application definitions, keeping current", e);
+                } finally {
+                    refreshing.set(false);
+                }
+            });
         }
+        return Optional.ofNullable(current);
     }
 
     @Override
-    public RegisteredService findServiceById(final long id) {
+    public Collection<RegisteredService> load() {
+        return refresh().<Collection<RegisteredService>>map(refreshed -> refreshed.services).orElse(List.of());
+    }
+
+    /**
+     * Reads the given client application from Core, when not found in memory, and adds it to the current index.
+     *
+     * @param read how to read the client application from Core
+     * @return registered service for the client application read from Core, if found
+     */
+    protected Optional<RegisteredService> readThrough(final Function<WAClientAppService, WAClientApp> read) {
         SyncopeClient syncopeClient = waRestClient.getSyncopeClient();
         if (syncopeClient == null) {
             LOG.debug("Syncope client is not yet ready to fetch application definitions");
-            return null;
-        } else {
-            LOG.info("Searching for application definition by id {}", id);
-            return registeredServiceMapper.toRegisteredService(waRestClient.getSyncopeClient().
-                    getService(WAClientAppService.class).read(id, null));
+            return Optional.empty();
+        }
+
+        WAClientApp clientApp;
+        try {
+            clientApp = read.apply(syncopeClient.getService(WAClientAppService.class));
+        } catch (Exception e) {
+            LOG.debug("Application definition not found", e);
+            return Optional.empty();
+        }
+
+        RegisteredService service = registeredServiceMapper.toRegisteredService(clientApp);
+        if (service != null) {
+            Optional.ofNullable(index).ifPresent(current -> current.put(getType(clientApp), clientApp, service));
         }
+        return Optional.ofNullable(service);
+    }
+
+    @Override
+    public RegisteredService findServiceById(final long id) {
+        LOG.debug("Searching for application definition by id {}", id);
+        return index().flatMap(i -> i.find(i.byId, id, RegisteredService.class)).
+                or(() -> readThrough(service -> service.read(id, null))).
+                orElse(null);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T extends RegisteredService> T findServiceById(final long id, final Class<T> clazz) {
-        SyncopeClient syncopeClient = waRestClient.getSyncopeClient();
-        if (syncopeClient == null) {
-            LOG.debug("Syncope client is not yet ready to fetch application definitions");
-            return null;
-        } else {
-            LOG.info("Searching for application definition by id {} and type {}", id, clazz);
-            if (clazz.isInstance(OidcRegisteredService.class)) {
-                return (T) registeredServiceMapper.toRegisteredService(waRestClient.getSyncopeClient().
-                        getService(WAClientAppService.class).read(id, ClientAppType.OIDCRP));
-            } else if (clazz.isInstance(SamlRegisteredService.class)) {
-                return (T) registeredServiceMapper.toRegisteredService(waRestClient.getSyncopeClient().
-                        getService(WAClientAppService.class).read(id, ClientAppType.SAML2SP));
-            } else {
-                return null;
-            }
-        }
+        LOG.debug("Searching for application definition by id {} and type {}", id, clazz);
+        return index().flatMap(i -> i.find(i.byId, id, clazz)).
+                or(() -> readThrough(service -> service.read(id, null)).filter(clazz::isInstance)).
+                map(clazz::cast).
+                orElse(null);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T extends RegisteredService> T findServiceByExactServiceName(final String name, final Class<T> clazz) {
-        SyncopeClient syncopeClient = waRestClient.getSyncopeClient();
-        if (syncopeClient == null) {
-            LOG.debug("Syncope client is not yet ready to fetch application definitions");
-            return null;
-        } else {
-            LOG.info("Searching for application definition by name {} and type {}", name, clazz);
-            if (clazz.isInstance(OidcRegisteredService.class)) {
-                return (T) registeredServiceMapper.toRegisteredService(waRestClient.getSyncopeClient().
-                        getService(WAClientAppService.class).read(name, ClientAppType.OIDCRP));
-            } else if (clazz.isInstance(SamlRegisteredService.class)) {
-                return (T) registeredServiceMapper.toRegisteredService(waRestClient.getSyncopeClient().
-                        getService(WAClientAppService.class).read(name, ClientAppType.SAML2SP));
-            } else {
-                return null;
-            }
-        }
+        LOG.debug("Searching for application definition by name {} and type {}", name, clazz);
+        return index().flatMap(i -> i.find(i.byName, name, clazz)).
+                or(() -> readThrough(service -> service.read(name, null)).filter(clazz::isInstance)).
+                map(clazz::cast).
+                orElse(null);
     }
 
     @Override
     public RegisteredService findServiceByExactServiceName(final String name) {
-        SyncopeClient syncopeClient = waRestClient.getSyncopeClient();
-        if (syncopeClient == null) {
-            LOG.debug("Syncope client is not yet ready to fetch application definitions");
-            return null;
-        } else {
-            LOG.info("Searching for application definition by name {}", name);
-            return registeredServiceMapper.toRegisteredService(waRestClient.getSyncopeClient().
-                    getService(WAClientAppService.class).read(name, null));
-        }
+        LOG.debug("Searching for application definition by name {}", name);
+        return index().flatMap(i -> i.find(i.byName, name, RegisteredService.class)).
+                or(() -> readThrough(service -> service.read(name, null))).
+                orElse(null);
     }
 }
@@ -20,13 +20,28 @@ package org.apache.syncope.wa.starter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.ProcessingException;
 import org.apache.syncope.client.lib.SyncopeClient;
 import org.apache.syncope.common.lib.policy.AllowedAttrReleasePolicyConf;
 import org.apache.syncope.common.lib.policy.DefaultAccessPolicyConf;
@@ -39,9 +54,12 @@ import org.apache.syncope.common.lib.types.SAML2SPNameId;
 import org.apache.syncope.common.lib.wa.WAClientApp;
 import org.apache.syncope.common.rest.api.service.wa.WAClientAppService;
 import org.apache.syncope.wa.bootstrap.WARestClient;
+import org.apache.syncope.wa.starter.mapping.RegisteredServiceMapper;
+import org.apache.syncope.wa.starter.services.SyncopeWAServiceRegistry;
 import org.apereo.cas.services.AnyAuthenticationHandlerRegisteredServiceAuthenticationPolicyCriteria;
 import org.apereo.cas.services.ChainingAttributeReleasePolicy;
 import org.apereo.cas.services.OidcRegisteredService;
+import org.apereo.cas.services.RegexRegisteredService;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.ReturnAllowedAttributeReleasePolicy;
 import org.apereo.cas.services.ServicesManager;
@@ -49,6 +67,7 @@ import org.apereo.cas.support.saml.services.SamlRegisteredService;
 import org.apereo.cas.util.RandomUtils;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ConfigurableApplicationContext;
 
 public class SyncopeWAServiceRegistryTest extends AbstractTest {
 
@@ -199,4 +218,105 @@ public class SyncopeWAServiceRegistryTest extends AbstractTest {
         found = servicesManager.findServiceBy(clientAppId);
         assertTrue(found.getAttributeReleasePolicy() instanceof ReturnAllowedAttributeReleasePolicy);
     }
+
+    private static WAClientApp buildClientApp() {
+        WAClientApp clientApp = new WAClientApp();
+        clientApp.setClientAppTO(buildOIDCRP());
+        return clientApp;
+    }
+
+    private static SyncopeWAServiceRegistry buildRegistry(final WAClientAppService service, final long maxStaleness) {
+        SyncopeClient syncopeClient = mock(SyncopeClient.class);
+        when(syncopeClient.getService(WAClientAppService.class)).thenReturn(service);
+        WARestClient restClient = mock(WARestClient.class);
+        when(restClient.getSyncopeClient()).thenReturn(syncopeClient);
+
+        RegisteredServiceMapper mapper = mock(RegisteredServiceMapper.class);
+        when(mapper.toRegisteredService(any(WAClientApp.class))).thenAnswer(invocation -> {
+            WAClientApp clientApp = invocation.getArgument(0);
+            RegexRegisteredService registeredService = new RegexRegisteredService();
+            registeredService.setId(clientApp.getClientAppTO().getClientAppId());
+            registeredService.setName(clientApp.getClientAppTO().getName());
+            return registeredService;
+        });
+
+        return new SyncopeWAServiceRegistry(
+                restClient, mapper, maxStaleness, mock(ConfigurableApplicationContext.class), List.of());
+    }
+
+    @Test
+    public void staleIndexServedWhileRefreshing() throws InterruptedException {
+        WAClientApp clientApp1 = buildClientApp();
+        long clientAppId1 = clientApp1.getClientAppTO().getClientAppId();
+        WAClientApp clientApp2 = buildClientApp();
+        long clientAppId2 = clientApp2.getClientAppTO().getClientAppId();
+
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch coreReplies = new CountDownLatch(1);
+        WAClientAppService service = mock(WAClientAppService.class);
+        when(service.list()).thenReturn(List.of(clientApp1)).thenAnswer(invocation -> {
+            refreshStarted.countDown();
+            coreReplies.await();
+            return List.of(clientApp1, clientApp2);
+        });
+        when(service.read(anyLong(), isNull())).thenThrow(new NotFoundException());
+
+        // any index becomes stale right after loading
+        SyncopeWAServiceRegistry registry = buildRegistry(service, 0);
+        assertEquals(1, registry.load().size());
+        Thread.sleep(10);
+
+        // 1. lookups trigger a single refresh, and are served by the stale index while Core is not replying
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 0; i < 10; i++) {
+                assertNotNull(registry.findServiceById(clientAppId1));
+                assertNull(registry.findServiceById(clientAppId2));
+            }
+        });
+        assertTrue(refreshStarted.await(5, TimeUnit.SECONDS));
+        verify(service, times(2)).list();
+
+        // 2. once Core replies, the refreshed index is used
+        coreReplies.countDown();
+        RegisteredService found = null;
+        for (int i = 0; i < 50 && found == null; i++) {
+            Thread.sleep(100);
+            found = registry.findServiceById(clientAppId2);
+        }
+        assertNotNull(found);
+    }
+
+    @Test
+    public void currentIndexKeptWhenRefreshFails() throws InterruptedException {
+        WAClientApp clientApp = buildClientApp();
+        long clientAppId = clientApp.getClientAppTO().getClientAppId();
+
+        WAClientAppService service = mock(WAClientAppService.class);
+        when(service.list()).thenReturn(List.of(clientApp)).thenThrow(new ProcessingException("Core not available"));
+        when(service.read(anyLong(), isNull())).thenThrow(new NotFoundException());
+
+        SyncopeWAServiceRegistry registry = buildRegistry(service, 0);
+        assertEquals(1, registry.load().size());
+
+        for (int i = 0; i < 5; i++) {
+            Thread.sleep(10);
+            assertNotNull(registry.findServiceById(clientAppId));
+        }
+    }
+
+    @Test
+    public void readThroughWhenNotLoaded() {
+        WAClientApp clientApp = buildClientApp();
+        long clientAppId = clientApp.getClientAppTO().getClientAppId();
+
+        WAClientAppService service = mock(WAClientAppService.class);
+        when(service.list()).thenThrow(new ProcessingException("Core not available"));
+        when(service.read(anyLong(), isNull())).thenThrow(new NotFoundException());
+        when(service.read(eq(clientAppId), isNull())).thenReturn(clientApp);
+
+        SyncopeWAServiceRegistry registry = buildRegistry(service, Long.MAX_VALUE);
+
+        assertNotNull(registry.findServiceById(clientAppId));
+        assertNull(registry.findServiceById(clientAppId + 1));
+    }
 }
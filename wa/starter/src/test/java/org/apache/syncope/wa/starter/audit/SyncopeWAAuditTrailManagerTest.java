@@ -18,12 +18,23 @@
  */
 package org.apache.syncope.wa.starter.audit;
 
-import static org.mockito.ArgumentMatchers.any;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Date;
+import java.util.List;
+import javax.ws.rs.ProcessingException;
 import org.apache.syncope.client.lib.SyncopeClient;
 import org.apache.syncope.common.lib.log.AuditEntry;
 import org.apache.syncope.common.rest.api.service.LoggerService;
@@ -31,6 +42,7 @@ import org.apache.syncope.wa.bootstrap.WARestClient;
 import org.apache.syncope.wa.starter.AbstractTest;
 import org.apereo.inspektr.audit.AuditActionContext;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 public class SyncopeWAAuditTrailManagerTest extends AbstractTest {
 
@@ -47,13 +59,69 @@ public class SyncopeWAAuditTrailManagerTest extends AbstractTest {
         return restClient;
     }
 
-    @Test
-    public void saveAuditRecord() {
-        AuditActionContext audit = new AuditActionContext("principal", "resourceOperatedUpon", "actionPerformed",
+    private static AuditActionContext audit() {
+        return new AuditActionContext("principal", "resourceOperatedUpon", "actionPerformed",
                 "applicationCode", new Date(), "clientIpAddress", "serverIpAddress");
-        SyncopeWAAuditTrailManager auditTrailManager = new SyncopeWAAuditTrailManager(getWaRestClient());
-        auditTrailManager.saveAuditRecord(audit);
-        verify(loggerService).create(any(AuditEntry.class));
     }
 
+    private static Path spillFile() throws IOException {
+        Path spillFile = Files.createTempFile("syncope-wa-audit", ".spill");
+        Files.delete(spillFile);
+        return spillFile;
+    }
+
+    @Test
+    public void saveAuditRecord() throws IOException {
+        SyncopeWAAuditTrailManager auditTrailManager =
+                new SyncopeWAAuditTrailManager(getWaRestClient(), 10, 2, 60000, spillFile());
+        auditTrailManager.saveAuditRecord(audit());
+        auditTrailManager.flush();
+        verify(loggerService).create(anyList());
+    }
+
+    @Test
+    public void spillWhenCoreIsNotAvailable() throws IOException {
+        Path spillFile = spillFile();
+        SyncopeWAAuditTrailManager auditTrailManager =
+                new SyncopeWAAuditTrailManager(getWaRestClient(), 10, 2, 60000, spillFile);
+
+        doThrow(new ProcessingException("unavailable")).when(loggerService).create(anyList());
+        auditTrailManager.saveAuditRecord(audit());
+        auditTrailManager.flush();
+        assertTrue(Files.exists(spillFile));
+
+        doNothing().when(loggerService).create(anyList());
+        auditTrailManager.flush();
+        assertFalse(Files.exists(spillFile));
+        verify(loggerService, times(2)).create(anyList());
+    }
+
+    @Test
+    public void keepSpilledRecordsNotSent() throws IOException {
+        Path spillFile = spillFile();
+        SyncopeWAAuditTrailManager auditTrailManager =
+                new SyncopeWAAuditTrailManager(getWaRestClient(), 10, 2, 60000, spillFile);
+
+        AuditEntry auditEntry = auditTrailManager.toAuditEntry(audit());
+        auditTrailManager.spill(List.of(auditEntry, auditEntry, auditEntry));
+        assertEquals(3, Files.readAllLines(spillFile).size());
+
+        // the first spilled batch is sent, the second is not
+        doNothing().doThrow(new ProcessingException("unavailable")).when(loggerService).create(anyList());
+        auditTrailManager.flush();
+        assertFalse(Files.exists(spillFile));
+        Path sending = spillFile.resolveSibling(spillFile.getFileName() + ".sending");
+        assertEquals(1, Files.readAllLines(sending).size());
+
+        doNothing().when(loggerService).create(anyList());
+        auditTrailManager.flush();
+        assertFalse(Files.exists(sending));
+        assertFalse(Files.exists(spillFile));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AuditEntry>> sent = ArgumentCaptor.forClass(List.class);
+        verify(loggerService, times(3)).create(sent.capture());
+        assertEquals(2, sent.getAllValues().get(0).size());
+        assertEquals(1, sent.getAllValues().get(2).size());
+    }
 }